@@ -0,0 +1,20 @@
+-- =============================================================================
+-- 001 - Pooled sequence allocation
+-- =============================================================================
+-- The JPA entities allocate IDs in blocks of 50 (allocationSize = 50, pooled-lo
+-- optimizer), so each sequence must advance by 50 per NEXTVAL.
+--
+-- Safe to run on a live database: the pooled-lo optimizer uses the block
+-- [NEXTVAL, NEXTVAL + 49], and after this change every NEXTVAL is above all IDs
+-- handed out with the old increment of 1. Until it is applied, Hibernate
+-- detects the INCREMENT BY 1 sequences and keeps allocating one ID per call
+-- (increment_size_mismatch_strategy = FIX).
+--
+-- Run once as the schema owner, then restart the application so it picks up
+-- the new increment:
+--   sqlplus "$ORACLE_USER/$ORACLE_PASSWORD@your_tns_alias" @001_pooled_sequences.sql
+-- =============================================================================
+
+ALTER SEQUENCE PRODUCT_SEQ INCREMENT BY 50;
+ALTER SEQUENCE RAW_MATERIAL_SEQ INCREMENT BY 50;
+ALTER SEQUENCE PRODUCT_MATERIAL_SEQ INCREMENT BY 50;
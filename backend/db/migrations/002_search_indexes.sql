@@ -0,0 +1,38 @@
+-- =============================================================================
+-- 002 - Catalog search indexes
+-- =============================================================================
+-- Function-based and Oracle Text indexes behind catalog search. Hibernate's
+-- schema update cannot express either, so they are created here.
+--
+-- Part 1 is always needed: (UPPER(NAME), ID) indexes keep name prefix searches
+-- index lookups. SKU and CODE prefix searches use their unique indexes.
+--
+-- Part 2 is needed with SEARCH_INFIX=oracle-text, the default, and requires
+-- Oracle Text (CTXSYS) and the CTXAPP role. It creates a wordlist preference with
+-- substring and prefix indexing, so '%term%' queries become index lookups, and
+-- CONTEXT indexes on NAME synchronized on commit. Skip it only with
+-- SEARCH_INFIX=off or scan: the text indexes add work to every catalog write.
+--
+-- Run once as the schema owner:
+--   sqlplus "$ORACLE_USER/$ORACLE_PASSWORD@your_tns_alias" @002_search_indexes.sql
+-- The application refuses to start while an index is missing.
+-- =============================================================================
+
+-- Part 1 - Name prefix search
+CREATE INDEX IDX_PRODUCTS_UPPER_NAME ON PRODUCTS (UPPER(NAME), ID);
+CREATE INDEX IDX_RAW_MATERIALS_UPPER_NAME ON RAW_MATERIALS (UPPER(NAME), ID);
+
+-- Part 2 - Name infix search (SEARCH_INFIX=oracle-text)
+BEGIN
+  CTX_DDL.CREATE_PREFERENCE('AUTOFLEX_SEARCH_WORDLIST', 'BASIC_WORDLIST');
+  CTX_DDL.SET_ATTRIBUTE('AUTOFLEX_SEARCH_WORDLIST', 'SUBSTRING_INDEX', 'TRUE');
+  CTX_DDL.SET_ATTRIBUTE('AUTOFLEX_SEARCH_WORDLIST', 'PREFIX_INDEX', 'TRUE');
+END;
+/
+
+CREATE INDEX IDX_PRODUCTS_NAME_TEXT ON PRODUCTS (NAME)
+  INDEXTYPE IS CTXSYS.CONTEXT
+  PARAMETERS ('WORDLIST AUTOFLEX_SEARCH_WORDLIST SYNC (ON COMMIT)');
+CREATE INDEX IDX_RAW_MATERIALS_NAME_TEXT ON RAW_MATERIALS (NAME)
+  INDEXTYPE IS CTXSYS.CONTEXT
+  PARAMETERS ('WORDLIST AUTOFLEX_SEARCH_WORDLIST SYNC (ON COMMIT)');
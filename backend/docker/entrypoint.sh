@@ -87,6 +87,12 @@ if [ -z "$JAVA_OPTS_APPEND" ]; then
     export JAVA_OPTS_APPEND="-Dquarkus.http.host=0.0.0.0 -Djava.util.logging.manager=org.jboss.logmanager.LogManager"
 fi
 
+# Print a stack trace whenever a virtual thread blocks while pinned to its
+# carrier (inside synchronized or native code): TRACE_PINNED_THREADS=short|full
+if [ -n "$TRACE_PINNED_THREADS" ]; then
+    export JAVA_OPTS="${JAVA_OPTS} -Djdk.tracePinnedThreads=${TRACE_PINNED_THREADS}"
+fi
+
 echo "Starting Quarkus application..."
 echo "JAVA_OPTS: $JAVA_OPTS"
 echo "JAVA_OPTS_APPEND: $JAVA_OPTS_APPEND"
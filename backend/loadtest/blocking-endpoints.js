@@ -0,0 +1,40 @@
+// k6 load test for the blocking (JDBC) REST endpoints.
+//
+// Ramps to a burst of concurrent users, each mixing catalog reads, a search
+// and a production calculation. Run it once with virtual threads and once
+// with VIRTUAL_THREADS_ENABLED=false (worker pool), then compare
+// http_reqs/s and the http_req_duration percentiles.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 loadtest/blocking-endpoints.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PEAK_VUS = parseInt(__ENV.PEAK_VUS || '800', 10);
+
+export const options = {
+  stages: [
+    { duration: '15s', target: PEAK_VUS / 4 },
+    { duration: '30s', target: PEAK_VUS },
+    { duration: '60s', target: PEAK_VUS },
+    { duration: '15s', target: 0 },
+  ],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+const requests = [
+  () => http.get(`${BASE_URL}/api/v1/products?limit=50`, { tags: { name: 'products' } }),
+  () => http.get(`${BASE_URL}/api/v1/raw-materials?limit=50`, { tags: { name: 'raw-materials' } }),
+  () => http.get(`${BASE_URL}/api/v1/products?search=st&limit=10`, { tags: { name: 'search' } }),
+  () =>
+    http.post(`${BASE_URL}/api/v1/production/calculate`, null, {
+      tags: { name: 'calculate' },
+    }),
+];
+
+export default function () {
+  const response = requests[Math.floor(Math.random() * requests.length)]();
+  check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
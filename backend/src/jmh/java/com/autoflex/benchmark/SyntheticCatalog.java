@@ -0,0 +1,90 @@
+package com.autoflex.benchmark;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * SyntheticCatalog - Deterministic product/raw material catalog for benchmarks.
+ *
+ * <p>Quantities use two decimal places, like typical catalog data, and the same seed always
+ * produces the same catalog so results are comparable across runs and releases.
+ *
+ * @param products active products, each with a BOM of {@code bomWidth} distinct materials
+ * @param rawMaterials active raw materials with stock
+ */
+public record SyntheticCatalog(List<Product> products, List<RawMaterial> rawMaterials) {
+
+  private static final long SEED = 20240601L;
+
+  /**
+   * Generates a catalog.
+   *
+   * @param productCount number of products
+   * @param bomWidth number of BOM items per product (capped at the material count)
+   * @param materialCount number of raw materials
+   * @return the generated catalog
+   */
+  public static SyntheticCatalog generate(int productCount, int bomWidth, int materialCount) {
+    Random random = new Random(SEED);
+    LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    List<RawMaterial> rawMaterials = new ArrayList<>(materialCount);
+    for (int m = 1; m <= materialCount; m++) {
+      rawMaterials.add(
+          RawMaterial.reconstitute(
+              RawMaterialId.of((long) m),
+              "Material " + m,
+              null,
+              "RM-" + m,
+              MeasurementUnit.UNIT,
+              decimal(random, 1_000, 100_000),
+              decimal(random, 1, 50),
+              true,
+              now,
+              now));
+    }
+
+    int width = Math.min(bomWidth, materialCount);
+    List<Product> products = new ArrayList<>(productCount);
+    for (int p = 1; p <= productCount; p++) {
+      Set<Long> picked = new LinkedHashSet<>();
+      while (picked.size() < width) {
+        picked.add(1L + random.nextInt(materialCount));
+      }
+      List<BillOfMaterialItem> bom = new ArrayList<>(width);
+      for (Long materialId : picked) {
+        bom.add(BillOfMaterialItem.of(RawMaterialId.of(materialId), decimal(random, 1, 20)));
+      }
+      products.add(
+          Product.reconstitute(
+              ProductId.of((long) p),
+              "Product " + p,
+              "Synthetic product " + p,
+              "SKU-" + p,
+              decimal(random, 1, 1_000),
+              random.nextInt(100),
+              true,
+              now,
+              now,
+              bom));
+    }
+
+    return new SyntheticCatalog(products, rawMaterials);
+  }
+
+  private static BigDecimal decimal(Random random, int min, int max) {
+    long cents = min * 100L + random.nextInt((max - min) * 100);
+    return BigDecimal.valueOf(cents, 2);
+  }
+}
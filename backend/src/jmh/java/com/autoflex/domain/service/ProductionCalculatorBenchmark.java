@@ -0,0 +1,78 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.benchmark.SyntheticCatalog;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the greedy production calculation over synthetic catalogs.
+ *
+ * <p>Lives in the domain service package so it can reach the package-private {@code
+ * calculateMaxProducibleUnits}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionCalculatorBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int products;
+
+  @Param({"3", "10"})
+  public int bomWidth;
+
+  @Param({"50", "500"})
+  public int materials;
+
+  private List<Product> catalogProducts;
+  private List<RawMaterial> catalogRawMaterials;
+  private Map<RawMaterialId, BigDecimal> stock;
+
+  @Setup
+  public void setUp() {
+    SyntheticCatalog catalog = SyntheticCatalog.generate(products, bomWidth, materials);
+    catalogProducts = catalog.products();
+    catalogRawMaterials = catalog.rawMaterials();
+    stock = ProductionCalculator.buildStockMap(catalogRawMaterials);
+  }
+
+  @Benchmark
+  public ProductionPlan calculate() {
+    return ProductionCalculator.calculate(catalogProducts, catalogRawMaterials);
+  }
+
+  @Benchmark
+  public ProductionPlan calculateFixedPoint() {
+    return FixedPointProductionCalculator.calculate(catalogProducts, catalogRawMaterials);
+  }
+
+  /** Evaluates every product against the full, unallocated stock. */
+  @Benchmark
+  public long calculateMaxProducibleUnits() {
+    long total = 0;
+    for (Product product : catalogProducts) {
+      total += ProductionCalculator.calculateMaxProducibleUnits(product, stock);
+    }
+    return total;
+  }
+}
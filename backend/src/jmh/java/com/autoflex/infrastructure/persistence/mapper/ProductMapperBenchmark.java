@@ -0,0 +1,50 @@
+package com.autoflex.infrastructure.persistence.mapper;
+
+import com.autoflex.benchmark.SyntheticCatalog;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.infrastructure.persistence.entity.ProductJpaEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks the domain/JPA product mapping for a single product by BOM width. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+  @Param({"1", "10", "50"})
+  public int bomWidth;
+
+  private final ProductMapper mapper = new ProductMapper();
+  private Product product;
+  private ProductJpaEntity entity;
+
+  @Setup
+  public void setUp() {
+    product = SyntheticCatalog.generate(1, bomWidth, Math.max(bomWidth, 50)).products().get(0);
+    entity = mapper.toJpaEntity(product);
+  }
+
+  @Benchmark
+  public Product toDomain() {
+    return mapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public ProductJpaEntity toJpaEntity() {
+    return mapper.toJpaEntity(product);
+  }
+}
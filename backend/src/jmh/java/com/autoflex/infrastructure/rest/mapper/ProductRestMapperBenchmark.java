@@ -0,0 +1,43 @@
+package com.autoflex.infrastructure.rest.mapper;
+
+import com.autoflex.benchmark.SyntheticCatalog;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.infrastructure.rest.dto.ProductResponse;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmarks the product response mapping for a single product by BOM width. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductRestMapperBenchmark {
+
+  @Param({"1", "10", "50"})
+  public int bomWidth;
+
+  private final ProductRestMapper mapper = new ProductRestMapper();
+  private Product product;
+
+  @Setup
+  public void setUp() {
+    product = SyntheticCatalog.generate(1, bomWidth, Math.max(bomWidth, 50)).products().get(0);
+  }
+
+  @Benchmark
+  public ProductResponse toResponse() {
+    return mapper.toResponse(product);
+  }
+}
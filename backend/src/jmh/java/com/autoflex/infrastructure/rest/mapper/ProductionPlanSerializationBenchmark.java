@@ -0,0 +1,65 @@
+package com.autoflex.infrastructure.rest.mapper;
+
+import com.autoflex.benchmark.SyntheticCatalog;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.service.ProductionCalculator;
+import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the Jackson serialization of the production plan response, with and without the
+ * domain-to-DTO mapping that precedes it in {@code ProductionResource}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionPlanSerializationBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  public int products;
+
+  @Param({"3"})
+  public int bomWidth;
+
+  @Param({"500"})
+  public int materials;
+
+  private final ProductionRestMapper mapper = new ProductionRestMapper();
+  private final ObjectWriter writer = new ObjectMapper().writerFor(ProductionPlanResponse.class);
+  private ProductionPlan plan;
+  private ProductionPlanResponse response;
+
+  @Setup
+  public void setUp() {
+    SyntheticCatalog catalog = SyntheticCatalog.generate(products, bomWidth, materials);
+    plan = ProductionCalculator.calculate(catalog.products(), catalog.rawMaterials());
+    response = mapper.toResponse(plan);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws JsonProcessingException {
+    return writer.writeValueAsBytes(response);
+  }
+
+  @Benchmark
+  public byte[] mapAndSerialize() throws JsonProcessingException {
+    return writer.writeValueAsBytes(mapper.toResponse(plan));
+  }
+}
@@ -0,0 +1,15 @@
+package com.autoflex.application.concurrency;
+
+/** Thrown when an operation kept conflicting with concurrent writers after all its retries. */
+public class ConcurrentUpdateException extends RuntimeException {
+
+  public ConcurrentUpdateException(String operation, int attempts, Throwable cause) {
+    super(
+        "The data was modified concurrently and "
+            + operation
+            + " could not be completed after "
+            + attempts
+            + " attempts. Please try again.",
+        cause);
+  }
+}
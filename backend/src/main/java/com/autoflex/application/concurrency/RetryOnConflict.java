@@ -0,0 +1,23 @@
+package com.autoflex.application.concurrency;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * RetryOnConflict - Re-runs a transactional service method when its commit fails on an optimistic
+ * locking conflict.
+ *
+ * <p>The method is re-executed from the start in a new transaction, so it must re-read the
+ * aggregates it modifies (every {@code @Transactional} service method does). Only the outermost
+ * call is retried; a method invoked inside an existing transaction lets the conflict propagate to
+ * its caller.
+ *
+ * @see RetryOnConflictInterceptor
+ */
+@InterceptorBinding
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {}
@@ -0,0 +1,118 @@
+package com.autoflex.application.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionManager;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.StaleStateException;
+
+/**
+ * RetryOnConflictInterceptor - Retries {@link RetryOnConflict} methods with exponential backoff.
+ *
+ * <p>Runs outside the {@code @Transactional} interceptor (lower priority value), so each attempt
+ * gets its own transaction and conflicts detected at commit time are caught too. Backoff doubles
+ * per attempt up to a cap, with jitter so that colliding writers spread out.
+ *
+ * <p>Contention is published as Micrometer counters tagged with the operation name:
+ *
+ * <ul>
+ *   <li>{@code autoflex.optimistic.lock.conflicts} - conflicting attempts
+ *   <li>{@code autoflex.optimistic.lock.retries} - attempts re-run after a conflict
+ *   <li>{@code autoflex.optimistic.lock.exhausted} - operations that gave up
+ * </ul>
+ */
+@RetryOnConflict
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 100)
+public class RetryOnConflictInterceptor {
+
+  static final String CONFLICTS = "autoflex.optimistic.lock.conflicts";
+  static final String RETRIES = "autoflex.optimistic.lock.retries";
+  static final String EXHAUSTED = "autoflex.optimistic.lock.exhausted";
+
+  private final TransactionManager transactionManager;
+  private final MeterRegistry registry;
+  private final int maxRetries;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  @Inject
+  public RetryOnConflictInterceptor(
+      TransactionManager transactionManager,
+      MeterRegistry registry,
+      @ConfigProperty(name = "autoflex.concurrency.retry.max-retries", defaultValue = "3")
+          int maxRetries,
+      @ConfigProperty(name = "autoflex.concurrency.retry.initial-backoff", defaultValue = "20ms")
+          Duration initialBackoff,
+      @ConfigProperty(name = "autoflex.concurrency.retry.max-backoff", defaultValue = "500ms")
+          Duration maxBackoff) {
+    this.transactionManager = transactionManager;
+    this.registry = registry;
+    this.maxRetries = maxRetries;
+    this.initialBackoff = initialBackoff;
+    this.maxBackoff = maxBackoff;
+  }
+
+  @AroundInvoke
+  Object retry(InvocationContext context) throws Exception {
+    if (transactionManager.getStatus() != Status.STATUS_NO_TRANSACTION) {
+      // Only the call that owns the transaction can re-run it
+      return context.proceed();
+    }
+
+    String operation =
+        context.getMethod().getDeclaringClass().getSimpleName()
+            + "."
+            + context.getMethod().getName();
+    for (int attempt = 0; ; attempt++) {
+      try {
+        return context.proceed();
+      } catch (Exception e) {
+        if (!isConflict(e)) {
+          throw e;
+        }
+        registry.counter(CONFLICTS, "operation", operation).increment();
+        if (attempt >= maxRetries) {
+          registry.counter(EXHAUSTED, "operation", operation).increment();
+          throw new ConcurrentUpdateException(operation, attempt + 1, e);
+        }
+        registry.counter(RETRIES, "operation", operation).increment();
+        pause(attempt, e);
+      }
+    }
+  }
+
+  private void pause(int attempt, Exception conflict) throws Exception {
+    long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt, 20));
+    if (cap <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextLong(cap / 2, cap + 1));
+    } catch (InterruptedException interrupted) {
+      Thread.currentThread().interrupt();
+      throw conflict;
+    }
+  }
+
+  /** Optimistic lock failures surface wrapped by the transaction manager when raised at commit. */
+  static boolean isConflict(Throwable error) {
+    for (Throwable t = error; t != null; t = t.getCause()) {
+      if (t instanceof OptimisticLockException || t instanceof StaleStateException) {
+        return true;
+      }
+      if (t.getCause() == t) {
+        break;
+      }
+    }
+    return false;
+  }
+}
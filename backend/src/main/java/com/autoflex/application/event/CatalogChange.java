@@ -0,0 +1,40 @@
+package com.autoflex.application.event;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.util.List;
+
+/**
+ * CatalogChange - CDI event fired by the application services whenever a product or raw material is
+ * written.
+ *
+ * <p>Events carry the state as saved, so observers can apply them idempotently. Observers that must
+ * not see rolled-back writes should use {@code @Observes(during = TransactionPhase.AFTER_SUCCESS)}.
+ */
+public sealed interface CatalogChange {
+
+  /** A product was created or updated (including its bill of materials). */
+  record ProductChanged(Product product) implements CatalogChange {}
+
+  /**
+   * Several products were created or updated in one transaction (e.g. a chunk of an import), so
+   * observers can apply them in one step.
+   */
+  record ProductsChanged(List<Product> products) implements CatalogChange {}
+
+  /** A product was permanently deleted. */
+  record ProductRemoved(ProductId productId) implements CatalogChange {}
+
+  /** A raw material was created or updated (including its stock). */
+  record RawMaterialChanged(RawMaterial rawMaterial) implements CatalogChange {}
+
+  /**
+   * Several raw materials were created or updated in one transaction, like {@link ProductsChanged}.
+   */
+  record RawMaterialsChanged(List<RawMaterial> rawMaterials) implements CatalogChange {}
+
+  /** A raw material was permanently deleted. */
+  record RawMaterialRemoved(RawMaterialId rawMaterialId) implements CatalogChange {}
+}
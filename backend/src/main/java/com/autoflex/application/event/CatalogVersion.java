@@ -0,0 +1,47 @@
+package com.autoflex.application.event;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CatalogVersion - Monotonic counter of committed catalog writes (products, bills of materials, raw
+ * materials and their stock), bumped by every {@link CatalogChange}.
+ *
+ * <p>Two reads returning the same value saw the same catalog, so work derived from the catalog
+ * (such as a production plan) can be keyed by it. Starts at zero on every startup and only tracks
+ * writes made through this instance; {@link #tag(long)} qualifies the value with a per-startup
+ * epoch so it can be handed to clients (e.g. as an ETag) without colliding across restarts.
+ *
+ * <p>The version is bumped by the last {@code AFTER_SUCCESS} observer of a change, once every
+ * observer with a lower {@link #OBSERVER_PRIORITY} has applied it, so work that reads a new version
+ * also sees the change. Caches that feed versioned work must observe below that priority.
+ */
+@ApplicationScoped
+public class CatalogVersion {
+
+  /** Priority of the version bump; observers that must run before it use a lower value. */
+  public static final int OBSERVER_PRIORITY = ObserverMethod.DEFAULT_PRIORITY + 1000;
+
+  private final AtomicLong version = new AtomicLong();
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+  /** Returns the current version. */
+  public long current() {
+    return version.get();
+  }
+
+  /** Returns the given version of this instance as an opaque token, unique across restarts. */
+  public String tag(long value) {
+    return epoch + "." + value;
+  }
+
+  void onCatalogChange(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS) @Priority(OBSERVER_PRIORITY)
+          CatalogChange change) {
+    version.incrementAndGet();
+  }
+}
@@ -0,0 +1,189 @@
+package com.autoflex.application.service;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.CatalogImportUseCase;
+import com.autoflex.domain.port.in.ProductUseCase.CreateProductCommand;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * CatalogImportService - Application service implementing CatalogImportUseCase.
+ *
+ * <p>Validates each row in memory (domain factories, uniqueness against the codes/SKUs loaded once
+ * at the start, BOM codes resolved from the same map) and hands valid aggregates to {@link
+ * CatalogImportWriter} in chunks. Deliberately not transactional itself: a long upload must not
+ * hold one transaction open, and a failed chunk must not undo the chunks before it.
+ */
+@ApplicationScoped
+public class CatalogImportService implements CatalogImportUseCase {
+
+  private final CatalogImportWriter writer;
+  private final int chunkSize;
+
+  @Inject
+  public CatalogImportService(
+      CatalogImportWriter writer,
+      @ConfigProperty(name = "autoflex.import.chunk-size", defaultValue = "500") int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Import chunk size must be positive");
+    }
+    this.writer = writer;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public ImportReport importRawMaterials(Stream<ImportRow<CreateRawMaterialCommand>> rows) {
+    Set<String> codes = new HashSet<>(writer.loadRawMaterialIdsByCode().keySet());
+    ImportRun<RawMaterial> run = new ImportRun<>(writer::insertRawMaterials, RawMaterial::getCode);
+
+    rows.forEachOrdered(
+        row -> {
+          if (!run.parsed(row)) {
+            return;
+          }
+          CreateRawMaterialCommand command = row.value();
+          try {
+            RawMaterial rawMaterial =
+                RawMaterial.create(
+                    command.name(),
+                    command.description(),
+                    command.code(),
+                    command.unit(),
+                    command.stockQuantity(),
+                    command.unitCost());
+            if (!codes.add(rawMaterial.getCode())) {
+              throw new IllegalArgumentException(
+                  "Raw material with code '" + rawMaterial.getCode() + "' already exists");
+            }
+            run.accept(row.line(), rawMaterial);
+          } catch (IllegalArgumentException e) {
+            run.reject(row.line(), command.code(), e.getMessage());
+          }
+        });
+    return run.finish();
+  }
+
+  @Override
+  public ImportReport importProducts(Stream<ImportRow<ProductImport>> rows) {
+    Map<String, RawMaterialId> rawMaterialIds = writer.loadRawMaterialIdsByCode();
+    Set<String> skus = new HashSet<>(writer.loadProductSkus());
+    ImportRun<Product> run = new ImportRun<>(writer::insertProducts, Product::getSku);
+
+    rows.forEachOrdered(
+        row -> {
+          if (!run.parsed(row)) {
+            return;
+          }
+          CreateProductCommand command = row.value().product();
+          try {
+            Product product =
+                Product.create(
+                    command.name(),
+                    command.description(),
+                    command.sku(),
+                    command.unitPrice(),
+                    command.stockQuantity());
+            if (skus.contains(product.getSku())) {
+              throw new IllegalArgumentException(
+                  "Product with SKU '" + product.getSku() + "' already exists");
+            }
+            for (MaterialReference material : row.value().materials()) {
+              String code = material.rawMaterialCode().toUpperCase().trim();
+              RawMaterialId rawMaterialId = rawMaterialIds.get(code);
+              if (rawMaterialId == null) {
+                throw new IllegalArgumentException("Unknown raw material code '" + code + "'");
+              }
+              product.addMaterial(rawMaterialId, material.quantityRequired());
+            }
+            skus.add(product.getSku());
+            run.accept(row.line(), product);
+          } catch (IllegalArgumentException e) {
+            run.reject(row.line(), command.sku(), e.getMessage());
+          }
+        });
+    return run.finish();
+  }
+
+  /** Progress of one import: the pending chunk, counters and rejected rows. */
+  private final class ImportRun<A> {
+
+    private final Function<List<A>, List<A>> insert;
+    private final Function<A, String> keyOf;
+    private final List<A> chunk = new ArrayList<>();
+    private final List<Long> chunkLines = new ArrayList<>();
+    private final List<RowError> errors = new ArrayList<>();
+    private long processed;
+    private long imported;
+
+    ImportRun(Function<List<A>, List<A>> insert, Function<A, String> keyOf) {
+      this.insert = insert;
+      this.keyOf = keyOf;
+    }
+
+    /** Counts the row and reports it if it could not be parsed. */
+    boolean parsed(ImportRow<?> row) {
+      processed++;
+      if (row.error() != null) {
+        errors.add(new RowError(row.line(), null, row.error()));
+        return false;
+      }
+      return true;
+    }
+
+    void accept(long line, A aggregate) {
+      chunk.add(aggregate);
+      chunkLines.add(line);
+      if (chunk.size() >= chunkSize) {
+        flush();
+      }
+    }
+
+    void reject(long line, String key, String message) {
+      errors.add(new RowError(line, key, message));
+    }
+
+    ImportReport finish() {
+      flush();
+      // Rows of a failed chunk are reported after rows rejected later in the upload
+      errors.sort(Comparator.comparingLong(RowError::line));
+      return new ImportReport(processed, imported, errors);
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      try {
+        insert.apply(List.copyOf(chunk));
+        imported += chunk.size();
+      } catch (RuntimeException e) {
+        String reason = "Not imported, its chunk was rolled back: " + rootMessage(e);
+        for (int i = 0; i < chunk.size(); i++) {
+          errors.add(new RowError(chunkLines.get(i), keyOf.apply(chunk.get(i)), reason));
+        }
+      }
+      chunk.clear();
+      chunkLines.clear();
+    }
+  }
+
+  private static String rootMessage(Throwable error) {
+    Throwable root = error;
+    while (root.getCause() != null && root.getCause() != root) {
+      root = root.getCause();
+    }
+    return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+  }
+}
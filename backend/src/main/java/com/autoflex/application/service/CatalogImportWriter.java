@@ -0,0 +1,58 @@
+package com.autoflex.application.service;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.out.CatalogImportRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.Transactional.TxType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CatalogImportWriter - Transaction boundary of the catalog import. Every call runs in its own
+ * short transaction, so each chunk of an import commits or rolls back independently.
+ */
+@ApplicationScoped
+public class CatalogImportWriter {
+
+  private final CatalogImportRepository catalogImportRepository;
+  private final Event<CatalogChange> catalogChanges;
+
+  @Inject
+  public CatalogImportWriter(
+      CatalogImportRepository catalogImportRepository, Event<CatalogChange> catalogChanges) {
+    this.catalogImportRepository = catalogImportRepository;
+    this.catalogChanges = catalogChanges;
+  }
+
+  @Transactional(TxType.REQUIRES_NEW)
+  public Map<String, RawMaterialId> loadRawMaterialIdsByCode() {
+    return catalogImportRepository.findRawMaterialIdsByCode();
+  }
+
+  @Transactional(TxType.REQUIRES_NEW)
+  public Set<String> loadProductSkus() {
+    return catalogImportRepository.findProductSkus();
+  }
+
+  @Transactional(TxType.REQUIRES_NEW)
+  public List<RawMaterial> insertRawMaterials(List<RawMaterial> rawMaterials) {
+    List<RawMaterial> inserted = catalogImportRepository.insertRawMaterials(rawMaterials);
+    // One event per chunk, so observers patch their state once instead of once per row
+    catalogChanges.fire(new CatalogChange.RawMaterialsChanged(inserted));
+    return inserted;
+  }
+
+  @Transactional(TxType.REQUIRES_NEW)
+  public List<Product> insertProducts(List<Product> products) {
+    List<Product> inserted = catalogImportRepository.insertProducts(products);
+    catalogChanges.fire(new CatalogChange.ProductsChanged(inserted));
+    return inserted;
+  }
+}
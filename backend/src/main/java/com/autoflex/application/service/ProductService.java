@@ -1,17 +1,32 @@
 package com.autoflex.application.service;
 
+import com.autoflex.application.concurrency.RetryOnConflict;
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
 import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.in.ProductUseCase;
 import com.autoflex.domain.port.out.ProductRepository;
 import com.autoflex.domain.port.out.RawMaterialRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * ProductService - Application Service implementing the ProductUseCase.
@@ -37,12 +52,16 @@ public class ProductService implements ProductUseCase {
 
   private final ProductRepository productRepository;
   private final RawMaterialRepository rawMaterialRepository;
+  private final Event<CatalogChange> catalogChanges;
 
   @Inject
   public ProductService(
-      ProductRepository productRepository, RawMaterialRepository rawMaterialRepository) {
+      ProductRepository productRepository,
+      RawMaterialRepository rawMaterialRepository,
+      Event<CatalogChange> catalogChanges) {
     this.productRepository = productRepository;
     this.rawMaterialRepository = rawMaterialRepository;
+    this.catalogChanges = catalogChanges;
   }
 
   // =========================================================================
@@ -67,11 +86,12 @@ public class ProductService implements ProductUseCase {
             command.stockQuantity());
 
     // Persist and return
-    return productRepository.save(product);
+    return saveAndPublish(product);
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
   public Product updateProduct(ProductId id, UpdateProductCommand command) {
     // Find existing product
     Product product = findProductOrThrow(id);
@@ -86,31 +106,40 @@ public class ProductService implements ProductUseCase {
     product.update(command.name(), command.description(), command.sku(), command.unitPrice());
 
     // Persist and return
-    return productRepository.save(product);
+    return saveAndPublish(product);
   }
 
   @Override
   @Transactional
   public Product adjustStock(ProductId id, int quantityDelta) {
-    Product product = findProductOrThrow(id);
-
-    // Check if reduction would result in negative stock
-    if (quantityDelta < 0 && !product.hasSufficientStock(Math.abs(quantityDelta))) {
+    // Adjusted under the row lock, so concurrent adjustments cannot lose updates or take the stock
+    // below zero
+    if (!productRepository.adjustStock(id, quantityDelta)) {
+      Product product = findProductOrThrow(id);
       throw new InsufficientStockException(id, product.getStockQuantity(), Math.abs(quantityDelta));
     }
 
-    // Adjust stock using domain method
-    product.adjustStock(quantityDelta);
+    Product product = findProductOrThrow(id);
+    catalogChanges.fire(new CatalogChange.ProductChanged(product));
+    return product;
+  }
 
-    return productRepository.save(product);
+  @Override
+  @Transactional
+  @RetryOnConflict
+  public Product updateDemandConstraints(ProductId id, Integer maxDemand, Integer minBatch) {
+    Product product = findProductOrThrow(id);
+    product.updateDemandConstraints(DemandConstraints.of(maxDemand, minBatch));
+    return saveAndPublish(product);
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
   public void deactivateProduct(ProductId id) {
     Product product = findProductOrThrow(id);
     product.deactivate();
-    productRepository.save(product);
+    saveAndPublish(product);
   }
 
   @Override
@@ -119,7 +148,12 @@ public class ProductService implements ProductUseCase {
     if (!productRepository.existsById(id)) {
       throw new ProductNotFoundException(id);
     }
+    // Component rows reference products by ID only; a delete would leave them dangling
+    if (productRepository.isUsedAsComponent(id)) {
+      throw new ProductInUseException(id);
+    }
     productRepository.deleteById(id);
+    catalogChanges.fire(new CatalogChange.ProductRemoved(id));
   }
 
   // =========================================================================
@@ -147,11 +181,36 @@ public class ProductService implements ProductUseCase {
   }
 
   @Override
-  public List<Product> searchProducts(String searchTerm) {
+  public Page<Product> listProducts(PageRequest pageRequest, boolean includeInactive) {
+    if (pageRequest == null) {
+      throw new IllegalArgumentException("Page request cannot be null");
+    }
+    return productRepository.findPage(pageRequest, includeInactive);
+  }
+
+  @Override
+  @Transactional
+  public void exportProducts(boolean includeInactive, Consumer<Product> sink) {
+    productRepository.forEach(includeInactive, sink);
+  }
+
+  @Override
+  @Transactional
+  public void exportBillOfMaterials(
+      BiConsumer<ProductId, BillOfMaterialItem> materialSink,
+      BiConsumer<ProductId, ProductComponent> componentSink) {
+    productRepository.forEachBillOfMaterialItem(materialSink);
+    productRepository.forEachComponent(componentSink);
+  }
+
+  @Override
+  public List<Product> searchProducts(String searchTerm, int limit) {
+    PageRequest.checkLimit(limit);
     if (searchTerm == null || searchTerm.isBlank()) {
-      return productRepository.findAllActive();
+      // Only the first page of the listing, never the whole catalog
+      return productRepository.findPage(PageRequest.first(limit, SortOrder.ID_ASC), false).items();
     }
-    return productRepository.findByNameContaining(searchTerm.trim());
+    return productRepository.search(searchTerm.trim(), limit);
   }
 
   // =========================================================================
@@ -162,12 +221,19 @@ public class ProductService implements ProductUseCase {
     return productRepository.findById(id).orElseThrow(() -> new ProductNotFoundException(id));
   }
 
+  private Product saveAndPublish(Product product) {
+    Product saved = productRepository.save(product);
+    catalogChanges.fire(new CatalogChange.ProductChanged(saved));
+    return saved;
+  }
+
   // =========================================================================
   // BILL OF MATERIALS MANAGEMENT
   // =========================================================================
 
   @Override
   @Transactional
+  @RetryOnConflict
   public Product addMaterialToProduct(ProductId productId, AddMaterialCommand command) {
     Product product = findProductOrThrow(productId);
 
@@ -179,23 +245,91 @@ public class ProductService implements ProductUseCase {
     }
 
     product.addMaterial(rawMaterialId, command.quantityRequired());
-    return productRepository.save(product);
+    return saveAndPublish(product);
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
   public Product removeMaterialFromProduct(ProductId productId, Long rawMaterialId) {
     Product product = findProductOrThrow(productId);
     product.removeMaterial(RawMaterialId.of(rawMaterialId));
-    return productRepository.save(product);
+    return saveAndPublish(product);
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
   public Product updateMaterialQuantity(
       ProductId productId, Long rawMaterialId, BigDecimal newQuantity) {
     Product product = findProductOrThrow(productId);
     product.updateMaterialQuantity(RawMaterialId.of(rawMaterialId), newQuantity);
-    return productRepository.save(product);
+    return saveAndPublish(product);
+  }
+
+  @Override
+  @Transactional
+  @RetryOnConflict
+  public Product addComponentToProduct(ProductId productId, AddComponentCommand command) {
+    Product product = findProductOrThrow(productId);
+
+    // Validate that the component exists and does not already use this product
+    ProductId componentId = ProductId.of(command.componentProductId());
+    Product component =
+        productRepository
+            .findById(componentId)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Component product not found with ID: " + command.componentProductId()));
+    if (usesProduct(component, productId)) {
+      throw new IllegalArgumentException(
+          "Product "
+              + componentId
+              + " already uses product "
+              + productId
+              + " in its bill of materials; adding it as a component would create a cycle");
+    }
+
+    product.addComponent(componentId, command.quantityRequired());
+    return saveAndPublish(product);
+  }
+
+  @Override
+  @Transactional
+  @RetryOnConflict
+  public Product removeComponentFromProduct(ProductId productId, Long componentProductId) {
+    Product product = findProductOrThrow(productId);
+    product.removeComponent(ProductId.of(componentProductId));
+    return saveAndPublish(product);
+  }
+
+  @Override
+  @Transactional
+  @RetryOnConflict
+  public Product updateComponentQuantity(
+      ProductId productId, Long componentProductId, BigDecimal newQuantity) {
+    Product product = findProductOrThrow(productId);
+    product.updateComponentQuantity(ProductId.of(componentProductId), newQuantity);
+    return saveAndPublish(product);
+  }
+
+  /** Walks the component tree below {@code root} looking for {@code target}. */
+  private boolean usesProduct(Product root, ProductId target) {
+    Set<ProductId> visited = new HashSet<>();
+    Deque<Product> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      Product current = pending.pop();
+      if (current.getId().equals(target)) {
+        return true;
+      }
+      for (ProductComponent component : current.getComponents()) {
+        if (visited.add(component.componentId())) {
+          productRepository.findById(component.componentId()).ifPresent(pending::push);
+        }
+      }
+    }
+    return false;
   }
 }
@@ -0,0 +1,234 @@
+package com.autoflex.application.service;
+
+import com.autoflex.application.event.CatalogVersion;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ProductionJobUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase.PlanPhase;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.inject.Inject;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * ProductionJobService - Application service implementing ProductionJobUseCase on top of
+ * ProductionUseCase.
+ *
+ * <p>Jobs run on a fixed pool of {@code autoflex.production.jobs.threads} threads with a queue of
+ * {@code autoflex.production.jobs.queue-capacity}; submissions beyond that are rejected rather than
+ * queued without bound. Jobs are de-duplicated by strategy and the {@link CatalogVersion} at
+ * submission; a job reports the version its plan was actually computed from, and the phase its
+ * calculation is in while running. Finished jobs are dropped {@code
+ * autoflex.production.jobs.result-ttl} after finishing, checked on every call.
+ */
+@ApplicationScoped
+public class ProductionJobService implements ProductionJobUseCase {
+
+  private final ProductionUseCase productionUseCase;
+  private final CatalogVersion catalogVersion;
+  private final Duration resultTtl;
+  private final Clock clock;
+  private final int queueCapacity;
+  private final ThreadPoolExecutor executor;
+  private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+  private final Map<JobKey, Job> jobsByKey = new ConcurrentHashMap<>();
+  // Makes look-up-or-submit atomic, so concurrent identical submissions start one job
+  private final ReentrantLock submitLock = new ReentrantLock();
+
+  @Inject
+  public ProductionJobService(
+      ProductionUseCase productionUseCase,
+      CatalogVersion catalogVersion,
+      @ConfigProperty(name = "autoflex.production.jobs.threads", defaultValue = "2") int threads,
+      @ConfigProperty(name = "autoflex.production.jobs.queue-capacity", defaultValue = "16")
+          int queueCapacity,
+      @ConfigProperty(name = "autoflex.production.jobs.result-ttl", defaultValue = "10M")
+          Duration resultTtl) {
+    this(productionUseCase, catalogVersion, threads, queueCapacity, resultTtl, Clock.systemUTC());
+  }
+
+  ProductionJobService(
+      ProductionUseCase productionUseCase,
+      CatalogVersion catalogVersion,
+      int threads,
+      int queueCapacity,
+      Duration resultTtl,
+      Clock clock) {
+    if (threads < 1 || queueCapacity < 1) {
+      throw new IllegalArgumentException("Production job threads and queue must be positive");
+    }
+    this.productionUseCase = productionUseCase;
+    this.catalogVersion = catalogVersion;
+    this.resultTtl = resultTtl;
+    this.clock = clock;
+    this.queueCapacity = queueCapacity;
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            task -> {
+              Thread thread = new Thread(task, "production-job-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public ProductionJob submit(ProductionStrategy strategy) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Production strategy cannot be null");
+    }
+    removeExpired();
+    JobKey key = new JobKey(strategy, catalogVersion.current());
+    submitLock.lock();
+    try {
+      Job existing = jobsByKey.get(key);
+      if (existing != null && existing.status != JobStatus.FAILED) {
+        return existing.toJob();
+      }
+      Job job = new Job(UUID.randomUUID().toString(), key, now());
+      try {
+        executor.execute(() -> run(job));
+      } catch (RejectedExecutionException e) {
+        throw new ProductionJobsBusyException(queueCapacity);
+      }
+      jobs.put(job.id, job);
+      jobsByKey.put(key, job);
+      return job.toJob();
+    } finally {
+      submitLock.unlock();
+    }
+  }
+
+  @Override
+  public ProductionJob getJob(String jobId) {
+    removeExpired();
+    Job job = jobId != null ? jobs.get(jobId) : null;
+    if (job == null) {
+      throw new ProductionJobNotFoundException(jobId);
+    }
+    return job.toJob();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void run(Job job) {
+    job.started(now());
+    try {
+      job.completed(calculate(job.key.strategy(), job::entered), now());
+    } catch (RuntimeException e) {
+      job.failed(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName(), now());
+    }
+  }
+
+  /**
+   * Runs the calculation. Not private, so the request context (which the persistence layer needs
+   * outside HTTP requests) is activated even though it is a self-invocation.
+   */
+  @ActivateRequestContext
+  VersionedProductionPlan calculate(ProductionStrategy strategy, Consumer<PlanPhase> progress) {
+    return productionUseCase.calculateVersionedProductionPlan(strategy, progress);
+  }
+
+  private void removeExpired() {
+    LocalDateTime cutoff = now().minus(resultTtl);
+    jobs.values()
+        .removeIf(
+            job -> {
+              LocalDateTime finishedAt = job.finishedAt;
+              if (finishedAt == null || !finishedAt.isBefore(cutoff)) {
+                return false;
+              }
+              jobsByKey.remove(job.key, job);
+              return true;
+            });
+  }
+
+  private LocalDateTime now() {
+    return LocalDateTime.now(clock);
+  }
+
+  private record JobKey(ProductionStrategy strategy, long catalogVersion) {}
+
+  /** Mutable state of one job, written by its worker thread and read by pollers. */
+  private static final class Job {
+
+    private final String id;
+    private final JobKey key;
+    private final LocalDateTime submittedAt;
+    private volatile JobStatus status = JobStatus.QUEUED;
+    private volatile PlanPhase phase;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile ProductionPlan plan;
+    private volatile String catalogVersion;
+    private volatile String error;
+
+    Job(String id, JobKey key, LocalDateTime submittedAt) {
+      this.id = id;
+      this.key = key;
+      this.submittedAt = submittedAt;
+    }
+
+    void started(LocalDateTime at) {
+      startedAt = at;
+      status = JobStatus.RUNNING;
+    }
+
+    void entered(PlanPhase next) {
+      phase = next;
+    }
+
+    void completed(VersionedProductionPlan result, LocalDateTime at) {
+      plan = result.plan();
+      catalogVersion = result.catalogVersion();
+      finishedAt = at;
+      status = JobStatus.COMPLETED;
+    }
+
+    void failed(String reason, LocalDateTime at) {
+      error = reason;
+      finishedAt = at;
+      status = JobStatus.FAILED;
+    }
+
+    ProductionJob toJob() {
+      // Status is written last and read first, so the fields it implies are visible
+      JobStatus current = status;
+      return new ProductionJob(
+          id,
+          key.strategy(),
+          current == JobStatus.COMPLETED ? catalogVersion : null,
+          current,
+          current == JobStatus.RUNNING ? phase : null,
+          submittedAt,
+          current != JobStatus.QUEUED ? startedAt : null,
+          current.isFinished() ? finishedAt : null,
+          current == JobStatus.COMPLETED ? plan : null,
+          current == JobStatus.FAILED ? error : null);
+    }
+  }
+}
@@ -1,37 +1,396 @@
 package com.autoflex.application.service;
 
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.application.event.CatalogVersion;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.production.ProductionStrategy;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.port.in.ProductionUseCase;
 import com.autoflex.domain.port.out.ProductRepository;
 import com.autoflex.domain.port.out.RawMaterialRepository;
-import com.autoflex.domain.service.ProductionCalculator;
+import com.autoflex.domain.service.BomExplosion;
+import com.autoflex.domain.service.IncrementalProductionPlanner;
+import com.autoflex.domain.service.OptimalProductionCalculator;
+import com.autoflex.domain.service.PartitionedProductionCalculator;
+import com.autoflex.domain.service.ProductionEngine;
+import com.autoflex.domain.service.ScenarioCatalog;
+import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
 import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 /**
  * ProductionService - Application service implementing ProductionUseCase. Coordinates between
  * Product and RawMaterial repositories to run the Greedy Production Calculation Algorithm.
+ *
+ * <p>The arithmetic engine is selected with {@code autoflex.production.engine} ({@code decimal} or
+ * {@code fixed-point}); both produce identical plans. The optimal strategy is bounded by {@code
+ * autoflex.production.optimizer.time-budget} and {@code autoflex.production.optimizer.node-limit}.
+ *
+ * <p>When {@code autoflex.production.incremental.enabled} is set, the greedy plan is kept in an
+ * {@link IncrementalProductionPlanner} and updated from committed {@link CatalogChange} events
+ * instead of being recomputed from the repositories on every request. Changes the planner cannot
+ * apply incrementally drop it, and the next request rebuilds it with a full greedy calculation
+ * (configured engine, parallel when large enough). The rebuild runs without holding the planner
+ * lock and is discarded if a change committed while it ran.
+ *
+ * <p>When {@code autoflex.production.plan-cache.enabled} is set, the last plan of each strategy is
+ * kept together with the {@link CatalogVersion} it was computed at, and returned as is until the
+ * next committed catalog write.
+ *
+ * <p>Products that use other products as components are planned over their flattened raw material
+ * requirements, kept in a {@link BomExplosion} that is updated from the same events. A change to a
+ * sub-assembly re-explodes only the products above it, and the planner is handed those.
+ *
+ * <p>A full greedy calculation over at least {@code autoflex.production.parallel.min-products}
+ * active products is split into independent components and planned on the common {@link
+ * ForkJoinPool} by {@link PartitionedProductionCalculator}; set {@code
+ * autoflex.production.parallel.enabled} to false to always plan sequentially.
+ *
+ * <p>What-if scenarios are planned over a {@link ScenarioCatalog} snapshot of the exploded active
+ * products and raw materials, shared by every scenario and, with the plan cache enabled, kept until
+ * the next catalog write. A batch holds at most {@code autoflex.production.scenarios.max-batch}
+ * scenarios, planned in parallel on the common {@link ForkJoinPool}.
  */
 @ApplicationScoped
 public class ProductionService implements ProductionUseCase {
 
   private final ProductRepository productRepository;
   private final RawMaterialRepository rawMaterialRepository;
+  private final ProductionEngine engine;
+  private final Duration optimizerTimeBudget;
+  private final int optimizerNodeLimit;
+  private final boolean incrementalEnabled;
+  private final CatalogVersion catalogVersion;
+  private final boolean planCacheEnabled;
+  private final boolean parallelEnabled;
+  private final int parallelMinProducts;
+  private final int scenarioMaxBatch;
+  private final Map<ProductionStrategy, CachedPlan> planCache = new ConcurrentHashMap<>();
+  // Bumped once this service has seen a catalog change; a compute that spans it is not cached
+  private final AtomicLong planGeneration = new AtomicLong();
+  private volatile CachedCatalog scenarioCatalog;
+  // Guards planner and bomExplosion. Held only for in-memory work: catalog writers take it from
+  // their commit observer, so a planner rebuild loads and plans outside it
+  private final ReentrantLock plannerLock = new ReentrantLock();
+  private IncrementalProductionPlanner planner;
+  private BomExplosion bomExplosion;
 
   @Inject
   public ProductionService(
-      ProductRepository productRepository, RawMaterialRepository rawMaterialRepository) {
+      ProductRepository productRepository,
+      RawMaterialRepository rawMaterialRepository,
+      @ConfigProperty(name = "autoflex.production.engine", defaultValue = "decimal")
+          ProductionEngine engine,
+      @ConfigProperty(name = "autoflex.production.optimizer.time-budget", defaultValue = "2S")
+          Duration optimizerTimeBudget,
+      @ConfigProperty(name = "autoflex.production.optimizer.node-limit", defaultValue = "50000")
+          int optimizerNodeLimit,
+      @ConfigProperty(name = "autoflex.production.incremental.enabled", defaultValue = "true")
+          boolean incrementalEnabled,
+      CatalogVersion catalogVersion,
+      @ConfigProperty(name = "autoflex.production.plan-cache.enabled", defaultValue = "true")
+          boolean planCacheEnabled,
+      @ConfigProperty(name = "autoflex.production.parallel.enabled", defaultValue = "true")
+          boolean parallelEnabled,
+      @ConfigProperty(name = "autoflex.production.parallel.min-products", defaultValue = "2000")
+          int parallelMinProducts,
+      @ConfigProperty(name = "autoflex.production.scenarios.max-batch", defaultValue = "50")
+          int scenarioMaxBatch) {
     this.productRepository = productRepository;
     this.rawMaterialRepository = rawMaterialRepository;
+    this.engine = engine;
+    this.optimizerTimeBudget = optimizerTimeBudget;
+    this.optimizerNodeLimit = optimizerNodeLimit;
+    this.incrementalEnabled = incrementalEnabled;
+    this.catalogVersion = catalogVersion;
+    this.planCacheEnabled = planCacheEnabled;
+    this.parallelEnabled = parallelEnabled;
+    this.parallelMinProducts = parallelMinProducts;
+    this.scenarioMaxBatch = scenarioMaxBatch;
   }
 
   @Override
   public ProductionPlan calculateProductionPlan() {
+    return calculateProductionPlan(ProductionStrategy.GREEDY);
+  }
+
+  @Override
+  public ProductionPlan calculateProductionPlan(ProductionStrategy strategy) {
+    return calculateVersionedProductionPlan(strategy).plan();
+  }
+
+  @Override
+  public VersionedProductionPlan calculateVersionedProductionPlan(ProductionStrategy strategy) {
+    return calculateVersionedProductionPlan(strategy, phase -> {});
+  }
+
+  @Override
+  public VersionedProductionPlan calculateVersionedProductionPlan(
+      ProductionStrategy strategy, Consumer<PlanPhase> progress) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Production strategy cannot be null");
+    }
+    long version = catalogVersion.current();
+    long generation = planGeneration.get();
+    CachedPlan cached = planCache.get(strategy);
+    if (cached != null && cached.version() == version && cached.generation() == generation) {
+      return new VersionedProductionPlan(cached.plan(), catalogVersion.tag(version));
+    }
+    ProductionPlan plan = computePlan(strategy, progress);
+    // A write that committed while computing may or may not be in the plan, so it is not kept
+    if (planCacheEnabled
+        && catalogVersion.current() == version
+        && planGeneration.get() == generation) {
+      planCache.put(strategy, new CachedPlan(version, generation, plan));
+    }
+    return new VersionedProductionPlan(plan, catalogVersion.tag(version));
+  }
+
+  @Override
+  public String currentCatalogVersion() {
+    return catalogVersion.tag(catalogVersion.current());
+  }
+
+  @Override
+  public ScenarioPlans evaluateScenarios(
+      List<ProductionScenario> scenarios, ProductionStrategy strategy) {
+    if (scenarios == null || scenarios.isEmpty()) {
+      throw new IllegalArgumentException("At least one scenario is required");
+    }
+    if (scenarios.size() > scenarioMaxBatch) {
+      throw new IllegalArgumentException(
+          "A batch cannot contain more than " + scenarioMaxBatch + " scenarios");
+    }
+    if (strategy == null) {
+      throw new IllegalArgumentException("Production strategy cannot be null");
+    }
+    long version = catalogVersion.current();
+    ScenarioCatalog catalog = scenarioCatalog(version);
+
+    // Overlays are cheap to build, so every scenario is validated before any is planned
+    List<ScenarioCatalog.Overlay> overlays = new ArrayList<>(scenarios.size());
+    for (ProductionScenario scenario : scenarios) {
+      try {
+        overlays.add(catalog.overlay(scenario));
+      } catch (IllegalArgumentException e) {
+        String name = scenario != null && scenario.name() != null ? scenario.name() : "unnamed";
+        throw new IllegalArgumentException("Scenario '" + name + "': " + e.getMessage(), e);
+      }
+    }
+
+    // The parallel stream runs on the common pool and keeps the request order
+    List<ScenarioPlan> plans =
+        IntStream.range(0, scenarios.size())
+            .parallel()
+            .mapToObj(
+                i ->
+                    new ScenarioPlan(
+                        scenarios.get(i).name(), scenarioPlan(overlays.get(i), strategy)))
+            .toList();
+    return new ScenarioPlans(plans, catalogVersion.tag(version));
+  }
+
+  private ScenarioCatalog scenarioCatalog(long version) {
+    long generation = planGeneration.get();
+    CachedCatalog cached = scenarioCatalog;
+    if (cached != null && cached.version() == version && cached.generation() == generation) {
+      return cached.catalog();
+    }
+    ScenarioCatalog catalog =
+        ScenarioCatalog.of(explodedActiveProducts(), rawMaterialRepository.findAllActive());
+    if (planCacheEnabled
+        && catalogVersion.current() == version
+        && planGeneration.get() == generation) {
+      scenarioCatalog = new CachedCatalog(version, generation, catalog);
+    }
+    return catalog;
+  }
+
+  private ProductionPlan scenarioPlan(
+      ScenarioCatalog.Overlay overlay, ProductionStrategy strategy) {
+    return switch (strategy) {
+      case GREEDY -> greedyPlan(overlay.products(), overlay.rawMaterials());
+      case OPTIMAL ->
+          OptimalProductionCalculator.calculate(
+              overlay.products(), overlay.rawMaterials(), optimizerTimeBudget, optimizerNodeLimit);
+    };
+  }
+
+  private ProductionPlan computePlan(ProductionStrategy strategy, Consumer<PlanPhase> progress) {
+    if (strategy == ProductionStrategy.GREEDY && incrementalEnabled) {
+      return currentPlan(progress);
+    }
+    progress.accept(PlanPhase.LOADING);
+    List<Product> activeProducts = explodedActiveProducts();
+    List<RawMaterial> activeRawMaterials = rawMaterialRepository.findAllActive();
+    progress.accept(PlanPhase.PLANNING);
+    return switch (strategy) {
+      case GREEDY -> greedyPlan(activeProducts, activeRawMaterials);
+      case OPTIMAL ->
+          OptimalProductionCalculator.calculate(
+              activeProducts, activeRawMaterials, optimizerTimeBudget, optimizerNodeLimit);
+    };
+  }
+
+  private ProductionPlan greedyPlan(List<Product> products, List<RawMaterial> rawMaterials) {
+    // Below the threshold, partitioning and task overhead outweigh what the extra cores save
+    if (parallelEnabled && products.size() >= parallelMinProducts) {
+      return PartitionedProductionCalculator.calculate(
+          products, rawMaterials, engine, ForkJoinPool.commonPool());
+    }
+    return engine.calculate(products, rawMaterials);
+  }
+
+  /**
+   * Keeps the incremental plan in step with committed catalog writes and drops cached plans. Runs
+   * only after the writing transaction commits, so rolled-back changes never reach the planner.
+   * Ordered after the repository caches (default priority), so a rebuild reads the change, and
+   * before the {@link CatalogVersion} bump, so a plan tagged with the new version includes it.
+   */
+  void onCatalogChange(
+      @Observes(during = TransactionPhase.AFTER_SUCCESS)
+          @Priority(CatalogVersion.OBSERVER_PRIORITY - 500)
+          CatalogChange change) {
+    try {
+      applyToPlanner(change);
+    } finally {
+      planCache.clear();
+      scenarioCatalog = null;
+    }
+  }
+
+  private void applyToPlanner(CatalogChange change) {
+    plannerLock.lock();
+    try {
+      // Bumped under the lock, so a rebuild that started before this change is never installed
+      // after it
+      planGeneration.incrementAndGet();
+      Set<ProductId> exploded =
+          switch (change) {
+            case CatalogChange.ProductChanged c ->
+                bomExplosion != null ? bomExplosion.put(c.product()) : Set.of();
+            case CatalogChange.ProductsChanged c ->
+                bomExplosion != null ? explodeAll(c.products()) : Set.of();
+            case CatalogChange.ProductRemoved c ->
+                bomExplosion != null ? bomExplosion.remove(c.productId()) : Set.of();
+            default -> Set.of();
+          };
+      if (!incrementalEnabled || planner == null) {
+        return;
+      }
+      boolean applied =
+          switch (change) {
+            case CatalogChange.ProductChanged c -> applyProductChanges(exploded);
+            case CatalogChange.ProductsChanged c -> applyProductChanges(exploded);
+            case CatalogChange.ProductRemoved c -> applyProductChanges(exploded);
+            case CatalogChange.RawMaterialChanged c ->
+                planner.applyRawMaterialChange(c.rawMaterial());
+            case CatalogChange.RawMaterialsChanged c ->
+                c.rawMaterials().stream().allMatch(planner::applyRawMaterialChange);
+            case CatalogChange.RawMaterialRemoved c ->
+                planner.applyRawMaterialRemoval(c.rawMaterialId());
+          };
+      if (!applied) {
+        planner = null;
+      }
+    } finally {
+      plannerLock.unlock();
+    }
+  }
+
+  /** Puts each product into the explosion and returns every product that was re-exploded. */
+  private Set<ProductId> explodeAll(List<Product> products) {
+    Set<ProductId> exploded = new HashSet<>();
+    for (Product product : products) {
+      exploded.addAll(bomExplosion.put(product));
+    }
+    return exploded;
+  }
+
+  /**
+   * Hands the planner the re-exploded products; a product the explosion no longer knows was
+   * removed.
+   */
+  private boolean applyProductChanges(Set<ProductId> productIds) {
+    for (ProductId productId : productIds) {
+      Product exploded = bomExplosion.explode(productId);
+      boolean applied =
+          exploded != null
+              ? planner.applyProductChange(exploded)
+              : planner.applyProductRemoval(productId);
+      if (!applied) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private List<Product> explodedActiveProducts() {
     List<Product> activeProducts = productRepository.findAllActiveWithMaterials();
+    plannerLock.lock();
+    try {
+      if (bomExplosion == null) {
+        bomExplosion = BomExplosion.of(activeProducts);
+      }
+      return bomExplosion.explodeAll(activeProducts);
+    } finally {
+      plannerLock.unlock();
+    }
+  }
+
+  private ProductionPlan currentPlan(Consumer<PlanPhase> progress) {
+    plannerLock.lock();
+    try {
+      if (planner != null) {
+        return planner.plan();
+      }
+    } finally {
+      plannerLock.unlock();
+    }
+
+    // Rebuilt outside the lock, so catalog writes are not held up by it. The rebuild goes through
+    // the configured engine and parallel path like a full calculation.
+    long generation = planGeneration.get();
+    progress.accept(PlanPhase.LOADING);
+    List<Product> activeProducts = explodedActiveProducts();
     List<RawMaterial> activeRawMaterials = rawMaterialRepository.findAllActive();
-    return ProductionCalculator.calculate(activeProducts, activeRawMaterials);
+    progress.accept(PlanPhase.PLANNING);
+    IncrementalProductionPlanner rebuilt =
+        IncrementalProductionPlanner.fromPlan(
+            activeProducts, activeRawMaterials, greedyPlan(activeProducts, activeRawMaterials));
+
+    plannerLock.lock();
+    try {
+      // A change that committed meanwhile may be missing from the rebuild, so it is only kept if
+      // none did; the next request rebuilds otherwise
+      if (planner == null && planGeneration.get() == generation) {
+        planner = rebuilt;
+      }
+      return rebuilt.plan();
+    } finally {
+      plannerLock.unlock();
+    }
   }
+
+  private record CachedPlan(long version, long generation, ProductionPlan plan) {}
+
+  private record CachedCatalog(long version, long generation, ScenarioCatalog catalog) {}
 }
@@ -0,0 +1,154 @@
+package com.autoflex.application.service;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ProductionStreamUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * ProductionStreamService - Application service implementing ProductionStreamUseCase on top of
+ * ProductionUseCase.
+ *
+ * <p>A committed {@link CatalogChange} schedules one recalculation of the greedy plan {@code
+ * autoflex.production.stream.debounce} later; further changes within that window are folded into
+ * it. Recalculation, comparison with the last plan and delivery all run on a single thread, so
+ * every subscriber sees the same plans in the same order. Nothing is calculated while there are no
+ * subscribers.
+ */
+@ApplicationScoped
+public class ProductionStreamService implements ProductionStreamUseCase {
+
+  private static final Logger LOG = Logger.getLogger(ProductionStreamService.class);
+
+  private final ProductionUseCase productionUseCase;
+  private final Duration debounce;
+  private final ScheduledExecutorService executor;
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  private final AtomicBoolean recalculationPending = new AtomicBoolean();
+  // Only read and written on the executor thread
+  private VersionedProductionPlan latest;
+
+  @Inject
+  public ProductionStreamService(
+      ProductionUseCase productionUseCase,
+      @ConfigProperty(name = "autoflex.production.stream.debounce", defaultValue = "250MS")
+          Duration debounce) {
+    if (debounce.isNegative()) {
+      throw new IllegalArgumentException("Production stream debounce cannot be negative");
+    }
+    this.productionUseCase = productionUseCase;
+    this.debounce = debounce;
+    this.executor =
+        Executors.newSingleThreadScheduledExecutor(
+            task -> {
+              Thread thread = new Thread(task, "production-stream");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  @Override
+  public PlanSubscription subscribe(Consumer<VersionedProductionPlan> listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Production plan listener cannot be null");
+    }
+    Listener subscriber = new Listener(listener);
+    listeners.add(subscriber);
+    executor.execute(
+        () -> {
+          if (latest != null) {
+            deliver(subscriber, latest);
+          } else {
+            scheduleRecalculation(Duration.ZERO);
+          }
+        });
+    return () -> listeners.remove(subscriber);
+  }
+
+  /** Schedules a recalculation once the writing transaction has committed. */
+  void onCatalogChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) CatalogChange change) {
+    scheduleRecalculation(debounce);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Runs the calculation. Not private, so the request context (which the persistence layer needs
+   * outside HTTP requests) is activated even though it is a self-invocation.
+   */
+  @ActivateRequestContext
+  VersionedProductionPlan calculate() {
+    return productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+  }
+
+  private void scheduleRecalculation(Duration delay) {
+    if (recalculationPending.compareAndSet(false, true)) {
+      executor.schedule(this::recalculate, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void recalculate() {
+    // Cleared first, so a change committed during the calculation schedules another one
+    recalculationPending.set(false);
+    if (listeners.isEmpty()) {
+      latest = null;
+      return;
+    }
+    VersionedProductionPlan plan;
+    try {
+      plan = calculate();
+    } catch (RuntimeException e) {
+      LOG.warn("Production plan stream recalculation failed", e);
+      return;
+    }
+    boolean changed = latest == null || !latest.plan().equals(plan.plan());
+    latest = plan;
+    if (changed) {
+      listeners.forEach(subscriber -> deliver(subscriber, plan));
+    }
+  }
+
+  private void deliver(Listener subscriber, VersionedProductionPlan plan) {
+    if (subscriber.lastDelivered != null && subscriber.lastDelivered.plan().equals(plan.plan())) {
+      return;
+    }
+    subscriber.lastDelivered = plan;
+    try {
+      subscriber.listener.accept(plan);
+    } catch (RuntimeException e) {
+      LOG.warn("Dropping production plan subscriber that failed to accept a plan", e);
+      listeners.remove(subscriber);
+    }
+  }
+
+  /** One subscriber and the last plan it was given, only touched on the executor thread. */
+  private static final class Listener {
+
+    private final Consumer<VersionedProductionPlan> listener;
+    private VersionedProductionPlan lastDelivered;
+
+    Listener(Consumer<VersionedProductionPlan> listener) {
+      this.listener = listener;
+    }
+  }
+}
@@ -1,15 +1,27 @@
 package com.autoflex.application.service;
 
+import com.autoflex.application.concurrency.RetryOnConflict;
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.in.RawMaterialUseCase;
 import com.autoflex.domain.port.out.RawMaterialRepository;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * RawMaterialService - Application service implementing RawMaterialUseCase. Orchestrates domain
@@ -19,10 +31,13 @@ import java.util.Optional;
 public class RawMaterialService implements RawMaterialUseCase {
 
   private final RawMaterialRepository rawMaterialRepository;
+  private final Event<CatalogChange> catalogChanges;
 
   @Inject
-  public RawMaterialService(RawMaterialRepository rawMaterialRepository) {
+  public RawMaterialService(
+      RawMaterialRepository rawMaterialRepository, Event<CatalogChange> catalogChanges) {
     this.rawMaterialRepository = rawMaterialRepository;
+    this.catalogChanges = catalogChanges;
   }
 
   @Override
@@ -39,11 +54,12 @@ public class RawMaterialService implements RawMaterialUseCase {
             command.unit(),
             command.stockQuantity(),
             command.unitCost());
-    return rawMaterialRepository.save(rawMaterial);
+    return saveAndPublish(rawMaterial);
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
   public RawMaterial updateRawMaterial(RawMaterialId id, UpdateRawMaterialCommand command) {
     RawMaterial rawMaterial = findRawMaterialOrThrow(id);
 
@@ -54,23 +70,90 @@ public class RawMaterialService implements RawMaterialUseCase {
 
     rawMaterial.update(
         command.name(), command.description(), command.code(), command.unit(), command.unitCost());
-    return rawMaterialRepository.save(rawMaterial);
+    return saveAndPublish(rawMaterial);
   }
 
   @Override
   @Transactional
   public RawMaterial adjustStock(RawMaterialId id, BigDecimal delta) {
+    if (delta == null) {
+      throw new IllegalArgumentException("Stock delta cannot be null");
+    }
+    // Locked, non-negative adjustment in the repository; false means insufficient stock
+    if (!rawMaterialRepository.adjustStock(id, delta)) {
+      RawMaterial rawMaterial = findRawMaterialOrThrow(id);
+      throw new IllegalArgumentException(
+          "Cannot reduce stock below zero. Current: "
+              + rawMaterial.getStockQuantity()
+              + " "
+              + rawMaterial.getUnit().getAbbreviation()
+              + ", Delta: "
+              + delta);
+    }
+
     RawMaterial rawMaterial = findRawMaterialOrThrow(id);
-    rawMaterial.adjustStock(delta);
-    return rawMaterialRepository.save(rawMaterial);
+    catalogChanges.fire(new CatalogChange.RawMaterialChanged(rawMaterial));
+    return rawMaterial;
   }
 
   @Override
   @Transactional
+  @RetryOnConflict
+  public StockAdjustmentBatchResult adjustStockBatch(AdjustStockBatchCommand command) {
+    // One query for every material in the batch
+    List<RawMaterialId> ids =
+        command.lines().stream().map(StockAdjustmentLine::rawMaterialId).distinct().toList();
+    Map<RawMaterialId, RawMaterial> rawMaterials = new HashMap<>();
+    for (RawMaterial rawMaterial : rawMaterialRepository.findByIds(ids)) {
+      rawMaterials.put(rawMaterial.getId(), rawMaterial);
+    }
+
+    // Apply every line in the domain; a failing line leaves the material untouched
+    List<StockAdjustmentLineResult> results = new ArrayList<>(command.lines().size());
+    Set<RawMaterialId> changed = new LinkedHashSet<>();
+    for (int i = 0; i < command.lines().size(); i++) {
+      StockAdjustmentLine line = command.lines().get(i);
+      RawMaterial rawMaterial = rawMaterials.get(line.rawMaterialId());
+      if (rawMaterial == null) {
+        results.add(
+            StockAdjustmentLineResult.failed(
+                i,
+                line.rawMaterialId(),
+                "Raw material not found with ID: " + line.rawMaterialId().value()));
+        continue;
+      }
+      try {
+        rawMaterial.adjustStock(line.delta());
+        results.add(
+            StockAdjustmentLineResult.applied(
+                i, line.rawMaterialId(), rawMaterial.getStockQuantity()));
+        changed.add(line.rawMaterialId());
+      } catch (IllegalArgumentException e) {
+        results.add(StockAdjustmentLineResult.failed(i, line.rawMaterialId(), e.getMessage()));
+      }
+    }
+
+    boolean anyFailed = results.stream().anyMatch(r -> r.status() == LineStatus.FAILED);
+    if (anyFailed && command.atomic()) {
+      // Nothing has been written yet, so rejecting the batch is just not saving it
+      return new StockAdjustmentBatchResult(
+          results.stream().map(StockAdjustmentLineResult::rolledBack).toList(), false);
+    }
+
+    List<RawMaterial> saved =
+        rawMaterialRepository.saveAll(changed.stream().map(rawMaterials::get).toList());
+    saved.forEach(
+        rawMaterial -> catalogChanges.fire(new CatalogChange.RawMaterialChanged(rawMaterial)));
+    return new StockAdjustmentBatchResult(results, !saved.isEmpty());
+  }
+
+  @Override
+  @Transactional
+  @RetryOnConflict
   public void deactivateRawMaterial(RawMaterialId id) {
     RawMaterial rawMaterial = findRawMaterialOrThrow(id);
     rawMaterial.deactivate();
-    rawMaterialRepository.save(rawMaterial);
+    saveAndPublish(rawMaterial);
   }
 
   @Override
@@ -80,6 +163,7 @@ public class RawMaterialService implements RawMaterialUseCase {
       throw new RawMaterialNotFoundException(id);
     }
     rawMaterialRepository.deleteById(id);
+    catalogChanges.fire(new CatalogChange.RawMaterialRemoved(id));
   }
 
   @Override
@@ -103,11 +187,29 @@ public class RawMaterialService implements RawMaterialUseCase {
   }
 
   @Override
-  public List<RawMaterial> searchRawMaterials(String searchTerm) {
+  public Page<RawMaterial> listRawMaterials(PageRequest pageRequest, boolean includeInactive) {
+    if (pageRequest == null) {
+      throw new IllegalArgumentException("Page request cannot be null");
+    }
+    return rawMaterialRepository.findPage(pageRequest, includeInactive);
+  }
+
+  @Override
+  @Transactional
+  public void exportRawMaterials(boolean includeInactive, Consumer<RawMaterial> sink) {
+    rawMaterialRepository.forEach(includeInactive, sink);
+  }
+
+  @Override
+  public List<RawMaterial> searchRawMaterials(String searchTerm, int limit) {
+    PageRequest.checkLimit(limit);
     if (searchTerm == null || searchTerm.isBlank()) {
-      return rawMaterialRepository.findAllActive();
+      // Only the first page of the listing, never the whole catalog
+      return rawMaterialRepository
+          .findPage(PageRequest.first(limit, SortOrder.ID_ASC), false)
+          .items();
     }
-    return rawMaterialRepository.findByNameContaining(searchTerm.trim());
+    return rawMaterialRepository.search(searchTerm.trim(), limit);
   }
 
   private RawMaterial findRawMaterialOrThrow(RawMaterialId id) {
@@ -115,4 +217,10 @@ public class RawMaterialService implements RawMaterialUseCase {
         .findById(id)
         .orElseThrow(() -> new RawMaterialNotFoundException(id));
   }
+
+  private RawMaterial saveAndPublish(RawMaterial rawMaterial) {
+    RawMaterial saved = rawMaterialRepository.save(rawMaterial);
+    catalogChanges.fire(new CatalogChange.RawMaterialChanged(saved));
+    return saved;
+  }
 }
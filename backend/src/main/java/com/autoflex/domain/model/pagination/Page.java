@@ -0,0 +1,22 @@
+package com.autoflex.domain.model.pagination;
+
+import java.util.List;
+
+/**
+ * Page - One page of a keyset-paginated listing.
+ *
+ * @param items the rows of this page, in the requested order
+ * @param next cursor for the following page, or null if this is the last page
+ * @param <T> the row type
+ */
+public record Page<T>(List<T> items, PageCursor next) {
+
+  public Page {
+    items = List.copyOf(items);
+  }
+
+  /** Returns true if there are more rows after this page. */
+  public boolean hasNext() {
+    return next != null;
+  }
+}
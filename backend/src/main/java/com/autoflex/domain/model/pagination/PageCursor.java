@@ -0,0 +1,62 @@
+package com.autoflex.domain.model.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * PageCursor - Value Object marking the last row of a page in keyset pagination.
+ *
+ * <p>Holds the sort key of that row: its ID, plus its name when sorting by name. Clients receive it
+ * as an opaque URL-safe token and pass it back unchanged to fetch the next page.
+ *
+ * @param sort the ordering the cursor was produced for
+ * @param lastId the ID of the last row returned
+ * @param lastName the name of the last row returned (only for {@link SortOrder#NAME_ASC})
+ */
+public record PageCursor(SortOrder sort, long lastId, String lastName) {
+
+  private static final String SEPARATOR = "|";
+
+  public PageCursor {
+    if (sort == null) {
+      throw new IllegalArgumentException("Cursor sort order cannot be null");
+    }
+    if (sort == SortOrder.NAME_ASC && lastName == null) {
+      throw new IllegalArgumentException("Cursor for name ordering requires the last name");
+    }
+    if (sort != SortOrder.NAME_ASC) {
+      lastName = null;
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque token.
+   *
+   * @return a URL-safe token
+   */
+  public String encode() {
+    String raw = sort.name() + SEPARATOR + lastId + (lastName != null ? SEPARATOR + lastName : "");
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes a token produced by {@link #encode()}.
+   *
+   * @param token the opaque cursor token
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static PageCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|", 3);
+      SortOrder sort = SortOrder.valueOf(parts[0]);
+      long lastId = Long.parseLong(parts[1]);
+      return new PageCursor(sort, lastId, parts.length > 2 ? parts[2] : null);
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Invalid page cursor: " + token);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.autoflex.domain.model.pagination;
+
+/**
+ * PageRequest - Value Object describing one page of a keyset-paginated listing.
+ *
+ * @param limit maximum number of rows to return (1 to {@value #MAX_LIMIT})
+ * @param sort the ordering of the listing
+ * @param after cursor of the last row of the previous page, or null for the first page
+ */
+public record PageRequest(int limit, SortOrder sort, PageCursor after) {
+
+  /** Page size used when the client does not specify one. */
+  public static final int DEFAULT_LIMIT = 100;
+
+  /** Upper bound on the page size, so a single request never loads the whole catalog. */
+  public static final int MAX_LIMIT = 500;
+
+  public PageRequest {
+    checkLimit(limit);
+    if (sort == null) {
+      throw new IllegalArgumentException("Sort order cannot be null");
+    }
+    if (after != null && after.sort() != sort) {
+      throw new IllegalArgumentException("Page cursor does not match the requested sort order");
+    }
+  }
+
+  /**
+   * Creates a request for the first page.
+   *
+   * @param limit maximum number of rows to return
+   * @param sort the ordering of the listing
+   * @return a PageRequest without cursor
+   */
+  public static PageRequest first(int limit, SortOrder sort) {
+    return new PageRequest(limit, sort, null);
+  }
+
+  /**
+   * Validates a result limit against the same bounds as a page size.
+   *
+   * @param limit maximum number of rows to return
+   * @throws IllegalArgumentException if the limit is out of bounds
+   */
+  public static void checkLimit(int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.autoflex.domain.model.pagination;
+
+/**
+ * SortOrder - The bounded set of orderings supported by keyset-paginated listings.
+ *
+ * <p>Every ordering ends with the ID so the keyset is unique and pages never skip or repeat rows.
+ *
+ * <ul>
+ *   <li>{@link #ID_ASC} - {@code id}, oldest first (default)
+ *   <li>{@link #ID_DESC} - {@code -id}, newest first
+ *   <li>{@link #NAME_ASC} - {@code name}, alphabetical, ties broken by ID
+ * </ul>
+ */
+public enum SortOrder {
+  ID_ASC("id"),
+  ID_DESC("-id"),
+  NAME_ASC("name");
+
+  private final String value;
+
+  SortOrder(String value) {
+    this.value = value;
+  }
+
+  /** Returns the query-parameter form of this ordering, e.g. {@code "-id"}. */
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Finds a SortOrder by its query-parameter form (case-insensitive).
+   *
+   * @param value the sort value, e.g. {@code "id"}, {@code "-id"} or {@code "name"}
+   * @return the matching SortOrder
+   * @throws IllegalArgumentException if no match is found
+   */
+  public static SortOrder fromValue(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Sort order cannot be null or empty");
+    }
+    for (SortOrder order : values()) {
+      if (order.value.equalsIgnoreCase(value.trim())) {
+        return order;
+      }
+    }
+    throw new IllegalArgumentException("Unknown sort order: " + value);
+  }
+}
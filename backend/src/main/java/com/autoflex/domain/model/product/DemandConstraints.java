@@ -0,0 +1,61 @@
+package com.autoflex.domain.model.product;
+
+/**
+ * DemandConstraints - Value Object bounding how many units of a product a production plan may
+ * schedule.
+ *
+ * <ul>
+ *   <li>{@code maxDemand} - the most units the market will take; nothing beyond it is planned
+ *   <li>{@code minBatch} - the smallest run worth setting up; a product is either not produced or
+ *       produced in at least this many units
+ * </ul>
+ *
+ * <p>Both are optional (null means unconstrained).
+ */
+public record DemandConstraints(Integer maxDemand, Integer minBatch) {
+
+  /** No cap and no minimum run. */
+  public static final DemandConstraints NONE = new DemandConstraints(null, null);
+
+  public DemandConstraints {
+    if (maxDemand != null && maxDemand < 0) {
+      throw new IllegalArgumentException("Maximum demand cannot be negative");
+    }
+    if (minBatch != null && minBatch <= 0) {
+      throw new IllegalArgumentException("Minimum batch must be positive");
+    }
+    if (maxDemand != null && minBatch != null && minBatch > maxDemand) {
+      throw new IllegalArgumentException("Minimum batch cannot exceed the maximum demand");
+    }
+  }
+
+  /**
+   * Creates a new DemandConstraints.
+   *
+   * @param maxDemand the maximum units to plan, or null for no cap
+   * @param minBatch the minimum units per run, or null for no minimum
+   * @return a new DemandConstraints, or {@link #NONE} if both are null
+   */
+  public static DemandConstraints of(Integer maxDemand, Integer minBatch) {
+    return maxDemand == null && minBatch == null
+        ? NONE
+        : new DemandConstraints(maxDemand, minBatch);
+  }
+
+  /** Returns true if neither a cap nor a minimum run is set. */
+  public boolean isUnconstrained() {
+    return maxDemand == null && minBatch == null;
+  }
+
+  /**
+   * Returns the units to plan when the materials allow {@code producibleUnits}: capped at the
+   * maximum demand, and zero if that is below the minimum batch.
+   *
+   * @param producibleUnits the units the available stock allows
+   * @return the units to plan
+   */
+  public int plannableUnits(int producibleUnits) {
+    int units = maxDemand != null ? Math.min(producibleUnits, maxDemand) : producibleUnits;
+    return minBatch != null && units < minBatch ? 0 : units;
+  }
+}
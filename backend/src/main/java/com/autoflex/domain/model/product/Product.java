@@ -37,6 +37,9 @@ public class Product {
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
   private final List<BillOfMaterialItem> materials;
+  private final List<ProductComponent> components;
+  private DemandConstraints demandConstraints;
+  private final Long version;
 
   /** Private constructor - use factory methods or Builder. */
   private Product(
@@ -49,7 +52,10 @@ public class Product {
       boolean active,
       LocalDateTime createdAt,
       LocalDateTime updatedAt,
-      List<BillOfMaterialItem> materials) {
+      List<BillOfMaterialItem> materials,
+      List<ProductComponent> components,
+      DemandConstraints demandConstraints,
+      Long version) {
     this.id = id;
     this.name = name;
     this.description = description;
@@ -60,6 +66,9 @@ public class Product {
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
     this.materials = new ArrayList<>(materials != null ? materials : List.of());
+    this.components = new ArrayList<>(components != null ? components : List.of());
+    this.demandConstraints = demandConstraints != null ? demandConstraints : DemandConstraints.NONE;
+    this.version = version;
   }
 
   /**
@@ -85,7 +94,10 @@ public class Product {
         true, // new products are active by default
         now,
         now,
-        List.of());
+        List.of(),
+        List.of(),
+        DemandConstraints.NONE,
+        null);
   }
 
   /**
@@ -113,7 +125,10 @@ public class Product {
         active,
         createdAt,
         updatedAt,
-        List.of());
+        List.of(),
+        List.of(),
+        DemandConstraints.NONE,
+        null);
   }
 
   /** Factory method for reconstituting a Product from persistence with its bill of materials. */
@@ -139,7 +154,113 @@ public class Product {
         active,
         createdAt,
         updatedAt,
-        materials);
+        materials,
+        List.of(),
+        DemandConstraints.NONE,
+        null);
+  }
+
+  /**
+   * Factory method for reconstituting a Product from persistence with its bill of materials and the
+   * optimistic locking version it was read at. Saving the product fails if the stored version has
+   * moved on in the meantime.
+   */
+  public static Product reconstitute(
+      ProductId id,
+      String name,
+      String description,
+      String sku,
+      BigDecimal unitPrice,
+      Integer stockQuantity,
+      boolean active,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      List<BillOfMaterialItem> materials,
+      Long version) {
+
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        active,
+        createdAt,
+        updatedAt,
+        materials,
+        List.of(),
+        DemandConstraints.NONE,
+        version);
+  }
+
+  /**
+   * Factory method for reconstituting a Product from persistence with its full bill of materials
+   * (raw materials and component products) and its optimistic locking version.
+   */
+  public static Product reconstitute(
+      ProductId id,
+      String name,
+      String description,
+      String sku,
+      BigDecimal unitPrice,
+      Integer stockQuantity,
+      boolean active,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      List<BillOfMaterialItem> materials,
+      List<ProductComponent> components,
+      Long version) {
+
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        active,
+        createdAt,
+        updatedAt,
+        materials,
+        components,
+        DemandConstraints.NONE,
+        version);
+  }
+
+  /**
+   * Factory method for reconstituting a Product from persistence with its full bill of materials,
+   * its demand constraints and its optimistic locking version.
+   */
+  public static Product reconstitute(
+      ProductId id,
+      String name,
+      String description,
+      String sku,
+      BigDecimal unitPrice,
+      Integer stockQuantity,
+      boolean active,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      List<BillOfMaterialItem> materials,
+      List<ProductComponent> components,
+      DemandConstraints demandConstraints,
+      Long version) {
+
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        active,
+        createdAt,
+        updatedAt,
+        materials,
+        components,
+        demandConstraints,
+        version);
   }
 
   // =========================================================================
@@ -195,6 +316,28 @@ public class Product {
     return this.stockQuantity >= requiredQuantity;
   }
 
+  /**
+   * Replaces the demand constraints used when planning production of this product.
+   *
+   * @param demandConstraints the new constraints; {@link DemandConstraints#NONE} to clear them
+   */
+  public void updateDemandConstraints(DemandConstraints demandConstraints) {
+    Objects.requireNonNull(demandConstraints, "Demand constraints cannot be null");
+    this.demandConstraints = demandConstraints;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Returns the units of this product a plan may schedule when the materials allow {@code
+   * producibleUnits}, honoring the maximum demand and minimum batch.
+   *
+   * @param producibleUnits the units the available stock allows
+   * @return the units to plan (0 if below the minimum batch)
+   */
+  public int plannableUnits(int producibleUnits) {
+    return demandConstraints.plannableUnits(producibleUnits);
+  }
+
   // =========================================================================
   // BILL OF MATERIALS MANAGEMENT
   // =========================================================================
@@ -266,6 +409,142 @@ public class Product {
     return Collections.unmodifiableList(materials);
   }
 
+  /**
+   * Adds a component product (sub-assembly) to this product's bill of materials. Whether the
+   * component's own BOM leads back to this product is checked by the caller, which can see the rest
+   * of the catalog.
+   *
+   * @param componentId the component product to add
+   * @param quantityRequired the quantity needed to produce one unit of this product
+   * @throws IllegalArgumentException if the component is this product or already in the BOM
+   */
+  public void addComponent(ProductId componentId, BigDecimal quantityRequired) {
+    Objects.requireNonNull(componentId, "Component product ID cannot be null");
+    if (componentId.equals(id)) {
+      throw new IllegalArgumentException("A product cannot be a component of itself");
+    }
+    boolean exists = components.stream().anyMatch(c -> c.componentId().equals(componentId));
+    if (exists) {
+      throw new IllegalArgumentException(
+          "Component " + componentId + " is already in the bill of materials");
+    }
+    components.add(ProductComponent.of(componentId, quantityRequired));
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Removes a component product from this product's bill of materials.
+   *
+   * @param componentId the component product to remove
+   * @throws IllegalArgumentException if the component is not in the BOM
+   */
+  public void removeComponent(ProductId componentId) {
+    Objects.requireNonNull(componentId, "Component product ID cannot be null");
+    boolean removed = components.removeIf(c -> c.componentId().equals(componentId));
+    if (!removed) {
+      throw new IllegalArgumentException(
+          "Component " + componentId + " is not in the bill of materials");
+    }
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Updates the required quantity of a component product in the BOM.
+   *
+   * @param componentId the component product to update
+   * @param newQuantity the new required quantity
+   * @throws IllegalArgumentException if the component is not in the BOM
+   */
+  public void updateComponentQuantity(ProductId componentId, BigDecimal newQuantity) {
+    Objects.requireNonNull(componentId, "Component product ID cannot be null");
+    for (int i = 0; i < components.size(); i++) {
+      if (components.get(i).componentId().equals(componentId)) {
+        components.set(i, components.get(i).withQuantity(newQuantity));
+        this.updatedAt = LocalDateTime.now();
+        return;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Component " + componentId + " is not in the bill of materials");
+  }
+
+  /** Returns an unmodifiable view of the component products in the bill of materials. */
+  public List<ProductComponent> getComponents() {
+    return Collections.unmodifiableList(components);
+  }
+
+  /**
+   * Returns a copy of this product whose bill of materials is the given raw material requirements
+   * and has no components, e.g. the result of exploding a multi-level BOM for planning.
+   *
+   * @param requirements raw material quantities per unit of this product
+   * @return a copy with the same identity and attributes
+   */
+  public Product withFlattenedMaterials(List<BillOfMaterialItem> requirements) {
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        active,
+        createdAt,
+        updatedAt,
+        requirements,
+        List.of(),
+        demandConstraints,
+        version);
+  }
+
+  /**
+   * Returns a copy of this product with another unit price, e.g. to plan a what-if scenario without
+   * changing the product itself.
+   *
+   * @param unitPrice the price of the copy
+   * @return a copy with the same identity and bill of materials
+   * @throws IllegalArgumentException if the price is null or negative
+   */
+  public Product withUnitPrice(BigDecimal unitPrice) {
+    validateUnitPrice(unitPrice);
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        active,
+        createdAt,
+        updatedAt,
+        materials,
+        components,
+        demandConstraints,
+        version);
+  }
+
+  /**
+   * Returns an inactive copy of this product, which production plans skip.
+   *
+   * @return a copy with the same identity and attributes, but not active
+   */
+  public Product asInactive() {
+    return new Product(
+        id,
+        name,
+        description,
+        sku,
+        unitPrice,
+        stockQuantity,
+        false,
+        createdAt,
+        updatedAt,
+        materials,
+        components,
+        demandConstraints,
+        version);
+  }
+
   // =========================================================================
   // VALIDATION METHODS (Domain Invariants)
   // =========================================================================
@@ -347,6 +626,15 @@ public class Product {
     return updatedAt;
   }
 
+  public DemandConstraints getDemandConstraints() {
+    return demandConstraints;
+  }
+
+  /** Returns the optimistic locking version, or null if the product was never persisted. */
+  public Long getVersion() {
+    return version;
+  }
+
   // =========================================================================
   // EQUALS / HASHCODE (Based on ID for entities)
   // =========================================================================
@@ -0,0 +1,43 @@
+package com.autoflex.domain.model.product;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * ProductComponent - Value Object representing the quantity of another product (a sub-assembly)
+ * consumed to produce one unit of a product.
+ *
+ * <p>This is part of the Product aggregate's Bill of Materials (BOM), next to the raw material
+ * items. Components are built from their own BOM; their finished-goods stock is not drawn on.
+ */
+public record ProductComponent(ProductId componentId, BigDecimal quantityRequired) {
+
+  public ProductComponent {
+    Objects.requireNonNull(componentId, "Component product ID cannot be null");
+    Objects.requireNonNull(quantityRequired, "Quantity required cannot be null");
+    if (quantityRequired.compareTo(BigDecimal.ZERO) <= 0) {
+      throw new IllegalArgumentException("Quantity required must be positive");
+    }
+  }
+
+  /**
+   * Creates a new ProductComponent.
+   *
+   * @param componentId the component product identifier
+   * @param quantityRequired the quantity needed to produce one unit of the product
+   * @return a new ProductComponent
+   */
+  public static ProductComponent of(ProductId componentId, BigDecimal quantityRequired) {
+    return new ProductComponent(componentId, quantityRequired);
+  }
+
+  /**
+   * Creates a copy of this component with an updated quantity.
+   *
+   * @param newQuantity the new quantity required
+   * @return a new ProductComponent with the updated quantity
+   */
+  public ProductComponent withQuantity(BigDecimal newQuantity) {
+    return new ProductComponent(this.componentId, newQuantity);
+  }
+}
@@ -0,0 +1,43 @@
+package com.autoflex.domain.model.production;
+
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ProductionScenario - Value Object describing a what-if change to the catalog, planned without
+ * touching stored data.
+ *
+ * <ul>
+ *   <li>{@code stockDeltas} - quantity added to (positive) or removed from (negative) each raw
+ *       material's stock
+ *   <li>{@code priceOverrides} - unit price to plan each product at
+ *   <li>{@code excludedProducts} - products to leave out of the plan
+ * </ul>
+ *
+ * <p>A scenario with no changes plans the catalog as it is.
+ */
+public record ProductionScenario(
+    String name,
+    Map<RawMaterialId, BigDecimal> stockDeltas,
+    Map<ProductId, BigDecimal> priceOverrides,
+    Set<ProductId> excludedProducts) {
+
+  public ProductionScenario {
+    stockDeltas = stockDeltas != null ? Map.copyOf(stockDeltas) : Map.of();
+    priceOverrides = priceOverrides != null ? Map.copyOf(priceOverrides) : Map.of();
+    excludedProducts = excludedProducts != null ? Set.copyOf(excludedProducts) : Set.of();
+    for (BigDecimal price : priceOverrides.values()) {
+      if (price.compareTo(BigDecimal.ZERO) < 0) {
+        throw new IllegalArgumentException("Unit price cannot be negative");
+      }
+    }
+  }
+
+  /** Returns true if this scenario leaves the catalog as it is. */
+  public boolean isBaseline() {
+    return stockDeltas.isEmpty() && priceOverrides.isEmpty() && excludedProducts.isEmpty();
+  }
+}
@@ -0,0 +1,34 @@
+package com.autoflex.domain.model.production;
+
+/**
+ * ProductionStrategy - Enumeration of the algorithms available for production planning.
+ *
+ * <ul>
+ *   <li>{@link #GREEDY} - allocates materials to products by unit price descending
+ *   <li>{@link #OPTIMAL} - maximizes total production value with an integer-programming solver,
+ *       bounded by a time budget and node limit
+ * </ul>
+ */
+public enum ProductionStrategy {
+  GREEDY,
+  OPTIMAL;
+
+  /**
+   * Finds a ProductionStrategy by name (case-insensitive).
+   *
+   * @param value the strategy name, e.g. {@code "greedy"} or {@code "optimal"}
+   * @return the matching ProductionStrategy
+   * @throws IllegalArgumentException if no match is found
+   */
+  public static ProductionStrategy fromValue(String value) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException("Production strategy cannot be null or empty");
+    }
+    for (ProductionStrategy strategy : values()) {
+      if (strategy.name().equalsIgnoreCase(value.trim())) {
+        return strategy;
+      }
+    }
+    throw new IllegalArgumentException("Unknown production strategy: " + value);
+  }
+}
@@ -22,6 +22,7 @@ public class RawMaterial {
   private boolean active;
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
+  private final Long version;
 
   private RawMaterial(
       RawMaterialId id,
@@ -33,7 +34,8 @@ public class RawMaterial {
       BigDecimal unitCost,
       boolean active,
       LocalDateTime createdAt,
-      LocalDateTime updatedAt) {
+      LocalDateTime updatedAt,
+      Long version) {
     this.id = id;
     this.name = name;
     this.description = description;
@@ -44,6 +46,7 @@ public class RawMaterial {
     this.active = active;
     this.createdAt = createdAt;
     this.updatedAt = updatedAt;
+    this.version = version;
   }
 
   /** Factory method for creating a new raw material. */
@@ -70,7 +73,8 @@ public class RawMaterial {
         unitCost,
         true,
         now,
-        now);
+        now,
+        null);
   }
 
   /** Factory method for reconstituting a raw material from persistence. */
@@ -85,8 +89,48 @@ public class RawMaterial {
       boolean active,
       LocalDateTime createdAt,
       LocalDateTime updatedAt) {
+    return reconstitute(
+        id,
+        name,
+        description,
+        code,
+        unit,
+        stockQuantity,
+        unitCost,
+        active,
+        createdAt,
+        updatedAt,
+        null);
+  }
+
+  /**
+   * Factory method for reconstituting a raw material together with the optimistic locking version
+   * it was read at.
+   */
+  public static RawMaterial reconstitute(
+      RawMaterialId id,
+      String name,
+      String description,
+      String code,
+      MeasurementUnit unit,
+      BigDecimal stockQuantity,
+      BigDecimal unitCost,
+      boolean active,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      Long version) {
     return new RawMaterial(
-        id, name, description, code, unit, stockQuantity, unitCost, active, createdAt, updatedAt);
+        id,
+        name,
+        description,
+        code,
+        unit,
+        stockQuantity,
+        unitCost,
+        active,
+        createdAt,
+        updatedAt,
+        version);
   }
 
   /** Updates the raw material information. */
@@ -126,6 +170,32 @@ public class RawMaterial {
     this.updatedAt = LocalDateTime.now();
   }
 
+  /**
+   * Returns a copy of this raw material with its stock adjusted by the given delta, leaving this
+   * one unchanged (e.g. to plan a what-if scenario).
+   *
+   * @param delta positive value to add stock, negative to consume stock
+   * @return a copy with the same identity and the adjusted stock
+   * @throws IllegalArgumentException if the resulting stock would be negative
+   */
+  public RawMaterial withStockAdjustedBy(BigDecimal delta) {
+    RawMaterial copy =
+        new RawMaterial(
+            id,
+            name,
+            description,
+            code,
+            unit,
+            stockQuantity,
+            unitCost,
+            active,
+            createdAt,
+            updatedAt,
+            version);
+    copy.adjustStock(delta);
+    return copy;
+  }
+
   /** Checks whether sufficient stock is available. */
   public boolean hasSufficientStock(BigDecimal requiredQuantity) {
     Objects.requireNonNull(requiredQuantity, "Required quantity cannot be null");
@@ -223,6 +293,11 @@ public class RawMaterial {
     return updatedAt;
   }
 
+  /** Returns the optimistic locking version, or null if never persisted. */
+  public Long getVersion() {
+    return version;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -0,0 +1,106 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.port.in.ProductUseCase.CreateProductCommand;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CatalogImportUseCase - Input Port for bulk creation of raw materials and products.
+ *
+ * <p>Rows arrive as a lazily parsed stream, so an upload of any size is processed with bounded
+ * memory. Every row goes through the same domain invariants as the single-item endpoints, codes and
+ * SKUs are checked against the catalog loaded once up front, and valid rows are written in chunks,
+ * each in its own transaction. A failing row never stops the import; it is reported instead.
+ */
+public interface CatalogImportUseCase {
+
+  /**
+   * Imports raw materials. A row fails if its data violates the raw material invariants or its code
+   * already exists (in the catalog or earlier in the same upload).
+   *
+   * @param rows the parsed rows, in upload order
+   * @return counts and one error per rejected row
+   */
+  ImportReport importRawMaterials(Stream<ImportRow<CreateRawMaterialCommand>> rows);
+
+  /**
+   * Imports products with their bill of materials. BOM entries reference raw materials by code,
+   * including raw materials imported before this call. A row fails if its data violates the product
+   * invariants, its SKU already exists, or a BOM entry is unknown or invalid.
+   *
+   * @param rows the parsed rows, in upload order
+   * @return counts and one error per rejected row
+   */
+  ImportReport importProducts(Stream<ImportRow<ProductImport>> rows);
+
+  // =========================================================================
+  // IMPORT RECORDS
+  // =========================================================================
+
+  /**
+   * One row of an upload: either a parsed value or the reason it could not be parsed.
+   *
+   * @param line the 1-based line (CSV record or NDJSON line) the row came from
+   * @param value the parsed row, null if parsing failed
+   * @param error the parse error, null if parsing succeeded
+   */
+  record ImportRow<T>(long line, T value, String error) {
+
+    public static <T> ImportRow<T> of(long line, T value) {
+      return new ImportRow<>(line, value, null);
+    }
+
+    public static <T> ImportRow<T> invalid(long line, String error) {
+      return new ImportRow<>(line, null, error);
+    }
+  }
+
+  /** A product row with its bill of materials. */
+  record ProductImport(CreateProductCommand product, List<MaterialReference> materials) {
+
+    public ProductImport {
+      if (product == null) throw new IllegalArgumentException("Product data is required");
+      materials = materials != null ? List.copyOf(materials) : List.of();
+    }
+  }
+
+  /** A bill of materials entry referencing a raw material by its code. */
+  record MaterialReference(String rawMaterialCode, BigDecimal quantityRequired) {
+
+    public MaterialReference {
+      if (rawMaterialCode == null || rawMaterialCode.isBlank())
+        throw new IllegalArgumentException("Raw material code is required");
+      if (quantityRequired == null)
+        throw new IllegalArgumentException("Quantity required is required");
+    }
+  }
+
+  /**
+   * A rejected row.
+   *
+   * @param line the line the row came from
+   * @param key the row's code or SKU, when known
+   * @param message why the row was rejected
+   */
+  record RowError(long line, String key, String message) {}
+
+  /**
+   * Outcome of an import.
+   *
+   * @param processed rows read from the upload
+   * @param imported rows written to the catalog
+   * @param errors one entry per rejected row, in upload order
+   */
+  record ImportReport(long processed, long imported, List<RowError> errors) {
+
+    public ImportReport {
+      errors = List.copyOf(errors);
+    }
+
+    public long failed() {
+      return errors.size();
+    }
+  }
+}
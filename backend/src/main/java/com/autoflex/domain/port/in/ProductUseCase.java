@@ -1,10 +1,16 @@
 package com.autoflex.domain.port.in;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.BillOfMaterialItem;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
 import com.autoflex.domain.model.product.ProductId;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * ProductUseCase - Input Port defining product management operations.
@@ -60,6 +66,18 @@ public interface ProductUseCase {
    */
   Product adjustStock(ProductId id, int quantityDelta);
 
+  /**
+   * Sets the demand constraints production planning applies to a product.
+   *
+   * @param id the product ID
+   * @param maxDemand the most units to plan, or null for no cap
+   * @param minBatch the fewest units worth producing in a run, or null for no minimum
+   * @return the updated product
+   * @throws ProductNotFoundException if product doesn't exist
+   * @throws IllegalArgumentException if a value is out of range or minBatch exceeds maxDemand
+   */
+  Product updateDemandConstraints(ProductId id, Integer maxDemand, Integer minBatch);
+
   /**
    * Deactivates a product (soft delete).
    *
@@ -73,6 +91,7 @@ public interface ProductUseCase {
    *
    * @param id the product ID to delete
    * @throws ProductNotFoundException if product doesn't exist
+   * @throws ProductInUseException if other products still use it as a component
    */
   void deleteProduct(ProductId id);
 
@@ -112,12 +131,42 @@ public interface ProductUseCase {
   List<Product> listAllProducts();
 
   /**
-   * Searches products by name.
+   * Lists one page of products using keyset pagination.
    *
-   * @param searchTerm the search term
+   * @param pageRequest the page size, ordering and cursor
+   * @param includeInactive whether inactive products are included
+   * @return the page and the cursor of the next one
+   */
+  Page<Product> listProducts(PageRequest pageRequest, boolean includeInactive);
+
+  /**
+   * Exports every product with its bill of materials, one at a time, without loading the catalog
+   * into memory.
+   *
+   * @param includeInactive whether inactive products are included
+   * @param sink receives each product in ID order
+   */
+  void exportProducts(boolean includeInactive, Consumer<Product> sink);
+
+  /**
+   * Exports every bill of materials row, one at a time: all raw material rows, then all component
+   * rows, each ordered by product ID.
+   *
+   * @param materialSink receives the owning product ID and each raw material item
+   * @param componentSink receives the owning product ID and each component
+   */
+  void exportBillOfMaterials(
+      BiConsumer<ProductId, BillOfMaterialItem> materialSink,
+      BiConsumer<ProductId, ProductComponent> componentSink);
+
+  /**
+   * Searches products by SKU and name, best matches first.
+   *
+   * @param searchTerm the search term; if blank, the first active products in ID order
+   * @param limit the maximum number of results (1 to {@link PageRequest#MAX_LIMIT})
    * @return matching products
    */
-  List<Product> searchProducts(String searchTerm);
+  List<Product> searchProducts(String searchTerm, int limit);
 
   // =========================================================================
   // BILL OF MATERIALS MANAGEMENT
@@ -154,6 +203,40 @@ public interface ProductUseCase {
    */
   Product updateMaterialQuantity(ProductId productId, Long rawMaterialId, BigDecimal newQuantity);
 
+  /**
+   * Adds another product as a component (sub-assembly) of a product's bill of materials.
+   *
+   * @param productId the product ID
+   * @param command the component product and quantity to add
+   * @return the updated product
+   * @throws ProductNotFoundException if product doesn't exist
+   * @throws IllegalArgumentException if the component doesn't exist, or its bill of materials
+   *     already uses the product (directly or through other components)
+   */
+  Product addComponentToProduct(ProductId productId, AddComponentCommand command);
+
+  /**
+   * Removes a component product from a product's bill of materials.
+   *
+   * @param productId the product ID
+   * @param componentProductId the component product ID to remove
+   * @return the updated product
+   * @throws ProductNotFoundException if product doesn't exist
+   */
+  Product removeComponentFromProduct(ProductId productId, Long componentProductId);
+
+  /**
+   * Updates the required quantity of a component product in a product's BOM.
+   *
+   * @param productId the product ID
+   * @param componentProductId the component product ID to update
+   * @param newQuantity the new required quantity
+   * @return the updated product
+   * @throws ProductNotFoundException if product doesn't exist
+   */
+  Product updateComponentQuantity(
+      ProductId productId, Long componentProductId, BigDecimal newQuantity);
+
   // =========================================================================
   // COMMAND RECORDS (Immutable input objects)
   // =========================================================================
@@ -208,6 +291,21 @@ public interface ProductUseCase {
     }
   }
 
+  /** Command for adding a component product to a product's bill of materials. */
+  record AddComponentCommand(Long componentProductId, BigDecimal quantityRequired) {
+    public AddComponentCommand {
+      if (componentProductId == null) {
+        throw new IllegalArgumentException("Component product ID is required");
+      }
+      if (quantityRequired == null) {
+        throw new IllegalArgumentException("Quantity required is required");
+      }
+      if (quantityRequired.compareTo(BigDecimal.ZERO) <= 0) {
+        throw new IllegalArgumentException("Quantity required must be positive");
+      }
+    }
+  }
+
   // =========================================================================
   // DOMAIN EXCEPTIONS
   // =========================================================================
@@ -224,6 +322,12 @@ public interface ProductUseCase {
     }
   }
 
+  class ProductInUseException extends RuntimeException {
+    public ProductInUseException(ProductId id) {
+      super("Product " + id + " is a component of other products and cannot be deleted");
+    }
+  }
+
   class InsufficientStockException extends RuntimeException {
     public InsufficientStockException(ProductId id, int available, int requested) {
       super(
@@ -0,0 +1,95 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ProductionUseCase.PlanPhase;
+import java.time.LocalDateTime;
+
+/**
+ * ProductionJobUseCase - Input port for production plans calculated in the background.
+ *
+ * <p>Submitting returns at once with a job that is then polled until it has finished. Jobs run on a
+ * bounded pool; a submission for the same strategy and catalog version as a job that is still
+ * queued, running or completed returns that job instead of starting another. Finished jobs are kept
+ * for a limited time, after which they are no longer found.
+ */
+public interface ProductionJobUseCase {
+
+  /**
+   * Submits a production plan calculation.
+   *
+   * @param strategy the planning algorithm to use
+   * @return the new job, or the existing job for the same strategy and catalog version
+   * @throws IllegalArgumentException if strategy is null
+   * @throws ProductionJobsBusyException if the job queue is full
+   */
+  ProductionJob submit(ProductionStrategy strategy);
+
+  /**
+   * Retrieves a job.
+   *
+   * @param jobId the job ID
+   * @return the job in its current state
+   * @throws ProductionJobNotFoundException if the job is unknown or has expired
+   */
+  ProductionJob getJob(String jobId);
+
+  // =========================================================================
+  // JOB RECORDS
+  // =========================================================================
+
+  /** Lifecycle of a job: QUEUED, then RUNNING, then COMPLETED or FAILED. */
+  enum JobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+      return this == COMPLETED || this == FAILED;
+    }
+  }
+
+  /**
+   * State of a job at one point in time.
+   *
+   * @param id the job ID
+   * @param strategy the planning algorithm
+   * @param catalogVersion opaque token of the catalog version the plan was computed from, once
+   *     completed; may be newer than the catalog at submission
+   * @param status the lifecycle state
+   * @param phase the phase of the calculation while running, null before the first one
+   * @param submittedAt when the job was submitted
+   * @param startedAt when the calculation started, null while queued
+   * @param finishedAt when the calculation finished, null until then
+   * @param plan the plan, once completed
+   * @param error why the calculation failed, once failed
+   */
+  record ProductionJob(
+      String id,
+      ProductionStrategy strategy,
+      String catalogVersion,
+      JobStatus status,
+      PlanPhase phase,
+      LocalDateTime submittedAt,
+      LocalDateTime startedAt,
+      LocalDateTime finishedAt,
+      ProductionPlan plan,
+      String error) {}
+
+  // =========================================================================
+  // DOMAIN EXCEPTIONS
+  // =========================================================================
+
+  class ProductionJobNotFoundException extends RuntimeException {
+    public ProductionJobNotFoundException(String jobId) {
+      super("Production job not found with ID: " + jobId);
+    }
+  }
+
+  class ProductionJobsBusyException extends RuntimeException {
+    public ProductionJobsBusyException(int queued) {
+      super("Too many production jobs in progress (" + queued + " queued), retry later");
+    }
+  }
+}
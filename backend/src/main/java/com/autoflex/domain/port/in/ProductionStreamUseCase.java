@@ -0,0 +1,35 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import java.util.function.Consumer;
+
+/**
+ * ProductionStreamUseCase - Input port for following the greedy production plan as the catalog
+ * changes.
+ *
+ * <p>A subscriber receives the current plan first, then a new plan each time committed stock or
+ * bill-of-materials changes alter it. Changes arriving close together are coalesced into one
+ * recalculation, which is shared by all subscribers.
+ */
+public interface ProductionStreamUseCase {
+
+  /**
+   * Subscribes to production plan updates.
+   *
+   * <p>The listener is called from a background thread, one plan at a time, and never twice in a
+   * row with the same plan. It must not block for long, since later plans for other subscribers
+   * wait for it.
+   *
+   * @param listener receives each new plan
+   * @return a handle to stop receiving plans
+   * @throws IllegalArgumentException if listener is null
+   */
+  PlanSubscription subscribe(Consumer<VersionedProductionPlan> listener);
+
+  /** Handle of one subscription. */
+  interface PlanSubscription {
+
+    /** Stops delivering plans to the listener. Calling it again has no effect. */
+    void cancel();
+  }
+}
@@ -1,6 +1,10 @@
 package com.autoflex.domain.port.in;
 
 import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import java.util.List;
+import java.util.function.Consumer;
 
 /** ProductionUseCase - Input port for production planning operations. */
 public interface ProductionUseCase {
@@ -15,4 +19,90 @@ public interface ProductionUseCase {
    * @return a ProductionPlan with optimal production quantities
    */
   ProductionPlan calculateProductionPlan();
+
+  /**
+   * Calculates the production plan using the given strategy.
+   *
+   * <p>{@link ProductionStrategy#OPTIMAL} maximizes total production value with a bounded
+   * branch-and-bound search and returns the greedy plan if nothing better is found within the
+   * configured time budget and node limit.
+   *
+   * @param strategy the planning algorithm to use
+   * @return the resulting ProductionPlan
+   * @throws IllegalArgumentException if strategy is null
+   */
+  ProductionPlan calculateProductionPlan(ProductionStrategy strategy);
+
+  /**
+   * Calculates the production plan using the given strategy, together with the catalog version it
+   * was computed from. Calls made before the catalog changes return the same plan and version.
+   *
+   * @param strategy the planning algorithm to use
+   * @return the plan and its catalog version
+   * @throws IllegalArgumentException if strategy is null
+   */
+  VersionedProductionPlan calculateVersionedProductionPlan(ProductionStrategy strategy);
+
+  /**
+   * Like {@link #calculateVersionedProductionPlan(ProductionStrategy)}, reporting each phase of the
+   * calculation as it starts. A plan that is already cached or kept up to date reports no phase.
+   *
+   * @param strategy the planning algorithm to use
+   * @param progress receives the phases in order, on the calling thread
+   * @return the plan and the catalog version it was computed from
+   * @throws IllegalArgumentException if strategy is null
+   */
+  VersionedProductionPlan calculateVersionedProductionPlan(
+      ProductionStrategy strategy, Consumer<PlanPhase> progress);
+
+  /**
+   * Returns the current catalog version without planning: the token a plan calculated now would
+   * carry. Lets a caller answer a conditional request before doing any planning work.
+   *
+   * @return opaque token that changes whenever the catalog changes
+   */
+  String currentCatalogVersion();
+
+  /** Coarse progress of a plan calculation: LOADING the catalog, then PLANNING over it. */
+  enum PlanPhase {
+    LOADING,
+    PLANNING
+  }
+
+  /**
+   * A production plan and the catalog version it reflects.
+   *
+   * @param plan the production plan
+   * @param catalogVersion opaque token that changes whenever the catalog changes
+   */
+  record VersionedProductionPlan(ProductionPlan plan, String catalogVersion) {}
+
+  /**
+   * Plans what-if scenarios over the current catalog without changing it. All scenarios see the
+   * same catalog version and are planned concurrently; the plans are returned in the order given.
+   *
+   * @param scenarios the scenarios to plan
+   * @param strategy the planning algorithm to use for every scenario
+   * @return a plan per scenario and the catalog version they were planned over
+   * @throws IllegalArgumentException if there are no scenarios or more than the configured maximum,
+   *     strategy is null, or a scenario refers to an unknown product or raw material or would make
+   *     stock negative
+   */
+  ScenarioPlans evaluateScenarios(List<ProductionScenario> scenarios, ProductionStrategy strategy);
+
+  /**
+   * A production plan for one scenario.
+   *
+   * @param name the scenario name, as given
+   * @param plan the production plan under the scenario
+   */
+  record ScenarioPlan(String name, ProductionPlan plan) {}
+
+  /**
+   * The plans of a batch of scenarios and the catalog version they were planned over.
+   *
+   * @param plans one plan per scenario, in request order
+   * @param catalogVersion opaque token that changes whenever the catalog changes
+   */
+  record ScenarioPlans(List<ScenarioPlan> plans, String catalogVersion) {}
 }
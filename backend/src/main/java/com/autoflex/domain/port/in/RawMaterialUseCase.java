@@ -1,11 +1,14 @@
 package com.autoflex.domain.port.in;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
 import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /** RawMaterialUseCase - Input port defining raw material management operations. */
 public interface RawMaterialUseCase {
@@ -21,6 +24,8 @@ public interface RawMaterialUseCase {
 
   void deleteRawMaterial(RawMaterialId id);
 
+  StockAdjustmentBatchResult adjustStockBatch(AdjustStockBatchCommand command);
+
   // QUERIES
   RawMaterial getRawMaterialById(RawMaterialId id);
 
@@ -30,7 +35,15 @@ public interface RawMaterialUseCase {
 
   List<RawMaterial> listAllRawMaterials();
 
-  List<RawMaterial> searchRawMaterials(String searchTerm);
+  Page<RawMaterial> listRawMaterials(PageRequest pageRequest, boolean includeInactive);
+
+  void exportRawMaterials(boolean includeInactive, Consumer<RawMaterial> sink);
+
+  /**
+   * Searches by code and name, best matches first; a blank term lists the first active ones in ID
+   * order.
+   */
+  List<RawMaterial> searchRawMaterials(String searchTerm, int limit);
 
   // COMMAND RECORDS
   record CreateRawMaterialCommand(
@@ -65,6 +78,95 @@ public interface RawMaterialUseCase {
     }
   }
 
+  /** One line of a batch stock adjustment: a signed delta for one raw material. */
+  record StockAdjustmentLine(RawMaterialId rawMaterialId, BigDecimal delta) {
+
+    public StockAdjustmentLine {
+      if (rawMaterialId == null) throw new IllegalArgumentException("Raw material ID is required");
+      if (delta == null) throw new IllegalArgumentException("Stock delta is required");
+    }
+  }
+
+  /**
+   * Command for adjusting the stock of many raw materials at once. Lines are applied in order, so
+   * several lines may target the same material. When {@code atomic} is set, any failing line
+   * rejects the whole batch; otherwise the valid lines are committed and the failures reported.
+   */
+  record AdjustStockBatchCommand(List<StockAdjustmentLine> lines, boolean atomic) {
+
+    public static final int MAX_LINES = 1000;
+
+    public AdjustStockBatchCommand {
+      if (lines == null || lines.isEmpty())
+        throw new IllegalArgumentException("At least one stock adjustment line is required");
+      if (lines.size() > MAX_LINES)
+        throw new IllegalArgumentException(
+            "A batch cannot contain more than " + MAX_LINES + " lines");
+      lines = List.copyOf(lines);
+    }
+  }
+
+  /** Outcome of a single batch line. */
+  enum LineStatus {
+    APPLIED,
+    FAILED,
+    /** The line was valid but the atomic batch it belonged to was rejected. */
+    ROLLED_BACK
+  }
+
+  /**
+   * Result of one batch line.
+   *
+   * @param line zero-based index of the line in the command
+   * @param rawMaterialId the targeted raw material
+   * @param status the outcome
+   * @param stockQuantity the stock after this line, when applied
+   * @param error the failure reason, when failed
+   */
+  record StockAdjustmentLineResult(
+      int line,
+      RawMaterialId rawMaterialId,
+      LineStatus status,
+      BigDecimal stockQuantity,
+      String error) {
+
+    public static StockAdjustmentLineResult applied(
+        int line, RawMaterialId rawMaterialId, BigDecimal stockQuantity) {
+      return new StockAdjustmentLineResult(
+          line, rawMaterialId, LineStatus.APPLIED, stockQuantity, null);
+    }
+
+    public static StockAdjustmentLineResult failed(
+        int line, RawMaterialId rawMaterialId, String error) {
+      return new StockAdjustmentLineResult(line, rawMaterialId, LineStatus.FAILED, null, error);
+    }
+
+    /** Returns this result as part of a rejected atomic batch. */
+    public StockAdjustmentLineResult rolledBack() {
+      if (status != LineStatus.APPLIED) {
+        return this;
+      }
+      return new StockAdjustmentLineResult(line, rawMaterialId, LineStatus.ROLLED_BACK, null, null);
+    }
+  }
+
+  /**
+   * Result of a batch stock adjustment.
+   *
+   * @param lines per-line results, in command order
+   * @param committed whether any stock change was persisted
+   */
+  record StockAdjustmentBatchResult(List<StockAdjustmentLineResult> lines, boolean committed) {
+
+    public StockAdjustmentBatchResult {
+      lines = List.copyOf(lines);
+    }
+
+    public long countByStatus(LineStatus status) {
+      return lines.stream().filter(line -> line.status() == status).count();
+    }
+  }
+
   // DOMAIN EXCEPTIONS
   class RawMaterialNotFoundException extends RuntimeException {
     public RawMaterialNotFoundException(RawMaterialId id) {
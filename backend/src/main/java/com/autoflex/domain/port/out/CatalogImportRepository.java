@@ -0,0 +1,48 @@
+package com.autoflex.domain.port.out;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CatalogImportRepository - Output Port for bulk inserts of new catalog aggregates.
+ *
+ * <p>Unlike {@link ProductRepository} and {@link RawMaterialRepository}, implementations write
+ * without tracking the inserted objects (no persistence context), which keeps memory flat and lets
+ * the inserts go out as JDBC batches. All methods run in the caller's transaction.
+ */
+public interface CatalogImportRepository {
+
+  /**
+   * Loads the code and ID of every raw material, active or not.
+   *
+   * @return raw material IDs keyed by (upper-case) code
+   */
+  Map<String, RawMaterialId> findRawMaterialIdsByCode();
+
+  /**
+   * Loads the SKU of every product, active or not.
+   *
+   * @return the (upper-case) SKUs
+   */
+  Set<String> findProductSkus();
+
+  /**
+   * Inserts new raw materials.
+   *
+   * @param rawMaterials raw materials without ID
+   * @return the raw materials with their generated IDs, in the same order
+   */
+  List<RawMaterial> insertRawMaterials(List<RawMaterial> rawMaterials);
+
+  /**
+   * Inserts new products together with their bill of materials rows.
+   *
+   * @param products products without ID
+   * @return the products with their generated IDs, in the same order
+   */
+  List<Product> insertProducts(List<Product> products);
+}
@@ -1,9 +1,15 @@
 package com.autoflex.domain.port.out;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.BillOfMaterialItem;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
 import com.autoflex.domain.model.product.ProductId;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * ProductRepository - Output Port for Product persistence operations.
@@ -35,6 +41,18 @@ public interface ProductRepository {
    */
   Product save(Product product);
 
+  /**
+   * Atomically adds a delta to a product's stock while holding the row lock. The stock is only
+   * changed if the result is not negative, so concurrent adjustments neither lose updates nor drive
+   * the stock below zero.
+   *
+   * @param id the product ID
+   * @param quantityDelta units to add (positive) or remove (negative)
+   * @return true if the stock was adjusted, false if the product does not exist or its stock is
+   *     insufficient
+   */
+  boolean adjustStock(ProductId id, int quantityDelta);
+
   /**
    * Finds a product by its unique identifier.
    *
@@ -66,12 +84,51 @@ public interface ProductRepository {
   List<Product> findAll();
 
   /**
-   * Searches for products by name (partial match, case-insensitive).
+   * Retrieves one page of products in keyset order, with their bill of materials. Only the
+   * requested page is read from the store.
+   *
+   * @param pageRequest the page size, ordering and cursor
+   * @param includeInactive whether inactive products are included
+   * @return the page and the cursor of the next one
+   */
+  Page<Product> findPage(PageRequest pageRequest, boolean includeInactive);
+
+  /**
+   * Streams every product, with its bill of materials and components, to the given action in ID
+   * order. Rows are read through a database cursor, so memory use does not depend on the number of
+   * products. Must be called within a transaction.
+   *
+   * @param includeInactive whether inactive products are included
+   * @param action receives each product
+   */
+  void forEach(boolean includeInactive, Consumer<Product> action);
+
+  /**
+   * Streams every bill of materials row (one per product/raw material pair) to the given action,
+   * ordered by product ID. Must be called within a transaction.
    *
-   * @param name the name pattern to search for
-   * @return a list of matching products
+   * @param action receives the owning product ID and the BOM item
    */
-  List<Product> findByNameContaining(String name);
+  void forEachBillOfMaterialItem(BiConsumer<ProductId, BillOfMaterialItem> action);
+
+  /**
+   * Streams every component row (one per product/component product pair) to the given action,
+   * ordered by product ID. Must be called within a transaction.
+   *
+   * @param action receives the owning product ID and the component
+   */
+  void forEachComponent(BiConsumer<ProductId, ProductComponent> action);
+
+  /**
+   * Searches products by SKU and name, case-insensitively, best matches first: SKU prefix (an exact
+   * SKU first), then name prefix, then, if the adapter is configured for it, name infix. Inactive
+   * products are included.
+   *
+   * @param term the search term, not blank
+   * @param limit the maximum number of results
+   * @return up to {@code limit} matching products
+   */
+  List<Product> search(String term, int limit);
 
   /**
    * Deletes a product by its identifier. Note: Consider using soft delete (deactivate) instead for
@@ -98,6 +155,14 @@ public interface ProductRepository {
    */
   boolean existsById(ProductId id);
 
+  /**
+   * Checks if any product lists the given product as a component.
+   *
+   * @param id the product ID to check
+   * @return true if at least one component row references the product
+   */
+  boolean isUsedAsComponent(ProductId id);
+
   /**
    * Retrieves all active products with their bill of materials eagerly loaded. Used by the
    * production calculator to avoid N+1 queries.
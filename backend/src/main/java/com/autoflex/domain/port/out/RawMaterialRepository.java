@@ -1,15 +1,28 @@
 package com.autoflex.domain.port.out;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /** RawMaterialRepository - Output port for raw material persistence operations. */
 public interface RawMaterialRepository {
 
   RawMaterial save(RawMaterial rawMaterial);
 
+  /** Saves existing raw materials together, so their updates can be flushed as one JDBC batch. */
+  List<RawMaterial> saveAll(List<RawMaterial> rawMaterials);
+
+  /**
+   * Atomically adds a delta to the stock while holding the row lock, if the result stays
+   * non-negative. Returns false if the material is missing or the stock insufficient.
+   */
+  boolean adjustStock(RawMaterialId id, BigDecimal delta);
+
   Optional<RawMaterial> findById(RawMaterialId id);
 
   Optional<RawMaterial> findByCode(String code);
@@ -18,7 +31,16 @@ public interface RawMaterialRepository {
 
   List<RawMaterial> findAll();
 
-  List<RawMaterial> findByNameContaining(String name);
+  Page<RawMaterial> findPage(PageRequest pageRequest, boolean includeInactive);
+
+  /** Streams every raw material to the action in ID order through a database cursor. */
+  void forEach(boolean includeInactive, Consumer<RawMaterial> action);
+
+  /**
+   * Searches by code and name, case-insensitively, best matches first (code prefix, name prefix,
+   * then name infix if configured). Inactive raw materials are included.
+   */
+  List<RawMaterial> search(String term, int limit);
 
   List<RawMaterial> findByIds(List<RawMaterialId> ids);
 
@@ -0,0 +1,245 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * BomExplosion - Flattens multi-level bills of materials into raw material requirements per unit.
+ *
+ * <p>A product's requirements are its own raw material items plus, for each component product, the
+ * component's requirements multiplied by the quantity used. Each product is resolved once and
+ * memoized, so a shared sub-assembly is walked once however many products use it, and planners get
+ * a flat vector per product instead of walking the tree per unit.
+ *
+ * <p>A product whose BOM reaches a component that is unknown, inactive, or part of a cycle cannot
+ * be built; it explodes to an empty BOM, which the calculators skip.
+ *
+ * <p>{@link #put(Product)} and {@link #remove(ProductId)} drop the memoized requirements of the
+ * changed product and of every product above it, and return those IDs, so callers can refresh what
+ * they derived from them. Everything else stays cached.
+ *
+ * <p>Instances are mutable and NOT thread-safe; callers must serialize access.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class BomExplosion {
+
+  /** Memo entry of a product that cannot be built; compared by identity. */
+  private static final Map<RawMaterialId, BigDecimal> UNRESOLVABLE =
+      Collections.unmodifiableMap(new HashMap<>());
+
+  private final Map<ProductId, Product> products = new HashMap<>();
+  private final Map<ProductId, Set<ProductId>> usedIn = new HashMap<>();
+  private final Map<ProductId, Map<RawMaterialId, BigDecimal>> requirements = new HashMap<>();
+
+  private BomExplosion() {}
+
+  /**
+   * Builds an explosion over the given products. Nothing is resolved until requested.
+   *
+   * @param products the products that may appear in each other's bills of materials
+   * @return a new explosion
+   * @throws IllegalArgumentException if products is null
+   */
+  public static BomExplosion of(Collection<Product> products) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    BomExplosion explosion = new BomExplosion();
+    for (Product product : products) {
+      if (product.getId() != null) {
+        explosion.link(product);
+      }
+    }
+    return explosion;
+  }
+
+  /**
+   * Explodes the given products: products without components are returned as they are, the others
+   * as copies with their flattened requirements.
+   *
+   * @param products the products to explode, all known to this explosion
+   * @return the exploded products, in the same order
+   */
+  public List<Product> explodeAll(List<Product> products) {
+    List<Product> exploded = new ArrayList<>(products.size());
+    for (Product product : products) {
+      exploded.add(explode(product));
+    }
+    return exploded;
+  }
+
+  /**
+   * Explodes one product.
+   *
+   * @param product the product to explode
+   * @return the product itself if it has no components, otherwise a copy whose BOM is its flattened
+   *     requirements (empty if it cannot be built)
+   */
+  public Product explode(Product product) {
+    if (product.getComponents().isEmpty()) {
+      return product;
+    }
+    Map<RawMaterialId, BigDecimal> flat = resolve(product.getId());
+    List<BillOfMaterialItem> items = new ArrayList<>(flat.size());
+    flat.forEach(
+        (rawMaterialId, quantity) -> items.add(BillOfMaterialItem.of(rawMaterialId, quantity)));
+    return product.withFlattenedMaterials(items);
+  }
+
+  /**
+   * Returns the known product with the given ID, exploded.
+   *
+   * @param productId the product ID
+   * @return the exploded product, or null if the product is not known
+   */
+  public Product explode(ProductId productId) {
+    Product product = products.get(productId);
+    return product != null ? explode(product) : null;
+  }
+
+  /**
+   * Returns the flattened raw material requirements of one unit of a product.
+   *
+   * @param productId the product ID
+   * @return the requirements; empty if the product is unknown or cannot be built
+   */
+  public Map<RawMaterialId, BigDecimal> requirements(ProductId productId) {
+    return Map.copyOf(resolve(productId));
+  }
+
+  /**
+   * Adds or replaces a product.
+   *
+   * @param product the product as committed
+   * @return the product's ID and the IDs of all products that use it, directly or indirectly
+   */
+  public Set<ProductId> put(Product product) {
+    Set<ProductId> affected = invalidate(product.getId());
+    unlink(product.getId());
+    link(product);
+    return affected;
+  }
+
+  /**
+   * Removes a product. Products that use it can no longer be built.
+   *
+   * @param productId the removed product
+   * @return the product's ID and the IDs of all products that used it, directly or indirectly
+   */
+  public Set<ProductId> remove(ProductId productId) {
+    Set<ProductId> affected = invalidate(productId);
+    unlink(productId);
+    return affected;
+  }
+
+  private void link(Product product) {
+    products.put(product.getId(), product);
+    for (ProductComponent component : product.getComponents()) {
+      usedIn.computeIfAbsent(component.componentId(), k -> new HashSet<>()).add(product.getId());
+    }
+  }
+
+  private void unlink(ProductId productId) {
+    Product previous = products.remove(productId);
+    if (previous == null) {
+      return;
+    }
+    for (ProductComponent component : previous.getComponents()) {
+      Set<ProductId> parents = usedIn.get(component.componentId());
+      if (parents != null) {
+        parents.remove(productId);
+        if (parents.isEmpty()) {
+          usedIn.remove(component.componentId());
+        }
+      }
+    }
+  }
+
+  /** Drops the memo of the product and everything above it, returning the dropped IDs. */
+  private Set<ProductId> invalidate(ProductId productId) {
+    Set<ProductId> affected = new LinkedHashSet<>();
+    Deque<ProductId> pending = new ArrayDeque<>();
+    pending.push(productId);
+    while (!pending.isEmpty()) {
+      ProductId current = pending.pop();
+      if (affected.add(current)) {
+        requirements.remove(current);
+        pending.addAll(usedIn.getOrDefault(current, Set.of()));
+      }
+    }
+    return affected;
+  }
+
+  private Map<RawMaterialId, BigDecimal> resolve(ProductId productId) {
+    Map<RawMaterialId, BigDecimal> memo = requirements.get(productId);
+    return memo != null ? memo : resolve(productId, new HashSet<>());
+  }
+
+  /**
+   * Depth-first resolution; {@code path} holds the products being resolved above this one, so
+   * meeting one of them again is a cycle.
+   */
+  private Map<RawMaterialId, BigDecimal> resolve(ProductId productId, Set<ProductId> path) {
+    Map<RawMaterialId, BigDecimal> memo = requirements.get(productId);
+    if (memo != null) {
+      return memo;
+    }
+    Product product = products.get(productId);
+    if (product == null || !path.add(productId)) {
+      // Unknown component, or a cycle; the entries on the path are memoized as they unwind
+      return UNRESOLVABLE;
+    }
+
+    Map<RawMaterialId, BigDecimal> flat = new LinkedHashMap<>();
+    for (BillOfMaterialItem item : product.getMaterials()) {
+      flat.merge(item.rawMaterialId(), item.quantityRequired(), BigDecimal::add);
+    }
+    boolean buildable = true;
+    for (ProductComponent component : product.getComponents()) {
+      Product sub = products.get(component.componentId());
+      Map<RawMaterialId, BigDecimal> subRequirements =
+          sub != null && sub.isActive() ? resolve(component.componentId(), path) : UNRESOLVABLE;
+      if (subRequirements == UNRESOLVABLE) {
+        buildable = false;
+        break;
+      }
+      subRequirements.forEach(
+          (rawMaterialId, quantity) ->
+              flat.merge(
+                  rawMaterialId, quantity.multiply(component.quantityRequired()), BigDecimal::add));
+    }
+    path.remove(productId);
+
+    Map<RawMaterialId, BigDecimal> result = buildable ? normalize(flat) : UNRESOLVABLE;
+    requirements.put(productId, result);
+    return result;
+  }
+
+  /** Drops trailing zeros left by multiplication, so quantities keep their persisted scale. */
+  private static Map<RawMaterialId, BigDecimal> normalize(Map<RawMaterialId, BigDecimal> flat) {
+    Map<RawMaterialId, BigDecimal> normalized = new LinkedHashMap<>();
+    flat.forEach(
+        (rawMaterialId, quantity) -> {
+          BigDecimal stripped = quantity.stripTrailingZeros();
+          normalized.put(rawMaterialId, stripped.scale() < 0 ? stripped.setScale(0) : stripped);
+        });
+    return normalized;
+  }
+}
@@ -0,0 +1,223 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FixedPointProductionCalculator - Primitive-array implementation of the Greedy Production
+ * Algorithm.
+ *
+ * <p>Produces exactly the same {@link ProductionPlan} as {@link ProductionCalculator}, but runs the
+ * greedy loop over primitive arrays instead of {@code BigDecimal} values in a {@code HashMap}.
+ *
+ * <h3>Representation:</h3>
+ *
+ * <ul>
+ *   <li>Every raw material ID is mapped once to a dense {@code int} index
+ *   <li>Stock and BOM quantities are held as {@code long} values scaled by 10^4, matching the
+ *       {@code precision = 19, scale = 4} persistence columns
+ *   <li>Each product's BOM is compiled to parallel {@code int[]}/{@code long[]} arrays before the
+ *       loop starts, so no allocation happens per greedy step
+ * </ul>
+ *
+ * <p>If any quantity cannot be represented exactly (more than 4 decimal places, or a magnitude that
+ * does not fit in a {@code long} once scaled), the calculation is delegated to {@link
+ * ProductionCalculator} so results never depend on the engine.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class FixedPointProductionCalculator {
+
+  /** Number of decimal places carried by the fixed-point representation. */
+  static final int SCALE = 4;
+
+  private FixedPointProductionCalculator() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Calculates the production plan using fixed-point arithmetic over primitive arrays.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @return a ProductionPlan identical to {@link ProductionCalculator#calculate(List, List)}
+   * @throws IllegalArgumentException if products or rawMaterials are null
+   */
+  public static ProductionPlan calculate(List<Product> products, List<RawMaterial> rawMaterials) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    if (rawMaterials == null) {
+      throw new IllegalArgumentException("Raw materials list cannot be null");
+    }
+
+    // Step 1: Assign dense indexes and load scaled stock
+    Map<RawMaterialId, Integer> indexes = new HashMap<>();
+    List<RawMaterialId> ids = new ArrayList<>();
+    List<BigDecimal> originalStock = new ArrayList<>();
+    for (RawMaterial rm : rawMaterials) {
+      if (rm.isActive() && rm.getId() != null) {
+        Integer existing = indexes.putIfAbsent(rm.getId(), ids.size());
+        if (existing == null) {
+          ids.add(rm.getId());
+          originalStock.add(rm.getStockQuantity());
+        } else {
+          // Same semantics as HashMap.put in the decimal engine: the last entry wins
+          originalStock.set(existing, rm.getStockQuantity());
+        }
+      }
+    }
+
+    int materialCount = ids.size();
+    long[] stock = new long[materialCount];
+    int[] resultScale = new int[materialCount];
+    boolean[] touched = new boolean[materialCount];
+    for (int i = 0; i < materialCount; i++) {
+      BigDecimal value = originalStock.get(i);
+      if (!fits(value)) {
+        return ProductionCalculator.calculate(products, rawMaterials);
+      }
+      stock[i] = toScaled(value);
+      resultScale[i] = value.scale();
+    }
+
+    // Step 2: Filter and sort products by unit price descending (greedy choice)
+    List<Product> candidates = ProductionCalculator.sortedCandidates(products);
+
+    // Step 3: Compile each BOM into index/quantity arrays
+    int candidateCount = candidates.size();
+    int[][] bomIndexes = new int[candidateCount][];
+    long[][] bomQuantities = new long[candidateCount][];
+    int[][] bomScales = new int[candidateCount][];
+    for (int p = 0; p < candidateCount; p++) {
+      List<BillOfMaterialItem> bom = candidates.get(p).getMaterials();
+      int width = bom.size();
+      bomIndexes[p] = new int[width];
+      bomQuantities[p] = new long[width];
+      bomScales[p] = new int[width];
+      for (int b = 0; b < width; b++) {
+        BillOfMaterialItem item = bom.get(b);
+        if (!fits(item.quantityRequired())) {
+          return ProductionCalculator.calculate(products, rawMaterials);
+        }
+        Integer index = indexes.get(item.rawMaterialId());
+        bomIndexes[p][b] = index != null ? index : -1;
+        bomQuantities[p][b] = toScaled(item.quantityRequired());
+        bomScales[p][b] = item.quantityRequired().scale();
+      }
+    }
+
+    // Step 4: Greedy allocation over primitive arrays
+    List<ProductionPlanItem> planItems = new ArrayList<>();
+
+    for (int p = 0; p < candidateCount; p++) {
+      Product product = candidates.get(p);
+      int maxUnits =
+          product.plannableUnits(
+              calculateMaxProducibleUnits(bomIndexes[p], bomQuantities[p], stock));
+
+      if (maxUnits <= 0) {
+        continue;
+      }
+
+      int[] bomIndex = bomIndexes[p];
+      long[] bomQuantity = bomQuantities[p];
+      int[] bomScale = bomScales[p];
+      for (int b = 0; b < bomIndex.length; b++) {
+        int i = bomIndex[b];
+        stock[i] -= bomQuantity[b] * maxUnits;
+        touched[i] = true;
+        if (bomScale[b] > resultScale[i]) {
+          resultScale[i] = bomScale[b];
+        }
+      }
+
+      BigDecimal totalValue = product.getUnitPrice().multiply(BigDecimal.valueOf(maxUnits));
+
+      planItems.add(
+          new ProductionPlanItem(
+              product.getId(),
+              product.getName(),
+              product.getSku(),
+              maxUnits,
+              product.getUnitPrice(),
+              totalValue));
+    }
+
+    // Step 5: Calculate total production value
+    BigDecimal totalProductionValue =
+        planItems.stream()
+            .map(ProductionPlanItem::totalValue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    // Step 6: Convert remaining stock back, preserving the scale the decimal engine would produce
+    Map<RawMaterialId, BigDecimal> remainingStock = new HashMap<>();
+    for (int i = 0; i < materialCount; i++) {
+      BigDecimal remaining = originalStock.get(i);
+      if (touched[i]) {
+        remaining =
+            BigDecimal.valueOf(stock[i], SCALE).setScale(resultScale[i], RoundingMode.UNNECESSARY);
+      }
+      remainingStock.put(ids.get(i), remaining);
+    }
+
+    return new ProductionPlan(planItems, totalProductionValue, remainingStock);
+  }
+
+  /**
+   * Calculates the maximum number of producible units for one compiled BOM.
+   *
+   * <p>Mirrors {@code ProductionCalculator.calculateMaxProducibleUnits}, including the narrowing of
+   * the floor quotient to {@code int}.
+   *
+   * @param bomIndexes dense material indexes ({@code -1} when the material has no stock entry)
+   * @param bomQuantities scaled quantities required per unit
+   * @param stock scaled available stock by material index
+   * @return the maximum number of producible units (0 if any material is insufficient)
+   */
+  static int calculateMaxProducibleUnits(int[] bomIndexes, long[] bomQuantities, long[] stock) {
+    int maxUnits = Integer.MAX_VALUE;
+
+    for (int b = 0; b < bomIndexes.length; b++) {
+      int i = bomIndexes[b];
+      if (i < 0 || stock[i] <= 0) {
+        return 0;
+      }
+
+      // Both operands are positive, so integer division is the floor
+      int possibleUnits = (int) (stock[i] / bomQuantities[b]);
+
+      if (possibleUnits <= 0) {
+        return 0;
+      }
+
+      maxUnits = Math.min(maxUnits, possibleUnits);
+    }
+
+    return maxUnits == Integer.MAX_VALUE ? 0 : maxUnits;
+  }
+
+  /** Returns true if the value can be held exactly as a long scaled by 10^{@value #SCALE}. */
+  static boolean fits(BigDecimal value) {
+    try {
+      toScaled(value);
+      return true;
+    } catch (ArithmeticException e) {
+      return false;
+    }
+  }
+
+  private static long toScaled(BigDecimal value) {
+    return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+  }
+}
@@ -0,0 +1,312 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IncrementalProductionPlanner - Keeps a greedy production plan up to date as the catalog changes.
+ *
+ * <p>Holds the candidates in greedy order together with the units allocated at each position and
+ * the remaining stock. The greedy pass is a prefix computation: the allocation at position {@code
+ * k} only depends on the stock left by positions {@code 0..k-1}. A change is therefore applied by
+ * rolling back the allocations from the first affected position, applying the change, and replaying
+ * the tail.
+ *
+ * <ul>
+ *   <li>Stock change of a raw material - replays from the first position whose BOM uses it
+ *   <li>BOM, demand constraint or name change of a product already in the plan - replays from that
+ *       product's position
+ * </ul>
+ *
+ * <p>Changes that alter the greedy order (a new candidate, a removed candidate or a new unit price)
+ * are reported as not applicable, and the caller rebuilds the planner from scratch.
+ *
+ * <p>The resulting plan is identical to {@link ProductionCalculator#calculate(List, List)} over the
+ * same catalog, including the scale of the remaining stock values.
+ *
+ * <p>Instances are mutable and NOT thread-safe; callers must serialize access.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class IncrementalProductionPlanner {
+
+  private final List<Product> order;
+  private final Map<ProductId, Integer> positions;
+  private final Map<RawMaterialId, Integer> firstUse;
+  private final Map<RawMaterialId, BigDecimal> initialStock;
+  private final Map<RawMaterialId, BigDecimal> remainingStock;
+  private final int[] units;
+  private ProductionPlan plan;
+  private int lastReplayedFrom;
+
+  private IncrementalProductionPlanner(
+      List<Product> order, Map<RawMaterialId, BigDecimal> initialStock) {
+    this.order = new ArrayList<>(order);
+    this.positions = new HashMap<>();
+    this.firstUse = new HashMap<>();
+    this.initialStock = initialStock;
+    this.remainingStock = new HashMap<>(initialStock);
+    this.units = new int[order.size()];
+    for (int i = 0; i < order.size(); i++) {
+      positions.put(order.get(i).getId(), i);
+      indexMaterials(order.get(i), i);
+    }
+  }
+
+  /**
+   * Builds a planner and computes the initial plan.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @return a planner holding the plan for the given catalog
+   * @throws IllegalArgumentException if products or rawMaterials are null
+   */
+  public static IncrementalProductionPlanner build(
+      List<Product> products, List<RawMaterial> rawMaterials) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    if (rawMaterials == null) {
+      throw new IllegalArgumentException("Raw materials list cannot be null");
+    }
+    IncrementalProductionPlanner planner =
+        new IncrementalProductionPlanner(
+            ProductionCalculator.sortedCandidates(products),
+            ProductionCalculator.buildStockMap(rawMaterials));
+    planner.replayFrom(0);
+    return planner;
+  }
+
+  /**
+   * Builds a planner around a greedy plan already computed for the same catalog, e.g. by a {@link
+   * ProductionEngine} or {@link PartitionedProductionCalculator}, instead of running the greedy
+   * pass again. The allocations and remaining stock are taken from the plan.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @param plan the greedy plan of exactly these products and raw materials
+   * @return a planner holding the given plan
+   * @throws IllegalArgumentException if an argument is null or the plan has an unknown product
+   */
+  public static IncrementalProductionPlanner fromPlan(
+      List<Product> products, List<RawMaterial> rawMaterials, ProductionPlan plan) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    if (rawMaterials == null) {
+      throw new IllegalArgumentException("Raw materials list cannot be null");
+    }
+    if (plan == null) {
+      throw new IllegalArgumentException("Production plan cannot be null");
+    }
+    IncrementalProductionPlanner planner =
+        new IncrementalProductionPlanner(
+            ProductionCalculator.sortedCandidates(products),
+            ProductionCalculator.buildStockMap(rawMaterials));
+    for (ProductionPlanItem item : plan.items()) {
+      Integer position = planner.positions.get(item.productId());
+      if (position == null) {
+        throw new IllegalArgumentException(
+            "Production plan has an item for unknown product " + item.productId());
+      }
+      planner.units[position] = item.quantity();
+    }
+    planner.remainingStock.putAll(plan.remainingStock());
+    planner.plan = plan;
+    planner.lastReplayedFrom = planner.order.size();
+    return planner;
+  }
+
+  /**
+   * Returns the current production plan.
+   *
+   * @return the plan for the catalog as of the last applied change
+   */
+  public ProductionPlan plan() {
+    if (plan == null) {
+      plan = materialize();
+    }
+    return plan;
+  }
+
+  /**
+   * Applies a change to a product (BOM edit, rename, stock adjustment, activation).
+   *
+   * @param product the product as committed
+   * @return true if the plan was updated, false if the planner must be rebuilt
+   */
+  public boolean applyProductChange(Product product) {
+    Integer position = positions.get(product.getId());
+    boolean candidate = product.isActive() && !product.getMaterials().isEmpty();
+    if (position == null) {
+      // Not a candidate before; only a no-op if it still is not one
+      return !candidate;
+    }
+    Product previous = order.get(position);
+    if (!candidate || previous.getUnitPrice().compareTo(product.getUnitPrice()) != 0) {
+      return false;
+    }
+
+    if (previous.getMaterials().equals(product.getMaterials())
+        && previous.getDemandConstraints().equals(product.getDemandConstraints())) {
+      // Allocation is unchanged; only the item details may differ
+      order.set(position, product);
+      plan = null;
+      return true;
+    }
+
+    rollbackFrom(position);
+    order.set(position, product);
+    indexMaterials(product, position);
+    replayFrom(position);
+    return true;
+  }
+
+  /**
+   * Applies the removal of a product.
+   *
+   * @param productId the removed product
+   * @return true if the plan was updated, false if the planner must be rebuilt
+   */
+  public boolean applyProductRemoval(ProductId productId) {
+    return !positions.containsKey(productId);
+  }
+
+  /**
+   * Applies a change to a raw material (stock adjustment, activation, new material).
+   *
+   * @param rawMaterial the raw material as committed
+   * @return true if the plan was updated, false if the planner must be rebuilt
+   */
+  public boolean applyRawMaterialChange(RawMaterial rawMaterial) {
+    if (rawMaterial.getId() == null) {
+      return true;
+    }
+    setStock(rawMaterial.getId(), rawMaterial.isActive() ? rawMaterial.getStockQuantity() : null);
+    return true;
+  }
+
+  /**
+   * Applies the removal of a raw material.
+   *
+   * @param rawMaterialId the removed raw material
+   * @return true if the plan was updated, false if the planner must be rebuilt
+   */
+  public boolean applyRawMaterialRemoval(RawMaterialId rawMaterialId) {
+    setStock(rawMaterialId, null);
+    return true;
+  }
+
+  /** Returns the position the last replay started from; the candidate count if none ran. */
+  int lastReplayedFrom() {
+    return lastReplayedFrom;
+  }
+
+  private void setStock(RawMaterialId rawMaterialId, BigDecimal stock) {
+    BigDecimal previous = initialStock.get(rawMaterialId);
+    if (previous == null ? stock == null : previous.equals(stock)) {
+      return;
+    }
+
+    int position = firstUse.getOrDefault(rawMaterialId, order.size());
+    rollbackFrom(position);
+
+    // No position before the first use consumes this material, so remaining equals initial
+    if (stock == null) {
+      initialStock.remove(rawMaterialId);
+      remainingStock.remove(rawMaterialId);
+    } else {
+      initialStock.put(rawMaterialId, stock);
+      remainingStock.put(rawMaterialId, stock);
+    }
+    replayFrom(position);
+  }
+
+  private void indexMaterials(Product product, int position) {
+    // Stale entries from removed BOM items only make replays start earlier, never later
+    for (BillOfMaterialItem bom : product.getMaterials()) {
+      firstUse.merge(bom.rawMaterialId(), position, Math::min);
+    }
+  }
+
+  private void rollbackFrom(int position) {
+    for (int i = position; i < order.size(); i++) {
+      if (units[i] > 0) {
+        for (BillOfMaterialItem bom : order.get(i).getMaterials()) {
+          BigDecimal consumed = bom.quantityRequired().multiply(BigDecimal.valueOf(units[i]));
+          remainingStock.merge(bom.rawMaterialId(), consumed, BigDecimal::add);
+        }
+        units[i] = 0;
+      }
+    }
+  }
+
+  private void replayFrom(int position) {
+    for (int i = position; i < order.size(); i++) {
+      Product product = order.get(i);
+      int maxUnits =
+          product.plannableUnits(
+              ProductionCalculator.calculateMaxProducibleUnits(product, remainingStock));
+      if (maxUnits > 0) {
+        ProductionCalculator.allocateMaterials(product, maxUnits, remainingStock);
+      }
+      units[i] = maxUnits;
+    }
+    lastReplayedFrom = position;
+    plan = null;
+  }
+
+  private ProductionPlan materialize() {
+    List<ProductionPlanItem> planItems = new ArrayList<>();
+    Map<RawMaterialId, Integer> scales = new HashMap<>();
+
+    for (int i = 0; i < order.size(); i++) {
+      if (units[i] <= 0) {
+        continue;
+      }
+      Product product = order.get(i);
+      for (BillOfMaterialItem bom : product.getMaterials()) {
+        scales.merge(bom.rawMaterialId(), bom.quantityRequired().scale(), Math::max);
+      }
+      planItems.add(
+          new ProductionPlanItem(
+              product.getId(),
+              product.getName(),
+              product.getSku(),
+              units[i],
+              product.getUnitPrice(),
+              product.getUnitPrice().multiply(BigDecimal.valueOf(units[i]))));
+    }
+
+    BigDecimal totalProductionValue =
+        planItems.stream()
+            .map(ProductionPlanItem::totalValue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    // Rollbacks can widen the scale; report what a single greedy pass would have produced
+    Map<RawMaterialId, BigDecimal> stock = new HashMap<>();
+    initialStock.forEach(
+        (id, initial) -> {
+          Integer consumedScale = scales.get(id);
+          if (consumedScale == null) {
+            stock.put(id, initial);
+          } else {
+            int scale = Math.max(initial.scale(), consumedScale);
+            stock.put(id, remainingStock.get(id).setScale(scale, RoundingMode.UNNECESSARY));
+          }
+        });
+
+    return new ProductionPlan(planItems, totalProductionValue, stock);
+  }
+}
@@ -0,0 +1,590 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OptimalProductionCalculator - Domain service that maximizes total production value with an
+ * integer-programming solver.
+ *
+ * <h2>Model</h2>
+ *
+ * <p>maximize {@code sum(unitPrice[p] * x[p])} subject to {@code sum(quantityRequired[m][p] * x[p])
+ * <= stock[m]} for every raw material {@code m}, with {@code x[p]} a non-negative integer. A
+ * product's maximum demand is an upper bound on {@code x[p]}; its minimum batch makes {@code x[p]}
+ * semi-integer: either 0 or at least the minimum batch.
+ *
+ * <h2>Algorithm: LP-based Branch and Bound</h2>
+ *
+ * <ol>
+ *   <li>Run the greedy algorithm; its plan is the initial incumbent, so the result is never worse
+ *       than {@link ProductionCalculator}
+ *   <li>Solve the LP relaxation of each node with a dense primal simplex. Stock is never negative
+ *       and BOM quantities are positive, so the origin is always a feasible starting basis
+ *   <li>Prune nodes whose LP bound cannot beat the incumbent
+ *   <li>Round the LP solution down and complete it greedily with the leftover stock; this always
+ *       yields a feasible plan and often improves the incumbent early
+ *   <li>Branch depth-first, exploring the upper branch first: on a product whose LP value breaks
+ *       its minimum batch ({@code x = 0} / {@code x >= minBatch}) if there is one, otherwise on the
+ *       most fractional product ({@code x <= floor} / {@code x >= ceil})
+ * </ol>
+ *
+ * <p>The search stops when the tree is exhausted (the plan is proven optimal), the node limit is
+ * reached, or the time budget runs out. In the last two cases the best plan found so far is
+ * returned, which is the greedy plan if nothing better was found.
+ *
+ * <p>The time budget starts before the greedy pass and is also checked between simplex pivots.
+ *
+ * <p>The LP runs in {@code double}; every candidate plan is evaluated exactly in {@code
+ * BigDecimal}, so rounding in the relaxation can only affect search efficiency, never the
+ * feasibility of the returned plan.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class OptimalProductionCalculator {
+
+  private static final double EPSILON = 1e-9;
+  private static final double INTEGRALITY_TOLERANCE = 1e-6;
+  private static final int DEGENERATE_PIVOTS_BEFORE_BLAND = 50;
+
+  private OptimalProductionCalculator() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Calculates the production plan that maximizes total production value.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @param timeBudget maximum wall-clock time to spend searching
+   * @param nodeLimit maximum number of branch-and-bound nodes to explore
+   * @return the best production plan found, never worse than the greedy plan
+   * @throws IllegalArgumentException if any argument is null or a limit is not positive
+   */
+  public static ProductionPlan calculate(
+      List<Product> products, List<RawMaterial> rawMaterials, Duration timeBudget, int nodeLimit) {
+    if (timeBudget == null || timeBudget.isNegative() || timeBudget.isZero()) {
+      throw new IllegalArgumentException("Time budget must be positive");
+    }
+    if (nodeLimit <= 0) {
+      throw new IllegalArgumentException("Node limit must be positive");
+    }
+
+    // The budget covers the whole calculation, the greedy incumbent included
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+
+    // Step 1: Greedy plan as the initial incumbent (also validates the inputs)
+    ProductionPlan greedy = ProductionCalculator.calculate(products, rawMaterials);
+
+    Map<RawMaterialId, BigDecimal> stock = ProductionCalculator.buildStockMap(rawMaterials);
+    List<Product> candidates = producibleCandidates(products, stock);
+    if (candidates.isEmpty()) {
+      return greedy;
+    }
+
+    Model model = Model.build(candidates, stock);
+    Workspace work = new Workspace(model);
+    Search search = new Search(candidates, stock, greedy.totalProductionValue());
+
+    // Step 2: Depth-first branch and bound
+    Deque<Node> open = new ArrayDeque<>();
+    open.push(Node.root(model));
+    int explored = 0;
+
+    while (!open.isEmpty()) {
+      if (explored >= nodeLimit || System.nanoTime() > deadline) {
+        break;
+      }
+      Node node = open.pop();
+      explored++;
+
+      LpSolution lp = solveRelaxation(model, work, node, deadline);
+      if (lp == null) {
+        // Infeasible node, or the budget ran out mid-solve (checked at the top of the loop)
+        continue;
+      }
+      if (!search.canImprove(lp.objective)) {
+        continue;
+      }
+
+      search.tryRounding(lp.x);
+      if (!search.canImprove(lp.objective)) {
+        continue;
+      }
+
+      int batchBranch = minBatchViolation(model, lp.x);
+      if (batchBranch >= 0) {
+        open.push(node.withUpper(batchBranch, 0));
+        open.push(node.withLower(batchBranch, model.minBatch[batchBranch]));
+        continue;
+      }
+
+      int branch = mostFractional(lp.x);
+      if (branch < 0) {
+        continue;
+      }
+
+      long floor = (long) Math.floor(lp.x[branch]);
+      open.push(node.withUpper(branch, floor));
+      open.push(node.withLower(branch, floor + 1));
+    }
+
+    return search.improved() ? search.toPlan() : greedy;
+  }
+
+  // =========================================================================
+  // MODEL
+  // =========================================================================
+
+  /** Products that can be produced at all: every BOM material has positive stock. */
+  private static List<Product> producibleCandidates(
+      List<Product> products, Map<RawMaterialId, BigDecimal> stock) {
+    List<Product> producible = new ArrayList<>();
+    for (Product product : ProductionCalculator.sortedCandidates(products)) {
+      boolean available =
+          product.getMaterials().stream()
+              .allMatch(
+                  bom -> {
+                    BigDecimal qty = stock.get(bom.rawMaterialId());
+                    return qty != null && qty.signum() > 0;
+                  });
+      if (available) {
+        producible.add(product);
+      }
+    }
+    return producible;
+  }
+
+  /** Dense double-precision view of the integer program, one column per product. */
+  private static final class Model {
+    final int columns;
+    final int rows;
+    final double[] price;
+    final double[][] coefficients;
+    final double[] stock;
+    final long[] maxDemand;
+    final long[] minBatch;
+
+    private Model(int columns, int rows) {
+      this.columns = columns;
+      this.rows = rows;
+      this.price = new double[columns];
+      this.coefficients = new double[rows][columns];
+      this.stock = new double[rows];
+      this.maxDemand = new long[columns];
+      this.minBatch = new long[columns];
+    }
+
+    static Model build(List<Product> candidates, Map<RawMaterialId, BigDecimal> stock) {
+      Map<RawMaterialId, Integer> rowIndex = new HashMap<>();
+      for (Product product : candidates) {
+        for (BillOfMaterialItem bom : product.getMaterials()) {
+          rowIndex.putIfAbsent(bom.rawMaterialId(), rowIndex.size());
+        }
+      }
+
+      Model model = new Model(candidates.size(), rowIndex.size());
+      rowIndex.forEach((id, row) -> model.stock[row] = stock.get(id).doubleValue());
+      for (int j = 0; j < candidates.size(); j++) {
+        Product product = candidates.get(j);
+        model.price[j] = product.getUnitPrice().doubleValue();
+        DemandConstraints demand = product.getDemandConstraints();
+        model.maxDemand[j] = demand.maxDemand() != null ? demand.maxDemand() : Long.MAX_VALUE;
+        model.minBatch[j] = demand.minBatch() != null ? demand.minBatch() : 0;
+        for (BillOfMaterialItem bom : product.getMaterials()) {
+          model.coefficients[rowIndex.get(bom.rawMaterialId())][j] +=
+              bom.quantityRequired().doubleValue();
+        }
+      }
+      return model;
+    }
+  }
+
+  /** A branch-and-bound node: per-product integer bounds. */
+  private record Node(long[] lower, long[] upper) {
+
+    /** The root is bounded by the products' maximum demand only. */
+    static Node root(Model model) {
+      return new Node(new long[model.columns], model.maxDemand.clone());
+    }
+
+    Node withUpper(int column, long value) {
+      long[] newUpper = upper.clone();
+      newUpper[column] = value;
+      return new Node(lower, newUpper);
+    }
+
+    Node withLower(int column, long value) {
+      long[] newLower = lower.clone();
+      newLower[column] = value;
+      return new Node(newLower, upper);
+    }
+  }
+
+  private record LpSolution(double[] x, double objective) {}
+
+  // =========================================================================
+  // LP RELAXATION (bounded dense primal simplex)
+  // =========================================================================
+
+  /**
+   * Simplex working storage for one solve, allocated once and reset for every node: a {@code rows x
+   * (columns + rows)} tableau of product and slack columns, whatever the node's bounds.
+   */
+  private static final class Workspace {
+    final double[][] tableau;
+    final double[] beta;
+    final double[] reducedCost;
+    final double[] upper;
+    final boolean[] atUpper;
+    final boolean[] basic;
+    final int[] basis;
+    final int[] pivotNonZeros;
+    final double[] residual;
+
+    Workspace(Model model) {
+      int width = model.columns + model.rows;
+      tableau = new double[model.rows][width];
+      beta = new double[model.rows];
+      reducedCost = new double[width];
+      upper = new double[width];
+      atUpper = new boolean[width];
+      basic = new boolean[width];
+      basis = new int[model.rows];
+      pivotNonZeros = new int[width];
+      residual = new double[model.rows];
+    }
+  }
+
+  /**
+   * Solves the LP relaxation of a node. Lower bounds are substituted out ({@code x = lower + y});
+   * upper bounds stay on the variables, which rest at either bound while nonbasic (bounded
+   * simplex), so the tableau never grows with the number of capped or branched products. Every node
+   * starts from the all-slack basis with all products at zero.
+   *
+   * @return the LP optimum, or null if the node is infeasible or the deadline passed
+   */
+  private static LpSolution solveRelaxation(Model model, Workspace work, Node node, long deadline) {
+    int n = model.columns;
+    int rows = model.rows;
+    int width = n + rows;
+    double[] residual = work.residual;
+    System.arraycopy(model.stock, 0, residual, 0, rows);
+    for (int j = 0; j < n; j++) {
+      long lower = node.lower[j];
+      if (lower > node.upper[j]) {
+        return null;
+      }
+      if (lower > 0) {
+        for (int r = 0; r < rows; r++) {
+          residual[r] -= model.coefficients[r][j] * lower;
+        }
+      }
+    }
+    for (int r = 0; r < rows; r++) {
+      if (residual[r] < -EPSILON * Math.max(1.0, model.stock[r])) {
+        return null;
+      }
+    }
+
+    double[][] tableau = work.tableau;
+    double[] beta = work.beta;
+    double[] reducedCost = work.reducedCost;
+    double[] upper = work.upper;
+    boolean[] atUpper = work.atUpper;
+    boolean[] basic = work.basic;
+    int[] basis = work.basis;
+    int[] pivotNonZeros = work.pivotNonZeros;
+
+    for (int r = 0; r < rows; r++) {
+      double[] row = tableau[r];
+      System.arraycopy(model.coefficients[r], 0, row, 0, n);
+      Arrays.fill(row, n, width, 0.0);
+      row[n + r] = 1.0;
+      beta[r] = Math.max(0.0, residual[r]);
+      basis[r] = n + r;
+    }
+    for (int c = 0; c < width; c++) {
+      atUpper[c] = false;
+      basic[c] = c >= n;
+      if (c < n) {
+        reducedCost[c] = -model.price[c];
+        upper[c] =
+            node.upper[c] == Long.MAX_VALUE
+                ? Double.POSITIVE_INFINITY
+                : (double) (node.upper[c] - node.lower[c]);
+      } else {
+        reducedCost[c] = 0.0;
+        upper[c] = Double.POSITIVE_INFINITY;
+      }
+    }
+
+    int degenerateStreak = 0;
+
+    while (true) {
+      if (System.nanoTime() > deadline) {
+        return null;
+      }
+
+      // Entering column: Dantzig's rule, Bland's rule once pivots stall (prevents cycling). A
+      // column at its lower bound improves by increasing (negative reduced cost), one at its upper
+      // bound by decreasing (positive reduced cost). Fixed columns never enter.
+      boolean bland = degenerateStreak > DEGENERATE_PIVOTS_BEFORE_BLAND;
+      int entering = -1;
+      double best = EPSILON;
+      for (int c = 0; c < width; c++) {
+        if (basic[c] || upper[c] <= EPSILON) {
+          continue;
+        }
+        double gain = atUpper[c] ? reducedCost[c] : -reducedCost[c];
+        if (gain > best) {
+          entering = c;
+          if (bland) {
+            break;
+          }
+          best = gain;
+        }
+      }
+      if (entering < 0) {
+        break;
+      }
+      double direction = atUpper[entering] ? -1.0 : 1.0;
+
+      // Ratio test: the entering column's own bound, or a basic variable reaching one of its
+      // bounds; ties go to the lowest basis index
+      double step = upper[entering];
+      int leaving = -1;
+      boolean leavesAtUpper = false;
+      for (int r = 0; r < rows; r++) {
+        double rate = direction * tableau[r][entering];
+        double limit;
+        boolean toUpper;
+        if (rate > EPSILON) {
+          limit = beta[r] / rate;
+          toUpper = false;
+        } else if (rate < -EPSILON && upper[basis[r]] != Double.POSITIVE_INFINITY) {
+          limit = (upper[basis[r]] - beta[r]) / -rate;
+          toUpper = true;
+        } else {
+          continue;
+        }
+        if (limit < step - EPSILON
+            || (leaving >= 0 && limit <= step + EPSILON && basis[r] < basis[leaving])) {
+          step = limit;
+          leaving = r;
+          leavesAtUpper = toUpper;
+        }
+      }
+      if (step == Double.POSITIVE_INFINITY) {
+        // Unbounded cannot happen with positive BOM quantities; treat defensively as unsolved
+        return null;
+      }
+      step = Math.max(0.0, step);
+      degenerateStreak = step <= EPSILON ? degenerateStreak + 1 : 0;
+
+      for (int r = 0; r < rows; r++) {
+        double coefficient = tableau[r][entering];
+        if (coefficient != 0.0) {
+          beta[r] -= direction * coefficient * step;
+          if (Math.abs(beta[r]) < EPSILON) {
+            beta[r] = 0.0;
+          }
+        }
+      }
+      if (leaving < 0) {
+        // Bound flip: the entering column moves to its other bound without a basis change
+        atUpper[entering] = !atUpper[entering];
+        continue;
+      }
+
+      double enteringValue = (atUpper[entering] ? upper[entering] : 0.0) + direction * step;
+      int left = basis[leaving];
+      basic[left] = false;
+      atUpper[left] = leavesAtUpper;
+      basic[entering] = true;
+      atUpper[entering] = false;
+      basis[leaving] = entering;
+      beta[leaving] = enteringValue;
+
+      // Pivot
+      double[] pivotRow = tableau[leaving];
+      double pivot = pivotRow[entering];
+      int nonZeros = 0;
+      for (int c = 0; c < width; c++) {
+        if (pivotRow[c] != 0.0) {
+          pivotRow[c] /= pivot;
+          pivotNonZeros[nonZeros++] = c;
+        }
+      }
+      for (int r = 0; r < rows; r++) {
+        double factor = tableau[r][entering];
+        if (r == leaving || factor == 0.0) {
+          continue;
+        }
+        double[] row = tableau[r];
+        for (int i = 0; i < nonZeros; i++) {
+          int c = pivotNonZeros[i];
+          row[c] -= factor * pivotRow[c];
+        }
+      }
+      double factor = reducedCost[entering];
+      for (int i = 0; i < nonZeros; i++) {
+        int c = pivotNonZeros[i];
+        reducedCost[c] -= factor * pivotRow[c];
+      }
+    }
+
+    double[] x = new double[n];
+    double objective = 0;
+    for (int j = 0; j < n; j++) {
+      x[j] = node.lower[j] + (atUpper[j] ? upper[j] : 0.0);
+    }
+    for (int r = 0; r < rows; r++) {
+      if (basis[r] < n) {
+        x[basis[r]] += beta[r];
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      objective += model.price[j] * x[j];
+    }
+    return new LpSolution(x, objective);
+  }
+
+  /**
+   * Returns the first column produced in a quantity strictly between 0 and its minimum batch, or -1
+   * if every minimum batch is respected.
+   */
+  private static int minBatchViolation(Model model, double[] x) {
+    for (int j = 0; j < x.length; j++) {
+      if (x[j] > INTEGRALITY_TOLERANCE && x[j] < model.minBatch[j] - INTEGRALITY_TOLERANCE) {
+        return j;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the column with the largest fractional part, or -1 if the solution is integral. */
+  private static int mostFractional(double[] x) {
+    int column = -1;
+    double bestDistance = INTEGRALITY_TOLERANCE;
+    for (int j = 0; j < x.length; j++) {
+      double fraction = x[j] - Math.floor(x[j]);
+      double distance = Math.min(fraction, 1.0 - fraction);
+      if (distance > bestDistance) {
+        bestDistance = distance;
+        column = j;
+      }
+    }
+    return column;
+  }
+
+  // =========================================================================
+  // INCUMBENT (exact BigDecimal evaluation)
+  // =========================================================================
+
+  /** Tracks the best feasible plan found so far, evaluated exactly. */
+  private static final class Search {
+    private final List<Product> candidates;
+    private final Map<RawMaterialId, BigDecimal> stock;
+    private BigDecimal bestValue;
+    private double bestValueApprox;
+    private int[] bestUnits;
+
+    Search(List<Product> candidates, Map<RawMaterialId, BigDecimal> stock, BigDecimal greedyValue) {
+      this.candidates = candidates;
+      this.stock = stock;
+      this.bestValue = greedyValue;
+      this.bestValueApprox = greedyValue.doubleValue();
+    }
+
+    /** Returns true if an LP bound leaves room to beat the incumbent beyond rounding noise. */
+    boolean canImprove(double bound) {
+      return bound > bestValueApprox + EPSILON * Math.max(1.0, Math.abs(bestValueApprox));
+    }
+
+    boolean improved() {
+      return bestUnits != null;
+    }
+
+    /**
+     * Builds a feasible integer plan from an LP solution: round every product down (capped by what
+     * the remaining stock allows, in greedy order), then complete greedily with the leftovers. Both
+     * steps keep each product within its demand constraints.
+     */
+    void tryRounding(double[] x) {
+      Map<RawMaterialId, BigDecimal> residual = new HashMap<>(stock);
+      int[] units = new int[candidates.size()];
+
+      for (int j = 0; j < units.length; j++) {
+        double rounded = Math.floor(x[j] + INTEGRALITY_TOLERANCE);
+        if (rounded >= 1) {
+          Product product = candidates.get(j);
+          int allowed = ProductionCalculator.calculateMaxProducibleUnits(product, residual);
+          units[j] = product.plannableUnits((int) Math.min(allowed, rounded));
+          if (units[j] > 0) {
+            ProductionCalculator.allocateMaterials(product, units[j], residual);
+          }
+        }
+      }
+      for (int j = 0; j < units.length; j++) {
+        Product product = candidates.get(j);
+        int extra = ProductionCalculator.calculateMaxProducibleUnits(product, residual);
+        if (extra > 0 && (long) units[j] + extra <= Integer.MAX_VALUE) {
+          int total = product.plannableUnits(units[j] + extra);
+          if (total > units[j]) {
+            ProductionCalculator.allocateMaterials(product, total - units[j], residual);
+            units[j] = total;
+          }
+        }
+      }
+
+      BigDecimal value = BigDecimal.ZERO;
+      for (int j = 0; j < units.length; j++) {
+        if (units[j] > 0) {
+          value =
+              value.add(candidates.get(j).getUnitPrice().multiply(BigDecimal.valueOf(units[j])));
+        }
+      }
+      if (value.compareTo(bestValue) > 0) {
+        bestValue = value;
+        bestValueApprox = value.doubleValue();
+        bestUnits = units;
+      }
+    }
+
+    ProductionPlan toPlan() {
+      Map<RawMaterialId, BigDecimal> remaining = new HashMap<>(stock);
+      List<ProductionPlanItem> items = new ArrayList<>();
+      for (int j = 0; j < bestUnits.length; j++) {
+        if (bestUnits[j] <= 0) {
+          continue;
+        }
+        Product product = candidates.get(j);
+        ProductionCalculator.allocateMaterials(product, bestUnits[j], remaining);
+        items.add(
+            new ProductionPlanItem(
+                product.getId(),
+                product.getName(),
+                product.getSku(),
+                bestUnits[j],
+                product.getUnitPrice(),
+                product.getUnitPrice().multiply(BigDecimal.valueOf(bestUnits[j]))));
+      }
+      return new ProductionPlan(items, bestValue, remaining);
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * PartitionedProductionCalculator - Runs the Greedy Production Algorithm on independent parts of
+ * the catalog in parallel.
+ *
+ * <h3>Partitioning:</h3>
+ *
+ * <p>Two candidates only influence each other through the raw materials they share, directly or
+ * through a chain of other candidates. A union-find over the BOMs splits the candidates into the
+ * connected components of the product-material graph; within a component the greedy order is kept,
+ * and across components the allocations are independent.
+ *
+ * <h3>Execution:</h3>
+ *
+ * <ol>
+ *   <li>Each component is planned with the given {@link ProductionEngine}, over only the raw
+ *       materials its products use
+ *   <li>Components are spread over a {@link ForkJoinPool} by recursive halving, so many small
+ *       components (e.g. one per plant) share a task instead of paying one each
+ *   <li>The items are merged back into the global greedy order, and materials no candidate uses
+ *       keep their stock
+ * </ol>
+ *
+ * <p>The result is identical to {@code engine.calculate(products, rawMaterials)}, whatever the pool
+ * size or scheduling.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class PartitionedProductionCalculator {
+
+  /** Candidates below which a range of components is planned in the current task. */
+  static final int LEAF_SIZE = 512;
+
+  private PartitionedProductionCalculator() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Calculates the greedy production plan, planning independent components concurrently.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @param engine the engine each component is planned with
+   * @param pool the pool the components are planned on
+   * @return a ProductionPlan identical to {@link ProductionEngine#calculate(List, List)}
+   * @throws IllegalArgumentException if any argument is null
+   */
+  public static ProductionPlan calculate(
+      List<Product> products,
+      List<RawMaterial> rawMaterials,
+      ProductionEngine engine,
+      ForkJoinPool pool) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    if (rawMaterials == null) {
+      throw new IllegalArgumentException("Raw materials list cannot be null");
+    }
+    if (engine == null || pool == null) {
+      throw new IllegalArgumentException("Engine and pool cannot be null");
+    }
+
+    // Step 1: Candidates in greedy order, split into connected components
+    List<Product> candidates = ProductionCalculator.sortedCandidates(products);
+    List<Component> components = partition(candidates);
+    if (components.size() <= 1) {
+      return engine.calculate(products, rawMaterials);
+    }
+
+    // Step 2: Give each component the raw materials its products use, in input order (so
+    // duplicate IDs keep the engine's last-entry-wins semantics)
+    Map<RawMaterialId, Integer> owner = new HashMap<>();
+    for (int c = 0; c < components.size(); c++) {
+      for (Product product : components.get(c).products) {
+        for (BillOfMaterialItem bom : product.getMaterials()) {
+          owner.put(bom.rawMaterialId(), c);
+        }
+      }
+    }
+    for (RawMaterial rm : rawMaterials) {
+      Integer c = rm.getId() != null ? owner.get(rm.getId()) : null;
+      if (c != null) {
+        components.get(c).rawMaterials.add(rm);
+      }
+    }
+
+    // Step 3: Plan the components in parallel
+    ProductionPlan[] plans = new ProductionPlan[components.size()];
+    pool.invoke(new PlanTask(components, plans, engine, 0, components.size()));
+
+    // Step 4: Merge items back into the global greedy order
+    ProductionPlanItem[] slots = new ProductionPlanItem[candidates.size()];
+    for (int c = 0; c < components.size(); c++) {
+      Component component = components.get(c);
+      int next = 0;
+      for (ProductionPlanItem item : plans[c].items()) {
+        // Items are a subsequence of the component's products
+        while (!component.products.get(next).getId().equals(item.productId())) {
+          next++;
+        }
+        slots[component.positions.get(next)] = item;
+        next++;
+      }
+    }
+    List<ProductionPlanItem> planItems = new ArrayList<>();
+    for (ProductionPlanItem item : slots) {
+      if (item != null) {
+        planItems.add(item);
+      }
+    }
+
+    BigDecimal totalProductionValue =
+        planItems.stream()
+            .map(ProductionPlanItem::totalValue)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    // Materials no candidate uses are untouched; the others come from their component
+    Map<RawMaterialId, BigDecimal> remainingStock =
+        ProductionCalculator.buildStockMap(rawMaterials);
+    for (ProductionPlan plan : plans) {
+      remainingStock.putAll(plan.remainingStock());
+    }
+
+    return new ProductionPlan(planItems, totalProductionValue, remainingStock);
+  }
+
+  /**
+   * Splits candidates into the connected components of the product-material graph.
+   *
+   * @param candidates the candidates in greedy order
+   * @return the components, ordered by their first candidate, each keeping the greedy order
+   */
+  static List<Component> partition(List<Product> candidates) {
+    int[] parent = new int[candidates.size()];
+    Map<RawMaterialId, Integer> firstUser = new HashMap<>();
+    for (int p = 0; p < candidates.size(); p++) {
+      parent[p] = p;
+      for (BillOfMaterialItem bom : candidates.get(p).getMaterials()) {
+        Integer other = firstUser.putIfAbsent(bom.rawMaterialId(), p);
+        if (other != null) {
+          union(parent, other, p);
+        }
+      }
+    }
+
+    Map<Integer, Component> byRoot = new HashMap<>();
+    List<Component> components = new ArrayList<>();
+    for (int p = 0; p < candidates.size(); p++) {
+      Component component =
+          byRoot.computeIfAbsent(
+              find(parent, p),
+              root -> {
+                Component created = new Component();
+                components.add(created);
+                return created;
+              });
+      component.products.add(candidates.get(p));
+      component.positions.add(p);
+    }
+    return components;
+  }
+
+  private static int find(int[] parent, int node) {
+    while (parent[node] != node) {
+      // Path halving
+      parent[node] = parent[parent[node]];
+      node = parent[node];
+    }
+    return node;
+  }
+
+  private static void union(int[] parent, int a, int b) {
+    int rootA = find(parent, a);
+    int rootB = find(parent, b);
+    if (rootA != rootB) {
+      // Either root works; path halving in find() keeps the trees shallow
+      parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+    }
+  }
+
+  /** A connected component: its candidates, their global positions, and their raw materials. */
+  static final class Component {
+    final List<Product> products = new ArrayList<>();
+    final List<Integer> positions = new ArrayList<>();
+    final List<RawMaterial> rawMaterials = new ArrayList<>();
+  }
+
+  /** Plans a range of components, halving it while it holds more than a leaf's worth of work. */
+  private static final class PlanTask extends RecursiveAction {
+    private final List<Component> components;
+    private final ProductionPlan[] plans;
+    private final ProductionEngine engine;
+    private final int from;
+    private final int to;
+
+    PlanTask(
+        List<Component> components,
+        ProductionPlan[] plans,
+        ProductionEngine engine,
+        int from,
+        int to) {
+      this.components = components;
+      this.plans = plans;
+      this.engine = engine;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      int size = 0;
+      for (int c = from; c < to && size <= LEAF_SIZE; c++) {
+        size += components.get(c).products.size();
+      }
+      if (to - from == 1 || size <= LEAF_SIZE) {
+        for (int c = from; c < to; c++) {
+          Component component = components.get(c);
+          plans[c] = engine.calculate(component.products, component.rawMaterials);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new PlanTask(components, plans, engine, from, middle),
+          new PlanTask(components, plans, engine, middle, to));
+    }
+  }
+}
@@ -34,6 +34,8 @@ import java.util.Map;
  *       <ul>
  *         <li>For each BOM item, compute: available_stock / required_quantity
  *         <li>Max producible units = floor of the minimum across all BOM items
+ *         <li>Apply the product's demand constraints: cap at its maximum demand, and drop to 0 if
+ *             below its minimum batch
  *         <li>If max > 0, deduct consumed materials and record the production item
  *       </ul>
  *   <li>Return the production plan with items, total value, and remaining stock
@@ -45,6 +47,9 @@ import java.util.Map;
  * consumed by products that generate the highest revenue. This is a locally optimal strategy that
  * works well when product prices vary significantly.
  *
+ * <p>Materials a product does not take because of its demand constraints stay available to the
+ * products after it in the same pass.
+ *
  * <h3>Time Complexity:</h3>
  *
  * <p>O(P * M) where P = number of products and M = max BOM items per product, after an O(P log P)
@@ -78,18 +83,13 @@ public final class ProductionCalculator {
     Map<RawMaterialId, BigDecimal> availableStock = buildStockMap(rawMaterials);
 
     // Step 2: Filter and sort products by unit price descending (greedy choice)
-    List<Product> candidates =
-        products.stream()
-            .filter(Product::isActive)
-            .filter(p -> !p.getMaterials().isEmpty())
-            .sorted(Comparator.comparing(Product::getUnitPrice).reversed())
-            .toList();
+    List<Product> candidates = sortedCandidates(products);
 
     // Step 3: Greedy allocation
     List<ProductionPlanItem> planItems = new ArrayList<>();
 
     for (Product product : candidates) {
-      int maxUnits = calculateMaxProducibleUnits(product, availableStock);
+      int maxUnits = product.plannableUnits(calculateMaxProducibleUnits(product, availableStock));
 
       if (maxUnits <= 0) {
         continue;
@@ -152,7 +152,22 @@ public final class ProductionCalculator {
     return maxUnits == Integer.MAX_VALUE ? 0 : maxUnits;
   }
 
-  private static void allocateMaterials(
+  /**
+   * Returns the active products that have a bill of materials, in greedy order (unit price
+   * descending, stable for equal prices).
+   *
+   * @param products the products to filter
+   * @return the candidate products in allocation order
+   */
+  static List<Product> sortedCandidates(List<Product> products) {
+    return products.stream()
+        .filter(Product::isActive)
+        .filter(p -> !p.getMaterials().isEmpty())
+        .sorted(Comparator.comparing(Product::getUnitPrice).reversed())
+        .toList();
+  }
+
+  static void allocateMaterials(
       Product product, int units, Map<RawMaterialId, BigDecimal> availableStock) {
     for (BillOfMaterialItem bom : product.getMaterials()) {
       BigDecimal consumed = bom.quantityRequired().multiply(BigDecimal.valueOf(units));
@@ -160,7 +175,7 @@ public final class ProductionCalculator {
     }
   }
 
-  private static Map<RawMaterialId, BigDecimal> buildStockMap(List<RawMaterial> rawMaterials) {
+  static Map<RawMaterialId, BigDecimal> buildStockMap(List<RawMaterial> rawMaterials) {
     Map<RawMaterialId, BigDecimal> stockMap = new HashMap<>();
     for (RawMaterial rm : rawMaterials) {
       if (rm.isActive() && rm.getId() != null) {
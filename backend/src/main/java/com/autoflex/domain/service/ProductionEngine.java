@@ -0,0 +1,39 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import java.util.List;
+
+/**
+ * ProductionEngine - Selects the arithmetic engine used to run the Greedy Production Algorithm.
+ *
+ * <p>Both engines produce identical plans; they differ only in performance characteristics.
+ */
+public enum ProductionEngine {
+
+  /** {@link ProductionCalculator} - BigDecimal arithmetic keyed by {@code RawMaterialId}. */
+  DECIMAL {
+    @Override
+    public ProductionPlan calculate(List<Product> products, List<RawMaterial> rawMaterials) {
+      return ProductionCalculator.calculate(products, rawMaterials);
+    }
+  },
+
+  /** {@link FixedPointProductionCalculator} - scaled longs over dense primitive arrays. */
+  FIXED_POINT {
+    @Override
+    public ProductionPlan calculate(List<Product> products, List<RawMaterial> rawMaterials) {
+      return FixedPointProductionCalculator.calculate(products, rawMaterials);
+    }
+  };
+
+  /**
+   * Calculates the production plan with this engine.
+   *
+   * @param products active products with their bill of materials
+   * @param rawMaterials available raw materials with current stock levels
+   * @return the resulting production plan
+   */
+  public abstract ProductionPlan calculate(List<Product> products, List<RawMaterial> rawMaterials);
+}
@@ -0,0 +1,165 @@
+package com.autoflex.domain.service;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * ScenarioCatalog - An immutable snapshot of the plannable catalog that what-if scenarios are
+ * layered over.
+ *
+ * <p>A scenario does not copy the catalog. {@link #overlay(ProductionScenario)} returns list views
+ * that read through to the snapshot and substitute a copy only for each product or raw material the
+ * scenario changes, so a scenario costs memory in proportion to its overrides. Since the snapshot
+ * is never modified, any number of overlays can be planned concurrently.
+ *
+ * <p>This is a pure domain service with NO framework dependencies.
+ */
+public final class ScenarioCatalog {
+
+  private final List<Product> products;
+  private final List<RawMaterial> rawMaterials;
+  private final Map<ProductId, Integer> productIndex;
+  private final Map<RawMaterialId, Integer> rawMaterialIndex;
+
+  private ScenarioCatalog(List<Product> products, List<RawMaterial> rawMaterials) {
+    this.products = products;
+    this.rawMaterials = rawMaterials;
+    this.productIndex = new HashMap<>();
+    for (int i = 0; i < products.size(); i++) {
+      if (products.get(i).getId() != null) {
+        productIndex.put(products.get(i).getId(), i);
+      }
+    }
+    this.rawMaterialIndex = new HashMap<>();
+    for (int i = 0; i < rawMaterials.size(); i++) {
+      if (rawMaterials.get(i).getId() != null) {
+        rawMaterialIndex.put(rawMaterials.get(i).getId(), i);
+      }
+    }
+  }
+
+  /**
+   * Takes a snapshot of the catalog. The products and raw materials must not be modified
+   * afterwards, since overlays share them.
+   *
+   * @param products the products to plan, with flattened bills of materials
+   * @param rawMaterials the raw materials with their current stock
+   * @return a new ScenarioCatalog
+   * @throws IllegalArgumentException if either list is null
+   */
+  public static ScenarioCatalog of(List<Product> products, List<RawMaterial> rawMaterials) {
+    if (products == null) {
+      throw new IllegalArgumentException("Products list cannot be null");
+    }
+    if (rawMaterials == null) {
+      throw new IllegalArgumentException("Raw materials list cannot be null");
+    }
+    return new ScenarioCatalog(List.copyOf(products), List.copyOf(rawMaterials));
+  }
+
+  /** Returns the products of the snapshot. */
+  public List<Product> products() {
+    return products;
+  }
+
+  /** Returns the raw materials of the snapshot. */
+  public List<RawMaterial> rawMaterials() {
+    return rawMaterials;
+  }
+
+  /**
+   * Applies a scenario on top of the snapshot. Excluded products are kept as inactive copies, which
+   * every planning engine skips; an exclusion takes precedence over a price override.
+   *
+   * @param scenario the changes to apply
+   * @return the products and raw materials as the scenario sees them
+   * @throws IllegalArgumentException if the scenario refers to a product or raw material that is
+   *     not in the snapshot, or a stock delta would make stock negative
+   */
+  public Overlay overlay(ProductionScenario scenario) {
+    if (scenario == null) {
+      throw new IllegalArgumentException("Scenario cannot be null");
+    }
+    if (scenario.isBaseline()) {
+      return new Overlay(products, rawMaterials);
+    }
+
+    Map<Integer, Product> changedProducts = new HashMap<>();
+    for (Map.Entry<ProductId, BigDecimal> entry : scenario.priceOverrides().entrySet()) {
+      int index = indexOf(entry.getKey());
+      changedProducts.put(index, products.get(index).withUnitPrice(entry.getValue()));
+    }
+    for (ProductId productId : scenario.excludedProducts()) {
+      int index = indexOf(productId);
+      changedProducts.put(index, products.get(index).asInactive());
+    }
+
+    Map<Integer, RawMaterial> changedRawMaterials = new HashMap<>();
+    for (Map.Entry<RawMaterialId, BigDecimal> entry : scenario.stockDeltas().entrySet()) {
+      Integer index = rawMaterialIndex.get(entry.getKey());
+      if (index == null) {
+        throw new IllegalArgumentException(
+            "Raw material " + entry.getKey().value() + " is not in the active catalog");
+      }
+      try {
+        changedRawMaterials.put(
+            index, rawMaterials.get(index).withStockAdjustedBy(entry.getValue()));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(
+            "Raw material " + entry.getKey().value() + ": " + e.getMessage(), e);
+      }
+    }
+
+    return new Overlay(
+        new OverlayList<>(products, changedProducts),
+        new OverlayList<>(rawMaterials, changedRawMaterials));
+  }
+
+  private int indexOf(ProductId productId) {
+    Integer index = productIndex.get(productId);
+    if (index == null) {
+      throw new IllegalArgumentException(
+          "Product " + productId.value() + " is not in the active catalog");
+    }
+    return index;
+  }
+
+  /**
+   * The catalog as a scenario sees it.
+   *
+   * @param products the products to plan
+   * @param rawMaterials the raw materials to plan with
+   */
+  public record Overlay(List<Product> products, List<RawMaterial> rawMaterials) {}
+
+  /** An unmodifiable view of a base list with some positions replaced. */
+  private static final class OverlayList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> base;
+    private final Map<Integer, T> changed;
+
+    OverlayList(List<T> base, Map<Integer, T> changed) {
+      this.base = base;
+      this.changed = changed;
+    }
+
+    @Override
+    public T get(int index) {
+      T element = changed.get(index);
+      return element != null ? element : base.get(index);
+    }
+
+    @Override
+    public int size() {
+      return base.size();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.out.CatalogImportRepository;
+import com.autoflex.infrastructure.persistence.entity.ProductJpaEntity;
+import com.autoflex.infrastructure.persistence.entity.ProductMaterialJpaEntity;
+import com.autoflex.infrastructure.persistence.entity.RawMaterialJpaEntity;
+import com.autoflex.infrastructure.persistence.mapper.ProductMapper;
+import com.autoflex.infrastructure.persistence.mapper.RawMaterialMapper;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.StatelessSession;
+
+/**
+ * Output adapter implementing CatalogImportRepository with a Hibernate StatelessSession.
+ *
+ * <p>Inserted entities are never attached to a persistence context, so there is no dirty checking
+ * and nothing accumulates across chunks; {@code insertMultiple} sends the INSERTs as JDBC batches
+ * (quarkus.hibernate-orm.jdbc.statement-batch-size). A stateless session does not cascade, so BOM
+ * rows are inserted explicitly after their products.
+ */
+@ApplicationScoped
+public class CatalogImportRepositoryAdapter implements CatalogImportRepository {
+
+  private final StatelessSession session;
+  private final RawMaterialMapper rawMaterialMapper;
+  private final ProductMapper productMapper;
+
+  @Inject
+  public CatalogImportRepositoryAdapter(
+      StatelessSession session, RawMaterialMapper rawMaterialMapper, ProductMapper productMapper) {
+    this.session = session;
+    this.rawMaterialMapper = rawMaterialMapper;
+    this.productMapper = productMapper;
+  }
+
+  @Override
+  public Map<String, RawMaterialId> findRawMaterialIdsByCode() {
+    Map<String, RawMaterialId> idsByCode = new HashMap<>();
+    session
+        .createSelectionQuery("select r.code, r.id from RawMaterialJpaEntity r", Object[].class)
+        .getResultList()
+        .forEach(row -> idsByCode.put((String) row[0], RawMaterialId.of((Long) row[1])));
+    return idsByCode;
+  }
+
+  @Override
+  public Set<String> findProductSkus() {
+    return new HashSet<>(
+        session
+            .createSelectionQuery("select p.sku from ProductJpaEntity p", String.class)
+            .getResultList());
+  }
+
+  @Override
+  public List<RawMaterial> insertRawMaterials(List<RawMaterial> rawMaterials) {
+    List<RawMaterialJpaEntity> entities =
+        rawMaterials.stream().map(rawMaterialMapper::toJpaEntity).collect(Collectors.toList());
+    session.insertMultiple(entities);
+    return entities.stream().map(rawMaterialMapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<Product> insertProducts(List<Product> products) {
+    List<ProductJpaEntity> entities =
+        products.stream().map(productMapper::toJpaEntity).collect(Collectors.toList());
+    session.insertMultiple(entities);
+    // The rows reference the product instances above, which now carry their generated IDs
+    List<ProductMaterialJpaEntity> materials =
+        entities.stream()
+            .flatMap(entity -> entity.getMaterials().stream())
+            .collect(Collectors.toList());
+    session.insertMultiple(materials);
+    return entities.stream().map(productMapper::toDomain).collect(Collectors.toList());
+  }
+}
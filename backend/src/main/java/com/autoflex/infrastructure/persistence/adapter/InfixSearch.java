@@ -0,0 +1,27 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+/**
+ * How catalog searches match a term in the middle of a name ({@code autoflex.search.infix}). Prefix
+ * matches on name, SKU and code are always index-backed; infix matching is the expensive part.
+ */
+public enum InfixSearch {
+
+  /**
+   * Prefix matches only; latency does not depend on table size. A term no longer finds names that
+   * merely contain it.
+   */
+  OFF,
+
+  /**
+   * Adds {@code UPPER(NAME) LIKE '%term%'}, a full scan. For H2 (tests, dev) and small catalogs
+   * only.
+   */
+  SCAN,
+
+  /**
+   * Adds an Oracle Text {@code CONTAINS} query on a CONTEXT index with a substring wordlist, ranked
+   * by score. The default. Requires Oracle Text and the text indexes from {@code
+   * db/migrations/002_search_indexes.sql}; startup fails without them.
+   */
+  ORACLE_TEXT
+}
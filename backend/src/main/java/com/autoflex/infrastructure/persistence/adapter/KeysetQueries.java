@@ -0,0 +1,107 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageCursor;
+import com.autoflex.domain.model.pagination.PageRequest;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * KeysetQueries - JPQL building blocks shared by the keyset-paginated repository adapters.
+ *
+ * <p>Pages are selected with a {@code WHERE} condition on the sort key of the last row seen instead
+ * of an {@code OFFSET}, so the database seeks straight to the page through the primary key (or
+ * name) index and the cost of a page does not grow with its position in the table.
+ */
+final class KeysetQueries {
+
+  private KeysetQueries() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Builds the JPQL selecting one page of an entity that has {@code id}, {@code name} and {@code
+   * active} attributes.
+   *
+   * @param entityName the JPQL entity name
+   * @param request the page request
+   * @param includeInactive whether inactive rows are included
+   * @return the JPQL string, to be bound with {@link #bind(TypedQuery, PageRequest)}
+   */
+  static String pageQuery(String entityName, PageRequest request, boolean includeInactive) {
+    List<String> conditions = new ArrayList<>();
+    if (!includeInactive) {
+      conditions.add("e.active = true");
+    }
+    if (request.after() != null) {
+      conditions.add(
+          switch (request.sort()) {
+            case ID_ASC -> "e.id > :lastId";
+            case ID_DESC -> "e.id < :lastId";
+            case NAME_ASC -> "(e.name > :lastName OR (e.name = :lastName AND e.id > :lastId))";
+          });
+    }
+
+    StringBuilder jpql = new StringBuilder("SELECT e FROM ").append(entityName).append(" e");
+    if (!conditions.isEmpty()) {
+      jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+    }
+    jpql.append(
+        switch (request.sort()) {
+          case ID_ASC -> " ORDER BY e.id ASC";
+          case ID_DESC -> " ORDER BY e.id DESC";
+          case NAME_ASC -> " ORDER BY e.name ASC, e.id ASC";
+        });
+    return jpql.toString();
+  }
+
+  /**
+   * Binds the cursor parameters and limits the query to one row more than the page size, which
+   * tells whether another page follows without a separate count query.
+   */
+  static <T> TypedQuery<T> bind(TypedQuery<T> query, PageRequest request) {
+    parameters(request).forEach(query::setParameter);
+    return query.setMaxResults(maxResults(request));
+  }
+
+  /** The cursor parameters of a {@link #pageQuery page query}, for query APIs other than JPA. */
+  static Map<String, Object> parameters(PageRequest request) {
+    PageCursor after = request.after();
+    Map<String, Object> parameters = new HashMap<>();
+    if (after != null) {
+      parameters.put("lastId", after.lastId());
+      if (after.lastName() != null) {
+        parameters.put("lastName", after.lastName());
+      }
+    }
+    return parameters;
+  }
+
+  /** The page size plus the look-ahead row. */
+  static int maxResults(PageRequest request) {
+    return request.limit() + 1;
+  }
+
+  /**
+   * Trims the look-ahead row and derives the next cursor from the last row of the page.
+   *
+   * @param rows the rows returned by a query bound with {@link #bind(TypedQuery, PageRequest)}
+   * @param request the page request
+   * @param id extracts the row ID
+   * @param name extracts the row name
+   * @return the page of rows
+   */
+  static <T> Page<T> toPage(
+      List<T> rows, PageRequest request, Function<T, Long> id, Function<T, String> name) {
+    if (rows.size() <= request.limit()) {
+      return new Page<>(rows, null);
+    }
+    List<T> pageRows = rows.subList(0, request.limit());
+    T last = pageRows.get(pageRows.size() - 1);
+    return new Page<>(pageRows, new PageCursor(request.sort(), id.apply(last), name.apply(last)));
+  }
+}
@@ -0,0 +1,40 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * OptimisticLocking - Version check shared by the repository adapters.
+ *
+ * <p>Hibernate already guards every flushed {@code UPDATE} with {@code WHERE VERSION = ?}, which
+ * catches writers that commit between our read and our flush. This check additionally rejects a
+ * domain object that was read in an earlier transaction and has gone stale since.
+ */
+final class OptimisticLocking {
+
+  private OptimisticLocking() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Verifies that the domain object was read at the version currently stored.
+   *
+   * @param aggregate the aggregate name used in the error message
+   * @param id the aggregate ID
+   * @param expected the version carried by the domain object, null if unknown
+   * @param actual the version of the managed entity
+   * @throws OptimisticLockException if both versions are known and differ
+   */
+  static void checkVersion(String aggregate, Long id, Long expected, Long actual) {
+    if (expected != null && !expected.equals(actual)) {
+      throw new OptimisticLockException(
+          aggregate
+              + " "
+              + id
+              + " was modified concurrently (read at version "
+              + expected
+              + ", now at "
+              + actual
+              + ")");
+    }
+  }
+}
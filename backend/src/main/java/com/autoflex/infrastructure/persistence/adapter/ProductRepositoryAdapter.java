@@ -1,17 +1,39 @@
 package com.autoflex.infrastructure.persistence.adapter;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.BillOfMaterialItem;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
 import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.out.ProductRepository;
+import com.autoflex.infrastructure.persistence.cache.CatalogSnapshotCache;
+import com.autoflex.infrastructure.persistence.entity.ProductComponentJpaEntity;
 import com.autoflex.infrastructure.persistence.entity.ProductJpaEntity;
 import com.autoflex.infrastructure.persistence.entity.ProductMaterialJpaEntity;
 import com.autoflex.infrastructure.persistence.mapper.ProductMapper;
 import com.autoflex.infrastructure.persistence.repository.ProductPanacheRepository;
+import com.autoflex.infrastructure.persistence.search.CatalogSearchIndex;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
 /**
  * ProductRepositoryAdapter - Infrastructure adapter implementing the domain's ProductRepository
@@ -32,14 +54,38 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class ProductRepositoryAdapter implements ProductRepository {
 
+  /** Rows fetched per round trip when streaming, and rows between persistence context clears. */
+  private static final int STREAM_FETCH_SIZE = 500;
+
+  /** Query cache region for lookups by SKU (sized in application.properties). */
+  private static final String SKU_QUERY_REGION = "products-by-sku";
+
+  private static final String FETCH_COMPONENTS_BY_IDS =
+      "SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.components WHERE p.id IN :ids";
+
+  private static final SearchQueries.Target<ProductJpaEntity> SEARCH_TARGET =
+      new SearchQueries.Target<>(
+          ProductJpaEntity.class, "PRODUCTS", "sku", ProductJpaEntity::getId);
+
   private final ProductPanacheRepository panacheRepository;
   private final ProductMapper mapper;
+  private final CatalogSnapshotCache snapshotCache;
+  private final CatalogSearchIndex searchIndex;
+  private final InfixSearch infixSearch;
 
   @Inject
   public ProductRepositoryAdapter(
-      ProductPanacheRepository panacheRepository, ProductMapper mapper) {
+      ProductPanacheRepository panacheRepository,
+      ProductMapper mapper,
+      CatalogSnapshotCache snapshotCache,
+      CatalogSearchIndex searchIndex,
+      @ConfigProperty(name = "autoflex.search.infix", defaultValue = "oracle-text")
+          InfixSearch infixSearch) {
     this.panacheRepository = panacheRepository;
     this.mapper = mapper;
+    this.snapshotCache = snapshotCache;
+    this.searchIndex = searchIndex;
+    this.infixSearch = infixSearch;
   }
 
   @Override
@@ -56,6 +102,8 @@ public class ProductRepositoryAdapter implements ProductRepository {
       if (entity == null) {
         throw new IllegalStateException("Product not found for update: " + product.getId().value());
       }
+      OptimisticLocking.checkVersion(
+          "Product", entity.getId(), product.getVersion(), entity.getVersion());
 
       // Update scalar fields on the managed entity
       entity.setName(product.getName());
@@ -64,27 +112,96 @@ public class ProductRepositoryAdapter implements ProductRepository {
       entity.setUnitPrice(product.getUnitPrice());
       entity.setStockQuantity(product.getStockQuantity());
       entity.setActive(product.isActive());
+      entity.setMaxDemand(product.getDemandConstraints().maxDemand());
+      entity.setMinBatch(product.getDemandConstraints().minBatch());
       entity.setUpdatedAt(product.getUpdatedAt());
 
-      // Sync materials collection: clear existing and re-add from domain model.
-      // orphanRemoval = true ensures removed children are deleted from DB.
-      entity.getMaterials().clear();
-      panacheRepository.getEntityManager().flush();
-
-      product
-          .getMaterials()
-          .forEach(
-              bom -> {
-                ProductMaterialJpaEntity materialEntity =
-                    new ProductMaterialJpaEntity(
-                        entity, bom.rawMaterialId().value(), bom.quantityRequired());
-                entity.getMaterials().add(materialEntity);
-              });
+      syncMaterials(entity, product.getMaterials());
+      syncComponents(entity, product.getComponents());
     }
 
     return mapper.toDomain(entity);
   }
 
+  /**
+   * Brings the managed BOM collection in line with the domain BOM, touching only the rows that
+   * changed. Rows are matched by raw material ID: a changed quantity becomes an UPDATE of the
+   * existing row, a missing material a DELETE (orphan removal) and a new one an INSERT.
+   *
+   * <p>Because a (product, raw material) pair that survives the edit always keeps its row, a flush
+   * never inserts a pair whose old row is still pending deletion, so {@code UK_PRODUCT_MATERIAL}
+   * holds without an intermediate flush.
+   */
+  private void syncMaterials(ProductJpaEntity entity, List<BillOfMaterialItem> materials) {
+    Map<Long, BigDecimal> desired = new LinkedHashMap<>();
+    for (BillOfMaterialItem bom : materials) {
+      desired.put(bom.rawMaterialId().value(), bom.quantityRequired());
+    }
+
+    Iterator<ProductMaterialJpaEntity> rows = entity.getMaterials().iterator();
+    while (rows.hasNext()) {
+      ProductMaterialJpaEntity row = rows.next();
+      BigDecimal quantity = desired.remove(row.getRawMaterialId());
+      if (quantity == null) {
+        rows.remove();
+      } else if (row.getQuantityRequired().compareTo(quantity) != 0) {
+        row.setQuantityRequired(quantity);
+      }
+    }
+
+    // Whatever is left was not in the stored BOM
+    desired.forEach(
+        (rawMaterialId, quantity) ->
+            entity
+                .getMaterials()
+                .add(new ProductMaterialJpaEntity(entity, rawMaterialId, quantity)));
+  }
+
+  /** Same as {@link #syncMaterials}, for component rows matched by component product ID. */
+  private void syncComponents(ProductJpaEntity entity, List<ProductComponent> components) {
+    Map<Long, BigDecimal> desired = new LinkedHashMap<>();
+    for (ProductComponent component : components) {
+      desired.put(component.componentId().value(), component.quantityRequired());
+    }
+
+    Iterator<ProductComponentJpaEntity> rows = entity.getComponents().iterator();
+    while (rows.hasNext()) {
+      ProductComponentJpaEntity row = rows.next();
+      BigDecimal quantity = desired.remove(row.getComponentProductId());
+      if (quantity == null) {
+        rows.remove();
+      } else if (row.getQuantityRequired().compareTo(quantity) != 0) {
+        row.setQuantityRequired(quantity);
+      }
+    }
+
+    desired.forEach(
+        (componentProductId, quantity) ->
+            entity
+                .getComponents()
+                .add(new ProductComponentJpaEntity(entity, componentProductId, quantity)));
+  }
+
+  @Override
+  public boolean adjustStock(ProductId id, int quantityDelta) {
+    // Same as RawMaterialRepositoryAdapter.adjustStock: a locked read and a versioned UPDATE of the
+    // one row, so the product's cache entry is updated and the product region, its BOM collection
+    // regions and the other products stay cached
+    ProductJpaEntity entity =
+        panacheRepository.findById(id.value(), LockModeType.PESSIMISTIC_WRITE);
+    if (entity == null) {
+      return false;
+    }
+    int adjusted = Math.addExact(entity.getStockQuantity(), quantityDelta);
+    if (adjusted < 0) {
+      return false;
+    }
+    entity.setStockQuantity(adjusted);
+    entity.setUpdatedAt(LocalDateTime.now());
+    panacheRepository.flush();
+    return true;
+  }
+
   @Override
   public Optional<Product> findById(ProductId id) {
     return panacheRepository.findByIdOptional(id.value()).map(mapper::toDomain);
@@ -94,15 +211,16 @@ public class ProductRepositoryAdapter implements ProductRepository {
   public Optional<Product> findBySku(String sku) {
     return panacheRepository
         .find("sku", sku.toUpperCase())
+        .withHint(HibernateHints.HINT_CACHEABLE, true)
+        .withHint(HibernateHints.HINT_CACHE_REGION, SKU_QUERY_REGION)
         .firstResultOptional()
         .map(mapper::toDomain);
   }
 
   @Override
   public List<Product> findAllActive() {
-    return panacheRepository.find("active", true).list().stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+    // Served from the catalog snapshot, which always carries the bill of materials
+    return snapshotCache.activeProducts(this::loadAllActiveWithMaterials);
   }
 
   @Override
@@ -111,10 +229,142 @@ public class ProductRepositoryAdapter implements ProductRepository {
   }
 
   @Override
-  public List<Product> findByNameContaining(String name) {
-    return panacheRepository.find("LOWER(name) LIKE LOWER(?1)", "%" + name + "%").list().stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+  public Page<Product> findPage(PageRequest pageRequest, boolean includeInactive) {
+    var entityManager = panacheRepository.getEntityManager();
+    String jpql = KeysetQueries.pageQuery("ProductJpaEntity", pageRequest, includeInactive);
+    List<ProductJpaEntity> rows =
+        KeysetQueries.bind(entityManager.createQuery(jpql, ProductJpaEntity.class), pageRequest)
+            .getResultList();
+
+    Page<ProductJpaEntity> page =
+        KeysetQueries.toPage(rows, pageRequest, ProductJpaEntity::getId, ProductJpaEntity::getName);
+    if (!page.items().isEmpty()) {
+      // Initialize the BOMs of the page's (already managed) entities in one query instead of N.
+      // Fetch-joining in the page query would make Hibernate paginate in memory.
+      List<Long> ids = page.items().stream().map(ProductJpaEntity::getId).toList();
+      entityManager
+          .createQuery(
+              "SELECT DISTINCT p FROM ProductJpaEntity p "
+                  + "LEFT JOIN FETCH p.materials "
+                  + "WHERE p.id IN :ids",
+              ProductJpaEntity.class)
+          .setParameter("ids", ids)
+          .getResultList();
+      entityManager
+          .createQuery(FETCH_COMPONENTS_BY_IDS, ProductJpaEntity.class)
+          .setParameter("ids", ids)
+          .getResultList();
+    }
+    return new Page<>(page.items().stream().map(mapper::toDomain).toList(), page.next());
+  }
+
+  @Override
+  public void forEach(boolean includeInactive, Consumer<Product> action) {
+    // Forward-only cursors in product ID order, merge-joined: one for the products and one each for
+    // their BOM material and component rows. This avoids both an N+1 on the lazy collections and a
+    // collection fetch join, which cannot be scrolled without buffering.
+    String activeOnly = includeInactive ? "" : " WHERE p.active = true";
+    Session session = panacheRepository.getEntityManager().unwrap(Session.class);
+    try (ScrollableResults<ProductJpaEntity> products =
+            session
+                .createSelectionQuery(
+                    "SELECT p FROM ProductJpaEntity p" + activeOnly + " ORDER BY p.id",
+                    ProductJpaEntity.class)
+                .setReadOnly(true)
+                .setFetchSize(STREAM_FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        ScrollableResults<Object[]> bomRows = scrollBillOfMaterialRows(session, activeOnly);
+        ScrollableResults<Object[]> componentRows = scrollComponentRows(session, activeOnly)) {
+      Object[] bomRow = bomRows.next() ? bomRows.get() : null;
+      Object[] componentRow = componentRows.next() ? componentRows.get() : null;
+      int count = 0;
+      while (products.next()) {
+        ProductJpaEntity entity = products.get();
+        List<BillOfMaterialItem> materials = new ArrayList<>();
+        while (bomRow != null && entity.getId().equals(bomRow[0])) {
+          materials.add(toBillOfMaterialItem(bomRow));
+          bomRow = bomRows.next() ? bomRows.get() : null;
+        }
+        List<ProductComponent> components = new ArrayList<>();
+        while (componentRow != null && entity.getId().equals(componentRow[0])) {
+          components.add(toProductComponent(componentRow));
+          componentRow = componentRows.next() ? componentRows.get() : null;
+        }
+        action.accept(mapper.toDomain(entity, materials, components));
+
+        if (++count % STREAM_FETCH_SIZE == 0) {
+          session.clear();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void forEachBillOfMaterialItem(BiConsumer<ProductId, BillOfMaterialItem> action) {
+    Session session = panacheRepository.getEntityManager().unwrap(Session.class);
+    try (ScrollableResults<Object[]> bomRows = scrollBillOfMaterialRows(session, "")) {
+      while (bomRows.next()) {
+        Object[] bomRow = bomRows.get();
+        action.accept(ProductId.of((Long) bomRow[0]), toBillOfMaterialItem(bomRow));
+      }
+    }
+  }
+
+  @Override
+  public void forEachComponent(BiConsumer<ProductId, ProductComponent> action) {
+    Session session = panacheRepository.getEntityManager().unwrap(Session.class);
+    try (ScrollableResults<Object[]> componentRows = scrollComponentRows(session, "")) {
+      while (componentRows.next()) {
+        Object[] componentRow = componentRows.get();
+        action.accept(ProductId.of((Long) componentRow[0]), toProductComponent(componentRow));
+      }
+    }
+  }
+
+  /** Scrolls (productId, rawMaterialId, quantityRequired) scalars; nothing enters the context. */
+  private ScrollableResults<Object[]> scrollBillOfMaterialRows(Session session, String where) {
+    return session
+        .createSelectionQuery(
+            "SELECT p.id, m.rawMaterialId, m.quantityRequired "
+                + "FROM ProductMaterialJpaEntity m JOIN m.product p"
+                + where
+                + " ORDER BY p.id, m.id",
+            Object[].class)
+        .setFetchSize(STREAM_FETCH_SIZE)
+        .scroll(ScrollMode.FORWARD_ONLY);
+  }
+
+  /** Scrolls (productId, componentProductId, quantityRequired) scalars, like the BOM rows. */
+  private ScrollableResults<Object[]> scrollComponentRows(Session session, String where) {
+    return session
+        .createSelectionQuery(
+            "SELECT p.id, c.componentProductId, c.quantityRequired "
+                + "FROM ProductComponentJpaEntity c JOIN c.product p"
+                + where
+                + " ORDER BY p.id, c.id",
+            Object[].class)
+        .setFetchSize(STREAM_FETCH_SIZE)
+        .scroll(ScrollMode.FORWARD_ONLY);
+  }
+
+  private static BillOfMaterialItem toBillOfMaterialItem(Object[] bomRow) {
+    return BillOfMaterialItem.of(RawMaterialId.of((Long) bomRow[1]), (BigDecimal) bomRow[2]);
+  }
+
+  private static ProductComponent toProductComponent(Object[] componentRow) {
+    return ProductComponent.of(ProductId.of((Long) componentRow[1]), (BigDecimal) componentRow[2]);
+  }
+
+  @Override
+  public List<Product> search(String term, int limit) {
+    var entityManager = panacheRepository.getEntityManager();
+    // The in-memory index only yields IDs; just those rows are read
+    List<ProductJpaEntity> rows =
+        searchIndex.isReady()
+            ? SearchQueries.findByIds(
+                entityManager, SEARCH_TARGET, searchIndex.searchProducts(term, limit))
+            : SearchQueries.search(entityManager, SEARCH_TARGET, term, limit, infixSearch);
+    return rows.stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
   @Override
@@ -124,7 +374,8 @@ public class ProductRepositoryAdapter implements ProductRepository {
 
   @Override
   public boolean existsBySku(String sku) {
-    return panacheRepository.count("sku", sku.toUpperCase()) > 0;
+    // Goes through the cached lookup instead of an uncached COUNT query
+    return findBySku(sku).isPresent();
   }
 
   @Override
@@ -132,19 +383,44 @@ public class ProductRepositoryAdapter implements ProductRepository {
     return panacheRepository.findByIdOptional(id.value()).isPresent();
   }
 
+  @Override
+  public boolean isUsedAsComponent(ProductId id) {
+    return !panacheRepository
+        .getEntityManager()
+        .createQuery(
+            "SELECT c.id FROM ProductComponentJpaEntity c WHERE c.componentProductId = :id",
+            Long.class)
+        .setParameter("id", id.value())
+        .setMaxResults(1)
+        .getResultList()
+        .isEmpty();
+  }
+
   @Override
   public List<Product> findAllActiveWithMaterials() {
+    return snapshotCache.activeProducts(this::loadAllActiveWithMaterials);
+  }
+
+  private List<Product> loadAllActiveWithMaterials() {
     // Use a fetch join to eagerly load materials and avoid N+1 queries
-    return panacheRepository
-        .getEntityManager()
+    var entityManager = panacheRepository.getEntityManager();
+    List<ProductJpaEntity> rows =
+        entityManager
+            .createQuery(
+                "SELECT DISTINCT p FROM ProductJpaEntity p "
+                    + "LEFT JOIN FETCH p.materials "
+                    + "WHERE p.active = true",
+                ProductJpaEntity.class)
+            .getResultList();
+    // Components in a second query over the same (managed) entities; two bag fetch joins in one
+    // query are rejected by Hibernate
+    entityManager
         .createQuery(
             "SELECT DISTINCT p FROM ProductJpaEntity p "
-                + "LEFT JOIN FETCH p.materials "
+                + "LEFT JOIN FETCH p.components "
                 + "WHERE p.active = true",
             ProductJpaEntity.class)
-        .getResultList()
-        .stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+        .getResultList();
+    return rows.stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 }
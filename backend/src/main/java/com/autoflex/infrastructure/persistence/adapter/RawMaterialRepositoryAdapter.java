@@ -1,42 +1,113 @@
 package com.autoflex.infrastructure.persistence.adapter;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.out.RawMaterialRepository;
+import com.autoflex.infrastructure.persistence.cache.CatalogSnapshotCache;
 import com.autoflex.infrastructure.persistence.entity.RawMaterialJpaEntity;
 import com.autoflex.infrastructure.persistence.mapper.RawMaterialMapper;
 import com.autoflex.infrastructure.persistence.repository.RawMaterialPanacheRepository;
+import com.autoflex.infrastructure.persistence.search.CatalogSearchIndex;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 
 /** Output adapter implementing RawMaterialRepository using JPA/Panache. */
 @ApplicationScoped
 public class RawMaterialRepositoryAdapter implements RawMaterialRepository {
 
+  /** Rows fetched per round trip when streaming, and rows between persistence context clears. */
+  private static final int STREAM_FETCH_SIZE = 500;
+
+  /** Query cache region for lookups by code (sized in application.properties). */
+  private static final String CODE_QUERY_REGION = "raw-materials-by-code";
+
+  private static final SearchQueries.Target<RawMaterialJpaEntity> SEARCH_TARGET =
+      new SearchQueries.Target<>(
+          RawMaterialJpaEntity.class, "RAW_MATERIALS", "code", RawMaterialJpaEntity::getId);
+
   private final RawMaterialPanacheRepository panacheRepository;
   private final RawMaterialMapper mapper;
+  private final CatalogSnapshotCache snapshotCache;
+  private final CatalogSearchIndex searchIndex;
+  private final InfixSearch infixSearch;
 
   @Inject
   public RawMaterialRepositoryAdapter(
-      RawMaterialPanacheRepository panacheRepository, RawMaterialMapper mapper) {
+      RawMaterialPanacheRepository panacheRepository,
+      RawMaterialMapper mapper,
+      CatalogSnapshotCache snapshotCache,
+      CatalogSearchIndex searchIndex,
+      @ConfigProperty(name = "autoflex.search.infix", defaultValue = "oracle-text")
+          InfixSearch infixSearch) {
     this.panacheRepository = panacheRepository;
     this.mapper = mapper;
+    this.snapshotCache = snapshotCache;
+    this.searchIndex = searchIndex;
+    this.infixSearch = infixSearch;
   }
 
   @Override
   public RawMaterial save(RawMaterial rawMaterial) {
-    RawMaterialJpaEntity entity = mapper.toJpaEntity(rawMaterial);
-    if (entity.getId() == null) {
+    RawMaterialJpaEntity entity;
+    if (rawMaterial.getId() == null) {
+      entity = mapper.toJpaEntity(rawMaterial);
       panacheRepository.persist(entity);
     } else {
-      entity = panacheRepository.getEntityManager().merge(entity);
+      // Update the managed instance in place; its versioned UPDATE detects concurrent writers
+      entity = panacheRepository.findById(rawMaterial.getId().value());
+      if (entity == null) {
+        throw new IllegalStateException(
+            "Raw material not found for update: " + rawMaterial.getId().value());
+      }
+      OptimisticLocking.checkVersion(
+          "Raw material", entity.getId(), rawMaterial.getVersion(), entity.getVersion());
+      mapper.copyToEntity(rawMaterial, entity);
     }
     return mapper.toDomain(entity);
   }
 
+  @Override
+  public List<RawMaterial> saveAll(List<RawMaterial> rawMaterials) {
+    // Statements are queued in the persistence context and sent in JDBC batches on flush
+    // (quarkus.hibernate-orm.jdbc.statement-batch-size)
+    return rawMaterials.stream().map(this::save).collect(Collectors.toList());
+  }
+
+  @Override
+  public boolean adjustStock(RawMaterialId id, BigDecimal delta) {
+    // SELECT ... FOR UPDATE, then a versioned UPDATE of the one row. The row lock serializes
+    // concurrent adjustments as a conditional bulk UPDATE would, but as an entity update it only
+    // touches this material's second-level cache entry instead of evicting the whole region. The
+    // flush bumps the version, so a later findById in this transaction returns the new state.
+    RawMaterialJpaEntity entity =
+        panacheRepository.findById(id.value(), LockModeType.PESSIMISTIC_WRITE);
+    if (entity == null) {
+      return false;
+    }
+    BigDecimal adjusted = entity.getStockQuantity().add(delta);
+    if (adjusted.signum() < 0) {
+      return false;
+    }
+    entity.setStockQuantity(adjusted);
+    entity.setUpdatedAt(LocalDateTime.now());
+    panacheRepository.flush();
+    return true;
+  }
+
   @Override
   public Optional<RawMaterial> findById(RawMaterialId id) {
     return panacheRepository.findByIdOptional(id.value()).map(mapper::toDomain);
@@ -46,15 +117,19 @@ public class RawMaterialRepositoryAdapter implements RawMaterialRepository {
   public Optional<RawMaterial> findByCode(String code) {
     return panacheRepository
         .find("code", code.toUpperCase())
+        .withHint(HibernateHints.HINT_CACHEABLE, true)
+        .withHint(HibernateHints.HINT_CACHE_REGION, CODE_QUERY_REGION)
         .firstResultOptional()
         .map(mapper::toDomain);
   }
 
   @Override
   public List<RawMaterial> findAllActive() {
-    return panacheRepository.find("active", true).list().stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+    return snapshotCache.activeRawMaterials(
+        () ->
+            panacheRepository.find("active", true).list().stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList()));
   }
 
   @Override
@@ -63,10 +138,49 @@ public class RawMaterialRepositoryAdapter implements RawMaterialRepository {
   }
 
   @Override
-  public List<RawMaterial> findByNameContaining(String name) {
-    return panacheRepository.find("LOWER(name) LIKE LOWER(?1)", "%" + name + "%").list().stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+  public Page<RawMaterial> findPage(PageRequest pageRequest, boolean includeInactive) {
+    String jpql = KeysetQueries.pageQuery("RawMaterialJpaEntity", pageRequest, includeInactive);
+    var query = panacheRepository.getEntityManager().createQuery(jpql, RawMaterialJpaEntity.class);
+    List<RawMaterialJpaEntity> rows = KeysetQueries.bind(query, pageRequest).getResultList();
+
+    Page<RawMaterialJpaEntity> page =
+        KeysetQueries.toPage(
+            rows, pageRequest, RawMaterialJpaEntity::getId, RawMaterialJpaEntity::getName);
+    return new Page<>(page.items().stream().map(mapper::toDomain).toList(), page.next());
+  }
+
+  @Override
+  public void forEach(boolean includeInactive, Consumer<RawMaterial> action) {
+    String activeOnly = includeInactive ? "" : " WHERE r.active = true";
+    Session session = panacheRepository.getEntityManager().unwrap(Session.class);
+    try (ScrollableResults<RawMaterialJpaEntity> rows =
+        session
+            .createSelectionQuery(
+                "SELECT r FROM RawMaterialJpaEntity r" + activeOnly + " ORDER BY r.id",
+                RawMaterialJpaEntity.class)
+            .setReadOnly(true)
+            .setFetchSize(STREAM_FETCH_SIZE)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+      int count = 0;
+      while (rows.next()) {
+        action.accept(mapper.toDomain(rows.get()));
+        if (++count % STREAM_FETCH_SIZE == 0) {
+          session.clear();
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<RawMaterial> search(String term, int limit) {
+    var entityManager = panacheRepository.getEntityManager();
+    // The in-memory index only yields IDs; just those rows are read
+    List<RawMaterialJpaEntity> rows =
+        searchIndex.isReady()
+            ? SearchQueries.findByIds(
+                entityManager, SEARCH_TARGET, searchIndex.searchRawMaterials(term, limit))
+            : SearchQueries.search(entityManager, SEARCH_TARGET, term, limit, infixSearch);
+    return rows.stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
   @Override
@@ -84,7 +198,8 @@ public class RawMaterialRepositoryAdapter implements RawMaterialRepository {
 
   @Override
   public boolean existsByCode(String code) {
-    return panacheRepository.count("code", code.toUpperCase()) > 0;
+    // Goes through the cached lookup instead of an uncached COUNT query
+    return findByCode(code).isPresent();
   }
 
   @Override
@@ -0,0 +1,190 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * SearchQueries - Ranked, limited catalog search shared by the repository adapters.
+ *
+ * <p>Runs a few small queries, each answered by an index range scan and cut off at the limit, and
+ * merges them in rank order:
+ *
+ * <ol>
+ *   <li>key (SKU or code) prefix, through its unique index; an exact match sorts first
+ *   <li>name prefix, through the function-based index on {@code (UPPER(NAME), ID)}
+ *   <li>name infix, depending on {@link InfixSearch}
+ * </ol>
+ *
+ * <p>Terms are matched case-insensitively; SKUs and codes are stored upper-case.
+ */
+final class SearchQueries {
+
+  private static final char LIKE_ESCAPE = '!';
+
+  private SearchQueries() {
+    // Utility class - prevent instantiation
+  }
+
+  /**
+   * Describes a searchable entity with {@code id} and {@code name} attributes.
+   *
+   * @param type the entity class
+   * @param table the table, for the Oracle Text query
+   * @param keyAttribute the upper-case business key attribute ({@code sku} or {@code code})
+   * @param idOf reads the entity ID
+   */
+  record Target<E>(Class<E> type, String table, String keyAttribute, Function<E, Long> idOf) {}
+
+  /**
+   * Searches an entity.
+   *
+   * @param entityManager the entity manager
+   * @param target the entity to search
+   * @param term the search term, not blank
+   * @param limit the maximum number of results
+   * @param infix how to match the term inside names
+   * @return up to {@code limit} entities, best matches first
+   */
+  static <E> List<E> search(
+      EntityManager entityManager, Target<E> target, String term, int limit, InfixSearch infix) {
+    String normalized = term.trim().toUpperCase(Locale.ROOT);
+    String entity = target.type().getSimpleName();
+    String escaped = escapeLike(normalized);
+    Map<Long, E> ranked = new LinkedHashMap<>();
+
+    collect(
+        ranked,
+        target,
+        limit,
+        entityManager
+            .createQuery(
+                "SELECT e FROM "
+                    + entity
+                    + " e WHERE e."
+                    + target.keyAttribute()
+                    + " LIKE :pattern ESCAPE '"
+                    + LIKE_ESCAPE
+                    + "' ORDER BY e."
+                    + target.keyAttribute(),
+                target.type())
+            .setParameter("pattern", escaped + "%"));
+    collect(ranked, target, limit, nameQuery(entityManager, target, escaped + "%"));
+
+    switch (infix) {
+      case OFF -> {}
+      case SCAN ->
+          collect(ranked, target, limit, nameQuery(entityManager, target, "%" + escaped + "%"));
+      case ORACLE_TEXT -> collectText(ranked, entityManager, target, normalized, limit);
+    }
+    return new ArrayList<>(ranked.values());
+  }
+
+  private static <E> TypedQuery<E> nameQuery(
+      EntityManager entityManager, Target<E> target, String pattern) {
+    // UPPER(e.name) must match the indexed expression UPPER(NAME) for Oracle to use the index
+    return entityManager
+        .createQuery(
+            "SELECT e FROM "
+                + target.type().getSimpleName()
+                + " e WHERE UPPER(e.name) LIKE"
+                + " :pattern ESCAPE '"
+                + LIKE_ESCAPE
+                + "' ORDER BY UPPER(e.name), e.id",
+            target.type())
+        .setParameter("pattern", pattern);
+  }
+
+  private static <E> void collect(
+      Map<Long, E> ranked, Target<E> target, int limit, TypedQuery<E> query) {
+    if (ranked.size() >= limit) {
+      return;
+    }
+    for (E row : query.setMaxResults(limit).getResultList()) {
+      ranked.putIfAbsent(target.idOf().apply(row), row);
+      if (ranked.size() >= limit) {
+        return;
+      }
+    }
+  }
+
+  private static <E> void collectText(
+      Map<Long, E> ranked, EntityManager entityManager, Target<E> target, String term, int limit) {
+    String textQuery = textQuery(term);
+    if (ranked.size() >= limit || textQuery.isEmpty()) {
+      return;
+    }
+    @SuppressWarnings("unchecked")
+    List<Number> ids =
+        entityManager
+            .createNativeQuery(
+                "SELECT ID FROM "
+                    + target.table()
+                    + " WHERE CONTAINS(NAME, :query, 1) > 0 ORDER BY SCORE(1) DESC, ID")
+            .setParameter("query", textQuery)
+            .setMaxResults(limit)
+            .getResultList();
+    List<Long> missing =
+        ids.stream()
+            .map(Number::longValue)
+            .filter(id -> !ranked.containsKey(id))
+            .collect(Collectors.toList());
+    for (E row : findByIds(entityManager, target, missing)) {
+      if (ranked.size() >= limit) {
+        return;
+      }
+      ranked.put(target.idOf().apply(row), row);
+    }
+  }
+
+  /**
+   * Loads entities by ID in one query.
+   *
+   * @return the entities that still exist, in the order of {@code ids}
+   */
+  static <E> List<E> findByIds(EntityManager entityManager, Target<E> target, List<Long> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, E> byId =
+        entityManager
+            .createQuery(
+                "SELECT e FROM " + target.type().getSimpleName() + " e WHERE e.id IN :ids",
+                target.type())
+            .setParameter("ids", ids)
+            .getResultList()
+            .stream()
+            .collect(Collectors.toMap(target.idOf(), Function.identity()));
+    return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+  }
+
+  /**
+   * Builds an Oracle Text query matching every word of the term anywhere in the name. Only letters
+   * and digits are kept, so operators and special characters in user input have no effect.
+   */
+  static String textQuery(String term) {
+    return Arrays.stream(term.split("[^\\p{L}\\p{N}]+"))
+        .filter(word -> !word.isEmpty())
+        .map(word -> "%" + word + "%")
+        .collect(Collectors.joining(" AND "));
+  }
+
+  static String escapeLike(String term) {
+    StringBuilder escaped = new StringBuilder(term.length());
+    for (char c : term.toCharArray()) {
+      if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+        escaped.append(LIKE_ESCAPE);
+      }
+      escaped.append(c);
+    }
+    return escaped.toString();
+  }
+}
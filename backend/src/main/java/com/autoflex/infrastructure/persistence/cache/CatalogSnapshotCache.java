@@ -0,0 +1,383 @@
+package com.autoflex.infrastructure.persistence.cache;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * CatalogSnapshotCache - In-process snapshot of the active catalog (products with their bill of
+ * materials, and raw materials), used by the repository adapters to answer the full active-list
+ * queries without a database round trip.
+ *
+ * <p>Each half is an immutable snapshot behind an {@link AtomicReference}. The first read after
+ * startup or invalidation loads it through the adapter; committed {@link CatalogChange} events then
+ * patch it copy-on-write and swap the reference, so readers never see a partial update and never
+ * block writers. A patch copies only the path to the changed entry, so it costs O(log n) rather
+ * than O(catalog); the list in ID order is rebuilt once, on the next read. Events carry the saved
+ * version, so a change delivered out of order cannot replace newer state. A snapshot built while a
+ * change commits is served once but not kept.
+ *
+ * <p>A half that would exceed {@code autoflex.cache.catalog.max-entries} is not cached; reads then
+ * go to the database. Hits, misses and rebuilds are counted per half ({@code
+ * autoflex.catalog.snapshot.*}, tag {@code part}).
+ *
+ * <p>Returned aggregates are shared between readers and must not be modified.
+ */
+@ApplicationScoped
+public class CatalogSnapshotCache {
+
+  private final boolean enabled;
+  private final Part<Product> products;
+  private final Part<RawMaterial> rawMaterials;
+
+  @Inject
+  public CatalogSnapshotCache(
+      MeterRegistry registry,
+      @ConfigProperty(name = "autoflex.cache.catalog.enabled", defaultValue = "true")
+          boolean enabled,
+      @ConfigProperty(name = "autoflex.cache.catalog.max-entries", defaultValue = "100000")
+          int maxEntries) {
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("Catalog cache max entries must be positive");
+    }
+    this.enabled = enabled;
+    this.products =
+        new Part<>(
+            "products",
+            maxEntries,
+            product -> product.getId().value(),
+            Product::getVersion,
+            Product::isActive,
+            registry);
+    this.rawMaterials =
+        new Part<>(
+            "raw-materials",
+            maxEntries,
+            rawMaterial -> rawMaterial.getId().value(),
+            RawMaterial::getVersion,
+            RawMaterial::isActive,
+            registry);
+  }
+
+  /**
+   * Returns the active products, with their bill of materials, in ID order.
+   *
+   * @param loader reads the active products from the database on a miss
+   */
+  public List<Product> activeProducts(Supplier<List<Product>> loader) {
+    return enabled ? products.get(loader) : loader.get();
+  }
+
+  /**
+   * Returns the active raw materials in ID order.
+   *
+   * @param loader reads the active raw materials from the database on a miss
+   */
+  public List<RawMaterial> activeRawMaterials(Supplier<List<RawMaterial>> loader) {
+    return enabled ? rawMaterials.get(loader) : loader.get();
+  }
+
+  /** Drops both snapshots; the next reads rebuild them. */
+  public void invalidate() {
+    products.invalidate();
+    rawMaterials.invalidate();
+  }
+
+  /**
+   * Applies a catalog write to the snapshots once its transaction has committed, so rolled-back
+   * changes are never cached.
+   */
+  void onCatalogChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) CatalogChange change) {
+    if (!enabled) {
+      return;
+    }
+    switch (change) {
+      case CatalogChange.ProductChanged c -> products.put(c.product());
+      case CatalogChange.ProductsChanged c -> products.putAll(c.products());
+      case CatalogChange.ProductRemoved c -> products.remove(c.productId().value());
+      case CatalogChange.RawMaterialChanged c -> rawMaterials.put(c.rawMaterial());
+      case CatalogChange.RawMaterialsChanged c -> rawMaterials.putAll(c.rawMaterials());
+      case CatalogChange.RawMaterialRemoved c -> {
+        rawMaterials.remove(c.rawMaterialId().value());
+        // Deleting a raw material also removes the BOM rows that referenced it
+        products.invalidate();
+      }
+    }
+  }
+
+  /** One cached half of the catalog. */
+  private static final class Part<T> {
+
+    private final int maxEntries;
+    private final Function<T, Long> idOf;
+    private final Function<T, Long> versionOf;
+    private final Predicate<T> isActive;
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+    // Bumped by every change; a rebuild is only kept if no change happened while it loaded
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+
+    Part(
+        String name,
+        int maxEntries,
+        Function<T, Long> idOf,
+        Function<T, Long> versionOf,
+        Predicate<T> isActive,
+        MeterRegistry registry) {
+      this.maxEntries = maxEntries;
+      this.idOf = idOf;
+      this.versionOf = versionOf;
+      this.isActive = isActive;
+      this.hits = registry.counter("autoflex.catalog.snapshot.hits", "part", name);
+      this.misses = registry.counter("autoflex.catalog.snapshot.misses", "part", name);
+      this.rebuilds = registry.counter("autoflex.catalog.snapshot.rebuilds", "part", name);
+      registry.gauge(
+          "autoflex.catalog.snapshot.size",
+          Tags.of("part", name),
+          current,
+          ref -> ref.get() != null ? ref.get().size() : 0);
+    }
+
+    List<T> get(Supplier<List<T>> loader) {
+      Snapshot<T> snapshot = current.get();
+      if (snapshot != null) {
+        hits.increment();
+        return snapshot.items();
+      }
+      misses.increment();
+      // Single flight: concurrent misses wait for one rebuild instead of each querying
+      rebuildLock.lock();
+      try {
+        snapshot = current.get();
+        if (snapshot != null) {
+          return snapshot.items();
+        }
+        long seen = generation.get();
+        List<T> loaded = loader.get();
+        rebuilds.increment();
+        if (loaded.size() > maxEntries) {
+          return loaded;
+        }
+        Snapshot<T> built = Snapshot.of(loaded, idOf);
+        if (generation.get() == seen && current.compareAndSet(null, built)) {
+          // A change that committed between the check and the swap saw no snapshot to patch
+          if (generation.get() != seen) {
+            current.compareAndSet(built, null);
+          }
+        }
+        return built.items();
+      } finally {
+        rebuildLock.unlock();
+      }
+    }
+
+    void put(T item) {
+      generation.incrementAndGet();
+      current.updateAndGet(snapshot -> snapshot != null ? patch(snapshot, item) : null);
+    }
+
+    void putAll(List<T> items) {
+      generation.incrementAndGet();
+      current.updateAndGet(snapshot -> snapshot != null ? patchAll(snapshot, items) : null);
+    }
+
+    void remove(long id) {
+      generation.incrementAndGet();
+      current.updateAndGet(snapshot -> snapshot != null ? snapshot.without(id) : null);
+    }
+
+    void invalidate() {
+      generation.incrementAndGet();
+      current.set(null);
+    }
+
+    private Snapshot<T> patch(Snapshot<T> snapshot, T item) {
+      long id = idOf.apply(item);
+      T cached = snapshot.get(id);
+      if (cached != null && isOlder(item, cached)) {
+        return snapshot;
+      }
+      if (!isActive.test(item)) {
+        return snapshot.without(id);
+      }
+      if (cached == null && snapshot.size() >= maxEntries) {
+        return null;
+      }
+      return snapshot.with(id, item);
+    }
+
+    /** Applies a batch like {@link #patch}, item by item; the list is rebuilt on the next read. */
+    private Snapshot<T> patchAll(Snapshot<T> snapshot, List<T> items) {
+      for (T item : items) {
+        snapshot = patch(snapshot, item);
+        if (snapshot == null) {
+          return null;
+        }
+      }
+      return snapshot;
+    }
+
+    private boolean isOlder(T item, T cached) {
+      Long version = versionOf.apply(item);
+      Long cachedVersion = versionOf.apply(cached);
+      return version != null && cachedVersion != null && version < cachedVersion;
+    }
+  }
+
+  /**
+   * Immutable aggregates indexed by ID: a treap (search tree by ID, heap by a hash of the ID) whose
+   * writes copy only the path to the changed node, so they cost O(log n) and share the rest of the
+   * tree with the previous snapshot. The list in ID order is materialized on the first read.
+   */
+  private static final class Snapshot<T> {
+
+    private final Node<T> root;
+    private final int size;
+    // Benign race: concurrent first reads build equal lists
+    private volatile List<T> items;
+
+    private Snapshot(Node<T> root, int size) {
+      this.root = root;
+      this.size = size;
+    }
+
+    static <T> Snapshot<T> of(List<T> loaded, Function<T, Long> idOf) {
+      Snapshot<T> snapshot = new Snapshot<>(null, 0);
+      for (T item : loaded) {
+        snapshot = snapshot.with(idOf.apply(item), item);
+      }
+      return snapshot;
+    }
+
+    int size() {
+      return size;
+    }
+
+    T get(long id) {
+      Node<T> node = root;
+      while (node != null && node.id() != id) {
+        node = id < node.id() ? node.left() : node.right();
+      }
+      return node != null ? node.item() : null;
+    }
+
+    Snapshot<T> with(long id, T item) {
+      return new Snapshot<>(Node.insert(root, id, item), get(id) == null ? size + 1 : size);
+    }
+
+    Snapshot<T> without(long id) {
+      if (get(id) == null) {
+        return this;
+      }
+      return new Snapshot<>(Node.remove(root, id), size - 1);
+    }
+
+    List<T> items() {
+      List<T> list = items;
+      if (list == null) {
+        List<T> inOrder = new ArrayList<>(size);
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> node = root;
+        while (node != null || !path.isEmpty()) {
+          for (; node != null; node = node.left()) {
+            path.push(node);
+          }
+          node = path.pop();
+          inOrder.add(node.item());
+          node = node.right();
+        }
+        list = Collections.unmodifiableList(inOrder);
+        items = list;
+      }
+      return list;
+    }
+  }
+
+  /** Immutable treap node; writes return new nodes along the changed path. */
+  private record Node<T>(long id, T item, Node<T> left, Node<T> right) {
+
+    private static int priority(long id) {
+      return Long.hashCode(id * 0x9E3779B97F4A7C15L);
+    }
+
+    static <T> Node<T> insert(Node<T> node, long id, T item) {
+      if (node == null) {
+        return new Node<>(id, item, null, null);
+      }
+      if (id == node.id) {
+        return new Node<>(id, item, node.left, node.right);
+      }
+      if (id < node.id) {
+        Node<T> left = insert(node.left, id, item);
+        if (priority(left.id) > priority(node.id)) {
+          // Rotate right
+          return new Node<>(
+              left.id,
+              left.item,
+              left.left,
+              new Node<>(node.id, node.item, left.right, node.right));
+        }
+        return new Node<>(node.id, node.item, left, node.right);
+      }
+      Node<T> right = insert(node.right, id, item);
+      if (priority(right.id) > priority(node.id)) {
+        // Rotate left
+        return new Node<>(
+            right.id,
+            right.item,
+            new Node<>(node.id, node.item, node.left, right.left),
+            right.right);
+      }
+      return new Node<>(node.id, node.item, node.left, right);
+    }
+
+    static <T> Node<T> remove(Node<T> node, long id) {
+      if (node == null) {
+        return null;
+      }
+      if (id < node.id) {
+        return new Node<>(node.id, node.item, remove(node.left, id), node.right);
+      }
+      if (id > node.id) {
+        return new Node<>(node.id, node.item, node.left, remove(node.right, id));
+      }
+      return merge(node.left, node.right);
+    }
+
+    /** Joins two treaps where every ID in {@code low} is below every ID in {@code high}. */
+    private static <T> Node<T> merge(Node<T> low, Node<T> high) {
+      if (low == null) {
+        return high;
+      }
+      if (high == null) {
+        return low;
+      }
+      if (priority(low.id) > priority(high.id)) {
+        return new Node<>(low.id, low.item, low.left, merge(low.right, high));
+      }
+      return new Node<>(high.id, high.item, merge(low, high.left), high.right);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.autoflex.infrastructure.persistence.entity;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+
+/**
+ * JPA entity representing a component product (sub-assembly) in another product's bill of materials
+ * (BOM). Each row describes how many units of the component are needed to produce one unit of the
+ * owning product.
+ */
+@Entity
+@Cacheable
+@Table(
+    name = "PRODUCT_COMPONENTS",
+    uniqueConstraints =
+        @UniqueConstraint(
+            columnNames = {"PRODUCT_ID", "COMPONENT_PRODUCT_ID"},
+            name = "UK_PRODUCT_COMPONENT"))
+public class ProductComponentJpaEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_component_seq")
+  // Pooled allocation: one sequence call per 50 IDs; created with INCREMENT BY 50 by the schema
+  // update, so it needs no migration
+  @SequenceGenerator(
+      name = "product_component_seq",
+      sequenceName = "PRODUCT_COMPONENT_SEQ",
+      allocationSize = 50)
+  @Column(name = "ID")
+  private Long id;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "PRODUCT_ID", nullable = false)
+  private ProductJpaEntity product;
+
+  @Column(name = "COMPONENT_PRODUCT_ID", nullable = false)
+  private Long componentProductId;
+
+  @Column(name = "QUANTITY_REQUIRED", nullable = false, precision = 19, scale = 4)
+  private BigDecimal quantityRequired;
+
+  public ProductComponentJpaEntity() {}
+
+  public ProductComponentJpaEntity(
+      ProductJpaEntity product, Long componentProductId, BigDecimal quantityRequired) {
+    this.product = product;
+    this.componentProductId = componentProductId;
+    this.quantityRequired = quantityRequired;
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public ProductJpaEntity getProduct() {
+    return product;
+  }
+
+  public void setProduct(ProductJpaEntity product) {
+    this.product = product;
+  }
+
+  public Long getComponentProductId() {
+    return componentProductId;
+  }
+
+  public void setComponentProductId(Long componentProductId) {
+    this.componentProductId = componentProductId;
+  }
+
+  public BigDecimal getQuantityRequired() {
+    return quantityRequired;
+  }
+
+  public void setQuantityRequired(BigDecimal quantityRequired) {
+    this.quantityRequired = quantityRequired;
+  }
+}
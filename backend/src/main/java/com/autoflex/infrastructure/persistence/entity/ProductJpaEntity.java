@@ -1,5 +1,6 @@
 package com.autoflex.infrastructure.persistence.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -7,13 +8,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * ProductJpaEntity - JPA Entity for Product persistence.
@@ -31,12 +37,17 @@ import java.util.List;
  * <p>The repository adapter handles conversion between these two classes.
  */
 @Entity
-@Table(name = "PRODUCTS")
+@Cacheable
+@Table(
+    name = "PRODUCTS",
+    // Supports keyset pagination ordered by name (ties broken by ID)
+    indexes = @Index(name = "IDX_PRODUCTS_NAME_ID", columnList = "NAME, ID"))
 public class ProductJpaEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
-  @SequenceGenerator(name = "product_seq", sequenceName = "PRODUCT_SEQ", allocationSize = 1)
+  // Pooled allocation: one sequence call per 50 IDs (see db/migrations/001_pooled_sequences.sql)
+  @SequenceGenerator(name = "product_seq", sequenceName = "PRODUCT_SEQ", allocationSize = 50)
   @Column(name = "ID")
   private Long id;
 
@@ -58,12 +69,27 @@ public class ProductJpaEntity {
   @Column(name = "ACTIVE", nullable = false)
   private Boolean active;
 
+  /** Demand constraints used by production planning; null means unconstrained. */
+  @Column(name = "MAX_DEMAND")
+  private Integer maxDemand;
+
+  @Column(name = "MIN_BATCH")
+  private Integer minBatch;
+
   @Column(name = "CREATED_AT", nullable = false, updatable = false)
   private LocalDateTime createdAt;
 
   @Column(name = "UPDATED_AT", nullable = false)
   private LocalDateTime updatedAt;
 
+  /** Optimistic locking version; the default backfills rows created before the column existed. */
+  @Version
+  @ColumnDefault("0")
+  @Column(name = "VERSION", nullable = false)
+  private Long version;
+
+  // Caches the row IDs; the rows themselves come from the ProductMaterialJpaEntity region
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
   @OneToMany(
       mappedBy = "product",
       cascade = CascadeType.ALL,
@@ -71,6 +97,15 @@ public class ProductJpaEntity {
       fetch = FetchType.LAZY)
   private List<ProductMaterialJpaEntity> materials = new ArrayList<>();
 
+  // Component products (sub-assemblies); cached like the materials
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+  @OneToMany(
+      mappedBy = "product",
+      cascade = CascadeType.ALL,
+      orphanRemoval = true,
+      fetch = FetchType.LAZY)
+  private List<ProductComponentJpaEntity> components = new ArrayList<>();
+
   // =========================================================================
   // CONSTRUCTORS
   // =========================================================================
@@ -139,6 +174,22 @@ public class ProductJpaEntity {
     this.active = active;
   }
 
+  public Integer getMaxDemand() {
+    return maxDemand;
+  }
+
+  public void setMaxDemand(Integer maxDemand) {
+    this.maxDemand = maxDemand;
+  }
+
+  public Integer getMinBatch() {
+    return minBatch;
+  }
+
+  public void setMinBatch(Integer minBatch) {
+    this.minBatch = minBatch;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
@@ -155,6 +206,14 @@ public class ProductJpaEntity {
     this.updatedAt = updatedAt;
   }
 
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+
   public List<ProductMaterialJpaEntity> getMaterials() {
     return materials;
   }
@@ -162,4 +221,12 @@ public class ProductJpaEntity {
   public void setMaterials(List<ProductMaterialJpaEntity> materials) {
     this.materials = materials;
   }
+
+  public List<ProductComponentJpaEntity> getComponents() {
+    return components;
+  }
+
+  public void setComponents(List<ProductComponentJpaEntity> components) {
+    this.components = components;
+  }
 }
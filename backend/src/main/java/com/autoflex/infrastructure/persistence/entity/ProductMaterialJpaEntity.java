@@ -1,5 +1,6 @@
 package com.autoflex.infrastructure.persistence.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -19,6 +20,7 @@ import java.math.BigDecimal;
  * unit of a product.
  */
 @Entity
+@Cacheable
 @Table(
     name = "PRODUCT_MATERIALS",
     uniqueConstraints =
@@ -29,10 +31,11 @@ public class ProductMaterialJpaEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_material_seq")
+  // Pooled allocation: one sequence call per 50 IDs (see db/migrations/001_pooled_sequences.sql)
   @SequenceGenerator(
       name = "product_material_seq",
       sequenceName = "PRODUCT_MATERIAL_SEQ",
-      allocationSize = 1)
+      allocationSize = 50)
   @Column(name = "ID")
   private Long id;
 
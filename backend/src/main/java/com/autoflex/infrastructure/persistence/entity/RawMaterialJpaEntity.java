@@ -1,26 +1,35 @@
 package com.autoflex.infrastructure.persistence.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.ColumnDefault;
 
 /** JPA entity representing a raw material in the RAWS_MATERIALS table. */
 @Entity
-@Table(name = "RAW_MATERIALS")
+@Cacheable
+@Table(
+    name = "RAW_MATERIALS",
+    // Supports keyset pagination ordered by name (ties broken by ID)
+    indexes = @Index(name = "IDX_RAW_MATERIALS_NAME_ID", columnList = "NAME, ID"))
 public class RawMaterialJpaEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "raw_material_seq")
+  // Pooled allocation: one sequence call per 50 IDs (see db/migrations/001_pooled_sequences.sql)
   @SequenceGenerator(
       name = "raw_material_seq",
       sequenceName = "RAW_MATERIAL_SEQ",
-      allocationSize = 1)
+      allocationSize = 50)
   @Column(name = "ID")
   private Long id;
 
@@ -51,6 +60,12 @@ public class RawMaterialJpaEntity {
   @Column(name = "UPDATED_AT", nullable = false)
   private LocalDateTime updatedAt;
 
+  /** Optimistic locking version; the default backfills rows created before the column existed. */
+  @Version
+  @ColumnDefault("0")
+  @Column(name = "VERSION", nullable = false)
+  private Long version;
+
   public RawMaterialJpaEntity() {}
 
   // Getters and Setters
@@ -133,4 +148,12 @@ public class RawMaterialJpaEntity {
   public void setUpdatedAt(LocalDateTime updatedAt) {
     this.updatedAt = updatedAt;
   }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
 }
@@ -1,9 +1,12 @@
 package com.autoflex.infrastructure.persistence.mapper;
 
 import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
 import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
 import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.infrastructure.persistence.entity.ProductComponentJpaEntity;
 import com.autoflex.infrastructure.persistence.entity.ProductJpaEntity;
 import com.autoflex.infrastructure.persistence.entity.ProductMaterialJpaEntity;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -45,6 +48,33 @@ public class ProductMapper {
               .collect(Collectors.toList());
     }
 
+    List<ProductComponent> components = new ArrayList<>();
+    if (entity.getComponents() != null) {
+      components =
+          entity.getComponents().stream()
+              .map(
+                  c ->
+                      ProductComponent.of(
+                          ProductId.of(c.getComponentProductId()), c.getQuantityRequired()))
+              .collect(Collectors.toList());
+    }
+
+    return toDomain(entity, materials, components);
+  }
+
+  /**
+   * Converts a JPA entity to a domain entity with an already loaded bill of materials, without
+   * touching the entity's lazy materials and components collections.
+   *
+   * @param entity the JPA entity from database
+   * @param materials the product's raw material items
+   * @param components the product's component products
+   * @return the domain entity for business logic
+   */
+  public Product toDomain(
+      ProductJpaEntity entity,
+      List<BillOfMaterialItem> materials,
+      List<ProductComponent> components) {
     return Product.reconstitute(
         entity.getId() != null ? ProductId.of(entity.getId()) : null,
         entity.getName(),
@@ -55,7 +85,10 @@ public class ProductMapper {
         entity.getActive() != null && entity.getActive(),
         entity.getCreatedAt(),
         entity.getUpdatedAt(),
-        materials);
+        materials,
+        components,
+        DemandConstraints.of(entity.getMaxDemand(), entity.getMinBatch()),
+        entity.getVersion());
   }
 
   /**
@@ -82,8 +115,11 @@ public class ProductMapper {
     entity.setUnitPrice(product.getUnitPrice());
     entity.setStockQuantity(product.getStockQuantity());
     entity.setActive(product.isActive());
+    entity.setMaxDemand(product.getDemandConstraints().maxDemand());
+    entity.setMinBatch(product.getDemandConstraints().minBatch());
     entity.setCreatedAt(product.getCreatedAt());
     entity.setUpdatedAt(product.getUpdatedAt());
+    entity.setVersion(product.getVersion());
 
     // Map bill of materials
     List<ProductMaterialJpaEntity> materialEntities =
@@ -95,6 +131,15 @@ public class ProductMapper {
             .collect(Collectors.toList());
     entity.setMaterials(materialEntities);
 
+    List<ProductComponentJpaEntity> componentEntities =
+        product.getComponents().stream()
+            .map(
+                component ->
+                    new ProductComponentJpaEntity(
+                        entity, component.componentId().value(), component.quantityRequired()))
+            .collect(Collectors.toList());
+    entity.setComponents(componentEntities);
+
     return entity;
   }
 }
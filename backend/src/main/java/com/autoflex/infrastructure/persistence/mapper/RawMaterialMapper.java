@@ -22,13 +22,21 @@ public class RawMaterialMapper {
         entity.getUnitCost(),
         entity.getActive() != null && entity.getActive(),
         entity.getCreatedAt(),
-        entity.getUpdatedAt());
+        entity.getUpdatedAt(),
+        entity.getVersion());
   }
 
   public RawMaterialJpaEntity toJpaEntity(RawMaterial rawMaterial) {
     if (rawMaterial == null) return null;
     RawMaterialJpaEntity entity = new RawMaterialJpaEntity();
     if (rawMaterial.getId() != null) entity.setId(rawMaterial.getId().value());
+    entity.setVersion(rawMaterial.getVersion());
+    copyToEntity(rawMaterial, entity);
+    return entity;
+  }
+
+  /** Copies the mutable state of a raw material onto an entity, leaving ID and version alone. */
+  public void copyToEntity(RawMaterial rawMaterial, RawMaterialJpaEntity entity) {
     entity.setName(rawMaterial.getName());
     entity.setDescription(rawMaterial.getDescription());
     entity.setCode(rawMaterial.getCode());
@@ -38,6 +46,5 @@ public class RawMaterialMapper {
     entity.setActive(rawMaterial.isActive());
     entity.setCreatedAt(rawMaterial.getCreatedAt());
     entity.setUpdatedAt(rawMaterial.getUpdatedAt());
-    return entity;
   }
 }
@@ -0,0 +1,108 @@
+package com.autoflex.infrastructure.persistence.schema;
+
+import com.autoflex.infrastructure.persistence.adapter.InfixSearch;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * SearchIndexCheck - Refuses to start when an index behind catalog search is missing, instead of
+ * letting every search fail or scan the table. The indexes are created by {@code
+ * db/migrations/002_search_indexes.sql}, next to Hibernate's schema update (which cannot express
+ * function-based or domain indexes).
+ *
+ * <p>Always expected on Oracle: {@code (UPPER(NAME), ID)} indexes for name prefix searches. With
+ * {@code autoflex.search.infix=oracle-text} (the default): the Oracle Text CONTEXT indexes on NAME,
+ * and an Oracle database at all. H2 (tests, dev) has no function-based indexes and runs with {@code
+ * scan}.
+ *
+ * <p>Read-only. {@code autoflex.search.check-indexes=false} skips the check.
+ */
+@ApplicationScoped
+public class SearchIndexCheck {
+
+  private static final Logger LOG = Logger.getLogger(SearchIndexCheck.class);
+
+  private static final String MIGRATION = "db/migrations/002_search_indexes.sql";
+
+  private static final List<String> PREFIX_INDEXES =
+      List.of("IDX_PRODUCTS_UPPER_NAME", "IDX_RAW_MATERIALS_UPPER_NAME");
+  private static final List<String> TEXT_INDEXES =
+      List.of("IDX_PRODUCTS_NAME_TEXT", "IDX_RAW_MATERIALS_NAME_TEXT");
+
+  private final DataSource dataSource;
+  private final InfixSearch infixSearch;
+  private final boolean enabled;
+
+  @Inject
+  public SearchIndexCheck(
+      DataSource dataSource,
+      @ConfigProperty(name = "autoflex.search.infix", defaultValue = "oracle-text")
+          InfixSearch infixSearch,
+      @ConfigProperty(name = "autoflex.search.check-indexes", defaultValue = "true")
+          boolean enabled) {
+    this.dataSource = dataSource;
+    this.infixSearch = infixSearch;
+    this.enabled = enabled;
+  }
+
+  void onStart(@Observes StartupEvent event) {
+    if (!enabled) {
+      return;
+    }
+    List<String> missing;
+    try (Connection connection = dataSource.getConnection()) {
+      String database = connection.getMetaData().getDatabaseProductName();
+      if (!database.startsWith("Oracle")) {
+        if (infixSearch == InfixSearch.ORACLE_TEXT) {
+          throw new IllegalStateException(
+              "autoflex.search.infix=oracle-text needs Oracle Text, but the database is "
+                  + database
+                  + "; set SEARCH_INFIX=scan");
+        }
+        return;
+      }
+      missing = new ArrayList<>(PREFIX_INDEXES);
+      if (infixSearch == InfixSearch.ORACLE_TEXT) {
+        missing.addAll(TEXT_INDEXES);
+      }
+      missing.removeAll(existingIndexes(connection));
+    } catch (SQLException e) {
+      throw new IllegalStateException("Could not check the search indexes", e);
+    }
+    if (!missing.isEmpty()) {
+      throw new IllegalStateException(
+          "Missing search indexes "
+              + missing
+              + "; apply "
+              + MIGRATION
+              + ", or set SEARCH_CHECK_INDEXES=false to start without them");
+    }
+    LOG.debugf("Search indexes present for infix search %s", infixSearch);
+  }
+
+  private static Set<String> existingIndexes(Connection connection) throws SQLException {
+    Set<String> existing = new HashSet<>();
+    try (PreparedStatement query =
+            connection.prepareStatement(
+                "SELECT INDEX_NAME FROM USER_INDEXES WHERE INDEX_NAME LIKE 'IDX\\_%' ESCAPE '\\'");
+        ResultSet rows = query.executeQuery()) {
+      while (rows.next()) {
+        existing.add(rows.getString(1));
+      }
+    }
+    return existing;
+  }
+}
@@ -0,0 +1,149 @@
+package com.autoflex.infrastructure.persistence.search;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.infrastructure.persistence.repository.ProductPanacheRepository;
+import com.autoflex.infrastructure.persistence.repository.RawMaterialPanacheRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.control.ActivateRequestContext;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.util.List;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * CatalogSearchIndex - In-process {@link TrigramIndex trigram indexes} over product name, SKU and
+ * description and raw material name and code, used by the repository adapters to answer searches
+ * without a text query on the database. The adapters then load only the matched IDs.
+ *
+ * <p>Both indexes are loaded at startup with a projection of the indexed columns, and kept current
+ * by committed {@link CatalogChange} events, so rolled-back writes are never indexed. Changes that
+ * commit while the indexes load are applied too; versions keep the newer state. Until loading has
+ * finished, or if it fails, {@link #isReady()} is false and searches go to the database.
+ *
+ * <p>Like the catalog snapshot cache, only correct while this instance is the only writer. An entry
+ * for a row deleted elsewhere costs one lookup that finds nothing; a row renamed elsewhere is found
+ * under its old name until it is next written here.
+ */
+@ApplicationScoped
+public class CatalogSearchIndex {
+
+  private static final Logger LOG = Logger.getLogger(CatalogSearchIndex.class);
+
+  private final ProductPanacheRepository productRepository;
+  private final RawMaterialPanacheRepository rawMaterialRepository;
+  private final boolean enabled;
+  private final TrigramIndex products = new TrigramIndex();
+  private final TrigramIndex rawMaterials = new TrigramIndex();
+  private volatile boolean ready;
+
+  @Inject
+  public CatalogSearchIndex(
+      ProductPanacheRepository productRepository,
+      RawMaterialPanacheRepository rawMaterialRepository,
+      @ConfigProperty(name = "autoflex.search.index.enabled", defaultValue = "true")
+          boolean enabled) {
+    this.productRepository = productRepository;
+    this.rawMaterialRepository = rawMaterialRepository;
+    this.enabled = enabled;
+  }
+
+  /** Whether searches can be answered from the index. */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * Searches products by SKU, name and description.
+   *
+   * @return up to {@code limit} product IDs, best matches first
+   */
+  public List<Long> searchProducts(String term, int limit) {
+    return products.search(term, limit);
+  }
+
+  /**
+   * Searches raw materials by code and name.
+   *
+   * @return up to {@code limit} raw material IDs, best matches first
+   */
+  public List<Long> searchRawMaterials(String term, int limit) {
+    return rawMaterials.search(term, limit);
+  }
+
+  @ActivateRequestContext
+  void onStart(@Observes StartupEvent event) {
+    if (!enabled) {
+      return;
+    }
+    long started = System.nanoTime();
+    try {
+      productRepository
+          .getEntityManager()
+          .createQuery(
+              "SELECT p.id, p.version, p.sku, p.name, p.description FROM ProductJpaEntity p",
+              Object[].class)
+          .getResultStream()
+          .forEach(row -> products.put(entry(row)));
+      rawMaterialRepository
+          .getEntityManager()
+          .createQuery(
+              "SELECT r.id, r.version, r.code, r.name FROM RawMaterialJpaEntity r", Object[].class)
+          .getResultStream()
+          .forEach(row -> rawMaterials.put(entry(row)));
+    } catch (RuntimeException e) {
+      LOG.warnf(e, "Could not load the catalog search index, searches will query the database");
+      return;
+    }
+    ready = true;
+    LOG.infof(
+        "Catalog search index loaded: %d products, %d raw materials in %d ms",
+        products.size(), rawMaterials.size(), (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /** Applies a catalog write to the indexes once its transaction has committed. */
+  void onCatalogChange(@Observes(during = TransactionPhase.AFTER_SUCCESS) CatalogChange change) {
+    if (!enabled) {
+      return;
+    }
+    switch (change) {
+      case CatalogChange.ProductChanged c -> products.put(entry(c.product()));
+      case CatalogChange.ProductsChanged c ->
+          c.products().forEach(product -> products.put(entry(product)));
+      case CatalogChange.ProductRemoved c -> products.remove(c.productId().value());
+      case CatalogChange.RawMaterialChanged c -> rawMaterials.put(entry(c.rawMaterial()));
+      case CatalogChange.RawMaterialsChanged c ->
+          c.rawMaterials().forEach(rawMaterial -> rawMaterials.put(entry(rawMaterial)));
+      case CatalogChange.RawMaterialRemoved c -> rawMaterials.remove(c.rawMaterialId().value());
+    }
+  }
+
+  /** Reads an (id, version, key, name[, description]) projection row. */
+  private static TrigramIndex.Entry entry(Object[] row) {
+    String description = row.length > 4 ? (String) row[4] : null;
+    return TrigramIndex.Entry.of(
+        (Long) row[0], (Long) row[1], (String) row[2], (String) row[3], description);
+  }
+
+  private static TrigramIndex.Entry entry(Product product) {
+    return TrigramIndex.Entry.of(
+        product.getId().value(),
+        product.getVersion(),
+        product.getSku(),
+        product.getName(),
+        product.getDescription());
+  }
+
+  private static TrigramIndex.Entry entry(RawMaterial rawMaterial) {
+    return TrigramIndex.Entry.of(
+        rawMaterial.getId().value(),
+        rawMaterial.getVersion(),
+        rawMaterial.getCode(),
+        rawMaterial.getName(),
+        null);
+  }
+}
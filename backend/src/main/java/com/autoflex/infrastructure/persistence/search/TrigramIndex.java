@@ -0,0 +1,237 @@
+package com.autoflex.infrastructure.persistence.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TrigramIndex - In-memory search index over one kind of catalog entry, answering the same ranked
+ * searches as the SQL path without touching the database.
+ *
+ * <p>Entries are kept in three structures: sorted by key (SKU or code), sorted by name, and an
+ * inverted index from every three-character sequence (trigram) of key, name and description to the
+ * IDs containing it. A search returns, in rank order:
+ *
+ * <ol>
+ *   <li>key prefix matches, in key order
+ *   <li>name prefix matches, in name order
+ *   <li>entries containing the term anywhere in name, key or description (terms of three or more
+ *       characters): the posting lists of the term's trigrams are intersected, smallest first, and
+ *       the survivors checked for the actual substring
+ * </ol>
+ *
+ * <p>Matching is case-insensitive. Updates carry the entry's version, so a change applied out of
+ * order cannot replace newer state. Safe for concurrent use; searches share a read lock.
+ */
+public final class TrigramIndex {
+
+  private static final int GRAM = 3;
+
+  // Name first, then ID, like the SQL name query
+  private static final Comparator<Entry> BY_NAME =
+      Comparator.comparing(Entry::name).thenComparingLong(Entry::id);
+
+  private final Map<Long, Entry> entries = new HashMap<>();
+  private final NavigableMap<String, Long> byKey = new TreeMap<>();
+  private final TreeSet<Entry> byName = new TreeSet<>(BY_NAME);
+  private final Map<Long, Set<Long>> postings = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  /**
+   * An indexed entry. Text fields are normalized to upper case.
+   *
+   * @param id the entity ID
+   * @param version the entity version, null if unknown
+   * @param key the SKU or code
+   * @param name the name
+   * @param description the description, empty if none
+   */
+  public record Entry(long id, Long version, String key, String name, String description) {
+
+    public static Entry of(long id, Long version, String key, String name, String description) {
+      return new Entry(id, version, normalize(key), normalize(name), normalize(description));
+    }
+
+    boolean isOlderThan(Entry other) {
+      return version != null && other.version != null && version < other.version;
+    }
+  }
+
+  /**
+   * Adds or replaces an entry, unless the indexed entry has a newer version.
+   *
+   * @param entry the entry
+   */
+  public void put(Entry entry) {
+    lock.writeLock().lock();
+    try {
+      Entry current = entries.get(entry.id());
+      if (current != null) {
+        if (entry.isOlderThan(current)) {
+          return;
+        }
+        unlink(current);
+      }
+      entries.put(entry.id(), entry);
+      if (!entry.key().isEmpty()) {
+        byKey.put(entry.key(), entry.id());
+      }
+      byName.add(entry);
+      for (long gram : trigrams(entry)) {
+        postings.computeIfAbsent(gram, g -> new HashSet<>()).add(entry.id());
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes an entry, if indexed.
+   *
+   * @param id the entity ID
+   */
+  public void remove(long id) {
+    lock.writeLock().lock();
+    try {
+      Entry current = entries.remove(id);
+      if (current != null) {
+        unlink(current);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Returns the number of indexed entries. */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Searches the index.
+   *
+   * @param term the search term
+   * @param limit the maximum number of results
+   * @return up to {@code limit} entity IDs, best matches first
+   */
+  public List<Long> search(String term, int limit) {
+    String normalized = normalize(term).trim();
+    Set<Long> ranked = new LinkedHashSet<>();
+    if (normalized.isEmpty() || limit < 1) {
+      return List.of();
+    }
+    lock.readLock().lock();
+    try {
+      for (Long id :
+          byKey.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+        if (!add(ranked, id, limit)) {
+          return List.copyOf(ranked);
+        }
+      }
+      Entry from = new Entry(Long.MIN_VALUE, null, "", normalized, "");
+      Entry to = new Entry(Long.MIN_VALUE, null, "", normalized + Character.MAX_VALUE, "");
+      for (Entry entry : byName.subSet(from, true, to, false)) {
+        if (!add(ranked, entry.id(), limit)) {
+          return List.copyOf(ranked);
+        }
+      }
+      if (normalized.length() >= GRAM) {
+        for (Entry entry : containing(normalized)) {
+          if (!add(ranked, entry.id(), limit)) {
+            break;
+          }
+        }
+      }
+      return List.copyOf(ranked);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static boolean add(Set<Long> ranked, Long id, int limit) {
+    ranked.add(id);
+    return ranked.size() < limit;
+  }
+
+  /** Entries containing the term, name matches before key and description matches. */
+  private List<Entry> containing(String term) {
+    List<Set<Long>> lists = new ArrayList<>();
+    for (long gram : trigrams(term, new HashSet<>())) {
+      Set<Long> ids = postings.get(gram);
+      if (ids == null) {
+        return List.of();
+      }
+      lists.add(ids);
+    }
+    lists.sort(Comparator.comparingInt(Set::size));
+
+    List<Entry> matches = new ArrayList<>();
+    Set<Long> smallest = lists.get(0);
+    List<Set<Long>> others = lists.subList(1, lists.size());
+    for (Long id : smallest) {
+      if (others.stream().allMatch(ids -> ids.contains(id))) {
+        Entry entry = entries.get(id);
+        // Trigrams can all occur without the term occurring as a whole
+        if (entry.name().contains(term)
+            || entry.key().contains(term)
+            || entry.description().contains(term)) {
+          matches.add(entry);
+        }
+      }
+    }
+    matches.sort(
+        Comparator.comparing((Entry entry) -> !entry.name().contains(term)).thenComparing(BY_NAME));
+    return matches;
+  }
+
+  private void unlink(Entry entry) {
+    if (!entry.key().isEmpty()) {
+      byKey.remove(entry.key(), entry.id());
+    }
+    byName.remove(entry);
+    for (long gram : trigrams(entry)) {
+      Set<Long> ids = postings.get(gram);
+      if (ids != null && ids.remove(entry.id()) && ids.isEmpty()) {
+        postings.remove(gram);
+      }
+    }
+  }
+
+  private static Set<Long> trigrams(Entry entry) {
+    // Per field, so no trigram spans two fields
+    Set<Long> grams = new HashSet<>();
+    trigrams(entry.key(), grams);
+    trigrams(entry.name(), grams);
+    trigrams(entry.description(), grams);
+    return grams;
+  }
+
+  private static Set<Long> trigrams(String text, Set<Long> grams) {
+    for (int i = 0; i + GRAM <= text.length(); i++) {
+      // Three UTF-16 units packed into one long
+      grams.add(
+          ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+    }
+    return grams;
+  }
+
+  private static String normalize(String text) {
+    return text != null ? text.toUpperCase(Locale.ROOT) : "";
+  }
+}
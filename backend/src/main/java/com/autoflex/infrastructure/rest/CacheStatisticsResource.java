@@ -0,0 +1,73 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.infrastructure.rest.dto.CacheRegionResponse;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * CacheStatisticsResource - Per-region hit ratios of the Hibernate second-level and query caches,
+ * for tuning the region sizes and idle times in application.properties. The same counters are
+ * published as {@code hibernate.second.level.cache.*} metrics.
+ */
+@Path("/api/v1/cache")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Cache", description = "Second-level cache statistics")
+public class CacheStatisticsResource {
+
+  private final SessionFactory sessionFactory;
+
+  @Inject
+  public CacheStatisticsResource(SessionFactory sessionFactory) {
+    this.sessionFactory = sessionFactory;
+  }
+
+  @GET
+  @Path("/regions")
+  @Operation(
+      summary = "List cache regions",
+      description =
+          "Hits, misses, puts, hit ratio and size of every second-level cache region since "
+              + "startup")
+  public List<CacheRegionResponse> listRegions() {
+    Statistics statistics = sessionFactory.getStatistics();
+    List<CacheRegionResponse> regions = new ArrayList<>();
+    String[] names = statistics.getSecondLevelCacheRegionNames();
+    Arrays.sort(names);
+    for (String name : names) {
+      if (name.endsWith(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+        // Bookkeeping for query cache invalidation, not a cache of results
+        continue;
+      }
+      CacheRegionStatistics query = statistics.getQueryRegionStatistics(name);
+      regions.add(
+          query != null
+              ? toResponse(name, "QUERY", query)
+              : toResponse(name, "ENTITY", statistics.getDomainDataRegionStatistics(name)));
+    }
+    return regions;
+  }
+
+  private static CacheRegionResponse toResponse(
+      String name, String kind, CacheRegionStatistics statistics) {
+    return new CacheRegionResponse(
+        name,
+        kind,
+        statistics.getHitCount(),
+        statistics.getMissCount(),
+        statistics.getPutCount(),
+        // Negative when the cache provider does not report it
+        Math.max(-1, statistics.getElementCountInMemory()));
+  }
+}
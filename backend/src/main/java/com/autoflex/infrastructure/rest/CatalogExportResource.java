@@ -0,0 +1,141 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.port.in.ProductUseCase;
+import com.autoflex.domain.port.in.RawMaterialUseCase;
+import com.autoflex.infrastructure.rest.dto.BillOfMaterialRowResponse;
+import com.autoflex.infrastructure.rest.mapper.ProductRestMapper;
+import com.autoflex.infrastructure.rest.mapper.RawMaterialRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * CatalogExportResource - Streaming NDJSON export of the catalog for bulk consumers (e.g. data
+ * warehouse syncs).
+ *
+ * <p>Each endpoint writes one JSON document per line as rows are read from a database cursor, so
+ * memory use stays flat regardless of catalog size. The row format matches the regular JSON API.
+ */
+@Path("/api/v1/export")
+@Produces(CatalogExportResource.APPLICATION_NDJSON)
+@Tag(name = "Export", description = "Streaming catalog export (newline-delimited JSON)")
+@RunOnVirtualThread
+public class CatalogExportResource {
+
+  static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ProductUseCase productUseCase;
+  private final RawMaterialUseCase rawMaterialUseCase;
+  private final ProductRestMapper productMapper;
+  private final RawMaterialRestMapper rawMaterialMapper;
+  private final ObjectMapper objectMapper;
+
+  @Inject
+  public CatalogExportResource(
+      ProductUseCase productUseCase,
+      RawMaterialUseCase rawMaterialUseCase,
+      ProductRestMapper productMapper,
+      RawMaterialRestMapper rawMaterialMapper,
+      ObjectMapper objectMapper) {
+    this.productUseCase = productUseCase;
+    this.rawMaterialUseCase = rawMaterialUseCase;
+    this.productMapper = productMapper;
+    this.rawMaterialMapper = rawMaterialMapper;
+    this.objectMapper = objectMapper;
+  }
+
+  @GET
+  @Path("/products")
+  @Operation(
+      summary = "Export products",
+      description = "Streams every product with its bill of materials, one JSON object per line")
+  public StreamingOutput exportProducts(
+      @QueryParam("includeInactive") @DefaultValue("true") boolean includeInactive) {
+    return output -> {
+      NdjsonWriter writer = new NdjsonWriter(output);
+      productUseCase.exportProducts(
+          includeInactive, product -> writer.write(productMapper.toResponse(product)));
+      writer.flush();
+    };
+  }
+
+  @GET
+  @Path("/raw-materials")
+  @Operation(
+      summary = "Export raw materials",
+      description = "Streams every raw material, one JSON object per line")
+  public StreamingOutput exportRawMaterials(
+      @QueryParam("includeInactive") @DefaultValue("true") boolean includeInactive) {
+    return output -> {
+      NdjsonWriter writer = new NdjsonWriter(output);
+      rawMaterialUseCase.exportRawMaterials(
+          includeInactive, rawMaterial -> writer.write(rawMaterialMapper.toResponse(rawMaterial)));
+      writer.flush();
+    };
+  }
+
+  @GET
+  @Path("/bill-of-materials")
+  @Operation(
+      summary = "Export bill of materials rows",
+      description =
+          "Streams every product/raw material BOM row, then every product/component product row,"
+              + " one JSON object per line")
+  public StreamingOutput exportBillOfMaterials() {
+    return output -> {
+      NdjsonWriter writer = new NdjsonWriter(output);
+      productUseCase.exportBillOfMaterials(
+          (productId, item) ->
+              writer.write(
+                  BillOfMaterialRowResponse.ofMaterial(
+                      productId.value(), item.rawMaterialId().value(), item.quantityRequired())),
+          (productId, component) ->
+              writer.write(
+                  BillOfMaterialRowResponse.ofComponent(
+                      productId.value(),
+                      component.componentId().value(),
+                      component.quantityRequired())));
+      writer.flush();
+    };
+  }
+
+  /** Writes one document per line through a fixed-size buffer. */
+  private final class NdjsonWriter {
+
+    private final OutputStream output;
+    private final ObjectWriter jsonWriter;
+
+    NdjsonWriter(OutputStream output) {
+      this.output = new BufferedOutputStream(output, BUFFER_SIZE);
+      this.jsonWriter = objectMapper.writer();
+    }
+
+    void write(Object row) {
+      try {
+        output.write(jsonWriter.writeValueAsBytes(row));
+        output.write('\n');
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    void flush() throws IOException {
+      output.flush();
+    }
+  }
+}
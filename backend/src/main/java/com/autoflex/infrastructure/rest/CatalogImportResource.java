@@ -0,0 +1,89 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.port.in.CatalogImportUseCase;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ImportReport;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ImportRow;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ProductImport;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import com.autoflex.infrastructure.rest.dto.ImportReportResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import java.io.InputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * CatalogImportResource - Bulk creation of raw materials and products from CSV or NDJSON uploads.
+ *
+ * <p>The request body is parsed while it is read and written in chunks, so uploads of any size run
+ * in bounded memory. Rejected rows are reported in the response; they never abort the import.
+ */
+@Path("/api/v1/import")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes({CatalogImportRows.TEXT_CSV, CatalogExportResource.APPLICATION_NDJSON})
+@Tag(name = "Import", description = "Bulk catalog import (CSV or newline-delimited JSON)")
+@RunOnVirtualThread
+public class CatalogImportResource {
+
+  private final CatalogImportUseCase catalogImportUseCase;
+  private final CatalogImportRows rows;
+
+  @Inject
+  public CatalogImportResource(
+      CatalogImportUseCase catalogImportUseCase, ObjectMapper objectMapper) {
+    this.catalogImportUseCase = catalogImportUseCase;
+    this.rows = new CatalogImportRows(objectMapper);
+  }
+
+  @POST
+  @Path("/raw-materials")
+  @Operation(
+      summary = "Import raw materials",
+      description =
+          "Creates raw materials from a CSV (header: name,description,code,unit,stockQuantity,"
+              + "unitCost) or NDJSON upload. Rows with an existing code are rejected.")
+  public ImportReportResponse importRawMaterials(
+      @HeaderParam(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+    try (Stream<ImportRow<CreateRawMaterialCommand>> parsed =
+        rows.rawMaterials(body, contentType)) {
+      return toResponse(catalogImportUseCase.importRawMaterials(parsed));
+    }
+  }
+
+  @POST
+  @Path("/products")
+  @Operation(
+      summary = "Import products",
+      description =
+          "Creates products with their bill of materials from a CSV (header: name,description,sku,"
+              + "unitPrice,stockQuantity,materials with materials as CODE:quantity;CODE:quantity) "
+              + "or NDJSON upload. BOM entries reference raw materials by code.")
+  public ImportReportResponse importProducts(
+      @HeaderParam(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream body) {
+    try (Stream<ImportRow<ProductImport>> parsed = rows.products(body, contentType)) {
+      return toResponse(catalogImportUseCase.importProducts(parsed));
+    }
+  }
+
+  private static ImportReportResponse toResponse(ImportReport report) {
+    return new ImportReportResponse(
+        report.processed(),
+        report.imported(),
+        report.failed(),
+        report.errors().stream()
+            .map(
+                error ->
+                    new ImportReportResponse.RowError(error.line(), error.key(), error.message()))
+            .collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,300 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ImportRow;
+import com.autoflex.domain.port.in.CatalogImportUseCase.MaterialReference;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ProductImport;
+import com.autoflex.domain.port.in.ProductUseCase.CreateProductCommand;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.ws.rs.core.MediaType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses import uploads lazily into rows for {@link
+ * com.autoflex.domain.port.in.CatalogImportUseCase}.
+ *
+ * <p>CSV (with a header record) and NDJSON use the same camelCase field names as the JSON API. A
+ * product's {@code materials} is an array of {@code {rawMaterialCode, quantityRequired}} in NDJSON
+ * and a {@code CODE:quantity;CODE:quantity} list in CSV. Rows that cannot be parsed become invalid
+ * rows instead of failing the upload.
+ */
+final class CatalogImportRows {
+
+  static final String TEXT_CSV = "text/csv";
+
+  private final ObjectReader jsonReader;
+
+  CatalogImportRows(ObjectMapper objectMapper) {
+    this.jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+  }
+
+  Stream<ImportRow<CreateRawMaterialCommand>> rawMaterials(InputStream body, MediaType type) {
+    return records(body, type).map(record -> convert(record, CatalogImportRows::toRawMaterial));
+  }
+
+  Stream<ImportRow<ProductImport>> products(InputStream body, MediaType type) {
+    return records(body, type).map(record -> convert(record, CatalogImportRows::toProduct));
+  }
+
+  // =========================================================================
+  // ROW CONVERSION
+  // =========================================================================
+
+  private static <T> ImportRow<T> convert(Record record, Function<JsonNode, T> converter) {
+    if (record.error() != null) {
+      return ImportRow.invalid(record.line(), record.error());
+    }
+    try {
+      return ImportRow.of(record.line(), converter.apply(record.fields()));
+    } catch (IllegalArgumentException e) {
+      return ImportRow.invalid(record.line(), e.getMessage());
+    }
+  }
+
+  private static CreateRawMaterialCommand toRawMaterial(JsonNode row) {
+    return new CreateRawMaterialCommand(
+        text(row, "name"),
+        text(row, "description"),
+        text(row, "code"),
+        unit(row),
+        decimal(row, "stockQuantity"),
+        decimal(row, "unitCost"));
+  }
+
+  private static ProductImport toProduct(JsonNode row) {
+    CreateProductCommand product =
+        new CreateProductCommand(
+            text(row, "name"),
+            text(row, "description"),
+            text(row, "sku"),
+            decimal(row, "unitPrice"),
+            integer(row, "stockQuantity"));
+    return new ProductImport(product, materials(row.get("materials")));
+  }
+
+  private static List<MaterialReference> materials(JsonNode node) {
+    List<MaterialReference> materials = new ArrayList<>();
+    if (node == null || node.isNull()) {
+      return materials;
+    }
+    if (node.isArray()) {
+      for (JsonNode item : node) {
+        materials.add(
+            new MaterialReference(
+                text(item, "rawMaterialCode"), decimal(item, "quantityRequired")));
+      }
+      return materials;
+    }
+    for (String entry : node.asText().split(";")) {
+      if (entry.isBlank()) {
+        continue;
+      }
+      int separator = entry.lastIndexOf(':');
+      if (separator < 0) {
+        throw new IllegalArgumentException(
+            "Malformed materials entry '" + entry.trim() + "', expected CODE:quantity");
+      }
+      materials.add(
+          new MaterialReference(
+              entry.substring(0, separator).trim(),
+              parseDecimal("quantityRequired", entry.substring(separator + 1))));
+    }
+    return materials;
+  }
+
+  private static String text(JsonNode row, String field) {
+    JsonNode node = row.get(field);
+    return node == null || node.isNull() ? null : node.asText();
+  }
+
+  private static BigDecimal decimal(JsonNode row, String field) {
+    JsonNode node = row.get(field);
+    if (node == null || node.isNull()) {
+      return null;
+    }
+    return node.isNumber() ? node.decimalValue() : parseDecimal(field, node.asText());
+  }
+
+  private static BigDecimal parseDecimal(String field, String value) {
+    try {
+      return new BigDecimal(value.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(field + " must be a number, got '" + value + "'");
+    }
+  }
+
+  private static Integer integer(JsonNode row, String field) {
+    BigDecimal value = decimal(row, field);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return value.intValueExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(field + " must be a whole number, got '" + value + "'");
+    }
+  }
+
+  private static MeasurementUnit unit(JsonNode row) {
+    String unit = text(row, "unit");
+    if (unit == null) {
+      return null;
+    }
+    try {
+      return MeasurementUnit.valueOf(unit.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown measurement unit '" + unit + "'");
+    }
+  }
+
+  // =========================================================================
+  // RECORD READING
+  // =========================================================================
+
+  /** A record of the upload as JSON fields, or why it could not be read. */
+  private record Record(long line, JsonNode fields, String error) {}
+
+  private Stream<Record> records(InputStream body, MediaType type) {
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 64 * 1024);
+    RecordSource source =
+        type != null && type.isCompatible(MediaType.valueOf(TEXT_CSV))
+            ? new CsvSource(new CsvReader(reader))
+            : new NdjsonSource(reader);
+    return StreamSupport.stream(
+            new Spliterators.AbstractSpliterator<Record>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+              @Override
+              public boolean tryAdvance(Consumer<? super Record> action) {
+                Record record;
+                try {
+                  record = source.next();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+                if (record == null) {
+                  return false;
+                }
+                action.accept(record);
+                return true;
+              }
+            },
+            false)
+        .onClose(
+            () -> {
+              try {
+                reader.close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  private interface RecordSource {
+
+    /** Returns the next record, or null at end of input. */
+    Record next() throws IOException;
+  }
+
+  private static final class CsvSource implements RecordSource {
+
+    private final CsvReader csv;
+    private List<String> header;
+    private boolean done;
+
+    CsvSource(CsvReader csv) {
+      this.csv = csv;
+    }
+
+    @Override
+    public Record next() throws IOException {
+      if (done) {
+        return null;
+      }
+      try {
+        if (header == null) {
+          header = csv.next();
+          if (header == null) {
+            return null;
+          }
+          // Spreadsheet exports often start with a byte order mark
+          header.set(0, header.get(0).replace("\uFEFF", ""));
+        }
+        List<String> values = csv.next();
+        if (values == null) {
+          return null;
+        }
+        if (values.size() != header.size()) {
+          return new Record(
+              csv.recordLine(),
+              null,
+              "Expected " + header.size() + " columns, found " + values.size());
+        }
+        ObjectNode fields = JsonNodeFactory.instance.objectNode();
+        for (int i = 0; i < header.size(); i++) {
+          if (!values.get(i).isEmpty()) {
+            fields.put(header.get(i), values.get(i));
+          }
+        }
+        return new Record(csv.recordLine(), fields, null);
+      } catch (IllegalArgumentException e) {
+        // An unterminated quote swallows the rest of the input
+        done = true;
+        return new Record(csv.recordLine(), null, e.getMessage());
+      }
+    }
+  }
+
+  private final class NdjsonSource implements RecordSource {
+
+    private final BufferedReader reader;
+    private long line;
+
+    NdjsonSource(BufferedReader reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public Record next() throws IOException {
+      String text;
+      do {
+        text = reader.readLine();
+        line++;
+      } while (text != null && text.isBlank());
+      if (text == null) {
+        return null;
+      }
+      try {
+        JsonNode fields = jsonReader.readTree(text);
+        if (!fields.isObject()) {
+          return new Record(line, null, "Expected a JSON object");
+        }
+        return new Record(line, fields, null);
+      } catch (JsonProcessingException e) {
+        return new Record(line, null, "Malformed JSON: " + e.getOriginalMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,114 @@
+package com.autoflex.infrastructure.rest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record per call, quoted fields may contain separators, doubled
+ * quotes and line breaks. Blank lines are skipped.
+ */
+final class CsvReader {
+
+  private final Reader reader;
+  private long line = 1;
+  private long recordLine;
+  private int pending = -2;
+
+  CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /** Line on which the record last returned by {@link #next()} started. */
+  long recordLine() {
+    return recordLine;
+  }
+
+  /**
+   * Reads the next record.
+   *
+   * @return the record's fields, or null at end of input
+   * @throws IllegalArgumentException if a quoted field is not closed
+   */
+  List<String> next() throws IOException {
+    int c = read();
+    while (c == '\r' || c == '\n') {
+      c = skipLineBreak(c);
+    }
+    if (c == -1) {
+      return null;
+    }
+    recordLine = line;
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean wasQuoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        if (c == '"') {
+          int following = read();
+          if (following == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = following;
+            continue;
+          }
+        } else {
+          if (c == '\n') {
+            line++;
+          }
+          field.append((char) c);
+        }
+      } else if (c == ',') {
+        fields.add(value(field, wasQuoted));
+        field.setLength(0);
+        wasQuoted = false;
+      } else if (c == '\r' || c == '\n' || c == -1) {
+        fields.add(value(field, wasQuoted));
+        if (c != -1) {
+          unread(skipLineBreak(c));
+        }
+        return fields;
+      } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+        quoted = true;
+        wasQuoted = true;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+  }
+
+  private static String value(StringBuilder field, boolean wasQuoted) {
+    return wasQuoted ? field.toString() : field.toString().trim();
+  }
+
+  /** Consumes a CR, LF or CRLF and returns the character after it. */
+  private int skipLineBreak(int c) throws IOException {
+    line++;
+    int following = read();
+    if (c == '\r' && following == '\n') {
+      following = read();
+    }
+    return following;
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    return reader.read();
+  }
+
+  private void unread(int c) {
+    pending = c;
+  }
+}
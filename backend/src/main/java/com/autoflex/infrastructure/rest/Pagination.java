@@ -0,0 +1,38 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageCursor;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+
+/**
+ * Pagination - Translates the {@code limit}/{@code sort}/{@code after} query parameters of list
+ * endpoints into a domain {@link PageRequest}, and a {@link Page} back into a response carrying the
+ * next cursor in the {@value #NEXT_CURSOR_HEADER} header.
+ */
+final class Pagination {
+
+  /** Response header holding the opaque cursor of the next page; absent on the last page. */
+  static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+  private Pagination() {
+    // Utility class - prevent instantiation
+  }
+
+  static PageRequest toPageRequest(Integer limit, String sort, String after) {
+    return new PageRequest(
+        limit != null ? limit : PageRequest.DEFAULT_LIMIT,
+        SortOrder.fromValue(sort),
+        after != null && !after.isBlank() ? PageCursor.decode(after) : null);
+  }
+
+  static <T> Response toResponse(Page<?> page, List<T> body) {
+    Response.ResponseBuilder response = Response.ok(body);
+    if (page.hasNext()) {
+      response.header(NEXT_CURSOR_HEADER, page.next().encode());
+    }
+    return response.build();
+  }
+}
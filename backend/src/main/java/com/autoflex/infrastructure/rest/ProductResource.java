@@ -1,14 +1,20 @@
 package com.autoflex.infrastructure.rest;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
 import com.autoflex.domain.model.product.Product;
 import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.port.in.ProductUseCase;
 import com.autoflex.infrastructure.rest.dto.BillOfMaterialItemRequest;
 import com.autoflex.infrastructure.rest.dto.BillOfMaterialItemResponse;
+import com.autoflex.infrastructure.rest.dto.DemandConstraintsRequest;
+import com.autoflex.infrastructure.rest.dto.ProductComponentRequest;
+import com.autoflex.infrastructure.rest.dto.ProductComponentResponse;
 import com.autoflex.infrastructure.rest.dto.ProductRequest;
 import com.autoflex.infrastructure.rest.dto.ProductResponse;
 import com.autoflex.infrastructure.rest.dto.UpdateMaterialQuantityRequest;
 import com.autoflex.infrastructure.rest.mapper.ProductRestMapper;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -28,6 +34,7 @@ import java.net.URI;
 import java.util.List;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.headers.Header;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
@@ -53,6 +60,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Products", description = "Product management operations")
+@RunOnVirtualThread
 public class ProductResource {
 
   private final ProductUseCase productUseCase;
@@ -65,29 +73,49 @@ public class ProductResource {
   }
 
   @GET
-  @Operation(summary = "List all products", description = "Retrieves a list of all active products")
+  @Operation(
+      summary = "List products",
+      description =
+          "Retrieves one page of active products (or all products with includeInactive). "
+              + "Pages are keyset-based: pass the X-Next-Cursor header of a response as 'after' "
+              + "to fetch the next page; the header is absent on the last page. "
+              + "With 'search', up to 'limit' matches on SKU and name are returned, best first: "
+              + "SKU prefix, name prefix, then names containing the term (unless "
+              + "autoflex.search.infix=off).")
   @APIResponse(
       responseCode = "200",
       description = "Products retrieved successfully",
+      headers =
+          @Header(
+              name = Pagination.NEXT_CURSOR_HEADER,
+              description = "Cursor of the next page",
+              schema = @Schema(type = SchemaType.STRING)),
       content =
           @Content(
               mediaType = MediaType.APPLICATION_JSON,
               schema = @Schema(type = SchemaType.ARRAY, implementation = ProductResponse.class)))
-  public List<ProductResponse> listProducts(
+  @APIResponse(responseCode = "400", description = "Invalid limit, sort or cursor")
+  public Response listProducts(
       @QueryParam("includeInactive") @DefaultValue("false") boolean includeInactive,
-      @QueryParam("search") String search) {
-
-    List<Product> products;
+      @QueryParam("search") String search,
+      @Parameter(description = "Page size (1-500, default 100)") @QueryParam("limit") Integer limit,
+      @Parameter(description = "Sort order: id (default), -id or name")
+          @QueryParam("sort")
+          @DefaultValue("id")
+          String sort,
+      @Parameter(description = "Cursor from the previous page's X-Next-Cursor header")
+          @QueryParam("after")
+          String after) {
 
     if (search != null && !search.isBlank()) {
-      products = productUseCase.searchProducts(search);
-    } else if (includeInactive) {
-      products = productUseCase.listAllProducts();
-    } else {
-      products = productUseCase.listActiveProducts();
+      List<Product> products =
+          productUseCase.searchProducts(search, limit != null ? limit : PageRequest.DEFAULT_LIMIT);
+      return Response.ok(products.stream().map(mapper::toResponse).toList()).build();
     }
 
-    return products.stream().map(mapper::toResponse).toList();
+    Page<Product> page =
+        productUseCase.listProducts(Pagination.toPageRequest(limit, sort, after), includeInactive);
+    return Pagination.toResponse(page, page.items().stream().map(mapper::toResponse).toList());
   }
 
   @GET
@@ -160,11 +188,37 @@ public class ProductResource {
     return mapper.toResponse(updated);
   }
 
+  @PUT
+  @Path("/{id}/demand")
+  @Operation(
+      summary = "Set demand constraints",
+      description =
+          "Sets the maximum demand and minimum batch that production planning applies to a"
+              + " product; omitted values clear the constraint")
+  @APIResponse(
+      responseCode = "200",
+      description = "Demand constraints updated successfully",
+      content = @Content(schema = @Schema(implementation = ProductResponse.class)))
+  @APIResponse(responseCode = "400", description = "Invalid constraints")
+  @APIResponse(responseCode = "404", description = "Product not found")
+  public ProductResponse updateDemandConstraints(
+      @Parameter(description = "Product ID", required = true) @PathParam("id") Long id,
+      @Valid DemandConstraintsRequest request) {
+
+    Product updated =
+        productUseCase.updateDemandConstraints(
+            ProductId.of(id), request.getMaxDemand(), request.getMinBatch());
+    return mapper.toResponse(updated);
+  }
+
   @DELETE
   @Path("/{id}")
   @Operation(summary = "Delete product", description = "Soft-deletes a product by deactivating it")
   @APIResponse(responseCode = "204", description = "Product deactivated successfully")
   @APIResponse(responseCode = "404", description = "Product not found")
+  @APIResponse(
+      responseCode = "409",
+      description = "Permanent delete of a product still used as a component")
   public Response deactivateProduct(
       @Parameter(description = "Product ID", required = true) @PathParam("id") Long id,
       @Parameter(description = "Permanently delete instead of soft-delete")
@@ -232,4 +286,51 @@ public class ProductResource {
     productUseCase.removeMaterialFromProduct(ProductId.of(id), rawMaterialId);
     return Response.noContent().build();
   }
+
+  @GET
+  @Path("/{id}/components")
+  @Operation(summary = "Get product's component products (sub-assemblies)")
+  public List<ProductComponentResponse> getProductComponents(@PathParam("id") Long id) {
+    Product product = productUseCase.getProductById(ProductId.of(id));
+    return product.getComponents().stream()
+        .map(
+            component ->
+                new ProductComponentResponse(
+                    component.componentId().value(), component.quantityRequired()))
+        .toList();
+  }
+
+  @POST
+  @Path("/{id}/components")
+  @Operation(summary = "Add component product to product BOM")
+  public ProductResponse addComponent(
+      @PathParam("id") Long id, @Valid ProductComponentRequest request) {
+    ProductUseCase.AddComponentCommand command =
+        new ProductUseCase.AddComponentCommand(
+            request.getComponentProductId(), request.getQuantityRequired());
+    Product updated = productUseCase.addComponentToProduct(ProductId.of(id), command);
+    return mapper.toResponse(updated);
+  }
+
+  @PUT
+  @Path("/{id}/components/{componentProductId}")
+  @Operation(summary = "Update component quantity in BOM")
+  public ProductResponse updateComponentQuantity(
+      @PathParam("id") Long id,
+      @PathParam("componentProductId") Long componentProductId,
+      @Valid UpdateMaterialQuantityRequest request) {
+    Product updated =
+        productUseCase.updateComponentQuantity(
+            ProductId.of(id), componentProductId, request.getQuantityRequired());
+    return mapper.toResponse(updated);
+  }
+
+  @DELETE
+  @Path("/{id}/components/{componentProductId}")
+  @Operation(summary = "Remove component product from product BOM")
+  public Response removeComponent(
+      @PathParam("id") Long id, @PathParam("componentProductId") Long componentProductId) {
+    productUseCase.removeComponentFromProduct(ProductId.of(id), componentProductId);
+    return Response.noContent().build();
+  }
 }
@@ -1,19 +1,41 @@
 package com.autoflex.infrastructure.rest;
 
 import com.autoflex.domain.model.production.ProductionPlan;
-import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ProductionJobUseCase;
+import com.autoflex.domain.port.in.ProductionJobUseCase.ProductionJob;
 import com.autoflex.domain.port.in.ProductionUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase.ScenarioPlans;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import com.autoflex.infrastructure.rest.dto.ProductionJobResponse;
 import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.autoflex.infrastructure.rest.dto.ScenarioBatchRequest;
+import com.autoflex.infrastructure.rest.dto.ScenarioBatchResponse;
+import com.autoflex.infrastructure.rest.mapper.ProductionRestMapper;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
+import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
-import java.math.BigDecimal;
-import java.util.Map;
-import java.util.stream.Collectors;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import java.util.Locale;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 /** REST resource for production planning operations. */
@@ -21,13 +43,21 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Production", description = "Production planning and calculation operations")
+@RunOnVirtualThread
 public class ProductionResource {
 
   private final ProductionUseCase productionUseCase;
+  private final ProductionJobUseCase productionJobUseCase;
+  private final ProductionRestMapper productionRestMapper;
 
   @Inject
-  public ProductionResource(ProductionUseCase productionUseCase) {
+  public ProductionResource(
+      ProductionUseCase productionUseCase,
+      ProductionJobUseCase productionJobUseCase,
+      ProductionRestMapper productionRestMapper) {
     this.productionUseCase = productionUseCase;
+    this.productionJobUseCase = productionJobUseCase;
+    this.productionRestMapper = productionRestMapper;
   }
 
   @POST
@@ -37,30 +67,129 @@ public class ProductionResource {
       description =
           "Uses the Greedy Algorithm to calculate which products can be produced "
               + "based on available raw material stock, prioritizing products with "
-              + "higher sales value (unit price).")
-  public ProductionPlanResponse calculateProductionPlan() {
-    ProductionPlan plan = productionUseCase.calculateProductionPlan();
-    return toResponse(plan);
+              + "higher sales value (unit price). With strategy=optimal, an integer-programming "
+              + "solver maximizes total production value within a time budget, falling back to "
+              + "the greedy plan if it cannot improve on it. The response carries an ETag for "
+              + "the catalog version; send it back in If-None-Match to get 304 Not Modified "
+              + "while nothing has changed.")
+  @APIResponse(
+      responseCode = "200",
+      description = "Plan calculated",
+      content = @Content(schema = @Schema(implementation = ProductionPlanResponse.class)))
+  @APIResponse(responseCode = "304", description = "Plan unchanged since the given ETag")
+  @APIResponse(responseCode = "400", description = "Invalid strategy")
+  public Response calculateProductionPlan(
+      @Parameter(description = "Planning algorithm: greedy (default) or optimal")
+          @QueryParam("strategy")
+          @DefaultValue("greedy")
+          String strategy,
+      @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
+    ProductionStrategy productionStrategy = ProductionStrategy.fromValue(strategy);
+    CacheControl cacheControl = new CacheControl();
+    cacheControl.setNoCache(true);
+    // Checked before planning, so an unchanged catalog costs no calculation. Compared directly:
+    // Request.evaluatePreconditions answers 412 instead of 304 for a POST
+    EntityTag current = planTag(productionStrategy, productionUseCase.currentCatalogVersion());
+    if (matchesAny(ifNoneMatch, current)) {
+      return Response.notModified(current).cacheControl(cacheControl).build();
+    }
+    VersionedProductionPlan versioned =
+        productionUseCase.calculateVersionedProductionPlan(productionStrategy);
+    ProductionPlan plan = versioned.plan();
+    return Response.ok(productionRestMapper.toResponse(plan))
+        .tag(planTag(productionStrategy, versioned.catalogVersion()))
+        .cacheControl(cacheControl)
+        .build();
   }
 
-  private ProductionPlanResponse toResponse(ProductionPlan plan) {
-    var items = plan.items().stream().map(this::toResponseItem).collect(Collectors.toList());
+  @POST
+  @Path("/scenarios")
+  @Operation(
+      summary = "Plan what-if scenarios",
+      description =
+          "Plans each scenario over the current catalog with its stock deltas, price overrides "
+              + "and product exclusions applied, without changing any stored data. The scenarios "
+              + "of a batch see the same catalog version and are planned in parallel; a scenario "
+              + "with no changes gives the current plan to compare against.")
+  @APIResponse(
+      responseCode = "200",
+      description = "Scenarios planned",
+      content = @Content(schema = @Schema(implementation = ScenarioBatchResponse.class)))
+  @APIResponse(
+      responseCode = "400",
+      description =
+          "Invalid strategy, too many scenarios, unknown product or raw material, or negative "
+              + "resulting stock")
+  public ScenarioBatchResponse evaluateScenarios(
+      @Parameter(description = "Planning algorithm: greedy (default) or optimal")
+          @QueryParam("strategy")
+          @DefaultValue("greedy")
+          String strategy,
+      @Valid ScenarioBatchRequest request) {
+    ProductionStrategy productionStrategy = ProductionStrategy.fromValue(strategy);
+    ScenarioPlans plans =
+        productionUseCase.evaluateScenarios(
+            productionRestMapper.toScenarios(request), productionStrategy);
+    return productionRestMapper.toResponse(plans);
+  }
+
+  @POST
+  @Path("/jobs")
+  @Operation(
+      summary = "Submit a production plan calculation",
+      description =
+          "Starts the calculation in the background and returns the job at once; poll the "
+              + "Location URL until the job is COMPLETED or FAILED. Submitting the same strategy "
+              + "again before the catalog changes returns the existing job.")
+  @APIResponse(responseCode = "202", description = "Job accepted")
+  @APIResponse(responseCode = "400", description = "Invalid strategy")
+  @APIResponse(responseCode = "503", description = "Too many jobs in progress")
+  public Response submitProductionJob(
+      @Parameter(description = "Planning algorithm: greedy (default) or optimal")
+          @QueryParam("strategy")
+          @DefaultValue("greedy")
+          String strategy) {
+    ProductionJob job = productionJobUseCase.submit(ProductionStrategy.fromValue(strategy));
+    return Response.accepted(productionRestMapper.toResponse(job))
+        .location(URI.create("/api/v1/production/jobs/" + job.id()))
+        .build();
+  }
 
-    Map<Long, BigDecimal> remainingStock =
-        plan.remainingStock().entrySet().stream()
-            .collect(Collectors.toMap(e -> e.getKey().value(), Map.Entry::getValue));
+  @GET
+  @Path("/jobs/{id}")
+  @Operation(
+      summary = "Get a production plan job",
+      description = "Returns the job state, and the plan once it has completed")
+  @APIResponse(responseCode = "200", description = "Job found")
+  @APIResponse(responseCode = "404", description = "Job not found or expired")
+  public ProductionJobResponse getProductionJob(
+      @Parameter(description = "Job ID", required = true) @PathParam("id") String id) {
+    return productionRestMapper.toResponse(productionJobUseCase.getJob(id));
+  }
 
-    return new ProductionPlanResponse(
-        items, plan.totalProductionValue(), plan.totalUnits(), remainingStock);
+  /** Entity tag of the plan for a strategy at a catalog version. */
+  private static EntityTag planTag(ProductionStrategy strategy, String catalogVersion) {
+    return new EntityTag(strategy.name().toLowerCase(Locale.ROOT) + "-" + catalogVersion);
   }
 
-  private ProductionPlanResponse.ProductionItem toResponseItem(ProductionPlanItem item) {
-    return new ProductionPlanResponse.ProductionItem(
-        item.productId().value(),
-        item.productName(),
-        item.productSku(),
-        item.quantity(),
-        item.unitPrice(),
-        item.totalValue());
+  /**
+   * Weak comparison of an If-None-Match header (a list of entity tags, or {@code *}) against the
+   * current entity tag.
+   */
+  private static boolean matchesAny(String ifNoneMatch, EntityTag etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    String current = "\"" + etag.getValue() + "\"";
+    for (String tag : ifNoneMatch.split(",")) {
+      String candidate = tag.strip();
+      if (candidate.startsWith("W/")) {
+        candidate = candidate.substring(2);
+      }
+      if (candidate.equals("*") || candidate.equals(current)) {
+        return true;
+      }
+    }
+    return false;
   }
 }
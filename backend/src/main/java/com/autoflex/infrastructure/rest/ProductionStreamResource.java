@@ -0,0 +1,59 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.port.in.ProductionStreamUseCase;
+import com.autoflex.domain.port.in.ProductionStreamUseCase.PlanSubscription;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.autoflex.infrastructure.rest.mapper.ProductionRestMapper;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.subscription.BackPressureStrategy;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+/**
+ * ProductionStreamResource - Server-Sent Events stream of the greedy production plan.
+ *
+ * <p>Kept apart from {@link ProductionResource} because it does not block: subscribing only
+ * registers a listener, and plans are calculated once on a shared background thread for all
+ * clients. A client that falls behind only receives the latest plan.
+ */
+@Path("/api/v1/production/stream")
+@Tag(name = "Production", description = "Production planning and calculation operations")
+public class ProductionStreamResource {
+
+  private final ProductionStreamUseCase productionStreamUseCase;
+  private final ProductionRestMapper productionRestMapper;
+
+  @Inject
+  public ProductionStreamResource(
+      ProductionStreamUseCase productionStreamUseCase, ProductionRestMapper productionRestMapper) {
+    this.productionStreamUseCase = productionStreamUseCase;
+    this.productionRestMapper = productionRestMapper;
+  }
+
+  @GET
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  @RestStreamElementType(MediaType.APPLICATION_JSON)
+  @Operation(
+      summary = "Stream the production plan",
+      description =
+          "Sends the current greedy production plan, then a new plan whenever committed stock "
+              + "or bill-of-materials changes alter it. Bursts of changes are coalesced into one "
+              + "update.")
+  public Multi<ProductionPlanResponse> streamProductionPlan() {
+    return Multi.createFrom()
+        .<VersionedProductionPlan>emitter(
+            emitter -> {
+              PlanSubscription subscription = productionStreamUseCase.subscribe(emitter::emit);
+              emitter.onTermination(subscription::cancel);
+            },
+            BackPressureStrategy.LATEST)
+        .map(versioned -> productionRestMapper.toResponse(versioned.plan()));
+  }
+}
@@ -1,12 +1,17 @@
 package com.autoflex.infrastructure.rest;
 
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.in.RawMaterialUseCase;
 import com.autoflex.infrastructure.rest.dto.RawMaterialRequest;
 import com.autoflex.infrastructure.rest.dto.RawMaterialResponse;
+import com.autoflex.infrastructure.rest.dto.StockAdjustmentBatchRequest;
+import com.autoflex.infrastructure.rest.dto.StockAdjustmentBatchResponse;
 import com.autoflex.infrastructure.rest.dto.StockAdjustmentRequest;
 import com.autoflex.infrastructure.rest.mapper.RawMaterialRestMapper;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.Consumes;
@@ -32,6 +37,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Raw Materials", description = "Raw material management operations")
+@RunOnVirtualThread
 public class RawMaterialResource {
 
   private final RawMaterialUseCase rawMaterialUseCase;
@@ -44,19 +50,29 @@ public class RawMaterialResource {
   }
 
   @GET
-  @Operation(summary = "List all raw materials")
-  public List<RawMaterialResponse> listRawMaterials(
+  @Operation(
+      summary = "List raw materials",
+      description =
+          "Retrieves one page of raw materials. Pass the X-Next-Cursor header of a response as "
+              + "'after' to fetch the next page. With 'search', up to 'limit' matches on code "
+              + "and name are returned, best first: code prefix, name prefix, then names "
+              + "containing the term (unless autoflex.search.infix=off).")
+  public Response listRawMaterials(
       @QueryParam("includeInactive") @DefaultValue("false") boolean includeInactive,
-      @QueryParam("search") String search) {
-    List<RawMaterial> rawMaterials;
+      @QueryParam("search") String search,
+      @QueryParam("limit") Integer limit,
+      @QueryParam("sort") @DefaultValue("id") String sort,
+      @QueryParam("after") String after) {
     if (search != null && !search.isBlank()) {
-      rawMaterials = rawMaterialUseCase.searchRawMaterials(search);
-    } else if (includeInactive) {
-      rawMaterials = rawMaterialUseCase.listAllRawMaterials();
-    } else {
-      rawMaterials = rawMaterialUseCase.listActiveRawMaterials();
+      List<RawMaterial> rawMaterials =
+          rawMaterialUseCase.searchRawMaterials(
+              search, limit != null ? limit : PageRequest.DEFAULT_LIMIT);
+      return Response.ok(rawMaterials.stream().map(mapper::toResponse).toList()).build();
     }
-    return rawMaterials.stream().map(mapper::toResponse).toList();
+    Page<RawMaterial> page =
+        rawMaterialUseCase.listRawMaterials(
+            Pagination.toPageRequest(limit, sort, after), includeInactive);
+    return Pagination.toResponse(page, page.items().stream().map(mapper::toResponse).toList());
   }
 
   @GET
@@ -98,6 +114,24 @@ public class RawMaterialResource {
     return mapper.toResponse(updated);
   }
 
+  @POST
+  @Path("/stock-adjustments")
+  @Operation(
+      summary = "Adjust stock of several raw materials",
+      description =
+          "Applies the lines in order. With atomic=true (default) any failing line rejects the "
+              + "whole batch with 422; with atomic=false the valid lines are committed. The body "
+              + "always carries the per-line results.")
+  public Response adjustStockBatch(@Valid StockAdjustmentBatchRequest request) {
+    RawMaterialUseCase.StockAdjustmentBatchResult result =
+        rawMaterialUseCase.adjustStockBatch(mapper.toBatchCommand(request));
+    StockAdjustmentBatchResponse body = mapper.toBatchResponse(result);
+    boolean rejected = request.isAtomic() && !result.committed() && body.getFailed() > 0;
+    return Response.status(rejected ? 422 : Response.Status.OK.getStatusCode())
+        .entity(body)
+        .build();
+  }
+
   @DELETE
   @Path("/{id}")
   @Operation(summary = "Delete or deactivate raw material")
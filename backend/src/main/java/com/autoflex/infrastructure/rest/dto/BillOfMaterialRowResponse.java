@@ -0,0 +1,67 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.math.BigDecimal;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Export row for one bill of materials entry: a product / raw material pair, or a product /
+ * component product pair. Exactly one of {@code rawMaterialId} and {@code componentProductId} is
+ * set.
+ */
+@Schema(
+    name = "BillOfMaterialRowResponse",
+    description = "Bill of materials row linking a product to a raw material or component product")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BillOfMaterialRowResponse {
+
+  @Schema(description = "Product ID", example = "1")
+  private Long productId;
+
+  @Schema(description = "Raw material ID; absent on component rows", example = "1")
+  private Long rawMaterialId;
+
+  @Schema(description = "Component product ID; absent on raw material rows", example = "2")
+  private Long componentProductId;
+
+  @Schema(
+      description = "Quantity of raw material or component needed per product unit",
+      example = "2.5")
+  private BigDecimal quantityRequired;
+
+  public BillOfMaterialRowResponse() {}
+
+  private BillOfMaterialRowResponse(
+      Long productId, Long rawMaterialId, Long componentProductId, BigDecimal quantityRequired) {
+    this.productId = productId;
+    this.rawMaterialId = rawMaterialId;
+    this.componentProductId = componentProductId;
+    this.quantityRequired = quantityRequired;
+  }
+
+  public static BillOfMaterialRowResponse ofMaterial(
+      Long productId, Long rawMaterialId, BigDecimal quantityRequired) {
+    return new BillOfMaterialRowResponse(productId, rawMaterialId, null, quantityRequired);
+  }
+
+  public static BillOfMaterialRowResponse ofComponent(
+      Long productId, Long componentProductId, BigDecimal quantityRequired) {
+    return new BillOfMaterialRowResponse(productId, null, componentProductId, quantityRequired);
+  }
+
+  public Long getProductId() {
+    return productId;
+  }
+
+  public Long getRawMaterialId() {
+    return rawMaterialId;
+  }
+
+  public Long getComponentProductId() {
+    return componentProductId;
+  }
+
+  public BigDecimal getQuantityRequired() {
+    return quantityRequired;
+  }
+}
@@ -0,0 +1,75 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body describing one second-level cache region. */
+@Schema(name = "CacheRegionResponse", description = "Statistics of a second-level cache region")
+public class CacheRegionResponse {
+
+  @Schema(
+      description = "Region name",
+      example = "com.autoflex.infrastructure.persistence.entity.RawMaterialJpaEntity")
+  private String region;
+
+  @Schema(
+      description = "Region kind",
+      enumeration = {"ENTITY", "QUERY"},
+      example = "ENTITY")
+  private String kind;
+
+  @Schema(description = "Lookups served from the region", example = "940")
+  private long hits;
+
+  @Schema(description = "Lookups that went to the database", example = "60")
+  private long misses;
+
+  @Schema(description = "Entries written to the region", example = "60")
+  private long puts;
+
+  @Schema(description = "hits / (hits + misses), 0 when unused", example = "0.94")
+  private double hitRatio;
+
+  @Schema(description = "Entries currently held in memory, -1 if not reported", example = "58")
+  private long size;
+
+  public CacheRegionResponse() {}
+
+  public CacheRegionResponse(
+      String region, String kind, long hits, long misses, long puts, long size) {
+    this.region = region;
+    this.kind = kind;
+    this.hits = hits;
+    this.misses = misses;
+    this.puts = puts;
+    this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    this.size = size;
+  }
+
+  public String getRegion() {
+    return region;
+  }
+
+  public String getKind() {
+    return kind;
+  }
+
+  public long getHits() {
+    return hits;
+  }
+
+  public long getMisses() {
+    return misses;
+  }
+
+  public long getPuts() {
+    return puts;
+  }
+
+  public double getHitRatio() {
+    return hitRatio;
+  }
+
+  public long getSize() {
+    return size;
+  }
+}
@@ -0,0 +1,36 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import jakarta.validation.constraints.Min;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Request body for setting a product's demand constraints. */
+@Schema(
+    name = "DemandConstraintsRequest",
+    description = "Request body for setting the demand constraints used by production planning")
+public class DemandConstraintsRequest {
+
+  @Min(value = 0, message = "Maximum demand cannot be negative")
+  @Schema(description = "Maximum units to plan; omit for no cap", example = "500")
+  private Integer maxDemand;
+
+  @Min(value = 1, message = "Minimum batch must be positive")
+  @Schema(description = "Minimum units per production run; omit for no minimum", example = "50")
+  private Integer minBatch;
+
+  // Getters and Setters
+  public Integer getMaxDemand() {
+    return maxDemand;
+  }
+
+  public void setMaxDemand(Integer maxDemand) {
+    this.maxDemand = maxDemand;
+  }
+
+  public Integer getMinBatch() {
+    return minBatch;
+  }
+
+  public void setMinBatch(Integer minBatch) {
+    this.minBatch = minBatch;
+  }
+}
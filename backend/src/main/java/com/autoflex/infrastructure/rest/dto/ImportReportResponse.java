@@ -0,0 +1,80 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body for a catalog import, with one entry per rejected row. */
+@Schema(name = "ImportReportResponse", description = "Outcome of a catalog import")
+public class ImportReportResponse {
+
+  @Schema(description = "Number of rows read from the upload", example = "1200")
+  private long processed;
+
+  @Schema(description = "Number of rows written to the catalog", example = "1198")
+  private long imported;
+
+  @Schema(description = "Number of rejected rows", example = "2")
+  private long failed;
+
+  @Schema(description = "Rejected rows, in upload order")
+  private List<RowError> errors;
+
+  public static class RowError {
+
+    @Schema(description = "Line of the upload the row came from (1-based)", example = "17")
+    private long line;
+
+    @Schema(description = "Code or SKU of the row, when known", example = "STEEL-001")
+    private String key;
+
+    @Schema(
+        description = "Why the row was rejected",
+        example = "Raw material with code 'STEEL-001' already exists")
+    private String message;
+
+    public RowError() {}
+
+    public RowError(long line, String key, String message) {
+      this.line = line;
+      this.key = key;
+      this.message = message;
+    }
+
+    public long getLine() {
+      return line;
+    }
+
+    public String getKey() {
+      return key;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+  }
+
+  public ImportReportResponse() {}
+
+  public ImportReportResponse(long processed, long imported, long failed, List<RowError> errors) {
+    this.processed = processed;
+    this.imported = imported;
+    this.failed = failed;
+    this.errors = errors;
+  }
+
+  public long getProcessed() {
+    return processed;
+  }
+
+  public long getImported() {
+    return imported;
+  }
+
+  public long getFailed() {
+    return failed;
+  }
+
+  public List<RowError> getErrors() {
+    return errors;
+  }
+}
@@ -0,0 +1,44 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Request body for adding a component product to a product's bill of materials. */
+@Schema(
+    name = "ProductComponentRequest",
+    description = "Request body for adding a component product to a product's BOM")
+public class ProductComponentRequest {
+
+  @NotNull(message = "Component product ID is required")
+  @Schema(description = "Component product ID", example = "2", required = true)
+  private Long componentProductId;
+
+  @NotNull(message = "Quantity required is required")
+  @DecimalMin(value = "0.0001", inclusive = true, message = "Quantity required must be positive")
+  @Digits(integer = 15, fraction = 4, message = "Quantity format is invalid")
+  @Schema(
+      description = "Quantity of the component needed to produce one unit of the product",
+      example = "4",
+      required = true)
+  private BigDecimal quantityRequired;
+
+  // Getters and Setters
+  public Long getComponentProductId() {
+    return componentProductId;
+  }
+
+  public void setComponentProductId(Long componentProductId) {
+    this.componentProductId = componentProductId;
+  }
+
+  public BigDecimal getQuantityRequired() {
+    return quantityRequired;
+  }
+
+  public void setQuantityRequired(BigDecimal quantityRequired) {
+    this.quantityRequired = quantityRequired;
+  }
+}
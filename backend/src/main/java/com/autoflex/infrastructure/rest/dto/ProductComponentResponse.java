@@ -0,0 +1,38 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import java.math.BigDecimal;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body for a component product in a bill of materials. */
+@Schema(name = "ProductComponentResponse", description = "Component product of a BOM")
+public class ProductComponentResponse {
+
+  @Schema(description = "Component product ID", example = "2")
+  private Long componentProductId;
+
+  @Schema(description = "Quantity of the component needed per product unit", example = "4")
+  private BigDecimal quantityRequired;
+
+  public ProductComponentResponse() {}
+
+  public ProductComponentResponse(Long componentProductId, BigDecimal quantityRequired) {
+    this.componentProductId = componentProductId;
+    this.quantityRequired = quantityRequired;
+  }
+
+  public Long getComponentProductId() {
+    return componentProductId;
+  }
+
+  public void setComponentProductId(Long componentProductId) {
+    this.componentProductId = componentProductId;
+  }
+
+  public BigDecimal getQuantityRequired() {
+    return quantityRequired;
+  }
+
+  public void setQuantityRequired(BigDecimal quantityRequired) {
+    this.quantityRequired = quantityRequired;
+  }
+}
@@ -41,9 +41,18 @@ public class ProductResponse {
   @Schema(description = "Last update timestamp")
   private LocalDateTime updatedAt;
 
+  @Schema(description = "Maximum units production planning may schedule", example = "500")
+  private Integer maxDemand;
+
+  @Schema(description = "Minimum units per production run", example = "50")
+  private Integer minBatch;
+
   @Schema(description = "Bill of materials (raw material requirements)")
   private List<BillOfMaterialItemResponse> materials;
 
+  @Schema(description = "Component products (sub-assemblies) consumed per unit")
+  private List<ProductComponentResponse> components;
+
   // Builder pattern for clean construction
 
   public static Builder builder() {
@@ -98,11 +107,26 @@ public class ProductResponse {
       return this;
     }
 
+    public Builder maxDemand(Integer maxDemand) {
+      response.maxDemand = maxDemand;
+      return this;
+    }
+
+    public Builder minBatch(Integer minBatch) {
+      response.minBatch = minBatch;
+      return this;
+    }
+
     public Builder materials(List<BillOfMaterialItemResponse> materials) {
       response.materials = materials;
       return this;
     }
 
+    public Builder components(List<ProductComponentResponse> components) {
+      response.components = components;
+      return this;
+    }
+
     public ProductResponse build() {
       return response;
     }
@@ -146,7 +170,19 @@ public class ProductResponse {
     return updatedAt;
   }
 
+  public Integer getMaxDemand() {
+    return maxDemand;
+  }
+
+  public Integer getMinBatch() {
+    return minBatch;
+  }
+
   public List<BillOfMaterialItemResponse> getMaterials() {
     return materials;
   }
+
+  public List<ProductComponentResponse> getComponents() {
+    return components;
+  }
 }
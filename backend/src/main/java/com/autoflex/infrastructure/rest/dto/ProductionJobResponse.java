@@ -0,0 +1,114 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import java.time.LocalDateTime;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body for a background production plan calculation. */
+@Schema(name = "ProductionJobResponse", description = "State of a production plan job")
+public class ProductionJobResponse {
+
+  @Schema(description = "Job ID", example = "3f2b9c1e-8a4d-4f7e-9c61-2d5e0b7a9f10")
+  private String id;
+
+  @Schema(
+      description = "Job state; poll until COMPLETED or FAILED",
+      enumeration = {"QUEUED", "RUNNING", "COMPLETED", "FAILED"},
+      example = "RUNNING")
+  private String status;
+
+  @Schema(description = "Planning algorithm", example = "greedy")
+  private String strategy;
+
+  @Schema(
+      description =
+          "Catalog version the plan was computed from, when completed; may be newer than the "
+              + "catalog at submission",
+      example = "lxk3v9qz.42")
+  private String catalogVersion;
+
+  @Schema(
+      description = "Calculation phase, while running",
+      enumeration = {"LOADING", "PLANNING"},
+      example = "PLANNING")
+  private String phase;
+
+  @Schema(description = "When the job was submitted")
+  private LocalDateTime submittedAt;
+
+  @Schema(description = "When the calculation started, once running")
+  private LocalDateTime startedAt;
+
+  @Schema(description = "When the calculation finished, once finished")
+  private LocalDateTime finishedAt;
+
+  @Schema(description = "The production plan, when completed")
+  private ProductionPlanResponse result;
+
+  @Schema(description = "Failure reason, when failed")
+  private String error;
+
+  public ProductionJobResponse() {}
+
+  public ProductionJobResponse(
+      String id,
+      String status,
+      String strategy,
+      String catalogVersion,
+      String phase,
+      LocalDateTime submittedAt,
+      LocalDateTime startedAt,
+      LocalDateTime finishedAt,
+      ProductionPlanResponse result,
+      String error) {
+    this.id = id;
+    this.status = status;
+    this.strategy = strategy;
+    this.catalogVersion = catalogVersion;
+    this.phase = phase;
+    this.submittedAt = submittedAt;
+    this.startedAt = startedAt;
+    this.finishedAt = finishedAt;
+    this.result = result;
+    this.error = error;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  public String getStrategy() {
+    return strategy;
+  }
+
+  public String getCatalogVersion() {
+    return catalogVersion;
+  }
+
+  public String getPhase() {
+    return phase;
+  }
+
+  public LocalDateTime getSubmittedAt() {
+    return submittedAt;
+  }
+
+  public LocalDateTime getStartedAt() {
+    return startedAt;
+  }
+
+  public LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  public ProductionPlanResponse getResult() {
+    return result;
+  }
+
+  public String getError() {
+    return error;
+  }
+}
@@ -0,0 +1,138 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Request body for planning several what-if scenarios in one call. */
+@Schema(
+    name = "ScenarioBatchRequest",
+    description = "What-if scenarios to plan over the current catalog without changing it")
+public class ScenarioBatchRequest {
+
+  @NotEmpty(message = "At least one scenario is required")
+  @Valid
+  @Schema(description = "Scenarios, planned independently of each other", required = true)
+  private List<Scenario> scenarios;
+
+  public static class Scenario {
+
+    @Size(max = 100, message = "Scenario name cannot exceed 100 characters")
+    @Schema(description = "Name to tell the scenario's plan apart", example = "steel-delivery")
+    private String name;
+
+    @Valid
+    @Schema(description = "Changes to raw material stock; deltas for the same material add up")
+    private List<StockDelta> stockDeltas;
+
+    @Valid
+    @Schema(description = "Unit prices to plan products at")
+    private List<PriceOverride> priceOverrides;
+
+    @Schema(description = "IDs of products to leave out of the plan", example = "[3]")
+    private List<@NotNull(message = "Excluded product ID is required") Long> excludedProductIds;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public List<StockDelta> getStockDeltas() {
+      return stockDeltas;
+    }
+
+    public void setStockDeltas(List<StockDelta> stockDeltas) {
+      this.stockDeltas = stockDeltas;
+    }
+
+    public List<PriceOverride> getPriceOverrides() {
+      return priceOverrides;
+    }
+
+    public void setPriceOverrides(List<PriceOverride> priceOverrides) {
+      this.priceOverrides = priceOverrides;
+    }
+
+    public List<Long> getExcludedProductIds() {
+      return excludedProductIds;
+    }
+
+    public void setExcludedProductIds(List<Long> excludedProductIds) {
+      this.excludedProductIds = excludedProductIds;
+    }
+  }
+
+  public static class StockDelta {
+
+    @NotNull(message = "Raw material ID is required")
+    @Schema(description = "Raw material ID", example = "1", required = true)
+    private Long rawMaterialId;
+
+    @NotNull(message = "Quantity is required")
+    @Schema(
+        description = "Quantity to add (positive) or remove (negative) from current stock",
+        example = "500.00",
+        required = true)
+    private BigDecimal quantity;
+
+    public Long getRawMaterialId() {
+      return rawMaterialId;
+    }
+
+    public void setRawMaterialId(Long rawMaterialId) {
+      this.rawMaterialId = rawMaterialId;
+    }
+
+    public BigDecimal getQuantity() {
+      return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+      this.quantity = quantity;
+    }
+  }
+
+  public static class PriceOverride {
+
+    @NotNull(message = "Product ID is required")
+    @Schema(description = "Product ID", example = "2", required = true)
+    private Long productId;
+
+    @NotNull(message = "Unit price is required")
+    @DecimalMin(value = "0.0", inclusive = true, message = "Unit price cannot be negative")
+    @Schema(description = "Unit price to plan the product at", example = "149.90", required = true)
+    private BigDecimal unitPrice;
+
+    public Long getProductId() {
+      return productId;
+    }
+
+    public void setProductId(Long productId) {
+      this.productId = productId;
+    }
+
+    public BigDecimal getUnitPrice() {
+      return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+      this.unitPrice = unitPrice;
+    }
+  }
+
+  public List<Scenario> getScenarios() {
+    return scenarios;
+  }
+
+  public void setScenarios(List<Scenario> scenarios) {
+    this.scenarios = scenarios;
+  }
+}
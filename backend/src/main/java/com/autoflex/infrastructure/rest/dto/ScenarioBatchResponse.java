@@ -0,0 +1,54 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body for a batch of what-if scenarios, with one plan per scenario. */
+@Schema(name = "ScenarioBatchResponse", description = "Production plans of what-if scenarios")
+public class ScenarioBatchResponse {
+
+  @Schema(description = "Catalog version every scenario was planned over", example = "1f2e.42")
+  private String catalogVersion;
+
+  @Schema(description = "Per-scenario plans, in request order")
+  private List<ScenarioResult> scenarios;
+
+  public static class ScenarioResult {
+
+    @Schema(description = "Scenario name, as given", example = "steel-delivery")
+    private String name;
+
+    @Schema(description = "Production plan under the scenario")
+    private ProductionPlanResponse plan;
+
+    public ScenarioResult() {}
+
+    public ScenarioResult(String name, ProductionPlanResponse plan) {
+      this.name = name;
+      this.plan = plan;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public ProductionPlanResponse getPlan() {
+      return plan;
+    }
+  }
+
+  public ScenarioBatchResponse() {}
+
+  public ScenarioBatchResponse(String catalogVersion, List<ScenarioResult> scenarios) {
+    this.catalogVersion = catalogVersion;
+    this.scenarios = scenarios;
+  }
+
+  public String getCatalogVersion() {
+    return catalogVersion;
+  }
+
+  public List<ScenarioResult> getScenarios() {
+    return scenarios;
+  }
+}
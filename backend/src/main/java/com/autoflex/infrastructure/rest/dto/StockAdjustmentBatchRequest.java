@@ -0,0 +1,74 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Request body for adjusting the stock of several raw materials in one call. */
+@Schema(
+    name = "StockAdjustmentBatchRequest",
+    description = "Request body for adjusting the stock of several raw materials at once")
+public class StockAdjustmentBatchRequest {
+
+  @Schema(
+      description =
+          "If true, any failing line rejects the whole batch; if false, valid lines are applied",
+      defaultValue = "true")
+  private boolean atomic = true;
+
+  @NotEmpty(message = "At least one adjustment line is required")
+  @Size(max = 1000, message = "A batch cannot contain more than 1000 lines")
+  @Valid
+  @Schema(description = "Adjustments, applied in order", required = true)
+  private List<Line> lines;
+
+  public static class Line {
+
+    @NotNull(message = "Raw material ID is required")
+    @Schema(description = "Raw material ID", example = "1", required = true)
+    private Long rawMaterialId;
+
+    @NotNull(message = "Quantity is required")
+    @Schema(
+        description = "Quantity to add (positive) or remove (negative) from current stock",
+        example = "-25.00",
+        required = true)
+    private BigDecimal quantity;
+
+    public Long getRawMaterialId() {
+      return rawMaterialId;
+    }
+
+    public void setRawMaterialId(Long rawMaterialId) {
+      this.rawMaterialId = rawMaterialId;
+    }
+
+    public BigDecimal getQuantity() {
+      return quantity;
+    }
+
+    public void setQuantity(BigDecimal quantity) {
+      this.quantity = quantity;
+    }
+  }
+
+  public boolean isAtomic() {
+    return atomic;
+  }
+
+  public void setAtomic(boolean atomic) {
+    this.atomic = atomic;
+  }
+
+  public List<Line> getLines() {
+    return lines;
+  }
+
+  public void setLines(List<Line> lines) {
+    this.lines = lines;
+  }
+}
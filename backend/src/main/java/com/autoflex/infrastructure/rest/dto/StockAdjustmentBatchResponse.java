@@ -0,0 +1,100 @@
+package com.autoflex.infrastructure.rest.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/** Response body for a batch stock adjustment, with one result per request line. */
+@Schema(name = "StockAdjustmentBatchResponse", description = "Outcome of a batch stock adjustment")
+public class StockAdjustmentBatchResponse {
+
+  @Schema(description = "Whether any stock change was persisted", example = "true")
+  private boolean committed;
+
+  @Schema(description = "Number of applied lines", example = "2")
+  private long applied;
+
+  @Schema(description = "Number of failed lines", example = "0")
+  private long failed;
+
+  @Schema(description = "Per-line results, in request order")
+  private List<LineResult> lines;
+
+  public static class LineResult {
+
+    @Schema(description = "Zero-based index of the line in the request", example = "0")
+    private int line;
+
+    @Schema(description = "Raw material ID", example = "1")
+    private Long rawMaterialId;
+
+    @Schema(
+        description = "Line outcome",
+        enumeration = {"APPLIED", "FAILED", "ROLLED_BACK"},
+        example = "APPLIED")
+    private String status;
+
+    @Schema(description = "Stock quantity after this line, when applied", example = "75.00")
+    private BigDecimal stockQuantity;
+
+    @Schema(description = "Failure reason, when failed")
+    private String error;
+
+    public LineResult() {}
+
+    public LineResult(
+        int line, Long rawMaterialId, String status, BigDecimal stockQuantity, String error) {
+      this.line = line;
+      this.rawMaterialId = rawMaterialId;
+      this.status = status;
+      this.stockQuantity = stockQuantity;
+      this.error = error;
+    }
+
+    public int getLine() {
+      return line;
+    }
+
+    public Long getRawMaterialId() {
+      return rawMaterialId;
+    }
+
+    public String getStatus() {
+      return status;
+    }
+
+    public BigDecimal getStockQuantity() {
+      return stockQuantity;
+    }
+
+    public String getError() {
+      return error;
+    }
+  }
+
+  public StockAdjustmentBatchResponse() {}
+
+  public StockAdjustmentBatchResponse(
+      boolean committed, long applied, long failed, List<LineResult> lines) {
+    this.committed = committed;
+    this.applied = applied;
+    this.failed = failed;
+    this.lines = lines;
+  }
+
+  public boolean isCommitted() {
+    return committed;
+  }
+
+  public long getApplied() {
+    return applied;
+  }
+
+  public long getFailed() {
+    return failed;
+  }
+
+  public List<LineResult> getLines() {
+    return lines;
+  }
+}
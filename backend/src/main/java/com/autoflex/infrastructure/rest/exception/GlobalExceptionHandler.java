@@ -1,6 +1,8 @@
 package com.autoflex.infrastructure.rest.exception;
 
+import com.autoflex.application.concurrency.ConcurrentUpdateException;
 import com.autoflex.domain.port.in.ProductUseCase;
+import com.autoflex.domain.port.in.ProductionJobUseCase;
 import com.autoflex.domain.port.in.RawMaterialUseCase;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
@@ -27,6 +29,10 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
       return buildErrorResponse(Response.Status.CONFLICT, exception.getMessage());
     }
 
+    if (exception instanceof ProductUseCase.ProductInUseException) {
+      return buildErrorResponse(Response.Status.CONFLICT, exception.getMessage());
+    }
+
     if (exception instanceof ProductUseCase.InsufficientStockException) {
       return buildErrorResponse(Response.Status.BAD_REQUEST, exception.getMessage());
     }
@@ -40,6 +46,20 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
       return buildErrorResponse(Response.Status.CONFLICT, exception.getMessage());
     }
 
+    // Production job exceptions
+    if (exception instanceof ProductionJobUseCase.ProductionJobNotFoundException) {
+      return buildErrorResponse(Response.Status.NOT_FOUND, exception.getMessage());
+    }
+
+    if (exception instanceof ProductionJobUseCase.ProductionJobsBusyException) {
+      return buildErrorResponse(Response.Status.SERVICE_UNAVAILABLE, exception.getMessage());
+    }
+
+    // Optimistic locking conflict that outlasted the retry budget
+    if (exception instanceof ConcurrentUpdateException) {
+      return buildErrorResponse(Response.Status.CONFLICT, exception.getMessage());
+    }
+
     if (exception instanceof IllegalArgumentException) {
       return buildErrorResponse(Response.Status.BAD_REQUEST, exception.getMessage());
     }
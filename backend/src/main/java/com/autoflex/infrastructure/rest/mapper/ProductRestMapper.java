@@ -3,6 +3,7 @@ package com.autoflex.infrastructure.rest.mapper;
 import com.autoflex.domain.model.product.Product;
 import com.autoflex.domain.port.in.ProductUseCase;
 import com.autoflex.infrastructure.rest.dto.BillOfMaterialItemResponse;
+import com.autoflex.infrastructure.rest.dto.ProductComponentResponse;
 import com.autoflex.infrastructure.rest.dto.ProductRequest;
 import com.autoflex.infrastructure.rest.dto.ProductResponse;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -32,6 +33,14 @@ public class ProductRestMapper {
                         bom.rawMaterialId().value(), bom.quantityRequired()))
             .collect(Collectors.toList());
 
+    List<ProductComponentResponse> components =
+        product.getComponents().stream()
+            .map(
+                component ->
+                    new ProductComponentResponse(
+                        component.componentId().value(), component.quantityRequired()))
+            .collect(Collectors.toList());
+
     return ProductResponse.builder()
         .id(product.getId() != null ? product.getId().value() : null)
         .name(product.getName())
@@ -42,7 +51,10 @@ public class ProductRestMapper {
         .active(product.isActive())
         .createdAt(product.getCreatedAt())
         .updatedAt(product.getUpdatedAt())
+        .maxDemand(product.getDemandConstraints().maxDemand())
+        .minBatch(product.getDemandConstraints().minBatch())
         .materials(materials)
+        .components(components)
         .build();
   }
 
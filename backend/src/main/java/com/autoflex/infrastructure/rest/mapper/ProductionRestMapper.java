@@ -0,0 +1,110 @@
+package com.autoflex.infrastructure.rest.mapper;
+
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.ProductionJobUseCase.ProductionJob;
+import com.autoflex.domain.port.in.ProductionUseCase.ScenarioPlans;
+import com.autoflex.infrastructure.rest.dto.ProductionJobResponse;
+import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.autoflex.infrastructure.rest.dto.ScenarioBatchRequest;
+import com.autoflex.infrastructure.rest.dto.ScenarioBatchResponse;
+import jakarta.enterprise.context.ApplicationScoped;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Maps between REST DTOs and domain objects for production planning. */
+@ApplicationScoped
+public class ProductionRestMapper {
+
+  /** Converts a domain ProductionPlan to an API response DTO. */
+  public ProductionPlanResponse toResponse(ProductionPlan plan) {
+    var items = plan.items().stream().map(this::toResponseItem).collect(Collectors.toList());
+
+    Map<Long, BigDecimal> remainingStock =
+        plan.remainingStock().entrySet().stream()
+            .collect(Collectors.toMap(e -> e.getKey().value(), Map.Entry::getValue));
+
+    return new ProductionPlanResponse(
+        items, plan.totalProductionValue(), plan.totalUnits(), remainingStock);
+  }
+
+  /** Converts a production job to an API response DTO, with its plan once completed. */
+  public ProductionJobResponse toResponse(ProductionJob job) {
+    return new ProductionJobResponse(
+        job.id(),
+        job.status().name(),
+        job.strategy().name().toLowerCase(Locale.ROOT),
+        job.catalogVersion(),
+        job.phase() != null ? job.phase().name() : null,
+        job.submittedAt(),
+        job.startedAt(),
+        job.finishedAt(),
+        job.plan() != null ? toResponse(job.plan()) : null,
+        job.error());
+  }
+
+  /**
+   * Converts a scenario batch request to domain scenarios. Stock deltas for the same raw material
+   * are added up; a product cannot have two price overrides.
+   */
+  public List<ProductionScenario> toScenarios(ScenarioBatchRequest request) {
+    return request.getScenarios().stream().map(this::toScenario).toList();
+  }
+
+  /** Converts the plans of a scenario batch to an API response DTO. */
+  public ScenarioBatchResponse toResponse(ScenarioPlans scenarioPlans) {
+    return new ScenarioBatchResponse(
+        scenarioPlans.catalogVersion(),
+        scenarioPlans.plans().stream()
+            .map(
+                scenarioPlan ->
+                    new ScenarioBatchResponse.ScenarioResult(
+                        scenarioPlan.name(), toResponse(scenarioPlan.plan())))
+            .toList());
+  }
+
+  private ProductionScenario toScenario(ScenarioBatchRequest.Scenario scenario) {
+    Map<RawMaterialId, BigDecimal> stockDeltas = new HashMap<>();
+    if (scenario.getStockDeltas() != null) {
+      for (ScenarioBatchRequest.StockDelta delta : scenario.getStockDeltas()) {
+        stockDeltas.merge(
+            RawMaterialId.of(delta.getRawMaterialId()), delta.getQuantity(), BigDecimal::add);
+      }
+    }
+    Map<ProductId, BigDecimal> priceOverrides = new HashMap<>();
+    if (scenario.getPriceOverrides() != null) {
+      for (ScenarioBatchRequest.PriceOverride override : scenario.getPriceOverrides()) {
+        ProductId productId = ProductId.of(override.getProductId());
+        if (priceOverrides.putIfAbsent(productId, override.getUnitPrice()) != null) {
+          throw new IllegalArgumentException(
+              "Product " + productId.value() + " has more than one price override");
+        }
+      }
+    }
+    Set<ProductId> excludedProducts = new HashSet<>();
+    if (scenario.getExcludedProductIds() != null) {
+      scenario.getExcludedProductIds().forEach(id -> excludedProducts.add(ProductId.of(id)));
+    }
+    return new ProductionScenario(
+        scenario.getName(), stockDeltas, priceOverrides, excludedProducts);
+  }
+
+  private ProductionPlanResponse.ProductionItem toResponseItem(ProductionPlanItem item) {
+    return new ProductionPlanResponse.ProductionItem(
+        item.productId().value(),
+        item.productName(),
+        item.productSku(),
+        item.quantity(),
+        item.unitPrice(),
+        item.totalValue());
+  }
+}
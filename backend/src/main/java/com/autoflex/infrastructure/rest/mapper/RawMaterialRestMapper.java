@@ -2,9 +2,12 @@ package com.autoflex.infrastructure.rest.mapper;
 
 import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.in.RawMaterialUseCase;
 import com.autoflex.infrastructure.rest.dto.RawMaterialRequest;
 import com.autoflex.infrastructure.rest.dto.RawMaterialResponse;
+import com.autoflex.infrastructure.rest.dto.StockAdjustmentBatchRequest;
+import com.autoflex.infrastructure.rest.dto.StockAdjustmentBatchResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.math.BigDecimal;
 
@@ -47,4 +50,34 @@ public class RawMaterialRestMapper {
         MeasurementUnit.valueOf(request.getUnit()),
         request.getUnitCost());
   }
+
+  public RawMaterialUseCase.AdjustStockBatchCommand toBatchCommand(
+      StockAdjustmentBatchRequest request) {
+    return new RawMaterialUseCase.AdjustStockBatchCommand(
+        request.getLines().stream()
+            .map(
+                line ->
+                    new RawMaterialUseCase.StockAdjustmentLine(
+                        RawMaterialId.of(line.getRawMaterialId()), line.getQuantity()))
+            .toList(),
+        request.isAtomic());
+  }
+
+  public StockAdjustmentBatchResponse toBatchResponse(
+      RawMaterialUseCase.StockAdjustmentBatchResult result) {
+    return new StockAdjustmentBatchResponse(
+        result.committed(),
+        result.countByStatus(RawMaterialUseCase.LineStatus.APPLIED),
+        result.countByStatus(RawMaterialUseCase.LineStatus.FAILED),
+        result.lines().stream()
+            .map(
+                line ->
+                    new StockAdjustmentBatchResponse.LineResult(
+                        line.line(),
+                        line.rawMaterialId().value(),
+                        line.status().name(),
+                        line.stockQuantity(),
+                        line.error()))
+            .toList());
+  }
 }
@@ -0,0 +1,140 @@
+package com.autoflex.infrastructure.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageCursor;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.ReactiveProductUseCase;
+import com.autoflex.domain.port.in.ReactiveProductionUseCase;
+import com.autoflex.domain.port.in.ReactiveRawMaterialUseCase;
+import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.autoflex.infrastructure.rest.dto.RawMaterialResponse;
+import com.autoflex.infrastructure.rest.mapper.ProductRestMapper;
+import com.autoflex.infrastructure.rest.mapper.ProductionRestMapper;
+import com.autoflex.infrastructure.rest.mapper.RawMaterialRestMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.ws.rs.core.Response;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ReactiveCatalogResource")
+@ExtendWith(MockitoExtension.class)
+class ReactiveCatalogResourceTest {
+
+  @Mock private ReactiveProductUseCase productUseCase;
+  @Mock private ReactiveRawMaterialUseCase rawMaterialUseCase;
+  @Mock private ReactiveProductionUseCase productionUseCase;
+
+  private ReactiveCatalogResource resource;
+
+  @BeforeEach
+  void setUp() {
+    resource =
+        new ReactiveCatalogResource(
+            productUseCase,
+            rawMaterialUseCase,
+            productionUseCase,
+            new ProductRestMapper(),
+            new RawMaterialRestMapper(),
+            new ProductionRestMapper());
+  }
+
+  private static RawMaterial rawMaterial(long id) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        new BigDecimal("100"),
+        BigDecimal.TEN,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  @Test
+  @DisplayName("should map the plan of POST /production/calculate")
+  void shouldCalculateProductionPlan() {
+    ProductionPlan plan =
+        new ProductionPlan(
+            List.of(
+                new ProductionPlanItem(
+                    ProductId.of(1L),
+                    "Table",
+                    "SKU-1",
+                    4,
+                    new BigDecimal("80"),
+                    new BigDecimal("320"))),
+            new BigDecimal("320"),
+            Map.of(RawMaterialId.of(1L), new BigDecimal("60")));
+    when(productionUseCase.calculateProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(Uni.createFrom().item(plan));
+
+    ProductionPlanResponse response =
+        resource.calculateProductionPlan("greedy").await().indefinitely();
+
+    assertThat(response.getTotalProductionValue()).isEqualByComparingTo("320");
+    assertThat(response.getTotalUnits()).isEqualTo(4);
+    assertThat(response.getRemainingStock()).containsEntry(1L, new BigDecimal("60"));
+  }
+
+  @Test
+  @DisplayName("should reject an unknown strategy before calling the use case")
+  void shouldRejectUnknownStrategy() {
+    assertThatThrownBy(() -> resource.calculateProductionPlan("fastest"))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(productionUseCase);
+  }
+
+  @Test
+  @DisplayName("should map GET /raw-materials/{id}")
+  void shouldGetRawMaterial() {
+    when(rawMaterialUseCase.getRawMaterialById(RawMaterialId.of(7L)))
+        .thenReturn(Uni.createFrom().item(rawMaterial(7)));
+
+    RawMaterialResponse response = resource.getRawMaterial(7L).await().indefinitely();
+
+    assertThat(response.getId()).isEqualTo(7L);
+    assertThat(response.getCode()).isEqualTo("RM-7");
+  }
+
+  @Test
+  @DisplayName("should page GET /raw-materials and pass on the next cursor")
+  void shouldListRawMaterialsWithCursor() {
+    PageCursor next = new PageCursor(SortOrder.ID_ASC, 2L, null);
+    when(rawMaterialUseCase.listRawMaterials(any(PageRequest.class), eq(false)))
+        .thenReturn(
+            Uni.createFrom().item(new Page<>(List.of(rawMaterial(1), rawMaterial(2)), next)));
+
+    Response response = resource.listRawMaterials(false, 2, "id", null).await().indefinitely();
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(response.getHeaderString(Pagination.NEXT_CURSOR_HEADER)).isEqualTo(next.encode());
+    assertThat((List<?>) response.getEntity()).hasSize(2);
+    verify(rawMaterialUseCase).listRawMaterials(new PageRequest(2, SortOrder.ID_ASC, null), false);
+  }
+}
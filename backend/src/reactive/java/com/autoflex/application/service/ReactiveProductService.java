@@ -0,0 +1,39 @@
+package com.autoflex.application.service;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.port.in.ProductUseCase.ProductNotFoundException;
+import com.autoflex.domain.port.in.ReactiveProductUseCase;
+import com.autoflex.domain.port.out.ReactiveProductRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/** ReactiveProductService - Application service implementing ReactiveProductUseCase. */
+@ApplicationScoped
+public class ReactiveProductService implements ReactiveProductUseCase {
+
+  private final ReactiveProductRepository productRepository;
+
+  @Inject
+  public ReactiveProductService(ReactiveProductRepository productRepository) {
+    this.productRepository = productRepository;
+  }
+
+  @Override
+  public Uni<Product> getProductById(ProductId id) {
+    return productRepository
+        .findById(id)
+        .map(product -> product.orElseThrow(() -> new ProductNotFoundException(id)));
+  }
+
+  @Override
+  public Uni<Page<Product>> listProducts(PageRequest pageRequest, boolean includeInactive) {
+    if (pageRequest == null) {
+      return Uni.createFrom().failure(new IllegalArgumentException("Page request cannot be null"));
+    }
+    return productRepository.findPage(pageRequest, includeInactive);
+  }
+}
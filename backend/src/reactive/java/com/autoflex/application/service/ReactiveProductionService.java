@@ -0,0 +1,77 @@
+package com.autoflex.application.service;
+
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ReactiveProductionUseCase;
+import com.autoflex.domain.port.out.ReactiveProductRepository;
+import com.autoflex.domain.port.out.ReactiveRawMaterialRepository;
+import com.autoflex.domain.service.BomExplosion;
+import com.autoflex.domain.service.OptimalProductionCalculator;
+import com.autoflex.domain.service.ProductionEngine;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+/**
+ * ReactiveProductionService - Application service implementing ReactiveProductionUseCase.
+ *
+ * <p>Reads the active catalog through the reactive repositories, one query after the other (a
+ * reactive session runs one operation at a time), then hands the calculation to the worker pool:
+ * a large greedy run, and any optimal run, would otherwise stall the event loop. Uses the same
+ * engine and optimizer bounds as {@link ProductionService}, without its incremental plan and
+ * cached BOM explosion, so every call reads the catalog and flattens multi-level BOMs afresh.
+ */
+@ApplicationScoped
+public class ReactiveProductionService implements ReactiveProductionUseCase {
+
+  private final ReactiveProductRepository productRepository;
+  private final ReactiveRawMaterialRepository rawMaterialRepository;
+  private final ProductionEngine engine;
+  private final Duration optimizerTimeBudget;
+  private final int optimizerNodeLimit;
+
+  @Inject
+  public ReactiveProductionService(
+      ReactiveProductRepository productRepository,
+      ReactiveRawMaterialRepository rawMaterialRepository,
+      @ConfigProperty(name = "autoflex.production.engine", defaultValue = "decimal")
+          ProductionEngine engine,
+      @ConfigProperty(name = "autoflex.production.optimizer.time-budget", defaultValue = "2S")
+          Duration optimizerTimeBudget,
+      @ConfigProperty(name = "autoflex.production.optimizer.node-limit", defaultValue = "50000")
+          int optimizerNodeLimit) {
+    this.productRepository = productRepository;
+    this.rawMaterialRepository = rawMaterialRepository;
+    this.engine = engine;
+    this.optimizerTimeBudget = optimizerTimeBudget;
+    this.optimizerNodeLimit = optimizerNodeLimit;
+  }
+
+  @Override
+  public Uni<ProductionPlan> calculateProductionPlan(ProductionStrategy strategy) {
+    if (strategy == null) {
+      return Uni.createFrom()
+          .failure(new IllegalArgumentException("Production strategy cannot be null"));
+    }
+    return productRepository
+        .findAllActiveWithMaterials()
+        .chain(
+            products ->
+                rawMaterialRepository
+                    .findAllActive()
+                    .emitOn(Infrastructure.getDefaultWorkerPool())
+                    .map(
+                        rawMaterials -> {
+                          var exploded = BomExplosion.of(products).explodeAll(products);
+                          return switch (strategy) {
+                            case GREEDY -> engine.calculate(exploded, rawMaterials);
+                            case OPTIMAL ->
+                                OptimalProductionCalculator.calculate(
+                                    exploded, rawMaterials, optimizerTimeBudget, optimizerNodeLimit);
+                          };
+                        }));
+  }
+}
@@ -0,0 +1,40 @@
+package com.autoflex.application.service;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.RawMaterialUseCase.RawMaterialNotFoundException;
+import com.autoflex.domain.port.in.ReactiveRawMaterialUseCase;
+import com.autoflex.domain.port.out.ReactiveRawMaterialRepository;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/** ReactiveRawMaterialService - Application service implementing ReactiveRawMaterialUseCase. */
+@ApplicationScoped
+public class ReactiveRawMaterialService implements ReactiveRawMaterialUseCase {
+
+  private final ReactiveRawMaterialRepository rawMaterialRepository;
+
+  @Inject
+  public ReactiveRawMaterialService(ReactiveRawMaterialRepository rawMaterialRepository) {
+    this.rawMaterialRepository = rawMaterialRepository;
+  }
+
+  @Override
+  public Uni<RawMaterial> getRawMaterialById(RawMaterialId id) {
+    return rawMaterialRepository
+        .findById(id)
+        .map(rawMaterial -> rawMaterial.orElseThrow(() -> new RawMaterialNotFoundException(id)));
+  }
+
+  @Override
+  public Uni<Page<RawMaterial>> listRawMaterials(
+      PageRequest pageRequest, boolean includeInactive) {
+    if (pageRequest == null) {
+      return Uni.createFrom().failure(new IllegalArgumentException("Page request cannot be null"));
+    }
+    return rawMaterialRepository.findPage(pageRequest, includeInactive);
+  }
+}
@@ -0,0 +1,33 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * ReactiveProductUseCase - Mutiny variants of the read operations of {@link ProductUseCase}.
+ *
+ * <p>Same semantics and failures as the blocking port, delivered as {@link Uni} failures instead
+ * of thrown exceptions.
+ */
+public interface ReactiveProductUseCase {
+
+  /**
+   * Retrieves a product by ID.
+   *
+   * @param id the product ID
+   * @return the product; fails with {@link ProductUseCase.ProductNotFoundException} if not found
+   */
+  Uni<Product> getProductById(ProductId id);
+
+  /**
+   * Lists one keyset page of products.
+   *
+   * @param pageRequest page size, sort order and the cursor to continue after
+   * @param includeInactive whether inactive products are included
+   * @return the page of products
+   */
+  Uni<Page<Product>> listProducts(PageRequest pageRequest, boolean includeInactive);
+}
@@ -0,0 +1,18 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import io.smallrye.mutiny.Uni;
+
+/** ReactiveProductionUseCase - Mutiny variant of {@link ProductionUseCase}. */
+public interface ReactiveProductionUseCase {
+
+  /**
+   * Calculates the production plan using the given strategy, from the catalog read without
+   * blocking. The calculation itself runs off the event loop.
+   *
+   * @param strategy the planning algorithm to use
+   * @return the resulting ProductionPlan; fails with IllegalArgumentException if strategy is null
+   */
+  Uni<ProductionPlan> calculateProductionPlan(ProductionStrategy strategy);
+}
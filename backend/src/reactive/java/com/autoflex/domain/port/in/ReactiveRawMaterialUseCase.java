@@ -0,0 +1,15 @@
+package com.autoflex.domain.port.in;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import io.smallrye.mutiny.Uni;
+
+/** ReactiveRawMaterialUseCase - Mutiny variants of the reads of {@link RawMaterialUseCase}. */
+public interface ReactiveRawMaterialUseCase {
+
+  Uni<RawMaterial> getRawMaterialById(RawMaterialId id);
+
+  Uni<Page<RawMaterial>> listRawMaterials(PageRequest pageRequest, boolean includeInactive);
+}
@@ -0,0 +1,43 @@
+package com.autoflex.domain.port.out;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReactiveProductRepository - Non-blocking output port for the product reads of {@link
+ * ProductRepository}.
+ *
+ * <p>Read-only: writes stay on the blocking port, whose transactions drive the catalog change
+ * events, caches and conflict retries. Returned products always carry their bill of materials.
+ */
+public interface ReactiveProductRepository {
+
+  /**
+   * Finds a product by ID.
+   *
+   * @param id the product ID
+   * @return the product, or empty if not found
+   */
+  Uni<Optional<Product>> findById(ProductId id);
+
+  /**
+   * Finds one keyset page of products.
+   *
+   * @param pageRequest page size, sort order and the cursor to continue after
+   * @param includeInactive whether inactive products are included
+   * @return the page, with the cursor of the next page if there is one
+   */
+  Uni<Page<Product>> findPage(PageRequest pageRequest, boolean includeInactive);
+
+  /**
+   * Finds all active products with their bill of materials.
+   *
+   * @return the active products
+   */
+  Uni<List<Product>> findAllActiveWithMaterials();
+}
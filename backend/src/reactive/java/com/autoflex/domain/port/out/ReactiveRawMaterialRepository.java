@@ -0,0 +1,19 @@
+package com.autoflex.domain.port.out;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import io.smallrye.mutiny.Uni;
+import java.util.List;
+import java.util.Optional;
+
+/** ReactiveRawMaterialRepository - Non-blocking output port for raw material reads. */
+public interface ReactiveRawMaterialRepository {
+
+  Uni<Optional<RawMaterial>> findById(RawMaterialId id);
+
+  Uni<Page<RawMaterial>> findPage(PageRequest pageRequest, boolean includeInactive);
+
+  Uni<List<RawMaterial>> findAllActive();
+}
@@ -0,0 +1,123 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.port.out.ReactiveProductRepository;
+import com.autoflex.infrastructure.persistence.entity.ProductJpaEntity;
+import com.autoflex.infrastructure.persistence.mapper.ProductMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+/**
+ * ReactiveProductRepositoryAdapter - Output adapter implementing ReactiveProductRepository with
+ * Hibernate Reactive on the Vert.x SQL client.
+ *
+ * <p>Shares the JPA entities and mapper with {@link ProductRepositoryAdapter}. Lazy associations
+ * cannot be loaded on access in a reactive session, so every query fetches the bill of materials
+ * (raw materials and components) explicitly before mapping.
+ */
+@ApplicationScoped
+public class ReactiveProductRepositoryAdapter implements ReactiveProductRepository {
+
+  private static final String FETCH_MATERIALS_BY_IDS =
+      "SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.materials WHERE p.id IN :ids";
+
+  // A separate query: fetch-joining both bags at once is rejected by Hibernate
+  private static final String FETCH_COMPONENTS_BY_IDS =
+      "SELECT DISTINCT p FROM ProductJpaEntity p LEFT JOIN FETCH p.components WHERE p.id IN :ids";
+
+  private final Mutiny.SessionFactory sessionFactory;
+  private final ProductMapper mapper;
+
+  @Inject
+  public ReactiveProductRepositoryAdapter(
+      Mutiny.SessionFactory sessionFactory, ProductMapper mapper) {
+    this.sessionFactory = sessionFactory;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Uni<Optional<Product>> findById(ProductId id) {
+    return sessionFactory.withSession(
+        session ->
+            session
+                .find(ProductJpaEntity.class, id.value())
+                .call(
+                    entity ->
+                        entity != null
+                            ? Mutiny.fetch(entity.getMaterials())
+                                .chain(() -> Mutiny.fetch(entity.getComponents()))
+                            : Uni.createFrom().voidItem())
+                .map(entity -> Optional.ofNullable(entity).map(mapper::toDomain)));
+  }
+
+  @Override
+  public Uni<Page<Product>> findPage(PageRequest pageRequest, boolean includeInactive) {
+    String hql = KeysetQueries.pageQuery("ProductJpaEntity", pageRequest, includeInactive);
+    return sessionFactory.withSession(
+        session -> {
+          Mutiny.SelectionQuery<ProductJpaEntity> query =
+              session.createSelectionQuery(hql, ProductJpaEntity.class);
+          KeysetQueries.parameters(pageRequest).forEach(query::setParameter);
+          return query
+              .setMaxResults(KeysetQueries.maxResults(pageRequest))
+              .getResultList()
+              .map(
+                  rows ->
+                      KeysetQueries.toPage(
+                          rows, pageRequest, ProductJpaEntity::getId, ProductJpaEntity::getName))
+              .call(
+                  page -> {
+                    if (page.items().isEmpty()) {
+                      return Uni.createFrom().voidItem();
+                    }
+                    // Initializes the BOMs of the page's (already managed) entities in one query
+                    List<Long> ids = page.items().stream().map(ProductJpaEntity::getId).toList();
+                    return session
+                        .createSelectionQuery(FETCH_MATERIALS_BY_IDS, ProductJpaEntity.class)
+                        .setParameter("ids", ids)
+                        .getResultList()
+                        .chain(
+                            () ->
+                                session
+                                    .createSelectionQuery(
+                                        FETCH_COMPONENTS_BY_IDS, ProductJpaEntity.class)
+                                    .setParameter("ids", ids)
+                                    .getResultList());
+                  })
+              .map(
+                  page ->
+                      new Page<>(
+                          page.items().stream().map(mapper::toDomain).toList(), page.next()));
+        });
+  }
+
+  @Override
+  public Uni<List<Product>> findAllActiveWithMaterials() {
+    return sessionFactory.withSession(
+        session ->
+            session
+                .createSelectionQuery(
+                    "SELECT DISTINCT p FROM ProductJpaEntity p "
+                        + "LEFT JOIN FETCH p.materials "
+                        + "WHERE p.active = true",
+                    ProductJpaEntity.class)
+                .getResultList()
+                .call(
+                    rows ->
+                        session
+                            .createSelectionQuery(
+                                "SELECT DISTINCT p FROM ProductJpaEntity p "
+                                    + "LEFT JOIN FETCH p.components "
+                                    + "WHERE p.active = true",
+                                ProductJpaEntity.class)
+                            .getResultList())
+                .map(rows -> rows.stream().map(mapper::toDomain).toList()));
+  }
+}
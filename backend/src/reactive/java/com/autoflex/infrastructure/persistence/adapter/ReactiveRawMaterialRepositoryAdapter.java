@@ -0,0 +1,76 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.out.ReactiveRawMaterialRepository;
+import com.autoflex.infrastructure.persistence.entity.RawMaterialJpaEntity;
+import com.autoflex.infrastructure.persistence.mapper.RawMaterialMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.reactive.mutiny.Mutiny;
+
+/** Output adapter implementing ReactiveRawMaterialRepository using Hibernate Reactive. */
+@ApplicationScoped
+public class ReactiveRawMaterialRepositoryAdapter implements ReactiveRawMaterialRepository {
+
+  private final Mutiny.SessionFactory sessionFactory;
+  private final RawMaterialMapper mapper;
+
+  @Inject
+  public ReactiveRawMaterialRepositoryAdapter(
+      Mutiny.SessionFactory sessionFactory, RawMaterialMapper mapper) {
+    this.sessionFactory = sessionFactory;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Uni<Optional<RawMaterial>> findById(RawMaterialId id) {
+    return sessionFactory.withSession(
+        session ->
+            session
+                .find(RawMaterialJpaEntity.class, id.value())
+                .map(entity -> Optional.ofNullable(entity).map(mapper::toDomain)));
+  }
+
+  @Override
+  public Uni<Page<RawMaterial>> findPage(PageRequest pageRequest, boolean includeInactive) {
+    String hql = KeysetQueries.pageQuery("RawMaterialJpaEntity", pageRequest, includeInactive);
+    return sessionFactory.withSession(
+        session -> {
+          Mutiny.SelectionQuery<RawMaterialJpaEntity> query =
+              session.createSelectionQuery(hql, RawMaterialJpaEntity.class);
+          KeysetQueries.parameters(pageRequest).forEach(query::setParameter);
+          return query
+              .setMaxResults(KeysetQueries.maxResults(pageRequest))
+              .getResultList()
+              .map(
+                  rows -> {
+                    Page<RawMaterialJpaEntity> page =
+                        KeysetQueries.toPage(
+                            rows,
+                            pageRequest,
+                            RawMaterialJpaEntity::getId,
+                            RawMaterialJpaEntity::getName);
+                    return new Page<>(
+                        page.items().stream().map(mapper::toDomain).toList(), page.next());
+                  });
+        });
+  }
+
+  @Override
+  public Uni<List<RawMaterial>> findAllActive() {
+    return sessionFactory.withSession(
+        session ->
+            session
+                .createSelectionQuery(
+                    "SELECT r FROM RawMaterialJpaEntity r WHERE r.active = true",
+                    RawMaterialJpaEntity.class)
+                .getResultList()
+                .map(rows -> rows.stream().map(mapper::toDomain).toList()));
+  }
+}
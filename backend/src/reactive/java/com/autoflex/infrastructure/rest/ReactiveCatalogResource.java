@@ -0,0 +1,146 @@
+package com.autoflex.infrastructure.rest;
+
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.ReactiveProductUseCase;
+import com.autoflex.domain.port.in.ReactiveProductionUseCase;
+import com.autoflex.domain.port.in.ReactiveRawMaterialUseCase;
+import com.autoflex.infrastructure.rest.dto.ProductResponse;
+import com.autoflex.infrastructure.rest.dto.ProductionPlanResponse;
+import com.autoflex.infrastructure.rest.dto.RawMaterialResponse;
+import com.autoflex.infrastructure.rest.mapper.ProductRestMapper;
+import com.autoflex.infrastructure.rest.mapper.ProductionRestMapper;
+import com.autoflex.infrastructure.rest.mapper.RawMaterialRestMapper;
+import io.smallrye.mutiny.Uni;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+/**
+ * ReactiveCatalogResource - Non-blocking variants of the read-heavy catalog endpoints, served on
+ * the event loop through the reactive use cases. Only built with the {@code reactive} Maven
+ * profile.
+ *
+ * <p>Parameters, responses and errors match the blocking endpoints under {@code /api/v1}; list
+ * endpoints use the same keyset cursors (without {@code search}).
+ */
+@Path("/api/v1/reactive")
+@Produces(MediaType.APPLICATION_JSON)
+@Tag(name = "Reactive", description = "Non-blocking catalog reads and production planning")
+public class ReactiveCatalogResource {
+
+  private final ReactiveProductUseCase productUseCase;
+  private final ReactiveRawMaterialUseCase rawMaterialUseCase;
+  private final ReactiveProductionUseCase productionUseCase;
+  private final ProductRestMapper productMapper;
+  private final RawMaterialRestMapper rawMaterialMapper;
+  private final ProductionRestMapper productionMapper;
+
+  @Inject
+  public ReactiveCatalogResource(
+      ReactiveProductUseCase productUseCase,
+      ReactiveRawMaterialUseCase rawMaterialUseCase,
+      ReactiveProductionUseCase productionUseCase,
+      ProductRestMapper productMapper,
+      RawMaterialRestMapper rawMaterialMapper,
+      ProductionRestMapper productionMapper) {
+    this.productUseCase = productUseCase;
+    this.rawMaterialUseCase = rawMaterialUseCase;
+    this.productionUseCase = productionUseCase;
+    this.productMapper = productMapper;
+    this.rawMaterialMapper = rawMaterialMapper;
+    this.productionMapper = productionMapper;
+  }
+
+  @GET
+  @Path("/products")
+  @Operation(summary = "List products", description = "Reactive variant of GET /api/v1/products")
+  public Uni<Response> listProducts(
+      @QueryParam("includeInactive") @DefaultValue("false") boolean includeInactive,
+      @Parameter(description = "Page size (1-500, default 100)") @QueryParam("limit") Integer limit,
+      @Parameter(description = "Sort order: id (default), -id or name")
+          @QueryParam("sort")
+          @DefaultValue("id")
+          String sort,
+      @Parameter(description = "Cursor from the previous page's X-Next-Cursor header")
+          @QueryParam("after")
+          String after) {
+    return productUseCase
+        .listProducts(Pagination.toPageRequest(limit, sort, after), includeInactive)
+        .map(
+            page ->
+                Pagination.toResponse(
+                    page, page.items().stream().map(productMapper::toResponse).toList()));
+  }
+
+  @GET
+  @Path("/products/{id}")
+  @Operation(
+      summary = "Get product by ID",
+      description = "Reactive variant of GET /api/v1/products/{id}")
+  public Uni<ProductResponse> getProduct(
+      @Parameter(description = "Product ID", required = true) @PathParam("id") Long id) {
+    return productUseCase.getProductById(ProductId.of(id)).map(productMapper::toResponse);
+  }
+
+  @GET
+  @Path("/raw-materials")
+  @Operation(
+      summary = "List raw materials",
+      description = "Reactive variant of GET /api/v1/raw-materials")
+  public Uni<Response> listRawMaterials(
+      @QueryParam("includeInactive") @DefaultValue("false") boolean includeInactive,
+      @Parameter(description = "Page size (1-500, default 100)") @QueryParam("limit") Integer limit,
+      @Parameter(description = "Sort order: id (default), -id or name")
+          @QueryParam("sort")
+          @DefaultValue("id")
+          String sort,
+      @Parameter(description = "Cursor from the previous page's X-Next-Cursor header")
+          @QueryParam("after")
+          String after) {
+    return rawMaterialUseCase
+        .listRawMaterials(Pagination.toPageRequest(limit, sort, after), includeInactive)
+        .map(
+            page ->
+                Pagination.toResponse(
+                    page, page.items().stream().map(rawMaterialMapper::toResponse).toList()));
+  }
+
+  @GET
+  @Path("/raw-materials/{id}")
+  @Operation(
+      summary = "Get raw material by ID",
+      description = "Reactive variant of GET /api/v1/raw-materials/{id}")
+  public Uni<RawMaterialResponse> getRawMaterial(
+      @Parameter(description = "Raw material ID", required = true) @PathParam("id") Long id) {
+    return rawMaterialUseCase
+        .getRawMaterialById(RawMaterialId.of(id))
+        .map(rawMaterialMapper::toResponse);
+  }
+
+  @POST
+  @Path("/production/calculate")
+  @Operation(
+      summary = "Calculate production plan",
+      description = "Reactive variant of POST /api/v1/production/calculate")
+  public Uni<ProductionPlanResponse> calculateProductionPlan(
+      @Parameter(description = "Planning algorithm: greedy (default) or optimal")
+          @QueryParam("strategy")
+          @DefaultValue("greedy")
+          String strategy) {
+    return productionUseCase
+        .calculateProductionPlan(ProductionStrategy.fromValue(strategy))
+        .map(productionMapper::toResponse);
+  }
+}
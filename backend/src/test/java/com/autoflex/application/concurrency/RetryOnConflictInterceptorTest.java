@@ -0,0 +1,109 @@
+package com.autoflex.application.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.transaction.RollbackException;
+import jakarta.transaction.Status;
+import jakarta.transaction.TransactionManager;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("RetryOnConflictInterceptor")
+@ExtendWith(MockitoExtension.class)
+class RetryOnConflictInterceptorTest {
+
+  @Mock private TransactionManager transactionManager;
+
+  @Mock private InvocationContext context;
+
+  private SimpleMeterRegistry registry;
+  private RetryOnConflictInterceptor interceptor;
+
+  /** Stand-in for a service method, used for the operation tag. */
+  static class SampleService {
+    public void update() {}
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    registry = new SimpleMeterRegistry();
+    interceptor =
+        new RetryOnConflictInterceptor(
+            transactionManager, registry, 2, Duration.ZERO, Duration.ZERO);
+  }
+
+  private void outsideTransaction() throws Exception {
+    Method method = SampleService.class.getMethod("update");
+    when(transactionManager.getStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+    when(context.getMethod()).thenReturn(method);
+  }
+
+  private double count(String name) {
+    var counter = registry.find(name).tag("operation", "SampleService.update").counter();
+    return counter == null ? 0 : counter.count();
+  }
+
+  @Test
+  @DisplayName("should retry a conflict raised at commit and return the next result")
+  void shouldRetryCommitConflict() throws Exception {
+    outsideTransaction();
+    RollbackException commitFailure = new RollbackException("rolled back");
+    commitFailure.initCause(new OptimisticLockException("stale"));
+    when(context.proceed()).thenThrow(commitFailure).thenReturn("saved");
+
+    Object result = interceptor.retry(context);
+
+    assertThat(result).isEqualTo("saved");
+    assertThat(count(RetryOnConflictInterceptor.CONFLICTS)).isEqualTo(1);
+    assertThat(count(RetryOnConflictInterceptor.RETRIES)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should give up with a ConcurrentUpdateException after the retry budget")
+  void shouldGiveUpAfterBudget() throws Exception {
+    outsideTransaction();
+    when(context.proceed()).thenThrow(new OptimisticLockException("stale"));
+
+    assertThatThrownBy(() -> interceptor.retry(context))
+        .isInstanceOf(ConcurrentUpdateException.class)
+        .hasCauseInstanceOf(OptimisticLockException.class);
+    verify(context, times(3)).proceed();
+    assertThat(count(RetryOnConflictInterceptor.CONFLICTS)).isEqualTo(3);
+    assertThat(count(RetryOnConflictInterceptor.EXHAUSTED)).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should not retry other failures")
+  void shouldNotRetryOtherFailures() throws Exception {
+    outsideTransaction();
+    when(context.proceed()).thenThrow(new IllegalArgumentException("invalid"));
+
+    assertThatThrownBy(() -> interceptor.retry(context))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(context, times(1)).proceed();
+  }
+
+  @Test
+  @DisplayName("should leave conflicts to the caller that owns the transaction")
+  void shouldNotRetryInsideTransaction() throws Exception {
+    when(transactionManager.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+    when(context.proceed()).thenThrow(new OptimisticLockException("stale"));
+
+    assertThatThrownBy(() -> interceptor.retry(context))
+        .isInstanceOf(OptimisticLockException.class);
+    verify(context, times(1)).proceed();
+  }
+}
@@ -0,0 +1,76 @@
+package com.autoflex.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.port.in.RawMaterialUseCase;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@DisplayName("CatalogVersion - Observer ordering")
+class CatalogVersionTest {
+
+  @Inject CatalogVersion catalogVersion;
+  @Inject RawMaterialUseCase rawMaterialUseCase;
+  @Inject VersionRecorder recorder;
+
+  /** Records the version each side of the bump sees for the last committed change. */
+  @ApplicationScoped
+  static class VersionRecorder {
+
+    @Inject CatalogVersion catalogVersion;
+
+    private volatile long before = -1;
+    private volatile long after = -1;
+
+    long before() {
+      return before;
+    }
+
+    long after() {
+      return after;
+    }
+
+    void beforeBump(
+        @Observes(during = TransactionPhase.AFTER_SUCCESS)
+            @Priority(CatalogVersion.OBSERVER_PRIORITY - 1)
+            CatalogChange change) {
+      before = catalogVersion.current();
+    }
+
+    void afterBump(
+        @Observes(during = TransactionPhase.AFTER_SUCCESS)
+            @Priority(CatalogVersion.OBSERVER_PRIORITY + 1)
+            CatalogChange change) {
+      after = catalogVersion.current();
+    }
+  }
+
+  @Test
+  @DisplayName("should bump the version after the observers ordered before it")
+  void shouldBumpAfterEarlierObservers() {
+    long start = catalogVersion.current();
+
+    rawMaterialUseCase.createRawMaterial(
+        new CreateRawMaterialCommand(
+            "Ordering Steel",
+            null,
+            "RM-ORDERING",
+            MeasurementUnit.KILOGRAM,
+            BigDecimal.TEN,
+            BigDecimal.ONE));
+
+    assertThat(recorder.before()).isEqualTo(start);
+    assertThat(recorder.after()).isEqualTo(start + 1);
+    assertThat(catalogVersion.current()).isEqualTo(start + 1);
+  }
+}
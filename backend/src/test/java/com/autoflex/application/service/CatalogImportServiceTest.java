@@ -0,0 +1,170 @@
+package com.autoflex.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ImportReport;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ImportRow;
+import com.autoflex.domain.port.in.CatalogImportUseCase.MaterialReference;
+import com.autoflex.domain.port.in.CatalogImportUseCase.ProductImport;
+import com.autoflex.domain.port.in.CatalogImportUseCase.RowError;
+import com.autoflex.domain.port.in.ProductUseCase.CreateProductCommand;
+import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("CatalogImportService")
+@ExtendWith(MockitoExtension.class)
+class CatalogImportServiceTest {
+
+  @Mock private CatalogImportWriter writer;
+
+  private CatalogImportService catalogImportService;
+
+  @BeforeEach
+  void setUp() {
+    catalogImportService = new CatalogImportService(writer, 2);
+  }
+
+  private static ImportRow<CreateRawMaterialCommand> rawMaterialRow(long line, String code) {
+    return ImportRow.of(
+        line,
+        new CreateRawMaterialCommand(
+            "Material " + code,
+            null,
+            code,
+            MeasurementUnit.KILOGRAM,
+            new BigDecimal("10"),
+            new BigDecimal("1.50")));
+  }
+
+  private static ImportRow<ProductImport> productRow(
+      long line, String sku, MaterialReference... materials) {
+    return ImportRow.of(
+        line,
+        new ProductImport(
+            new CreateProductCommand("Product " + sku, null, sku, new BigDecimal("99.90"), 0),
+            List.of(materials)));
+  }
+
+  @Nested
+  @DisplayName("When importing raw materials")
+  class ImportRawMaterials {
+
+    @Test
+    @DisplayName("should write valid rows in chunks and report rejected ones")
+    void shouldWriteInChunks() {
+      when(writer.loadRawMaterialIdsByCode()).thenReturn(Map.of("RM-OLD", RawMaterialId.of(1L)));
+      when(writer.insertRawMaterials(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+      ImportReport report =
+          catalogImportService.importRawMaterials(
+              Stream.of(
+                  rawMaterialRow(2, "RM-A"),
+                  rawMaterialRow(3, "rm-old"),
+                  ImportRow.invalid(4, "Expected 6 columns, found 2"),
+                  rawMaterialRow(5, "RM-B"),
+                  rawMaterialRow(6, "RM-A"),
+                  rawMaterialRow(7, "RM-C")));
+
+      assertThat(report.processed()).isEqualTo(6);
+      assertThat(report.imported()).isEqualTo(3);
+      assertThat(report.errors())
+          .extracting(RowError::line, RowError::key)
+          .containsExactly(tuple(3L, "rm-old"), tuple(4L, null), tuple(6L, "RM-A"));
+      verify(writer, times(2)).insertRawMaterials(anyList());
+    }
+
+    @Test
+    @DisplayName("should report every row of a chunk that failed to write")
+    @SuppressWarnings("unchecked")
+    void shouldReportFailedChunk() {
+      when(writer.loadRawMaterialIdsByCode()).thenReturn(Map.of());
+      when(writer.insertRawMaterials(anyList()))
+          .thenThrow(new IllegalStateException("unique constraint violated"))
+          .thenAnswer(inv -> inv.getArgument(0));
+
+      ImportReport report =
+          catalogImportService.importRawMaterials(
+              Stream.of(
+                  rawMaterialRow(1, "RM-A"), rawMaterialRow(2, "RM-B"), rawMaterialRow(3, "RM-C")));
+
+      assertThat(report.imported()).isEqualTo(1);
+      assertThat(report.errors()).extracting(RowError::line).containsExactly(1L, 2L);
+      assertThat(report.errors().get(0).message()).contains("unique constraint violated");
+
+      ArgumentCaptor<List<RawMaterial>> chunks = ArgumentCaptor.forClass(List.class);
+      verify(writer, times(2)).insertRawMaterials(chunks.capture());
+      assertThat(chunks.getAllValues().get(1))
+          .extracting(RawMaterial::getCode)
+          .containsExactly("RM-C");
+    }
+  }
+
+  @Nested
+  @DisplayName("When importing products")
+  class ImportProducts {
+
+    @Test
+    @DisplayName("should resolve bill of materials codes and reject unknown ones")
+    @SuppressWarnings("unchecked")
+    void shouldResolveMaterialCodes() {
+      when(writer.loadRawMaterialIdsByCode()).thenReturn(Map.of("RM-STEEL", RawMaterialId.of(7L)));
+      when(writer.loadProductSkus()).thenReturn(Set.of("PRD-OLD"));
+      when(writer.insertProducts(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+      ImportReport report =
+          catalogImportService.importProducts(
+              Stream.of(
+                  productRow(1, "PRD-A", new MaterialReference("rm-steel", new BigDecimal("2"))),
+                  productRow(2, "PRD-B", new MaterialReference("RM-WOOD", BigDecimal.ONE)),
+                  productRow(3, "PRD-OLD")));
+
+      assertThat(report.imported()).isEqualTo(1);
+      assertThat(report.errors())
+          .extracting(RowError::line, RowError::message)
+          .containsExactly(
+              tuple(2L, "Unknown raw material code 'RM-WOOD'"),
+              tuple(3L, "Product with SKU 'PRD-OLD' already exists"));
+
+      ArgumentCaptor<List<Product>> chunk = ArgumentCaptor.forClass(List.class);
+      verify(writer).insertProducts(chunk.capture());
+      Product imported = chunk.getValue().get(0);
+      assertThat(imported.getMaterials()).hasSize(1);
+      assertThat(imported.getMaterials().get(0).rawMaterialId()).isEqualTo(RawMaterialId.of(7L));
+    }
+
+    @Test
+    @DisplayName("should not write anything when every row is rejected")
+    void shouldNotWriteWhenAllRowsRejected() {
+      when(writer.loadRawMaterialIdsByCode()).thenReturn(Map.of());
+      when(writer.loadProductSkus()).thenReturn(Set.of());
+
+      ImportReport report =
+          catalogImportService.importProducts(Stream.of(ImportRow.invalid(1, "Malformed JSON")));
+
+      assertThat(report.failed()).isEqualTo(1);
+      verify(writer, never()).insertProducts(anyList());
+    }
+  }
+}
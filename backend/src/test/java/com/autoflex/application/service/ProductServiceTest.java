@@ -3,19 +3,29 @@ package com.autoflex.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
 import com.autoflex.domain.model.product.Product;
 import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
 import com.autoflex.domain.port.in.ProductUseCase.AddMaterialCommand;
 import com.autoflex.domain.port.in.ProductUseCase.CreateProductCommand;
+import com.autoflex.domain.port.in.ProductUseCase.InsufficientStockException;
+import com.autoflex.domain.port.in.ProductUseCase.ProductInUseException;
 import com.autoflex.domain.port.in.ProductUseCase.ProductNotFoundException;
 import com.autoflex.domain.port.in.ProductUseCase.ProductSkuAlreadyExistsException;
 import com.autoflex.domain.port.out.ProductRepository;
 import com.autoflex.domain.port.out.RawMaterialRepository;
+import jakarta.enterprise.event.Event;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -34,6 +44,8 @@ class ProductServiceTest {
 
   @Mock private RawMaterialRepository rawMaterialRepository;
 
+  @Mock private Event<CatalogChange> catalogChanges;
+
   @InjectMocks private ProductService productService;
 
   @Nested
@@ -80,6 +92,67 @@ class ProductServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("When deleting a product")
+  class DeleteProduct {
+
+    @Test
+    @DisplayName("should delete a product no other product uses")
+    void shouldDeleteUnusedProduct() {
+      when(productRepository.existsById(ProductId.of(1L))).thenReturn(true);
+      when(productRepository.isUsedAsComponent(ProductId.of(1L))).thenReturn(false);
+
+      productService.deleteProduct(ProductId.of(1L));
+
+      verify(productRepository).deleteById(ProductId.of(1L));
+      verify(catalogChanges).fire(new CatalogChange.ProductRemoved(ProductId.of(1L)));
+    }
+
+    @Test
+    @DisplayName("should reject deleting a product still used as a component")
+    void shouldRejectDeletingComponent() {
+      when(productRepository.existsById(ProductId.of(2L))).thenReturn(true);
+      when(productRepository.isUsedAsComponent(ProductId.of(2L))).thenReturn(true);
+
+      assertThatThrownBy(() -> productService.deleteProduct(ProductId.of(2L)))
+          .isInstanceOf(ProductInUseException.class)
+          .hasMessageContaining("component");
+      verify(productRepository, never()).deleteById(any());
+      verify(catalogChanges, never()).fire(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("When adjusting stock")
+  class AdjustStock {
+
+    @Test
+    @DisplayName("should adjust stock with a conditional update and publish the result")
+    void shouldAdjustStock() {
+      Product updated = Product.create("Widget", null, "SKU-001", BigDecimal.TEN, 90);
+      when(productRepository.adjustStock(ProductId.of(1L), -10)).thenReturn(true);
+      when(productRepository.findById(any())).thenReturn(Optional.of(updated));
+
+      Product result = productService.adjustStock(ProductId.of(1L), -10);
+
+      assertThat(result.getStockQuantity()).isEqualTo(90);
+      verify(productRepository, never()).save(any(Product.class));
+      verify(catalogChanges).fire(new CatalogChange.ProductChanged(updated));
+    }
+
+    @Test
+    @DisplayName("should report insufficient stock when the update matches no row")
+    void shouldRejectInsufficientStock() {
+      Product current = Product.create("Widget", null, "SKU-001", BigDecimal.TEN, 5);
+      when(productRepository.adjustStock(any(), anyInt())).thenReturn(false);
+      when(productRepository.findById(any())).thenReturn(Optional.of(current));
+
+      assertThatThrownBy(() -> productService.adjustStock(ProductId.of(1L), -10))
+          .isInstanceOf(InsufficientStockException.class);
+      verify(catalogChanges, never()).fire(any());
+    }
+  }
+
   @Nested
   @DisplayName("When managing product BOM")
   class ManageBom {
@@ -155,4 +228,28 @@ class ProductServiceTest {
           .isEqualByComparingTo(new BigDecimal("20"));
     }
   }
+
+  @Nested
+  @DisplayName("When searching")
+  class Search {
+
+    @Test
+    @DisplayName("should read only the first page for a blank term")
+    void shouldReadFirstPageForBlankTerm() {
+      Product widget = Product.create("Widget", null, "SKU-001", BigDecimal.TEN, 0);
+      when(productRepository.findPage(PageRequest.first(5, SortOrder.ID_ASC), false))
+          .thenReturn(new Page<>(List.of(widget), null));
+
+      assertThat(productService.searchProducts(null, 5)).containsExactly(widget);
+      verify(productRepository, never()).findAllActive();
+    }
+
+    @Test
+    @DisplayName("should search for the trimmed term")
+    void shouldSearchTrimmedTerm() {
+      when(productRepository.search("widget", 5)).thenReturn(List.of());
+
+      assertThat(productService.searchProducts(" widget ", 5)).isEmpty();
+    }
+  }
 }
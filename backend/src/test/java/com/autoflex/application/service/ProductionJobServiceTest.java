@@ -0,0 +1,246 @@
+package com.autoflex.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.application.event.CatalogVersion;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.port.in.ProductionJobUseCase.JobStatus;
+import com.autoflex.domain.port.in.ProductionJobUseCase.ProductionJob;
+import com.autoflex.domain.port.in.ProductionJobUseCase.ProductionJobNotFoundException;
+import com.autoflex.domain.port.in.ProductionJobUseCase.ProductionJobsBusyException;
+import com.autoflex.domain.port.in.ProductionUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase.PlanPhase;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductionJobService")
+@ExtendWith(MockitoExtension.class)
+class ProductionJobServiceTest {
+
+  private static final ProductionPlan PLAN =
+      new ProductionPlan(List.of(), BigDecimal.ZERO, Map.of());
+  private static final VersionedProductionPlan VERSIONED =
+      new VersionedProductionPlan(PLAN, "epoch.9");
+
+  @Mock private ProductionUseCase productionUseCase;
+  @Mock private CatalogVersion catalogVersion;
+
+  private final MutableClock clock = new MutableClock();
+  private ProductionJobService service;
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new ProductionJobService(
+            productionUseCase, catalogVersion, 1, 1, Duration.ofMinutes(10), clock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  private ProductionJob awaitFinished(String jobId) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    ProductionJob job = service.getJob(jobId);
+    while (!job.status().isFinished() && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+      job = service.getJob(jobId);
+    }
+    return job;
+  }
+
+  @Nested
+  @DisplayName("When submitting a job")
+  class Submit {
+
+    @Test
+    @DisplayName("should calculate the plan in the background")
+    void shouldCompleteWithPlan() throws InterruptedException {
+      when(productionUseCase.calculateVersionedProductionPlan(eq(ProductionStrategy.GREEDY), any()))
+          .thenReturn(VERSIONED);
+
+      ProductionJob submitted = service.submit(ProductionStrategy.GREEDY);
+      ProductionJob finished = awaitFinished(submitted.id());
+
+      assertThat(finished.status()).isEqualTo(JobStatus.COMPLETED);
+      assertThat(finished.plan()).isSameAs(PLAN);
+      assertThat(finished.startedAt()).isNotNull();
+      assertThat(finished.finishedAt()).isNotNull();
+      assertThat(finished.error()).isNull();
+      assertThat(finished.catalogVersion()).isEqualTo("epoch.9");
+      assertThat(finished.phase()).isNull();
+    }
+
+    @Test
+    @DisplayName("should report the phase while running and the version the plan was computed from")
+    void shouldReportProgress() throws InterruptedException {
+      CountDownLatch loading = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      when(catalogVersion.current()).thenReturn(3L);
+      when(productionUseCase.calculateVersionedProductionPlan(
+              eq(ProductionStrategy.OPTIMAL), any()))
+          .thenAnswer(
+              inv -> {
+                Consumer<PlanPhase> progress = inv.getArgument(1);
+                progress.accept(PlanPhase.LOADING);
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                progress.accept(PlanPhase.PLANNING);
+                // The catalog changed after submission; the plan reflects the newer version
+                return new VersionedProductionPlan(PLAN, "epoch.4");
+              });
+
+      ProductionJob submitted = service.submit(ProductionStrategy.OPTIMAL);
+      assertThat(submitted.catalogVersion()).isNull();
+      assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+      ProductionJob running = service.getJob(submitted.id());
+      release.countDown();
+      ProductionJob finished = awaitFinished(submitted.id());
+
+      assertThat(running.status()).isEqualTo(JobStatus.RUNNING);
+      assertThat(running.phase()).isEqualTo(PlanPhase.LOADING);
+      assertThat(running.catalogVersion()).isNull();
+      assertThat(finished.status()).isEqualTo(JobStatus.COMPLETED);
+      assertThat(finished.catalogVersion()).isEqualTo("epoch.4");
+      assertThat(finished.phase()).isNull();
+    }
+
+    @Test
+    @DisplayName("should return the existing job while the catalog is unchanged")
+    void shouldDeduplicateByCatalogVersion() throws InterruptedException {
+      when(catalogVersion.current()).thenReturn(7L, 7L, 8L);
+      when(productionUseCase.calculateVersionedProductionPlan(eq(ProductionStrategy.GREEDY), any()))
+          .thenReturn(VERSIONED);
+
+      ProductionJob first = service.submit(ProductionStrategy.GREEDY);
+      awaitFinished(first.id());
+      ProductionJob same = service.submit(ProductionStrategy.GREEDY);
+      ProductionJob changed = service.submit(ProductionStrategy.GREEDY);
+      awaitFinished(changed.id());
+
+      assertThat(same.id()).isEqualTo(first.id());
+      assertThat(changed.id()).isNotEqualTo(first.id());
+      verify(productionUseCase, times(2))
+          .calculateVersionedProductionPlan(eq(ProductionStrategy.GREEDY), any());
+    }
+
+    @Test
+    @DisplayName("should report a failed calculation and retry it on the next submission")
+    void shouldReportFailure() throws InterruptedException {
+      when(productionUseCase.calculateVersionedProductionPlan(
+              eq(ProductionStrategy.OPTIMAL), any()))
+          .thenThrow(new IllegalStateException("Solver unavailable"))
+          .thenReturn(VERSIONED);
+
+      ProductionJob failed = awaitFinished(service.submit(ProductionStrategy.OPTIMAL).id());
+      ProductionJob retried = awaitFinished(service.submit(ProductionStrategy.OPTIMAL).id());
+
+      assertThat(failed.status()).isEqualTo(JobStatus.FAILED);
+      assertThat(failed.error()).isEqualTo("Solver unavailable");
+      assertThat(failed.plan()).isNull();
+      assertThat(retried.id()).isNotEqualTo(failed.id());
+      assertThat(retried.status()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("should reject submissions once the queue is full")
+    void shouldRejectWhenBusy() throws InterruptedException {
+      CountDownLatch release = new CountDownLatch(1);
+      when(catalogVersion.current()).thenReturn(1L, 2L, 3L);
+      when(productionUseCase.calculateVersionedProductionPlan(eq(ProductionStrategy.GREEDY), any()))
+          .thenAnswer(
+              inv -> {
+                release.await(5, TimeUnit.SECONDS);
+                return VERSIONED;
+              });
+
+      ProductionJob running = service.submit(ProductionStrategy.GREEDY);
+      ProductionJob queued = service.submit(ProductionStrategy.GREEDY);
+
+      try {
+        assertThatThrownBy(() -> service.submit(ProductionStrategy.GREEDY))
+            .isInstanceOf(ProductionJobsBusyException.class);
+      } finally {
+        release.countDown();
+      }
+      assertThat(awaitFinished(running.id()).status()).isEqualTo(JobStatus.COMPLETED);
+      assertThat(awaitFinished(queued.id()).status()).isEqualTo(JobStatus.COMPLETED);
+    }
+  }
+
+  @Nested
+  @DisplayName("When polling a job")
+  class GetJob {
+
+    @Test
+    @DisplayName("should throw for an unknown job")
+    void shouldThrowWhenUnknown() {
+      assertThatThrownBy(() -> service.getJob("missing"))
+          .isInstanceOf(ProductionJobNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("should forget finished jobs after the result TTL")
+    void shouldExpireFinishedJobs() throws InterruptedException {
+      when(productionUseCase.calculateVersionedProductionPlan(eq(ProductionStrategy.GREEDY), any()))
+          .thenReturn(VERSIONED);
+      String jobId = awaitFinished(service.submit(ProductionStrategy.GREEDY).id()).id();
+
+      clock.advance(Duration.ofMinutes(11));
+
+      assertThatThrownBy(() -> service.getJob(jobId))
+          .isInstanceOf(ProductionJobNotFoundException.class);
+    }
+  }
+
+  /** Clock the tests move forward by hand. */
+  private static final class MutableClock extends Clock {
+
+    private volatile Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
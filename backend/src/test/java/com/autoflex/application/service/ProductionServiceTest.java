@@ -0,0 +1,318 @@
+package com.autoflex.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.application.event.CatalogVersion;
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.ProductionUseCase.PlanPhase;
+import com.autoflex.domain.port.in.ProductionUseCase.ScenarioPlan;
+import com.autoflex.domain.port.in.ProductionUseCase.ScenarioPlans;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import com.autoflex.domain.port.out.ProductRepository;
+import com.autoflex.domain.port.out.RawMaterialRepository;
+import com.autoflex.domain.service.ProductionEngine;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductionService")
+@ExtendWith(MockitoExtension.class)
+class ProductionServiceTest {
+
+  @Mock private ProductRepository productRepository;
+  @Mock private RawMaterialRepository rawMaterialRepository;
+  @Mock private CatalogVersion catalogVersion;
+
+  private ProductionService service(boolean planCacheEnabled) {
+    return service(planCacheEnabled, false);
+  }
+
+  private ProductionService service(boolean planCacheEnabled, boolean incrementalEnabled) {
+    return new ProductionService(
+        productRepository,
+        rawMaterialRepository,
+        ProductionEngine.DECIMAL,
+        Duration.ofSeconds(2),
+        50_000,
+        incrementalEnabled,
+        catalogVersion,
+        planCacheEnabled,
+        false,
+        2000,
+        2);
+  }
+
+  @BeforeEach
+  void setUp() {
+    when(productRepository.findAllActiveWithMaterials()).thenReturn(List.of());
+    when(rawMaterialRepository.findAllActive()).thenReturn(List.of());
+    when(catalogVersion.tag(anyLong())).thenAnswer(inv -> "epoch." + inv.getArgument(0));
+  }
+
+  @Nested
+  @DisplayName("When the plan cache is enabled")
+  class PlanCache {
+
+    @Test
+    @DisplayName("should return the cached plan while the catalog version is unchanged")
+    void shouldReuseCachedPlan() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(true);
+
+      VersionedProductionPlan first =
+          service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+      VersionedProductionPlan second =
+          service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+
+      assertThat(second.plan()).isSameAs(first.plan());
+      assertThat(second.catalogVersion()).isEqualTo("epoch.3");
+      verify(productRepository, times(1)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should report loading and planning only when the plan is computed")
+    void shouldReportPhases() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(true);
+      List<PlanPhase> phases = new ArrayList<>();
+
+      service.calculateVersionedProductionPlan(ProductionStrategy.OPTIMAL, phases::add);
+      service.calculateVersionedProductionPlan(ProductionStrategy.OPTIMAL, phases::add);
+
+      assertThat(phases).containsExactly(PlanPhase.LOADING, PlanPhase.PLANNING);
+    }
+
+    @Test
+    @DisplayName("should cache each strategy separately")
+    void shouldCachePerStrategy() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(true);
+
+      service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+      service.calculateVersionedProductionPlan(ProductionStrategy.OPTIMAL);
+      service.calculateVersionedProductionPlan(ProductionStrategy.OPTIMAL);
+
+      verify(productRepository, times(2)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should recalculate once the catalog version changes")
+    void shouldRecalculateOnNewVersion() {
+      when(catalogVersion.current()).thenReturn(3L, 3L, 4L, 4L);
+      ProductionService service = service(true);
+
+      service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+      VersionedProductionPlan next =
+          service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+
+      assertThat(next.catalogVersion()).isEqualTo("epoch.4");
+      verify(productRepository, times(2)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should recalculate after a committed catalog change")
+    void shouldRecalculateAfterCatalogChange() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(true);
+
+      service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+      service.onCatalogChange(new CatalogChange.RawMaterialRemoved(RawMaterialId.of(1L)));
+      service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+
+      verify(productRepository, times(2)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should not cache a plan when the catalog changed while calculating")
+    void shouldNotCacheWhenVersionMovedDuringCalculation() {
+      when(catalogVersion.current()).thenReturn(3L, 4L, 4L, 4L);
+      ProductionService service = service(true);
+
+      VersionedProductionPlan first =
+          service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+      service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+
+      assertThat(first.catalogVersion()).isEqualTo("epoch.3");
+      verify(productRepository, times(2)).findAllActiveWithMaterials();
+    }
+  }
+
+  @Test
+  @DisplayName("should recalculate on every call when the plan cache is disabled")
+  void shouldRecalculateWhenCacheDisabled() {
+    when(catalogVersion.current()).thenReturn(3L);
+    ProductionService service = service(false);
+
+    service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+    service.calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+
+    verify(productRepository, times(2)).findAllActiveWithMaterials();
+  }
+
+  @Nested
+  @DisplayName("When planning what-if scenarios")
+  class Scenarios {
+
+    private final Product widget =
+        Product.reconstitute(
+            ProductId.of(1L),
+            "Widget",
+            null,
+            "SKU-1",
+            new BigDecimal("20"),
+            0,
+            true,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("2"))));
+    private final RawMaterial steel =
+        RawMaterial.reconstitute(
+            RawMaterialId.of(1L),
+            "Steel",
+            null,
+            "RM-1",
+            MeasurementUnit.KILOGRAM,
+            new BigDecimal("10"),
+            BigDecimal.TEN,
+            true,
+            LocalDateTime.now(),
+            LocalDateTime.now());
+
+    private ProductionScenario delivery(String quantity) {
+      return new ProductionScenario(
+          "delivery", Map.of(RawMaterialId.of(1L), new BigDecimal(quantity)), null, null);
+    }
+
+    @BeforeEach
+    void setUpCatalog() {
+      when(productRepository.findAllActiveWithMaterials()).thenReturn(List.of(widget));
+      when(rawMaterialRepository.findAllActive()).thenReturn(List.of(steel));
+      when(catalogVersion.current()).thenReturn(3L);
+    }
+
+    @Test
+    @DisplayName("should return one plan per scenario, in request order")
+    void shouldPlanEachScenario() {
+      ScenarioPlans result =
+          service(false)
+              .evaluateScenarios(
+                  List.of(new ProductionScenario("baseline", null, null, null), delivery("500")),
+                  ProductionStrategy.GREEDY);
+
+      assertThat(result.catalogVersion()).isEqualTo("epoch.3");
+      assertThat(result.plans())
+          .extracting(ScenarioPlan::name, scenario -> scenario.plan().totalUnits())
+          .containsExactly(tuple("baseline", 5), tuple("delivery", 255));
+      assertThat(steel.getStockQuantity()).isEqualByComparingTo("10");
+      verify(productRepository, times(1)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should reuse the catalog snapshot until the catalog changes")
+    void shouldReuseSnapshot() {
+      ProductionService service = service(true);
+
+      service.evaluateScenarios(List.of(delivery("1")), ProductionStrategy.GREEDY);
+      service.evaluateScenarios(List.of(delivery("2")), ProductionStrategy.OPTIMAL);
+      service.onCatalogChange(new CatalogChange.RawMaterialRemoved(RawMaterialId.of(1L)));
+      service.evaluateScenarios(List.of(delivery("3")), ProductionStrategy.GREEDY);
+
+      verify(productRepository, times(2)).findAllActiveWithMaterials();
+    }
+
+    @Test
+    @DisplayName("should reject oversized batches and name the scenario that fails")
+    void shouldRejectInvalidBatches() {
+      ProductionService service = service(false);
+      service.evaluateScenarios(List.of(delivery("1")), ProductionStrategy.GREEDY);
+
+      assertThatThrownBy(
+              () ->
+                  service.evaluateScenarios(
+                      List.of(delivery("1"), delivery("2"), delivery("3")),
+                      ProductionStrategy.GREEDY))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("more than 2 scenarios");
+      assertThatThrownBy(
+              () ->
+                  service.evaluateScenarios(
+                      List.of(
+                          delivery("-11"),
+                          new ProductionScenario("other", null, null, Set.of(ProductId.of(1L)))),
+                      ProductionStrategy.GREEDY))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Scenario 'delivery'")
+          .hasMessageContaining("below zero");
+    }
+  }
+
+  @Nested
+  @DisplayName("With the incremental planner")
+  class IncrementalPlanner {
+
+    @Test
+    @DisplayName("should keep the rebuilt planner for later requests")
+    void shouldKeepRebuiltPlanner() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(false, true);
+
+      service.calculateProductionPlan(ProductionStrategy.GREEDY);
+      service.calculateProductionPlan(ProductionStrategy.GREEDY);
+
+      verify(rawMaterialRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    @DisplayName("should let a change commit during a rebuild and discard that rebuild")
+    void shouldDiscardRebuildSpanningChange() {
+      when(catalogVersion.current()).thenReturn(3L);
+      ProductionService service = service(false, true);
+      when(rawMaterialRepository.findAllActive())
+          .thenAnswer(
+              inv -> {
+                // Another writer's commit observer; it would wait forever if the rebuild held the
+                // planner lock
+                CompletableFuture.runAsync(
+                        () ->
+                            service.onCatalogChange(
+                                new CatalogChange.RawMaterialRemoved(RawMaterialId.of(1L))))
+                    .get(5, TimeUnit.SECONDS);
+                return List.of();
+              })
+          .thenReturn(List.of());
+
+      service.calculateProductionPlan(ProductionStrategy.GREEDY);
+      service.calculateProductionPlan(ProductionStrategy.GREEDY);
+      service.calculateProductionPlan(ProductionStrategy.GREEDY);
+
+      verify(rawMaterialRepository, times(2)).findAllActive();
+    }
+  }
+}
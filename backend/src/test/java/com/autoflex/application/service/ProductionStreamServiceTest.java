@@ -0,0 +1,144 @@
+package com.autoflex.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionStrategy;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.ProductionStreamUseCase.PlanSubscription;
+import com.autoflex.domain.port.in.ProductionUseCase;
+import com.autoflex.domain.port.in.ProductionUseCase.VersionedProductionPlan;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("ProductionStreamService")
+@ExtendWith(MockitoExtension.class)
+class ProductionStreamServiceTest {
+
+  private static final VersionedProductionPlan EMPTY =
+      new VersionedProductionPlan(new ProductionPlan(List.of(), BigDecimal.ZERO, Map.of()), "e.1");
+  private static final VersionedProductionPlan STOCKED =
+      new VersionedProductionPlan(
+          new ProductionPlan(
+              List.of(), BigDecimal.ZERO, Map.of(RawMaterialId.of(1L), new BigDecimal("5"))),
+          "e.2");
+  private static final CatalogChange CHANGE =
+      new CatalogChange.RawMaterialRemoved(RawMaterialId.of(2L));
+
+  @Mock private ProductionUseCase productionUseCase;
+
+  private ProductionStreamService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new ProductionStreamService(productionUseCase, Duration.ofMillis(100));
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  private static VersionedProductionPlan next(BlockingQueue<VersionedProductionPlan> received)
+      throws InterruptedException {
+    return received.poll(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @DisplayName("should send the current plan on subscribe")
+  void shouldSendCurrentPlan() throws InterruptedException {
+    when(productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(EMPTY);
+    BlockingQueue<VersionedProductionPlan> received = new LinkedBlockingQueue<>();
+
+    service.subscribe(received::add);
+
+    assertThat(next(received)).isEqualTo(EMPTY);
+  }
+
+  @Test
+  @DisplayName("should coalesce a burst of changes into one recalculation")
+  void shouldCoalesceBurst() throws InterruptedException {
+    when(productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(EMPTY, STOCKED);
+    BlockingQueue<VersionedProductionPlan> received = new LinkedBlockingQueue<>();
+    service.subscribe(received::add);
+    assertThat(next(received)).isEqualTo(EMPTY);
+
+    for (int i = 0; i < 5; i++) {
+      service.onCatalogChange(CHANGE);
+    }
+
+    assertThat(next(received)).isEqualTo(STOCKED);
+    verify(productionUseCase, times(2)).calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+  }
+
+  @Test
+  @DisplayName("should share one calculation between subscribers")
+  void shouldFanOut() throws InterruptedException {
+    when(productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(EMPTY, STOCKED);
+    BlockingQueue<VersionedProductionPlan> first = new LinkedBlockingQueue<>();
+    BlockingQueue<VersionedProductionPlan> second = new LinkedBlockingQueue<>();
+    service.subscribe(first::add);
+    assertThat(next(first)).isEqualTo(EMPTY);
+    service.subscribe(second::add);
+    assertThat(next(second)).isEqualTo(EMPTY);
+
+    service.onCatalogChange(CHANGE);
+
+    assertThat(next(first)).isEqualTo(STOCKED);
+    assertThat(next(second)).isEqualTo(STOCKED);
+    verify(productionUseCase, times(2)).calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+  }
+
+  @Test
+  @DisplayName("should not send a plan that did not change")
+  void shouldSkipUnchangedPlan() throws InterruptedException {
+    when(productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(EMPTY, EMPTY, STOCKED);
+    BlockingQueue<VersionedProductionPlan> received = new LinkedBlockingQueue<>();
+    service.subscribe(received::add);
+    assertThat(next(received)).isEqualTo(EMPTY);
+
+    service.onCatalogChange(CHANGE);
+    Thread.sleep(300);
+    service.onCatalogChange(CHANGE);
+
+    assertThat(next(received)).isEqualTo(STOCKED);
+    assertThat(received).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should stop sending plans after cancel")
+  void shouldStopAfterCancel() throws InterruptedException {
+    when(productionUseCase.calculateVersionedProductionPlan(ProductionStrategy.GREEDY))
+        .thenReturn(EMPTY);
+    BlockingQueue<VersionedProductionPlan> received = new LinkedBlockingQueue<>();
+    PlanSubscription subscription = service.subscribe(received::add);
+    assertThat(next(received)).isEqualTo(EMPTY);
+
+    subscription.cancel();
+    service.onCatalogChange(CHANGE);
+    Thread.sleep(300);
+
+    assertThat(received).isEmpty();
+    verify(productionUseCase, times(1)).calculateVersionedProductionPlan(ProductionStrategy.GREEDY);
+  }
+}
@@ -3,17 +3,31 @@ package com.autoflex.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.pagination.Page;
+import com.autoflex.domain.model.pagination.PageRequest;
+import com.autoflex.domain.model.pagination.SortOrder;
 import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
 import com.autoflex.domain.model.rawmaterial.RawMaterial;
 import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.domain.port.in.RawMaterialUseCase.AdjustStockBatchCommand;
 import com.autoflex.domain.port.in.RawMaterialUseCase.CreateRawMaterialCommand;
+import com.autoflex.domain.port.in.RawMaterialUseCase.LineStatus;
 import com.autoflex.domain.port.in.RawMaterialUseCase.RawMaterialCodeAlreadyExistsException;
 import com.autoflex.domain.port.in.RawMaterialUseCase.RawMaterialNotFoundException;
+import com.autoflex.domain.port.in.RawMaterialUseCase.StockAdjustmentBatchResult;
+import com.autoflex.domain.port.in.RawMaterialUseCase.StockAdjustmentLine;
+import com.autoflex.domain.port.in.RawMaterialUseCase.StockAdjustmentLineResult;
 import com.autoflex.domain.port.out.RawMaterialRepository;
+import jakarta.enterprise.event.Event;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -29,6 +43,8 @@ class RawMaterialServiceTest {
 
   @Mock private RawMaterialRepository rawMaterialRepository;
 
+  @Mock private Event<CatalogChange> catalogChanges;
+
   @InjectMocks private RawMaterialService rawMaterialService;
 
   @Nested
@@ -90,30 +106,50 @@ class RawMaterialServiceTest {
   class AdjustStock {
 
     @Test
-    @DisplayName("should adjust stock successfully")
+    @DisplayName("should adjust stock with a conditional update and publish the result")
     void shouldAdjustStock() {
-      RawMaterial existing =
+      RawMaterial updated =
           RawMaterial.create(
               "Steel",
               null,
               "RM-001",
               MeasurementUnit.KILOGRAM,
-              new BigDecimal("100"),
+              new BigDecimal("150"),
               BigDecimal.TEN);
 
-      when(rawMaterialRepository.findById(any())).thenReturn(Optional.of(existing));
-      when(rawMaterialRepository.save(any(RawMaterial.class)))
-          .thenAnswer(inv -> inv.getArgument(0));
+      when(rawMaterialRepository.adjustStock(RawMaterialId.of(1L), new BigDecimal("50")))
+          .thenReturn(true);
+      when(rawMaterialRepository.findById(any())).thenReturn(Optional.of(updated));
 
       RawMaterial result =
           rawMaterialService.adjustStock(RawMaterialId.of(1L), new BigDecimal("50"));
 
       assertThat(result.getStockQuantity()).isEqualByComparingTo(new BigDecimal("150"));
+      verify(rawMaterialRepository, never()).save(any(RawMaterial.class));
+      verify(catalogChanges).fire(new CatalogChange.RawMaterialChanged(result));
+    }
+
+    @Test
+    @DisplayName("should reject the adjustment when the update matches no row")
+    void shouldRejectInsufficientStock() {
+      RawMaterial current =
+          RawMaterial.create(
+              "Steel", null, "RM-001", MeasurementUnit.KILOGRAM, BigDecimal.TEN, BigDecimal.TEN);
+
+      when(rawMaterialRepository.adjustStock(any(), any())).thenReturn(false);
+      when(rawMaterialRepository.findById(any())).thenReturn(Optional.of(current));
+
+      assertThatThrownBy(
+              () -> rawMaterialService.adjustStock(RawMaterialId.of(1L), new BigDecimal("-50")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("below zero");
+      verify(catalogChanges, never()).fire(any());
     }
 
     @Test
     @DisplayName("should throw when raw material not found")
     void shouldThrowWhenNotFound() {
+      when(rawMaterialRepository.adjustStock(any(), any())).thenReturn(false);
       when(rawMaterialRepository.findById(any())).thenReturn(Optional.empty());
 
       assertThatThrownBy(
@@ -122,6 +158,73 @@ class RawMaterialServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("When adjusting stock in batch")
+  class AdjustStockBatch {
+
+    private RawMaterial createRawMaterial(long id, String stock) {
+      return RawMaterial.reconstitute(
+          RawMaterialId.of(id),
+          "Material " + id,
+          null,
+          "RM-" + id,
+          MeasurementUnit.KILOGRAM,
+          new BigDecimal(stock),
+          BigDecimal.TEN,
+          true,
+          LocalDateTime.now(),
+          LocalDateTime.now());
+    }
+
+    private AdjustStockBatchCommand command(boolean atomic) {
+      return new AdjustStockBatchCommand(
+          List.of(
+              new StockAdjustmentLine(RawMaterialId.of(1L), new BigDecimal("-30")),
+              new StockAdjustmentLine(RawMaterialId.of(2L), new BigDecimal("-50")),
+              new StockAdjustmentLine(RawMaterialId.of(1L), new BigDecimal("-30")),
+              new StockAdjustmentLine(RawMaterialId.of(99L), BigDecimal.ONE)),
+          atomic);
+    }
+
+    @Test
+    @DisplayName("should load all materials with one query and save only the valid lines")
+    void shouldApplyPartialBatch() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial rubber = createRawMaterial(2, "20");
+      when(rawMaterialRepository.findByIds(anyList())).thenReturn(List.of(steel, rubber));
+      when(rawMaterialRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+      StockAdjustmentBatchResult result = rawMaterialService.adjustStockBatch(command(false));
+
+      assertThat(result.committed()).isTrue();
+      assertThat(result.lines())
+          .extracting(StockAdjustmentLineResult::status)
+          .containsExactly(
+              LineStatus.APPLIED, LineStatus.FAILED, LineStatus.APPLIED, LineStatus.FAILED);
+      assertThat(result.lines().get(2).stockQuantity()).isEqualByComparingTo("40");
+      assertThat(rubber.getStockQuantity()).isEqualByComparingTo("20");
+      verify(rawMaterialRepository)
+          .findByIds(List.of(RawMaterialId.of(1L), RawMaterialId.of(2L), RawMaterialId.of(99L)));
+      verify(rawMaterialRepository).saveAll(List.of(steel));
+      verify(catalogChanges).fire(new CatalogChange.RawMaterialChanged(steel));
+    }
+
+    @Test
+    @DisplayName("should save nothing when an atomic batch has a failing line")
+    void shouldRejectAtomicBatch() {
+      when(rawMaterialRepository.findByIds(anyList()))
+          .thenReturn(List.of(createRawMaterial(1, "100"), createRawMaterial(2, "20")));
+
+      StockAdjustmentBatchResult result = rawMaterialService.adjustStockBatch(command(true));
+
+      assertThat(result.committed()).isFalse();
+      assertThat(result.countByStatus(LineStatus.ROLLED_BACK)).isEqualTo(2);
+      assertThat(result.countByStatus(LineStatus.FAILED)).isEqualTo(2);
+      verify(rawMaterialRepository, never()).saveAll(anyList());
+      verify(catalogChanges, never()).fire(any());
+    }
+  }
+
   @Nested
   @DisplayName("When deactivating")
   class Deactivate {
@@ -143,4 +246,30 @@ class RawMaterialServiceTest {
       verify(rawMaterialRepository).save(existing);
     }
   }
+
+  @Nested
+  @DisplayName("When searching")
+  class Search {
+
+    @Test
+    @DisplayName("should read only the first page for a blank term")
+    void shouldReadFirstPageForBlankTerm() {
+      RawMaterial steel =
+          RawMaterial.create(
+              "Steel", null, "RM-001", MeasurementUnit.KILOGRAM, BigDecimal.ONE, BigDecimal.TEN);
+      when(rawMaterialRepository.findPage(PageRequest.first(5, SortOrder.ID_ASC), false))
+          .thenReturn(new Page<>(List.of(steel), null));
+
+      assertThat(rawMaterialService.searchRawMaterials("  ", 5)).containsExactly(steel);
+      verify(rawMaterialRepository, never()).findAllActive();
+    }
+
+    @Test
+    @DisplayName("should search for the trimmed term")
+    void shouldSearchTrimmedTerm() {
+      when(rawMaterialRepository.search("steel", 5)).thenReturn(List.of());
+
+      assertThat(rawMaterialService.searchRawMaterials(" steel ", 5)).isEmpty();
+    }
+  }
 }
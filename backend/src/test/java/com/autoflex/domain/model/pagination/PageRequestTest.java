@@ -0,0 +1,80 @@
+package com.autoflex.domain.model.pagination;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for the keyset pagination value objects. */
+@DisplayName("Keyset Pagination")
+class PageRequestTest {
+
+  @Nested
+  @DisplayName("Page Cursor")
+  class Cursor {
+
+    @Test
+    @DisplayName("should round-trip an ID cursor through its token")
+    void shouldRoundTripIdCursor() {
+      PageCursor cursor = new PageCursor(SortOrder.ID_DESC, 42L, "ignored");
+
+      PageCursor decoded = PageCursor.decode(cursor.encode());
+
+      assertThat(decoded).isEqualTo(new PageCursor(SortOrder.ID_DESC, 42L, null));
+    }
+
+    @Test
+    @DisplayName("should round-trip a name cursor containing separators")
+    void shouldRoundTripNameCursor() {
+      PageCursor cursor = new PageCursor(SortOrder.NAME_ASC, 7L, "Steel | Grade A");
+
+      assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+      assertThat(cursor.encode()).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    @DisplayName("should reject malformed tokens")
+    void shouldRejectMalformedTokens() {
+      assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> new PageCursor(SortOrder.NAME_ASC, 1L, null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Page Request")
+  class Request {
+
+    @Test
+    @DisplayName("should bound the page size")
+    void shouldBoundLimit() {
+      assertThatThrownBy(() -> PageRequest.first(0, SortOrder.ID_ASC))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> PageRequest.first(PageRequest.MAX_LIMIT + 1, SortOrder.ID_ASC))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(PageRequest.first(PageRequest.MAX_LIMIT, SortOrder.ID_ASC).limit())
+          .isEqualTo(PageRequest.MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("should reject a cursor produced for another sort order")
+    void shouldRejectMismatchedCursor() {
+      PageCursor cursor = new PageCursor(SortOrder.ID_ASC, 10L, null);
+
+      assertThatThrownBy(() -> new PageRequest(10, SortOrder.NAME_ASC, cursor))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should parse the bounded sort options")
+    void shouldParseSortOptions() {
+      assertThat(SortOrder.fromValue("id")).isEqualTo(SortOrder.ID_ASC);
+      assertThat(SortOrder.fromValue("-id")).isEqualTo(SortOrder.ID_DESC);
+      assertThat(SortOrder.fromValue("NAME")).isEqualTo(SortOrder.NAME_ASC);
+      assertThatThrownBy(() -> SortOrder.fromValue("price"))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -201,4 +201,58 @@ class ProductTest {
       assertThat(product.getUnitPrice()).isEqualByComparingTo(new BigDecimal("20.00"));
     }
   }
+
+  @Nested
+  @DisplayName("Demand Constraints")
+  class DemandConstraintsTests {
+
+    @Test
+    @DisplayName("should cap plannable units at the maximum demand")
+    void shouldCapAtMaxDemand() {
+      // Given
+      Product product = Product.create("Product", null, "SKU-001", BigDecimal.TEN, 0);
+
+      // When
+      product.updateDemandConstraints(DemandConstraints.of(5, null));
+
+      // Then
+      assertThat(product.plannableUnits(20)).isEqualTo(5);
+      assertThat(product.plannableUnits(3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should plan nothing below the minimum batch")
+    void shouldDropRunsBelowMinBatch() {
+      // Given
+      Product product = Product.create("Product", null, "SKU-001", BigDecimal.TEN, 0);
+
+      // When
+      product.updateDemandConstraints(DemandConstraints.of(null, 10));
+
+      // Then
+      assertThat(product.plannableUnits(9)).isZero();
+      assertThat(product.plannableUnits(10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should be unconstrained by default")
+    void shouldBeUnconstrainedByDefault() {
+      Product product = Product.create("Product", null, "SKU-001", BigDecimal.TEN, 0);
+
+      assertThat(product.getDemandConstraints()).isSameAs(DemandConstraints.NONE);
+      assertThat(product.plannableUnits(1_000)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("should reject a minimum batch above the maximum demand")
+    void shouldRejectInconsistentConstraints() {
+      assertThatThrownBy(() -> DemandConstraints.of(5, 10))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("cannot exceed");
+      assertThatThrownBy(() -> DemandConstraints.of(-1, null))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> DemandConstraints.of(null, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
 }
@@ -198,6 +198,26 @@ class RawMaterialTest {
       assertThat(rm.hasSufficientStock(new BigDecimal("99.99"))).isTrue();
       assertThat(rm.hasSufficientStock(new BigDecimal("100.01"))).isFalse();
     }
+
+    @Test
+    @DisplayName("should adjust the stock of a copy and leave the original unchanged")
+    void shouldAdjustStockOfCopy() {
+      RawMaterial rm =
+          RawMaterial.create(
+              "Steel",
+              null,
+              "RM-001",
+              MeasurementUnit.KILOGRAM,
+              new BigDecimal("100"),
+              BigDecimal.TEN);
+      RawMaterial copy = rm.withStockAdjustedBy(new BigDecimal("500"));
+      assertThat(copy.getStockQuantity()).isEqualByComparingTo(new BigDecimal("600"));
+      assertThat(copy.getCode()).isEqualTo(rm.getCode());
+      assertThat(rm.getStockQuantity()).isEqualByComparingTo(new BigDecimal("100"));
+      assertThatThrownBy(() -> rm.withStockAdjustedBy(new BigDecimal("-101")))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("below zero");
+    }
   }
 
   @Nested
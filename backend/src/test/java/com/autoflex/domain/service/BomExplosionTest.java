@@ -0,0 +1,213 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BomExplosion - Multi-Level Bill of Materials")
+class BomExplosionTest {
+
+  private static Product createProduct(
+      long id, boolean active, List<BillOfMaterialItem> bom, List<ProductComponent> components) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        BigDecimal.TEN,
+        0,
+        active,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom,
+        components,
+        0L);
+  }
+
+  private static Product createProduct(
+      long id, List<BillOfMaterialItem> bom, List<ProductComponent> components) {
+    return createProduct(id, true, bom, components);
+  }
+
+  private static BillOfMaterialItem bom(long rawMaterialId, String quantity) {
+    return BillOfMaterialItem.of(RawMaterialId.of(rawMaterialId), new BigDecimal(quantity));
+  }
+
+  private static ProductComponent component(long productId, String quantity) {
+    return ProductComponent.of(ProductId.of(productId), new BigDecimal(quantity));
+  }
+
+  private static Map<RawMaterialId, BigDecimal> requirements(Object... pairs) {
+    Map<RawMaterialId, BigDecimal> map = new LinkedHashMap<>();
+    for (int i = 0; i < pairs.length; i += 2) {
+      map.put(RawMaterialId.of((Long) pairs[i]), new BigDecimal((String) pairs[i + 1]));
+    }
+    return map;
+  }
+
+  @Test
+  @DisplayName("should reject a null product list")
+  void shouldRejectNullProducts() {
+    assertThatThrownBy(() -> BomExplosion.of(null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("cannot be null");
+  }
+
+  @Nested
+  @DisplayName("Flattening")
+  class Flattening {
+
+    @Test
+    @DisplayName("should return a product without components as it is")
+    void shouldKeepFlatProduct() {
+      Product flat = createProduct(1, List.of(bom(1, "2")), List.of());
+
+      assertThat(BomExplosion.of(List.of(flat)).explode(flat)).isSameAs(flat);
+    }
+
+    @Test
+    @DisplayName("should multiply component requirements by the quantity used")
+    void shouldMultiplyThroughLevels() {
+      // Wheel = 2 rubber + 1 steel; axle = 2 wheels + 3 steel; cart = 2 axles + 1 wood
+      Product wheel = createProduct(1, List.of(bom(10, "2"), bom(11, "1")), List.of());
+      Product axle = createProduct(2, List.of(bom(11, "3")), List.of(component(1, "2")));
+      Product cart = createProduct(3, List.of(bom(12, "1")), List.of(component(2, "2")));
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, axle, cart));
+
+      assertThat(explosion.requirements(ProductId.of(2L)))
+          .containsExactlyInAnyOrderEntriesOf(requirements(10L, "4", 11L, "5"));
+      assertThat(explosion.requirements(ProductId.of(3L)))
+          .containsExactlyInAnyOrderEntriesOf(requirements(12L, "1", 10L, "8", 11L, "10"));
+    }
+
+    @Test
+    @DisplayName("should explode to a copy carrying the flattened BOM and no components")
+    void shouldExplodeToFlatCopy() {
+      Product wheel = createProduct(1, List.of(bom(10, "0.25")), List.of());
+      Product cart = createProduct(2, List.of(), List.of(component(1, "4")));
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, cart));
+
+      Product exploded = explosion.explode(cart);
+
+      assertThat(exploded.getId()).isEqualTo(cart.getId());
+      assertThat(exploded.getUnitPrice()).isEqualTo(cart.getUnitPrice());
+      assertThat(exploded.getComponents()).isEmpty();
+      assertThat(exploded.getMaterials()).containsExactly(bom(10, "1"));
+      assertThat(cart.getComponents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should reuse the memoized requirements of a shared sub-assembly")
+    void shouldShareSubAssembly() {
+      Product wheel = createProduct(1, List.of(bom(10, "1")), List.of());
+      Product bike = createProduct(2, List.of(), List.of(component(1, "2")));
+      Product trike = createProduct(3, List.of(), List.of(component(1, "3")));
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, bike, trike));
+
+      List<Product> exploded = explosion.explodeAll(List.of(wheel, bike, trike));
+
+      assertThat(exploded)
+          .extracting(Product::getId)
+          .containsExactly(wheel.getId(), bike.getId(), trike.getId());
+      assertThat(exploded.get(1).getMaterials()).containsExactly(bom(10, "2"));
+      assertThat(exploded.get(2).getMaterials()).containsExactly(bom(10, "3"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Unbuildable products")
+  class Unbuildable {
+
+    @Test
+    @DisplayName("should explode a cycle to empty BOMs")
+    void shouldBreakCycle() {
+      Product a = createProduct(1, List.of(bom(10, "1")), List.of(component(2, "1")));
+      Product b = createProduct(2, List.of(bom(11, "1")), List.of(component(1, "1")));
+      Product top = createProduct(3, List.of(bom(12, "1")), List.of(component(1, "1")));
+      BomExplosion explosion = BomExplosion.of(List.of(a, b, top));
+
+      assertThat(explosion.explode(top).getMaterials()).isEmpty();
+      assertThat(explosion.explode(a).getMaterials()).isEmpty();
+      assertThat(explosion.explode(b).getMaterials()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should explode a product using an inactive or unknown component to an empty BOM")
+    void shouldRejectMissingComponents() {
+      Product inactive = createProduct(1, false, List.of(bom(10, "1")), List.of());
+      Product usesInactive = createProduct(2, List.of(bom(11, "1")), List.of(component(1, "1")));
+      Product usesUnknown = createProduct(3, List.of(bom(11, "1")), List.of(component(99, "1")));
+      BomExplosion explosion = BomExplosion.of(List.of(inactive, usesInactive, usesUnknown));
+
+      assertThat(explosion.explode(usesInactive).getMaterials()).isEmpty();
+      assertThat(explosion.explode(usesUnknown).getMaterials()).isEmpty();
+      assertThat(explosion.explode(ProductId.of(99L))).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Invalidation")
+  class Invalidation {
+
+    @Test
+    @DisplayName("should return and re-resolve every product above a changed component")
+    void shouldInvalidateAncestors() {
+      Product wheel = createProduct(1, List.of(bom(10, "1")), List.of());
+      Product axle = createProduct(2, List.of(), List.of(component(1, "2")));
+      Product cart = createProduct(3, List.of(), List.of(component(2, "2")));
+      Product unrelated = createProduct(4, List.of(bom(10, "1")), List.of());
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, axle, cart, unrelated));
+      assertThat(explosion.requirements(cart.getId()))
+          .containsExactlyEntriesOf(requirements(10L, "4"));
+
+      var affected = explosion.put(createProduct(1, List.of(bom(10, "3")), List.of()));
+
+      assertThat(affected).containsExactlyInAnyOrder(wheel.getId(), axle.getId(), cart.getId());
+      assertThat(explosion.requirements(cart.getId()))
+          .containsExactlyEntriesOf(requirements(10L, "12"));
+    }
+
+    @Test
+    @DisplayName("should relink the parents of a product whose components changed")
+    void shouldRelinkChangedComponents() {
+      Product wheel = createProduct(1, List.of(bom(10, "1")), List.of());
+      Product frame = createProduct(2, List.of(bom(11, "1")), List.of());
+      Product cart = createProduct(3, List.of(), List.of(component(1, "1")));
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, frame, cart));
+
+      explosion.put(createProduct(3, List.of(), List.of(component(2, "1"))));
+
+      assertThat(explosion.put(wheel)).containsExactly(wheel.getId());
+      assertThat(explosion.put(frame)).containsExactlyInAnyOrder(frame.getId(), cart.getId());
+      assertThat(explosion.requirements(cart.getId()))
+          .containsExactlyEntriesOf(requirements(11L, "1"));
+    }
+
+    @Test
+    @DisplayName("should make the parents of a removed component unbuildable")
+    void shouldInvalidateOnRemoval() {
+      Product wheel = createProduct(1, List.of(bom(10, "1")), List.of());
+      Product cart = createProduct(2, List.of(), List.of(component(1, "4")));
+      BomExplosion explosion = BomExplosion.of(List.of(wheel, cart));
+      assertThat(explosion.explode(cart).getMaterials()).isNotEmpty();
+
+      assertThat(explosion.remove(wheel.getId()))
+          .containsExactlyInAnyOrder(wheel.getId(), cart.getId());
+
+      assertThat(explosion.explode(cart.getId()).getMaterials()).isEmpty();
+    }
+  }
+}
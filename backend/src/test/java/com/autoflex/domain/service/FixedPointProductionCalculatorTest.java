@@ -0,0 +1,179 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FixedPointProductionCalculator - Primitive Greedy Engine")
+class FixedPointProductionCalculatorTest {
+
+  private static RawMaterial createRawMaterial(long id, String stock) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        new BigDecimal(stock),
+        BigDecimal.TEN,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  private static Product createProduct(long id, String price, List<BillOfMaterialItem> bom) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        new BigDecimal(price),
+        0,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom);
+  }
+
+  private static void assertSamePlan(List<Product> products, List<RawMaterial> materials) {
+    ProductionPlan expected = ProductionCalculator.calculate(products, materials);
+    ProductionPlan actual = FixedPointProductionCalculator.calculate(products, materials);
+
+    // Records compare BigDecimal with equals(), so scales must match too
+    assertThat(actual.items()).isEqualTo(expected.items());
+    assertThat(actual.totalProductionValue()).isEqualTo(expected.totalProductionValue());
+    assertThat(actual.remainingStock()).isEqualTo(expected.remainingStock());
+  }
+
+  @Nested
+  @DisplayName("Parity with the decimal engine")
+  class Parity {
+
+    @Test
+    @DisplayName("should match the decimal engine on randomized catalogs")
+    void shouldMatchOnRandomCatalogs() {
+      Random random = new Random(42);
+      for (int round = 0; round < 50; round++) {
+        int materialCount = 1 + random.nextInt(20);
+        List<RawMaterial> materials = new ArrayList<>();
+        for (int m = 1; m <= materialCount; m++) {
+          String stock = random.nextInt(10_000) + "." + String.format("%02d", random.nextInt(100));
+          materials.add(createRawMaterial(m, stock));
+        }
+
+        List<Product> products = new ArrayList<>();
+        int productCount = 1 + random.nextInt(40);
+        for (int p = 1; p <= productCount; p++) {
+          List<BillOfMaterialItem> bom = new ArrayList<>();
+          int width = random.nextInt(4);
+          for (int b = 0; b < width; b++) {
+            long materialId = 1 + random.nextInt(materialCount + 2);
+            if (bom.stream().anyMatch(i -> i.rawMaterialId().value() == materialId)) {
+              continue;
+            }
+            String quantity = (1 + random.nextInt(50)) + "." + random.nextInt(10000);
+            bom.add(BillOfMaterialItem.of(RawMaterialId.of(materialId), new BigDecimal(quantity)));
+          }
+          products.add(createProduct(p, String.valueOf(1 + random.nextInt(30)), bom));
+        }
+
+        assertSamePlan(products, materials);
+      }
+    }
+
+    @Test
+    @DisplayName("should match the decimal engine with demand constraints")
+    void shouldMatchWithDemandConstraints() {
+      RawMaterial steel = createRawMaterial(1, "100.5");
+      Product capped =
+          createProduct(
+              1, "50", List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("3"))));
+      capped.updateDemandConstraints(DemandConstraints.of(4, null));
+      Product batched =
+          createProduct(
+              2, "40", List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("10"))));
+      batched.updateDemandConstraints(DemandConstraints.of(null, 9));
+      Product filler =
+          createProduct(
+              3, "10", List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("2.5"))));
+
+      List<Product> products = List.of(capped, batched, filler);
+      ProductionPlan plan = FixedPointProductionCalculator.calculate(products, List.of(steel));
+
+      // 4 capped (12 steel), 8 batched would fit but the batch is 9, 35 fillers (87.5 steel)
+      assertThat(plan.items()).extracting(ProductionPlanItem::quantity).containsExactly(4, 35);
+      assertSamePlan(products, List.of(steel));
+    }
+
+    @Test
+    @DisplayName("should preserve the decimal scale of remaining stock")
+    void shouldPreserveRemainingStockScale() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial rubber = createRawMaterial(2, "10.50");
+      Product widget =
+          createProduct(
+              1,
+              "10",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("2.125"))));
+
+      ProductionPlan plan =
+          FixedPointProductionCalculator.calculate(List.of(widget), List.of(steel, rubber));
+
+      assertThat(plan.remainingStock().get(RawMaterialId.of(1L)))
+          .isEqualTo(new BigDecimal("0.125"));
+      assertThat(plan.remainingStock().get(RawMaterialId.of(2L)))
+          .isEqualTo(new BigDecimal("10.50"));
+      assertSamePlan(List.of(widget), List.of(steel, rubber));
+    }
+
+    @Test
+    @DisplayName("should fall back to the decimal engine for quantities beyond four decimals")
+    void shouldFallBackForUnrepresentableQuantities() {
+      RawMaterial steel = createRawMaterial(1, "1");
+      Product widget =
+          createProduct(
+              1,
+              "10",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("0.33333"))));
+
+      assertThat(FixedPointProductionCalculator.fits(new BigDecimal("0.33333"))).isFalse();
+      assertSamePlan(List.of(widget), List.of(steel));
+    }
+  }
+
+  @Nested
+  @DisplayName("Input validation")
+  class InputValidation {
+
+    @Test
+    @DisplayName("should reject null products list")
+    void shouldRejectNullProducts() {
+      assertThatThrownBy(() -> FixedPointProductionCalculator.calculate(null, List.of()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject null raw materials list")
+    void shouldRejectNullRawMaterials() {
+      assertThatThrownBy(() -> FixedPointProductionCalculator.calculate(List.of(), null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
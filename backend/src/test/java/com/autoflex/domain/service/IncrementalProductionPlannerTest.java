@@ -0,0 +1,307 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IncrementalProductionPlanner - Incremental Greedy Plan")
+class IncrementalProductionPlannerTest {
+
+  private static RawMaterial createRawMaterial(long id, String stock) {
+    return createRawMaterial(id, new BigDecimal(stock), true);
+  }
+
+  private static RawMaterial createRawMaterial(long id, BigDecimal stock, boolean active) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        stock,
+        BigDecimal.TEN,
+        active,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  private static Product createProduct(long id, String price, List<BillOfMaterialItem> bom) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        new BigDecimal(price),
+        0,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom);
+  }
+
+  private static BillOfMaterialItem bom(long rawMaterialId, String quantity) {
+    return BillOfMaterialItem.of(RawMaterialId.of(rawMaterialId), new BigDecimal(quantity));
+  }
+
+  private static void assertSamePlan(
+      IncrementalProductionPlanner planner, List<Product> products, List<RawMaterial> materials) {
+    ProductionPlan expected = ProductionCalculator.calculate(products, materials);
+    ProductionPlan actual = planner.plan();
+
+    // Records compare BigDecimal with equals(), so scales must match too
+    assertThat(actual.items()).isEqualTo(expected.items());
+    assertThat(actual.totalProductionValue()).isEqualTo(expected.totalProductionValue());
+    assertThat(actual.remainingStock()).isEqualTo(expected.remainingStock());
+  }
+
+  @Nested
+  @DisplayName("Stock changes")
+  class StockChanges {
+
+    @Test
+    @DisplayName("should replay only from the first product that uses the material")
+    void shouldReplayFromFirstUse() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial rubber = createRawMaterial(2, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product tire = createProduct(2, "50", List.of(bom(2, "2.5")));
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.build(
+              List.of(premium, tire), new ArrayList<>(List.of(steel, rubber)));
+
+      RawMaterial moreRubber = createRawMaterial(2, "20");
+      boolean applied = planner.applyRawMaterialChange(moreRubber);
+
+      assertThat(applied).isTrue();
+      assertThat(planner.lastReplayedFrom()).isEqualTo(1);
+      assertSamePlan(planner, List.of(premium, tire), List.of(steel, moreRubber));
+    }
+
+    @Test
+    @DisplayName("should drop deactivated and removed materials from the plan")
+    void shouldHandleDeactivatedMaterials() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      Product widget = createProduct(1, "10", List.of(bom(1, "3")));
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.build(List.of(widget), List.of(steel));
+
+      planner.applyRawMaterialChange(createRawMaterial(1, new BigDecimal("100"), false));
+
+      assertThat(planner.plan().hasProduction()).isFalse();
+      assertThat(planner.plan().remainingStock()).isEmpty();
+
+      planner.applyRawMaterialChange(steel);
+      planner.applyRawMaterialRemoval(RawMaterialId.of(1L));
+
+      assertThat(planner.plan().hasProduction()).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("Product changes")
+  class ProductChanges {
+
+    @Test
+    @DisplayName("should replay from the product position when its BOM changes")
+    void shouldReplayFromProductPosition() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.build(List.of(premium, basic), List.of(steel));
+
+      Product lighterBasic = createProduct(2, "30", List.of(bom(1, "1.5")));
+      boolean applied = planner.applyProductChange(lighterBasic);
+
+      assertThat(applied).isTrue();
+      assertThat(planner.lastReplayedFrom()).isEqualTo(1);
+      assertSamePlan(planner, List.of(premium, lighterBasic), List.of(steel));
+    }
+
+    @Test
+    @DisplayName("should replay from the product position when its demand constraints change")
+    void shouldReplayOnDemandConstraintChange() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.build(List.of(premium, basic), List.of(steel));
+
+      Product cappedPremium = createProduct(1, "100", List.of(bom(1, "10")));
+      cappedPremium.updateDemandConstraints(DemandConstraints.of(3, null));
+      boolean applied = planner.applyProductChange(cappedPremium);
+
+      assertThat(applied).isTrue();
+      assertThat(planner.lastReplayedFrom()).isZero();
+      assertThat(planner.plan().items()).hasSize(2);
+      assertSamePlan(planner, List.of(cappedPremium, basic), List.of(steel));
+    }
+
+    @Test
+    @DisplayName("should require a rebuild when the greedy order changes")
+    void shouldRejectStructuralChanges() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product unplanned = createProduct(2, "30", List.of());
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.build(List.of(premium, unplanned), List.of(steel));
+
+      assertThat(planner.applyProductChange(createProduct(1, "120", List.of(bom(1, "10")))))
+          .isFalse();
+      assertThat(planner.applyProductChange(createProduct(2, "30", List.of(bom(1, "1")))))
+          .isFalse();
+      assertThat(planner.applyProductRemoval(ProductId.of(1L))).isFalse();
+      assertThat(planner.applyProductRemoval(ProductId.of(2L))).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("Parity with a full recalculation")
+  class Parity {
+
+    @Test
+    @DisplayName("should match the greedy calculator after randomized change sequences")
+    void shouldMatchAfterRandomChanges() {
+      Random random = new Random(3);
+      for (int round = 0; round < 30; round++) {
+        int materialCount = 1 + random.nextInt(8);
+        Map<Long, RawMaterial> materials = new LinkedHashMap<>();
+        for (long m = 1; m <= materialCount; m++) {
+          materials.put(m, createRawMaterial(m, random.nextInt(500) + "." + random.nextInt(100)));
+        }
+        Map<Long, Product> products = new LinkedHashMap<>();
+        int productCount = 1 + random.nextInt(12);
+        for (long p = 1; p <= productCount; p++) {
+          String price = String.valueOf(1 + random.nextInt(10));
+          products.put(p, createProduct(p, price, randomBom(random, materialCount)));
+        }
+
+        IncrementalProductionPlanner planner =
+            IncrementalProductionPlanner.build(
+                new ArrayList<>(products.values()), new ArrayList<>(materials.values()));
+
+        for (int step = 0; step < 20; step++) {
+          boolean applied;
+          if (random.nextBoolean()) {
+            long m = 1 + random.nextInt(materialCount);
+            BigDecimal stock = new BigDecimal(random.nextInt(500) + "." + random.nextInt(1000));
+            RawMaterial changed = createRawMaterial(m, stock, random.nextInt(5) != 0);
+            materials.put(m, changed);
+            applied = planner.applyRawMaterialChange(changed);
+          } else {
+            long p = 1 + random.nextInt(productCount);
+            String price = products.get(p).getUnitPrice().toPlainString();
+            Product changed = createProduct(p, price, randomBom(random, materialCount));
+            products.put(p, changed);
+            applied = planner.applyProductChange(changed);
+          }
+
+          if (!applied) {
+            planner =
+                IncrementalProductionPlanner.build(
+                    new ArrayList<>(products.values()), new ArrayList<>(materials.values()));
+          }
+          assertSamePlan(
+              planner, new ArrayList<>(products.values()), new ArrayList<>(materials.values()));
+        }
+      }
+    }
+
+    private List<BillOfMaterialItem> randomBom(Random random, int materialCount) {
+      List<BillOfMaterialItem> items = new ArrayList<>();
+      for (long m = 1; m <= materialCount; m++) {
+        if (random.nextInt(3) == 0) {
+          items.add(bom(m, (1 + random.nextInt(20)) + "." + random.nextInt(100)));
+        }
+      }
+      return items;
+    }
+  }
+
+  @Nested
+  @DisplayName("Rebuild from a computed plan")
+  class FromPlan {
+
+    @Test
+    @DisplayName("should adopt an engine plan and keep replaying changes from it")
+    void shouldAdoptEnginePlan() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial rubber = createRawMaterial(2, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product tire = createProduct(2, "50", List.of(bom(2, "2.5")));
+      Product basic = createProduct(3, "30", List.of(bom(1, "2"), bom(2, "0.5")));
+      List<Product> products = List.of(premium, tire, basic);
+      ProductionPlan enginePlan =
+          ProductionEngine.FIXED_POINT.calculate(products, List.of(steel, rubber));
+
+      IncrementalProductionPlanner planner =
+          IncrementalProductionPlanner.fromPlan(products, List.of(steel, rubber), enginePlan);
+
+      assertThat(planner.plan()).isSameAs(enginePlan);
+      assertThat(planner.lastReplayedFrom()).isEqualTo(products.size());
+
+      RawMaterial moreRubber = createRawMaterial(2, "20");
+      assertThat(planner.applyRawMaterialChange(moreRubber)).isTrue();
+      assertSamePlan(planner, products, List.of(steel, moreRubber));
+    }
+
+    @Test
+    @DisplayName("should reject a plan with a product outside the catalog")
+    void shouldRejectUnknownProduct() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial rubber = createRawMaterial(2, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product tire = createProduct(2, "50", List.of(bom(2, "2.5")));
+      List<RawMaterial> materials = List.of(steel, rubber);
+      ProductionPlan plan = ProductionCalculator.calculate(List.of(premium, tire), materials);
+
+      assertThatThrownBy(
+              () -> IncrementalProductionPlanner.fromPlan(List.of(premium), materials, plan))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject a null plan")
+    void shouldRejectNullPlan() {
+      assertThatThrownBy(() -> IncrementalProductionPlanner.fromPlan(List.of(), List.of(), null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Input validation")
+  class InputValidation {
+
+    @Test
+    @DisplayName("should reject null products list")
+    void shouldRejectNullProducts() {
+      assertThatThrownBy(() -> IncrementalProductionPlanner.build(null, List.of()))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should reject null raw materials list")
+    void shouldRejectNullRawMaterials() {
+      assertThatThrownBy(() -> IncrementalProductionPlanner.build(List.of(), null))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
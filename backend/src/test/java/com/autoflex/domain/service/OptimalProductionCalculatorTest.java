@@ -0,0 +1,310 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OptimalProductionCalculator - Branch and Bound")
+class OptimalProductionCalculatorTest {
+
+  private static final Duration BUDGET = Duration.ofSeconds(5);
+  private static final int NODE_LIMIT = 100_000;
+
+  private static RawMaterial createRawMaterial(long id, String stock) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        new BigDecimal(stock),
+        BigDecimal.TEN,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  private static Product createProduct(long id, String price, List<BillOfMaterialItem> bom) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        new BigDecimal(price),
+        0,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom);
+  }
+
+  private static BillOfMaterialItem bom(long rawMaterialId, String quantity) {
+    return BillOfMaterialItem.of(RawMaterialId.of(rawMaterialId), new BigDecimal(quantity));
+  }
+
+  @Nested
+  @DisplayName("Optimality")
+  class Optimality {
+
+    @Test
+    @DisplayName("should beat greedy when a cheaper product uses scarce material more efficiently")
+    void shouldBeatGreedy() {
+      // Greedy makes 1 Premium (100) using all 10 steel; 5 Basics (5 x 30 = 150) are worth more
+      RawMaterial steel = createRawMaterial(1, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+
+      ProductionPlan greedy =
+          ProductionCalculator.calculate(List.of(premium, basic), List.of(steel));
+      ProductionPlan optimal =
+          OptimalProductionCalculator.calculate(
+              List.of(premium, basic), List.of(steel), BUDGET, NODE_LIMIT);
+
+      assertThat(greedy.totalProductionValue()).isEqualByComparingTo("100");
+      assertThat(optimal.totalProductionValue()).isEqualByComparingTo("150");
+      assertThat(optimal.items())
+          .extracting(ProductionPlanItem::productId)
+          .containsExactly(ProductId.of(2L));
+      assertThat(optimal.remainingStock().get(RawMaterialId.of(1L)))
+          .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("should never return less than greedy and never exceed stock")
+    void shouldDominateGreedyAndRespectStock() {
+      Random random = new Random(7);
+      for (int round = 0; round < 50; round++) {
+        List<RawMaterial> materials = new ArrayList<>();
+        for (int m = 1; m <= 3; m++) {
+          materials.add(createRawMaterial(m, String.valueOf(5 + random.nextInt(40))));
+        }
+        List<Product> products = new ArrayList<>();
+        for (int p = 1; p <= 4; p++) {
+          List<BillOfMaterialItem> items = new ArrayList<>();
+          for (int m = 1; m <= 3; m++) {
+            if (random.nextBoolean()) {
+              items.add(bom(m, (1 + random.nextInt(9)) + "." + random.nextInt(10)));
+            }
+          }
+          products.add(createProduct(p, String.valueOf(1 + random.nextInt(20)), items));
+        }
+
+        ProductionPlan greedy = ProductionCalculator.calculate(products, materials);
+        ProductionPlan optimal =
+            OptimalProductionCalculator.calculate(products, materials, BUDGET, NODE_LIMIT);
+
+        assertThat(optimal.totalProductionValue())
+            .isGreaterThanOrEqualTo(greedy.totalProductionValue());
+        assertThat(optimal.remainingStock().values())
+            .allSatisfy(stock -> assertThat(stock.signum()).isNotNegative());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Demand constraints")
+  class DemandConstraintsScenarios {
+
+    @Test
+    @DisplayName("should fill the stock a capped product leaves with other products")
+    void shouldRespectMaxDemand() {
+      // Basic is capped at 3 (6 steel); the optimum adds 4 Fillers instead of one Premium
+      RawMaterial steel = createRawMaterial(1, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+      basic.updateDemandConstraints(DemandConstraints.of(3, null));
+      Product filler = createProduct(3, "5", List.of(bom(1, "1")));
+
+      ProductionPlan optimal =
+          OptimalProductionCalculator.calculate(
+              List.of(premium, basic, filler), List.of(steel), BUDGET, NODE_LIMIT);
+
+      assertThat(optimal.totalProductionValue()).isEqualByComparingTo("110");
+      assertThat(optimal.items())
+          .extracting(ProductionPlanItem::productId, ProductionPlanItem::quantity)
+          .containsExactly(tuple(ProductId.of(2L), 3), tuple(ProductId.of(3L), 4));
+    }
+
+    @Test
+    @DisplayName("should not plan a product below its minimum batch")
+    void shouldRespectMinBatch() {
+      // 5 Basics would be worth 150, but a run needs 6 of them (12 steel)
+      RawMaterial steel = createRawMaterial(1, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+      basic.updateDemandConstraints(DemandConstraints.of(null, 6));
+
+      ProductionPlan optimal =
+          OptimalProductionCalculator.calculate(
+              List.of(premium, basic), List.of(steel), BUDGET, NODE_LIMIT);
+
+      assertThat(optimal.totalProductionValue()).isEqualByComparingTo("100");
+      assertThat(optimal.items())
+          .extracting(ProductionPlanItem::productId)
+          .containsExactly(ProductId.of(1L));
+    }
+
+    @Test
+    @DisplayName("should keep every item within its constraints on randomized catalogs")
+    void shouldRespectConstraintsOnRandomCatalogs() {
+      Random random = new Random(11);
+      for (int round = 0; round < 50; round++) {
+        List<RawMaterial> materials = new ArrayList<>();
+        for (int m = 1; m <= 3; m++) {
+          materials.add(createRawMaterial(m, String.valueOf(5 + random.nextInt(40))));
+        }
+        List<Product> products = new ArrayList<>();
+        for (int p = 1; p <= 4; p++) {
+          List<BillOfMaterialItem> items = new ArrayList<>();
+          for (int m = 1; m <= 3; m++) {
+            if (random.nextBoolean()) {
+              items.add(bom(m, (1 + random.nextInt(9)) + "." + random.nextInt(10)));
+            }
+          }
+          Product product = createProduct(p, String.valueOf(1 + random.nextInt(20)), items);
+          Integer minBatch = random.nextBoolean() ? 1 + random.nextInt(4) : null;
+          Integer maxDemand = random.nextBoolean() ? 4 + random.nextInt(4) : null;
+          product.updateDemandConstraints(DemandConstraints.of(maxDemand, minBatch));
+          products.add(product);
+        }
+
+        ProductionPlan greedy = ProductionCalculator.calculate(products, materials);
+        ProductionPlan optimal =
+            OptimalProductionCalculator.calculate(products, materials, BUDGET, NODE_LIMIT);
+
+        assertThat(optimal.totalProductionValue())
+            .isGreaterThanOrEqualTo(greedy.totalProductionValue());
+        assertThat(optimal.remainingStock().values())
+            .allSatisfy(stock -> assertThat(stock.signum()).isNotNegative());
+        for (ProductionPlanItem item : optimal.items()) {
+          Product product =
+              products.stream().filter(p -> p.getId().equals(item.productId())).findFirst().get();
+          assertThat(product.plannableUnits(item.quantity())).isEqualTo(item.quantity());
+        }
+      }
+    }
+  }
+
+  /** Best plan value by enumerating every unit combination; for tiny catalogs only. */
+  private static BigDecimal exhaustiveOptimum(
+      List<Product> products, List<RawMaterial> materials, int[] units, int index) {
+    if (index == products.size()) {
+      for (RawMaterial material : materials) {
+        BigDecimal used = BigDecimal.ZERO;
+        for (int p = 0; p < products.size(); p++) {
+          for (BillOfMaterialItem item : products.get(p).getMaterials()) {
+            if (item.rawMaterialId().equals(material.getId())) {
+              used = used.add(item.quantityRequired().multiply(BigDecimal.valueOf(units[p])));
+            }
+          }
+        }
+        if (used.compareTo(material.getStockQuantity()) > 0) {
+          return null;
+        }
+      }
+      BigDecimal value = BigDecimal.ZERO;
+      for (int p = 0; p < products.size(); p++) {
+        value = value.add(products.get(p).getUnitPrice().multiply(BigDecimal.valueOf(units[p])));
+      }
+      return value;
+    }
+    BigDecimal best = null;
+    for (int quantity = 0; quantity <= 12; quantity++) {
+      if (products.get(index).plannableUnits(quantity) != quantity) {
+        continue;
+      }
+      units[index] = quantity;
+      BigDecimal value = exhaustiveOptimum(products, materials, units, index + 1);
+      if (value != null && (best == null || value.compareTo(best) > 0)) {
+        best = value;
+      }
+    }
+    units[index] = 0;
+    return best;
+  }
+
+  @Nested
+  @DisplayName("Bounded relaxation")
+  class BoundedRelaxation {
+
+    @Test
+    @DisplayName("should prove the optimum of small capped catalogs")
+    void shouldMatchExhaustiveSearch() {
+      Random random = new Random(23);
+      for (int round = 0; round < 40; round++) {
+        List<RawMaterial> materials = new ArrayList<>();
+        for (int m = 1; m <= 2; m++) {
+          materials.add(createRawMaterial(m, String.valueOf(10 + random.nextInt(30))));
+        }
+        List<Product> products = new ArrayList<>();
+        for (int p = 1; p <= 3; p++) {
+          List<BillOfMaterialItem> items = new ArrayList<>();
+          items.add(bom(1 + random.nextInt(2), (2 + random.nextInt(5)) + "." + random.nextInt(10)));
+          Product product = createProduct(p, String.valueOf(1 + random.nextInt(20)), items);
+          // Every product is capped, so the exhaustive search covers all feasible plans
+          Integer minBatch = random.nextBoolean() ? 2 + random.nextInt(3) : null;
+          product.updateDemandConstraints(DemandConstraints.of(5 + random.nextInt(8), minBatch));
+          products.add(product);
+        }
+
+        ProductionPlan optimal =
+            OptimalProductionCalculator.calculate(products, materials, BUDGET, NODE_LIMIT);
+
+        assertThat(optimal.totalProductionValue())
+            .as("round %d", round)
+            .isEqualByComparingTo(exhaustiveOptimum(products, materials, new int[3], 0));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Budget and fallback")
+  class Budget {
+
+    @Test
+    @DisplayName("should return the greedy plan when nothing better is found within the limits")
+    void shouldFallBackToGreedy() {
+      RawMaterial steel = createRawMaterial(1, "10");
+      Product premium = createProduct(1, "100", List.of(bom(1, "10")));
+      Product basic = createProduct(2, "30", List.of(bom(1, "2")));
+
+      ProductionPlan greedy =
+          ProductionCalculator.calculate(List.of(premium, basic), List.of(steel));
+      ProductionPlan plan =
+          OptimalProductionCalculator.calculate(
+              List.of(premium, basic), List.of(steel), Duration.ofNanos(1), 1);
+
+      assertThat(plan.totalProductionValue()).isGreaterThanOrEqualTo(greedy.totalProductionValue());
+    }
+
+    @Test
+    @DisplayName("should reject non-positive limits")
+    void shouldRejectInvalidLimits() {
+      assertThatThrownBy(
+              () -> OptimalProductionCalculator.calculate(List.of(), List.of(), Duration.ZERO, 1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(
+              () -> OptimalProductionCalculator.calculate(List.of(), List.of(), BUDGET, 0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PartitionedProductionCalculator - Parallel Greedy by Component")
+class PartitionedProductionCalculatorTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  private static RawMaterial createRawMaterial(long id, String stock) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        new BigDecimal(stock),
+        BigDecimal.TEN,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  private static Product createProduct(long id, String price, List<BillOfMaterialItem> bom) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        new BigDecimal(price),
+        0,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom);
+  }
+
+  private static BillOfMaterialItem bom(long rawMaterialId, String quantity) {
+    return BillOfMaterialItem.of(RawMaterialId.of(rawMaterialId), new BigDecimal(quantity));
+  }
+
+  private void assertSamePlan(
+      List<Product> products, List<RawMaterial> materials, ProductionEngine engine) {
+    ProductionPlan expected = engine.calculate(products, materials);
+    ProductionPlan actual =
+        PartitionedProductionCalculator.calculate(products, materials, engine, pool);
+
+    // Records compare BigDecimal with equals(), so scales must match too
+    assertThat(actual.items()).isEqualTo(expected.items());
+    assertThat(actual.totalProductionValue()).isEqualTo(expected.totalProductionValue());
+    assertThat(actual.remainingStock()).isEqualTo(expected.remainingStock());
+  }
+
+  /** Builds a catalog of independent plants, each with its own materials and products. */
+  private static void multiPlantCatalog(
+      Random random, int plants, List<Product> products, List<RawMaterial> materials) {
+    long productId = 1;
+    for (int plant = 0; plant < plants; plant++) {
+      int materialCount = 1 + random.nextInt(4);
+      long firstMaterial = plant * 10L + 1;
+      for (int m = 0; m < materialCount; m++) {
+        String stock = random.nextInt(1_000) + "." + String.format("%02d", random.nextInt(100));
+        materials.add(createRawMaterial(firstMaterial + m, stock));
+      }
+      int productCount = 1 + random.nextInt(6);
+      for (int p = 0; p < productCount; p++) {
+        List<BillOfMaterialItem> items = new ArrayList<>();
+        for (int m = 0; m < materialCount; m++) {
+          if (random.nextBoolean()) {
+            items.add(bom(firstMaterial + m, (1 + random.nextInt(20)) + "." + random.nextInt(100)));
+          }
+        }
+        Product product = createProduct(productId++, String.valueOf(1 + random.nextInt(30)), items);
+        if (random.nextInt(4) == 0) {
+          product.updateDemandConstraints(DemandConstraints.of(5 + random.nextInt(20), null));
+        }
+        products.add(product);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Partitioning")
+  class Partitioning {
+
+    @Test
+    @DisplayName("should join products linked through a chain of shared materials")
+    void shouldJoinTransitively() {
+      Product a = createProduct(1, "50", List.of(bom(1, "1")));
+      Product b = createProduct(2, "40", List.of(bom(1, "1"), bom(2, "1")));
+      Product c = createProduct(3, "30", List.of(bom(2, "1")));
+      Product d = createProduct(4, "20", List.of(bom(3, "1")));
+
+      var components = PartitionedProductionCalculator.partition(List.of(a, b, c, d));
+
+      assertThat(components).hasSize(2);
+      assertThat(components.get(0).products).containsExactly(a, b, c);
+      assertThat(components.get(0).positions).containsExactly(0, 1, 2);
+      assertThat(components.get(1).products).containsExactly(d);
+      assertThat(components.get(1).positions).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("should keep the greedy order inside interleaved components")
+    void shouldKeepGreedyOrder() {
+      Product a = createProduct(1, "50", List.of(bom(1, "1")));
+      Product b = createProduct(2, "40", List.of(bom(2, "1")));
+      Product c = createProduct(3, "30", List.of(bom(1, "1")));
+
+      var components = PartitionedProductionCalculator.partition(List.of(a, b, c));
+
+      assertThat(components).hasSize(2);
+      assertThat(components.get(0).positions).containsExactly(0, 2);
+      assertThat(components.get(1).positions).containsExactly(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Parity with the sequential engines")
+  class Parity {
+
+    @Test
+    @DisplayName("should match both engines on randomized multi-plant catalogs")
+    void shouldMatchOnRandomCatalogs() {
+      Random random = new Random(24);
+      for (int round = 0; round < 30; round++) {
+        List<Product> products = new ArrayList<>();
+        List<RawMaterial> materials = new ArrayList<>();
+        multiPlantCatalog(random, 1 + random.nextInt(300), products, materials);
+
+        assertSamePlan(products, materials, ProductionEngine.DECIMAL);
+        assertSamePlan(products, materials, ProductionEngine.FIXED_POINT);
+      }
+    }
+
+    @Test
+    @DisplayName("should keep materials no product uses and skip missing ones")
+    void shouldKeepUnusedMaterials() {
+      RawMaterial steel = createRawMaterial(1, "100");
+      RawMaterial copper = createRawMaterial(2, "10.5");
+      RawMaterial unused = createRawMaterial(3, "7.25");
+      Product a = createProduct(1, "50", List.of(bom(1, "30")));
+      Product b = createProduct(2, "40", List.of(bom(2, "2.25")));
+      Product missing = createProduct(3, "90", List.of(bom(9, "1")));
+
+      assertSamePlan(
+          List.of(a, b, missing), List.of(steel, copper, unused), ProductionEngine.DECIMAL);
+    }
+
+    @Test
+    @DisplayName("should return the same plan on every run")
+    void shouldBeDeterministic() {
+      List<Product> products = new ArrayList<>();
+      List<RawMaterial> materials = new ArrayList<>();
+      multiPlantCatalog(new Random(5), 2_000, products, materials);
+
+      ProductionPlan first =
+          PartitionedProductionCalculator.calculate(
+              products, materials, ProductionEngine.DECIMAL, pool);
+      for (int run = 0; run < 5; run++) {
+        assertThat(
+                PartitionedProductionCalculator.calculate(
+                    products, materials, ProductionEngine.DECIMAL, pool))
+            .isEqualTo(first);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Input validation")
+  class InputValidation {
+
+    @Test
+    @DisplayName("should reject null arguments")
+    void shouldRejectNulls() {
+      assertThatThrownBy(
+              () ->
+                  PartitionedProductionCalculator.calculate(
+                      null, List.of(), ProductionEngine.DECIMAL, pool))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(
+              () ->
+                  PartitionedProductionCalculator.calculate(
+                      List.of(), null, ProductionEngine.DECIMAL, pool))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(
+              () -> PartitionedProductionCalculator.calculate(List.of(), List.of(), null, pool))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
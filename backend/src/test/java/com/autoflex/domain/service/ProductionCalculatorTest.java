@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.DemandConstraints;
 import com.autoflex.domain.model.product.Product;
 import com.autoflex.domain.model.product.ProductId;
 import com.autoflex.domain.model.production.ProductionPlan;
@@ -524,4 +525,66 @@ class ProductionCalculatorTest {
       assertThat(plan.totalProductionValue()).isEqualByComparingTo(expectedTotal);
     }
   }
+
+  @Nested
+  @DisplayName("Demand Constraints")
+  class DemandConstraintsScenarios {
+
+    @Test
+    @DisplayName("should stop at the maximum demand and leave the rest to other products")
+    void shouldFreeMaterialsBeyondMaxDemand() {
+      RawMaterial steel = createRawMaterial(1, "Steel", "100");
+      Product premium =
+          createProduct(
+              1,
+              "Premium",
+              "200",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("20"))));
+      premium.updateDemandConstraints(DemandConstraints.of(2, null));
+      Product standard =
+          createProduct(
+              2,
+              "Standard",
+              "100",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("10"))));
+
+      ProductionPlan plan =
+          ProductionCalculator.calculate(List.of(premium, standard), List.of(steel));
+
+      // Premium capped at 2 (40 steel); Standard takes the other 60 steel: 6 units
+      assertThat(plan.items()).hasSize(2);
+      assertThat(plan.items().get(0).quantity()).isEqualTo(2);
+      assertThat(plan.items().get(1).quantity()).isEqualTo(6);
+      assertThat(plan.totalProductionValue()).isEqualByComparingTo("1000");
+      assertThat(plan.remainingStock().get(RawMaterialId.of(1L)))
+          .isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("should skip a product whose minimum batch cannot be met")
+    void shouldSkipRunsBelowMinBatch() {
+      RawMaterial steel = createRawMaterial(1, "Steel", "50");
+      Product premium =
+          createProduct(
+              1,
+              "Premium",
+              "200",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("20"))));
+      premium.updateDemandConstraints(DemandConstraints.of(null, 3));
+      Product standard =
+          createProduct(
+              2,
+              "Standard",
+              "100",
+              List.of(BillOfMaterialItem.of(RawMaterialId.of(1L), new BigDecimal("10"))));
+
+      ProductionPlan plan =
+          ProductionCalculator.calculate(List.of(premium, standard), List.of(steel));
+
+      // Only 2 Premium fit, below its batch of 3; all steel goes to Standard
+      assertThat(plan.items()).hasSize(1);
+      assertThat(plan.items().get(0).productId()).isEqualTo(ProductId.of(2L));
+      assertThat(plan.items().get(0).quantity()).isEqualTo(5);
+    }
+  }
 }
@@ -0,0 +1,225 @@
+package com.autoflex.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.production.ProductionPlan;
+import com.autoflex.domain.model.production.ProductionPlanItem;
+import com.autoflex.domain.model.production.ProductionScenario;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ScenarioCatalog - What-If Overlays")
+class ScenarioCatalogTest {
+
+  private static RawMaterial createRawMaterial(long id, String stock) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.UNIT,
+        new BigDecimal(stock),
+        BigDecimal.TEN,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now());
+  }
+
+  private static Product createProduct(long id, String price, List<BillOfMaterialItem> bom) {
+    return Product.reconstitute(
+        ProductId.of(id),
+        "Product " + id,
+        null,
+        "SKU-" + id,
+        new BigDecimal(price),
+        0,
+        true,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        bom);
+  }
+
+  private static BillOfMaterialItem bom(long rawMaterialId, String quantity) {
+    return BillOfMaterialItem.of(RawMaterialId.of(rawMaterialId), new BigDecimal(quantity));
+  }
+
+  private static ProductionScenario scenario(
+      Map<RawMaterialId, BigDecimal> stockDeltas,
+      Map<ProductId, BigDecimal> priceOverrides,
+      Set<ProductId> excludedProducts) {
+    return new ProductionScenario("test", stockDeltas, priceOverrides, excludedProducts);
+  }
+
+  // Steel 100, wood 50; table = 10 steel + 5 wood at 80, chair = 5 steel at 30
+  private final RawMaterial steel = createRawMaterial(1, "100");
+  private final RawMaterial wood = createRawMaterial(2, "50");
+  private final Product table = createProduct(1, "80", List.of(bom(1, "10"), bom(2, "5")));
+  private final Product chair = createProduct(2, "30", List.of(bom(1, "5")));
+  private final ScenarioCatalog catalog =
+      ScenarioCatalog.of(List.of(table, chair), List.of(steel, wood));
+
+  private static int quantityOf(ProductionPlan plan, Product product) {
+    return plan.items().stream()
+        .filter(item -> item.productId().equals(product.getId()))
+        .mapToInt(ProductionPlanItem::quantity)
+        .sum();
+  }
+
+  @Nested
+  @DisplayName("Overlays")
+  class Overlays {
+
+    @Test
+    @DisplayName("should return the snapshot itself for a scenario without changes")
+    void shouldShareSnapshotForBaseline() {
+      ScenarioCatalog.Overlay overlay = catalog.overlay(scenario(null, null, null));
+
+      assertThat(overlay.products()).isSameAs(catalog.products());
+      assertThat(overlay.rawMaterials()).isSameAs(catalog.rawMaterials());
+    }
+
+    @Test
+    @DisplayName("should copy only the changed entries and share the rest")
+    void shouldCopyOnlyChangedEntries() {
+      ScenarioCatalog.Overlay overlay =
+          catalog.overlay(
+              scenario(
+                  Map.of(RawMaterialId.of(1L), new BigDecimal("500")),
+                  Map.of(ProductId.of(2L), new BigDecimal("95")),
+                  null));
+
+      assertThat(overlay.products().get(0)).isSameAs(table);
+      assertThat(overlay.products().get(1)).isNotSameAs(chair);
+      assertThat(overlay.products().get(1).getUnitPrice()).isEqualByComparingTo("95");
+      assertThat(overlay.rawMaterials().get(0).getStockQuantity()).isEqualByComparingTo("600");
+      assertThat(overlay.rawMaterials().get(1)).isSameAs(wood);
+    }
+
+    @Test
+    @DisplayName("should leave the snapshot unchanged")
+    void shouldNotModifySnapshot() {
+      catalog.overlay(
+          scenario(
+              Map.of(RawMaterialId.of(1L), new BigDecimal("-100")),
+              Map.of(ProductId.of(1L), BigDecimal.ONE),
+              Set.of(ProductId.of(2L))));
+
+      assertThat(steel.getStockQuantity()).isEqualByComparingTo("100");
+      assertThat(table.getUnitPrice()).isEqualByComparingTo("80");
+      assertThat(chair.isActive()).isTrue();
+      assertThat(catalog.products()).containsExactly(table, chair);
+    }
+
+    @Test
+    @DisplayName("should keep an excluded product as an inactive copy, even with a price override")
+    void shouldDeactivateExcludedProduct() {
+      ScenarioCatalog.Overlay overlay =
+          catalog.overlay(
+              scenario(
+                  null, Map.of(ProductId.of(1L), new BigDecimal("999")), Set.of(ProductId.of(1L))));
+
+      assertThat(overlay.products()).hasSize(2);
+      assertThat(overlay.products().get(0).isActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should reject unknown products and raw materials")
+    void shouldRejectUnknownIds() {
+      assertThatThrownBy(
+              () -> catalog.overlay(scenario(null, Map.of(ProductId.of(9L), BigDecimal.ONE), null)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Product 9");
+      assertThatThrownBy(() -> catalog.overlay(scenario(null, null, Set.of(ProductId.of(9L)))))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Product 9");
+      assertThatThrownBy(
+              () ->
+                  catalog.overlay(
+                      scenario(Map.of(RawMaterialId.of(9L), BigDecimal.ONE), null, null)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Raw material 9");
+    }
+
+    @Test
+    @DisplayName("should reject a stock delta that would make stock negative")
+    void shouldRejectNegativeStock() {
+      assertThatThrownBy(
+              () ->
+                  catalog.overlay(
+                      scenario(Map.of(RawMaterialId.of(2L), new BigDecimal("-51")), null, null)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Raw material 2")
+          .hasMessageContaining("below zero");
+    }
+  }
+
+  @Nested
+  @DisplayName("Planning")
+  class Planning {
+
+    @Test
+    @DisplayName("should plan a stock delivery and price change like the changed catalog")
+    void shouldMatchChangedCatalog() {
+      ScenarioCatalog.Overlay overlay =
+          catalog.overlay(
+              scenario(
+                  Map.of(RawMaterialId.of(1L), new BigDecimal("500")),
+                  Map.of(ProductId.of(2L), new BigDecimal("95")),
+                  null));
+
+      ProductionPlan plan =
+          ProductionEngine.DECIMAL.calculate(overlay.products(), overlay.rawMaterials());
+      ProductionPlan expected =
+          ProductionEngine.DECIMAL.calculate(
+              List.of(table, chair.withUnitPrice(new BigDecimal("95"))),
+              List.of(steel.withStockAdjustedBy(new BigDecimal("500")), wood));
+
+      assertThat(plan).isEqualTo(expected);
+      // Chair now outranks table and takes all 600 steel
+      assertThat(quantityOf(plan, chair)).isEqualTo(120);
+      assertThat(quantityOf(plan, table)).isZero();
+    }
+
+    @Test
+    @DisplayName("should leave an excluded product's materials to the others")
+    void shouldPlanWithoutExcludedProduct() {
+      ScenarioCatalog.Overlay overlay =
+          catalog.overlay(scenario(null, null, Set.of(ProductId.of(1L))));
+
+      ProductionPlan plan =
+          ProductionEngine.FIXED_POINT.calculate(overlay.products(), overlay.rawMaterials());
+
+      assertThat(quantityOf(plan, table)).isZero();
+      assertThat(quantityOf(plan, chair)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("should not let one scenario affect the plan of another")
+    void shouldIsolateScenarios() {
+      ScenarioCatalog.Overlay excluded =
+          catalog.overlay(scenario(null, null, Set.of(ProductId.of(1L))));
+      ScenarioCatalog.Overlay baseline = catalog.overlay(scenario(null, null, null));
+
+      ProductionPlan basePlan =
+          ProductionEngine.DECIMAL.calculate(baseline.products(), baseline.rawMaterials());
+
+      assertThat(excluded.products().get(0).isActive()).isFalse();
+      // Table uses all 50 wood (10 units, 100 steel), leaving nothing for chair
+      assertThat(quantityOf(basePlan, table)).isEqualTo(10);
+      assertThat(quantityOf(basePlan, chair)).isZero();
+    }
+  }
+}
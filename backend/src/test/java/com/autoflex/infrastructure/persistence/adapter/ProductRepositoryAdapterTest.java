@@ -0,0 +1,185 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.autoflex.domain.model.product.BillOfMaterialItem;
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductComponent;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.infrastructure.persistence.entity.ProductComponentJpaEntity;
+import com.autoflex.infrastructure.persistence.entity.ProductMaterialJpaEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Persistence tests for the BOM sync in {@link ProductRepositoryAdapter#save}: only the rows that
+ * changed may be written. Products are saved inactive so the catalog caches never see them.
+ */
+@QuarkusTest
+@DisplayName("ProductRepositoryAdapter - BOM sync")
+class ProductRepositoryAdapterTest {
+
+  private static final RawMaterialId STEEL = RawMaterialId.of(9001L);
+  private static final RawMaterialId RUBBER = RawMaterialId.of(9002L);
+
+  @Inject ProductRepositoryAdapter repository;
+  @Inject SessionFactory sessionFactory;
+
+  private final List<ProductId> created = new ArrayList<>();
+  private ProductId component;
+  private ProductId assembly;
+
+  @BeforeEach
+  void setUp() {
+    component = saveNew("SYNC-COMPONENT", product -> {});
+    assembly =
+        saveNew(
+            "SYNC-ASSEMBLY",
+            product -> {
+              product.addMaterial(STEEL, new BigDecimal("2"));
+              product.addComponent(component, BigDecimal.ONE);
+            });
+  }
+
+  @AfterEach
+  void tearDown() {
+    // Assemblies first: their component rows reference the earlier products
+    QuarkusTransaction.requiringNew().run(() -> created.reversed().forEach(repository::deleteById));
+  }
+
+  private ProductId saveNew(String sku, Consumer<Product> bom) {
+    Product product = Product.create("Product " + sku, null, sku, BigDecimal.TEN, 0);
+    product.deactivate();
+    bom.accept(product);
+    ProductId id = QuarkusTransaction.requiringNew().call(() -> repository.save(product)).getId();
+    created.add(id);
+    return id;
+  }
+
+  /** Loads the assembly, applies the change and saves it, with statistics for that save only. */
+  private Product update(Consumer<Product> change) {
+    return QuarkusTransaction.requiringNew()
+        .call(
+            () -> {
+              Product product = repository.findById(assembly).orElseThrow();
+              change.accept(product);
+              statistics().clear();
+              return repository.save(product);
+            });
+  }
+
+  private Product reload() {
+    return QuarkusTransaction.requiringNew()
+        .call(() -> repository.findById(assembly).orElseThrow());
+  }
+
+  private Statistics statistics() {
+    return sessionFactory.getStatistics();
+  }
+
+  private EntityStatistics rows(Class<?> entity) {
+    return statistics().getEntityStatistics(entity.getName());
+  }
+
+  /** BOM quantities without trailing zeros, which depend on whether the row came from the cache. */
+  private static Map<RawMaterialId, BigDecimal> materials(Product product) {
+    return product.getMaterials().stream()
+        .collect(
+            Collectors.toMap(
+                BillOfMaterialItem::rawMaterialId,
+                item -> item.quantityRequired().stripTrailingZeros()));
+  }
+
+  private static Map<ProductId, BigDecimal> components(Product product) {
+    return product.getComponents().stream()
+        .collect(
+            Collectors.toMap(
+                ProductComponent::componentId,
+                item -> item.quantityRequired().stripTrailingZeros()));
+  }
+
+  private static void assertWrites(
+      EntityStatistics rows, long inserts, long updates, long deletes) {
+    assertThat(rows.getInsertCount()).as("inserts").isEqualTo(inserts);
+    assertThat(rows.getUpdateCount()).as("updates").isEqualTo(updates);
+    assertThat(rows.getDeleteCount()).as("deletes").isEqualTo(deletes);
+  }
+
+  @Test
+  @DisplayName("should insert only the added material and component rows")
+  void shouldInsertAddedRows() {
+    update(
+        product -> {
+          product.addMaterial(RUBBER, new BigDecimal("0.5"));
+          product.removeComponent(component);
+          product.addComponent(component, BigDecimal.ONE);
+        });
+
+    assertWrites(rows(ProductMaterialJpaEntity.class), 1, 0, 0);
+    assertWrites(rows(ProductComponentJpaEntity.class), 0, 0, 0);
+    Product saved = reload();
+    assertThat(materials(saved))
+        .isEqualTo(Map.of(STEEL, new BigDecimal("2"), RUBBER, new BigDecimal("0.5")));
+    assertThat(components(saved)).isEqualTo(Map.of(component, BigDecimal.ONE));
+  }
+
+  @Test
+  @DisplayName("should update changed quantities in place")
+  void shouldUpdateChangedQuantities() {
+    update(
+        product -> {
+          product.updateMaterialQuantity(STEEL, new BigDecimal("3"));
+          product.updateComponentQuantity(component, new BigDecimal("4"));
+        });
+
+    assertWrites(rows(ProductMaterialJpaEntity.class), 0, 1, 0);
+    assertWrites(rows(ProductComponentJpaEntity.class), 0, 1, 0);
+    Product saved = reload();
+    assertThat(materials(saved)).isEqualTo(Map.of(STEEL, new BigDecimal("3")));
+    assertThat(components(saved)).isEqualTo(Map.of(component, new BigDecimal("4")));
+  }
+
+  @Test
+  @DisplayName("should delete only the removed rows")
+  void shouldDeleteRemovedRows() {
+    update(
+        product -> {
+          product.removeMaterial(STEEL);
+          product.removeComponent(component);
+        });
+
+    assertWrites(rows(ProductMaterialJpaEntity.class), 0, 0, 1);
+    assertWrites(rows(ProductComponentJpaEntity.class), 0, 0, 1);
+    Product saved = reload();
+    assertThat(saved.getMaterials()).isEmpty();
+    assertThat(saved.getComponents()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should issue no DML when nothing changed")
+  void shouldNotWriteUnchangedProduct() {
+    update(product -> {});
+
+    assertThat(statistics().getEntityInsertCount()).isZero();
+    assertThat(statistics().getEntityUpdateCount()).isZero();
+    assertThat(statistics().getEntityDeleteCount()).isZero();
+    assertThat(statistics().getCollectionRecreateCount()).isZero();
+    assertThat(statistics().getCollectionUpdateCount()).isZero();
+    assertThat(statistics().getCollectionRemoveCount()).isZero();
+  }
+}
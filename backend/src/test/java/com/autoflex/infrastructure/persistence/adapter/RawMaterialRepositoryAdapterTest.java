@@ -0,0 +1,98 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.infrastructure.persistence.entity.RawMaterialJpaEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Persistence tests for {@link RawMaterialRepositoryAdapter#adjustStock}: the adjustment must keep
+ * the second-level cache of every other raw material. Materials are saved inactive so the catalog
+ * caches never see them.
+ */
+@QuarkusTest
+@DisplayName("RawMaterialRepositoryAdapter - Stock adjustment")
+class RawMaterialRepositoryAdapterTest {
+
+  @Inject RawMaterialRepositoryAdapter repository;
+  @Inject SessionFactory sessionFactory;
+
+  private RawMaterialId steel;
+  private RawMaterialId rubber;
+
+  @BeforeEach
+  void setUp() {
+    steel = saveNew("ADJUST-STEEL");
+    rubber = saveNew("ADJUST-RUBBER");
+    // Loaded once each, so both are in the second-level cache
+    find(steel);
+    find(rubber);
+  }
+
+  @AfterEach
+  void tearDown() {
+    QuarkusTransaction.requiringNew()
+        .run(
+            () -> {
+              repository.deleteById(steel);
+              repository.deleteById(rubber);
+            });
+  }
+
+  private RawMaterialId saveNew(String code) {
+    RawMaterial rawMaterial =
+        RawMaterial.create(
+            "Material " + code, null, code, MeasurementUnit.UNIT, BigDecimal.TEN, BigDecimal.ONE);
+    rawMaterial.deactivate();
+    return QuarkusTransaction.requiringNew().call(() -> repository.save(rawMaterial)).getId();
+  }
+
+  private RawMaterial find(RawMaterialId id) {
+    return QuarkusTransaction.requiringNew().call(() -> repository.findById(id).orElseThrow());
+  }
+
+  private boolean adjust(RawMaterialId id, String delta) {
+    return QuarkusTransaction.requiringNew()
+        .call(() -> repository.adjustStock(id, new BigDecimal(delta)));
+  }
+
+  private boolean cached(RawMaterialId id) {
+    Cache cache = sessionFactory.getCache();
+    return cache.containsEntity(RawMaterialJpaEntity.class, id.value());
+  }
+
+  @Test
+  @DisplayName("should adjust the stock and bump the version without evicting other materials")
+  void shouldKeepOtherMaterialsCached() {
+    Long version = find(steel).getVersion();
+
+    assertThat(adjust(steel, "-4")).isTrue();
+
+    assertThat(cached(rubber)).isTrue();
+    RawMaterial adjusted = find(steel);
+    assertThat(adjusted.getStockQuantity()).isEqualByComparingTo("6");
+    assertThat(adjusted.getVersion()).isEqualTo(version + 1);
+  }
+
+  @Test
+  @DisplayName("should refuse an adjustment below zero and leave the stock unchanged")
+  void shouldRejectNegativeStock() {
+    assertThat(adjust(steel, "-10.5")).isFalse();
+    assertThat(adjust(RawMaterialId.of(Long.MAX_VALUE), "1")).isFalse();
+
+    assertThat(find(steel).getStockQuantity()).isEqualByComparingTo("10");
+    assertThat(cached(rubber)).isTrue();
+  }
+}
@@ -0,0 +1,66 @@
+package com.autoflex.infrastructure.persistence.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SearchQueries")
+class SearchQueriesTest {
+
+  @Nested
+  @DisplayName("escapeLike")
+  class EscapeLike {
+
+    @Test
+    @DisplayName("should leave plain terms unchanged")
+    void shouldKeepPlainTerms() {
+      assertThat(SearchQueries.escapeLike("STEEL BOLT-M8")).isEqualTo("STEEL BOLT-M8");
+      assertThat(SearchQueries.escapeLike("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should escape LIKE wildcards and the escape character itself")
+    void shouldEscapeWildcards() {
+      assertThat(SearchQueries.escapeLike("50%")).isEqualTo("50!%");
+      assertThat(SearchQueries.escapeLike("RM_01")).isEqualTo("RM!_01");
+      assertThat(SearchQueries.escapeLike("NEW!")).isEqualTo("NEW!!");
+      assertThat(SearchQueries.escapeLike("%_!")).isEqualTo("!%!_!!");
+    }
+  }
+
+  @Nested
+  @DisplayName("textQuery")
+  class TextQuery {
+
+    @Test
+    @DisplayName("should require every word anywhere in the name")
+    void shouldJoinWords() {
+      assertThat(SearchQueries.textQuery("BOLT")).isEqualTo("%BOLT%");
+      assertThat(SearchQueries.textQuery("STEEL BOLT M8")).isEqualTo("%STEEL% AND %BOLT% AND %M8%");
+    }
+
+    @Test
+    @DisplayName("should drop Oracle Text operators and special characters")
+    void shouldDropOperators() {
+      assertThat(SearchQueries.textQuery("  STEEL-BOLT, {M8} "))
+          .isEqualTo("%STEEL% AND %BOLT% AND %M8%");
+      assertThat(SearchQueries.textQuery("A & B | NOT(C)"))
+          .isEqualTo("%A% AND %B% AND %NOT% AND %C%");
+    }
+
+    @Test
+    @DisplayName("should keep non-ASCII letters and digits")
+    void shouldKeepUnicodeLetters() {
+      assertThat(SearchQueries.textQuery("AÇO 304")).isEqualTo("%AÇO% AND %304%");
+    }
+
+    @Test
+    @DisplayName("should return an empty query when no word is left")
+    void shouldReturnEmptyQuery() {
+      assertThat(SearchQueries.textQuery("%_*!")).isEmpty();
+      assertThat(SearchQueries.textQuery("   ")).isEmpty();
+    }
+  }
+}
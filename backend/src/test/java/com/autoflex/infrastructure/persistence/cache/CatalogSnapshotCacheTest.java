@@ -0,0 +1,200 @@
+package com.autoflex.infrastructure.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.autoflex.application.event.CatalogChange;
+import com.autoflex.domain.model.rawmaterial.MeasurementUnit;
+import com.autoflex.domain.model.rawmaterial.RawMaterial;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CatalogSnapshotCache")
+class CatalogSnapshotCacheTest {
+
+  private SimpleMeterRegistry registry;
+  private CatalogSnapshotCache cache;
+  private List<RawMaterial> database;
+  private AtomicInteger loads;
+  private Supplier<List<RawMaterial>> loader;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    cache = new CatalogSnapshotCache(registry, true, 3);
+    database = new ArrayList<>(List.of(material(2L, "10", true, 0L), material(1L, "5", true, 0L)));
+    loads = new AtomicInteger();
+    loader =
+        () -> {
+          loads.incrementAndGet();
+          return new ArrayList<>(database);
+        };
+  }
+
+  private static RawMaterial material(long id, String stock, boolean active, Long version) {
+    return RawMaterial.reconstitute(
+        RawMaterialId.of(id),
+        "Material " + id,
+        null,
+        "RM-" + id,
+        MeasurementUnit.KILOGRAM,
+        new BigDecimal(stock),
+        BigDecimal.ONE,
+        active,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        version);
+  }
+
+  private double count(String name) {
+    return registry.counter("autoflex.catalog.snapshot." + name, "part", "raw-materials").count();
+  }
+
+  @Test
+  @DisplayName("should load once and serve later reads from the snapshot in ID order")
+  void shouldServeFromSnapshot() {
+    List<RawMaterial> first = cache.activeRawMaterials(loader);
+    List<RawMaterial> second = cache.activeRawMaterials(loader);
+
+    assertThat(loads).hasValue(1);
+    assertThat(second).isSameAs(first);
+    assertThat(first).extracting(RawMaterial::getCode).containsExactly("RM-1", "RM-2");
+    assertThat(count("misses")).isEqualTo(1);
+    assertThat(count("hits")).isEqualTo(1);
+    assertThat(count("rebuilds")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("should apply committed changes without reloading")
+  void shouldApplyChanges() {
+    cache.activeRawMaterials(loader);
+
+    cache.onCatalogChange(new CatalogChange.RawMaterialChanged(material(1L, "7", true, 1L)));
+    cache.onCatalogChange(new CatalogChange.RawMaterialChanged(material(3L, "1", true, 0L)));
+    cache.onCatalogChange(new CatalogChange.RawMaterialChanged(material(2L, "10", false, 1L)));
+
+    assertThat(cache.activeRawMaterials(loader))
+        .extracting(RawMaterial::getCode, RawMaterial::getStockQuantity)
+        .containsExactly(tuple("RM-1", new BigDecimal("7")), tuple("RM-3", new BigDecimal("1")));
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("should apply a batch of changes in one step")
+  void shouldApplyBatch() {
+    List<RawMaterial> before = cache.activeRawMaterials(loader);
+
+    cache.onCatalogChange(
+        new CatalogChange.RawMaterialsChanged(
+            List.of(
+                material(3L, "1", true, 0L),
+                material(2L, "10", false, 1L),
+                material(1L, "4", true, -1L))));
+
+    assertThat(cache.activeRawMaterials(loader))
+        .extracting(RawMaterial::getCode, RawMaterial::getStockQuantity)
+        .containsExactly(tuple("RM-1", new BigDecimal("5")), tuple("RM-3", new BigDecimal("1")));
+    assertThat(before).extracting(RawMaterial::getCode).containsExactly("RM-1", "RM-2");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("should drop the snapshot when a batch would exceed the maximum entries")
+  void shouldDropSnapshotForOversizedBatch() {
+    cache.activeRawMaterials(loader);
+
+    cache.onCatalogChange(
+        new CatalogChange.RawMaterialsChanged(
+            List.of(material(3L, "1", true, 0L), material(4L, "1", true, 0L))));
+    cache.activeRawMaterials(loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should ignore a change older than the cached state")
+  void shouldIgnoreOlderChange() {
+    cache.activeRawMaterials(loader);
+    cache.onCatalogChange(new CatalogChange.RawMaterialChanged(material(1L, "8", true, 3L)));
+
+    cache.onCatalogChange(new CatalogChange.RawMaterialChanged(material(1L, "6", true, 2L)));
+
+    assertThat(cache.activeRawMaterials(loader).get(0).getStockQuantity())
+        .isEqualByComparingTo("8");
+  }
+
+  @Test
+  @DisplayName("should not keep a snapshot loaded while a change committed")
+  void shouldDiscardRacingRebuild() {
+    Supplier<List<RawMaterial>> racingLoader =
+        () -> {
+          List<RawMaterial> rows = loader.get();
+          cache.onCatalogChange(new CatalogChange.RawMaterialRemoved(RawMaterialId.of(2L)));
+          return rows;
+        };
+
+    cache.activeRawMaterials(racingLoader);
+    cache.activeRawMaterials(loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should not cache more than the maximum number of entries")
+  void shouldBoundSize() {
+    database.add(material(3L, "1", true, 0L));
+    database.add(material(4L, "1", true, 0L));
+
+    cache.activeRawMaterials(loader);
+    cache.activeRawMaterials(loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("should match a sorted map through random changes, keeping earlier lists intact")
+  void shouldMatchSortedMap() {
+    CatalogSnapshotCache large = new CatalogSnapshotCache(registry, true, 1000);
+    TreeMap<Long, RawMaterial> expected = new TreeMap<>();
+    for (long id = 1; id <= 200; id += 2) {
+      expected.put(id, material(id, "1", true, 0L));
+    }
+    List<RawMaterial> initial = List.copyOf(expected.values());
+    List<RawMaterial> first = large.activeRawMaterials(() -> new ArrayList<>(initial));
+    Random random = new Random(7);
+
+    for (int round = 0; round < 2000; round++) {
+      long id = 1 + random.nextInt(300);
+      if (random.nextInt(4) == 0) {
+        large.onCatalogChange(new CatalogChange.RawMaterialRemoved(RawMaterialId.of(id)));
+        expected.remove(id);
+      } else {
+        boolean active = random.nextInt(5) != 0;
+        RawMaterial changed = material(id, String.valueOf(round), active, null);
+        large.onCatalogChange(new CatalogChange.RawMaterialChanged(changed));
+        if (active) {
+          expected.put(id, changed);
+        } else {
+          expected.remove(id);
+        }
+      }
+      if (round % 100 == 0) {
+        assertThat(large.activeRawMaterials(List::of)).containsExactlyElementsOf(expected.values());
+      }
+    }
+
+    assertThat(large.activeRawMaterials(List::of)).containsExactlyElementsOf(expected.values());
+    assertThat(first).containsExactlyElementsOf(initial);
+  }
+}
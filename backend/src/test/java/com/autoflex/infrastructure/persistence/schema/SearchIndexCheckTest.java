@@ -0,0 +1,109 @@
+package com.autoflex.infrastructure.persistence.schema;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.autoflex.infrastructure.persistence.adapter.InfixSearch;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("SearchIndexCheck")
+@ExtendWith(MockitoExtension.class)
+class SearchIndexCheckTest {
+
+  @Mock private DataSource dataSource;
+  @Mock private Connection connection;
+  @Mock private DatabaseMetaData metaData;
+  @Mock private PreparedStatement query;
+  @Mock private ResultSet rows;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(dataSource.getConnection()).thenReturn(connection);
+    when(connection.getMetaData()).thenReturn(metaData);
+  }
+
+  /** Answers the index query with the given index names. */
+  private void onOracle(String... indexes) throws SQLException {
+    Deque<String> remaining = new ArrayDeque<>(List.of(indexes));
+    when(metaData.getDatabaseProductName()).thenReturn("Oracle");
+    when(connection.prepareStatement(anyString())).thenReturn(query);
+    when(query.executeQuery()).thenReturn(rows);
+    when(rows.next()).thenAnswer(invocation -> !remaining.isEmpty());
+    when(rows.getString(1)).thenAnswer(invocation -> remaining.poll());
+  }
+
+  private static SearchIndexCheck check(DataSource dataSource, InfixSearch infixSearch) {
+    return new SearchIndexCheck(dataSource, infixSearch, true);
+  }
+
+  @Test
+  @DisplayName("should start when every index for the configured search exists")
+  void shouldPassWithAllIndexes() throws SQLException {
+    onOracle(
+        "IDX_PRODUCTS_UPPER_NAME",
+        "IDX_RAW_MATERIALS_UPPER_NAME",
+        "IDX_PRODUCTS_NAME_TEXT",
+        "IDX_RAW_MATERIALS_NAME_TEXT");
+
+    assertThatCode(() -> check(dataSource, InfixSearch.ORACLE_TEXT).onStart(null))
+        .doesNotThrowAnyException();
+    verify(connection).close();
+  }
+
+  @Test
+  @DisplayName("should refuse to start without the Oracle Text indexes")
+  void shouldFailWithoutTextIndexes() throws SQLException {
+    onOracle("IDX_PRODUCTS_UPPER_NAME", "IDX_RAW_MATERIALS_UPPER_NAME");
+
+    assertThatThrownBy(() -> check(dataSource, InfixSearch.ORACLE_TEXT).onStart(null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("IDX_PRODUCTS_NAME_TEXT")
+        .hasMessageContaining("IDX_RAW_MATERIALS_NAME_TEXT")
+        .hasMessageContaining("002_search_indexes.sql");
+  }
+
+  @Test
+  @DisplayName("should not require the text indexes for scan")
+  void shouldPassScanWithPrefixIndexes() throws SQLException {
+    onOracle("IDX_PRODUCTS_UPPER_NAME", "IDX_RAW_MATERIALS_UPPER_NAME");
+
+    assertThatCode(() -> check(dataSource, InfixSearch.SCAN).onStart(null))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("should refuse oracle-text on a database other than Oracle")
+  void shouldFailOracleTextOnH2() throws SQLException {
+    when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+    assertThatThrownBy(() -> check(dataSource, InfixSearch.ORACLE_TEXT).onStart(null))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("SEARCH_INFIX=scan");
+  }
+
+  @Test
+  @DisplayName("should skip the index check on H2 with scan")
+  void shouldSkipH2() throws SQLException {
+    when(metaData.getDatabaseProductName()).thenReturn("H2");
+
+    assertThatCode(() -> check(dataSource, InfixSearch.SCAN).onStart(null))
+        .doesNotThrowAnyException();
+  }
+}
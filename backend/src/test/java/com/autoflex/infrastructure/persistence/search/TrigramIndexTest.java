@@ -0,0 +1,107 @@
+package com.autoflex.infrastructure.persistence.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.autoflex.infrastructure.persistence.search.TrigramIndex.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TrigramIndex")
+class TrigramIndexTest {
+
+  private TrigramIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new TrigramIndex();
+    index.put(Entry.of(1L, 0L, "STEEL-100", "Steel Bar", "Cold rolled"));
+    index.put(Entry.of(2L, 0L, "BOLT-M8", "Bolt M8", "Fits the steel bar bracket"));
+    index.put(Entry.of(3L, 0L, "PLATE-ST", "Stainless plate", null));
+    index.put(Entry.of(4L, 0L, "WIRE-01", "Galvanized steel wire", "Rolls of 100 m"));
+  }
+
+  @Nested
+  @DisplayName("search")
+  class Search {
+
+    @Test
+    @DisplayName("should rank key prefix, then name prefix, then infix matches")
+    void shouldRankMatches() {
+      assertThat(index.search("st", 10)).containsExactly(1L, 3L);
+      assertThat(index.search("steel", 10)).containsExactly(1L, 4L, 2L);
+    }
+
+    @Test
+    @DisplayName("should match case-insensitively inside key, name and description")
+    void shouldMatchInfix() {
+      assertThat(index.search("rolled", 10)).containsExactly(1L);
+      assertThat(index.search("-M8", 10)).containsExactly(2L);
+      assertThat(index.search("100", 10)).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("should not match when all trigrams occur but not the whole term")
+    void shouldVerifySubstring() {
+      index.put(Entry.of(5L, 0L, "X-1", "ABCD BCDE", null));
+
+      assertThat(index.search("ABCDE", 10)).isEmpty();
+      assertThat(index.search("BCDE", 10)).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("should only use prefixes for terms shorter than three characters")
+    void shouldUsePrefixesForShortTerms() {
+      assertThat(index.search("el", 10)).isEmpty();
+      assertThat(index.search("bo", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("should stop at the limit")
+    void shouldApplyLimit() {
+      assertThat(index.search("steel", 2)).containsExactly(1L, 4L);
+    }
+
+    @Test
+    @DisplayName("should return nothing for a blank term")
+    void shouldIgnoreBlankTerm() {
+      assertThat(index.search("  ", 10)).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("updates")
+  class Updates {
+
+    @Test
+    @DisplayName("should replace the indexed text of a changed entry")
+    void shouldReplaceEntry() {
+      index.put(Entry.of(1L, 1L, "IRON-100", "Iron Bar", null));
+
+      assertThat(index.search("steel", 10)).containsExactly(4L, 2L);
+      assertThat(index.search("iron", 10)).containsExactly(1L);
+      assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should ignore an older version of an indexed entry")
+    void shouldIgnoreOlderVersion() {
+      index.put(Entry.of(1L, 2L, "STEEL-100", "Steel Bar", null));
+      index.put(Entry.of(1L, 1L, "IRON-100", "Iron Bar", null));
+
+      assertThat(index.search("iron", 10)).isEmpty();
+      assertThat(index.search("STEEL-100", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("should forget a removed entry")
+    void shouldRemoveEntry() {
+      index.remove(1L);
+
+      assertThat(index.search("steel", 10)).containsExactly(4L, 2L);
+      assertThat(index.search("rolled", 10)).isEmpty();
+      assertThat(index.size()).isEqualTo(3);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.autoflex.infrastructure.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.autoflex.domain.model.product.Product;
+import com.autoflex.domain.model.product.ProductId;
+import com.autoflex.domain.model.rawmaterial.RawMaterialId;
+import com.autoflex.infrastructure.persistence.adapter.ProductRepositoryAdapter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+/**
+ * Exports a catalog larger than two cursor fetch batches (500 rows, after each of which the
+ * persistence context is cleared), mixing products without BOM rows, with materials, with
+ * components and inactive products, and checks that every product gets exactly its own rows.
+ *
+ * <p>Products are written through the repository adapter, so no catalog change events reach the
+ * caches, and removed again afterwards.
+ */
+@QuarkusTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("CatalogExportResource - Streaming export")
+class CatalogExportResourceTest {
+
+  private static final int PRODUCTS = 1007;
+
+  @Inject ProductRepositoryAdapter repository;
+  @Inject SessionFactory sessionFactory;
+  @Inject ObjectMapper objectMapper;
+
+  /** Seeded products by ID, in ID order. */
+  private final Map<Long, Expected> seeded = new LinkedHashMap<>();
+
+  /** What the export must contain for one seeded product. */
+  private record Expected(
+      boolean active, Map<Long, BigDecimal> materials, Map<Long, BigDecimal> components) {}
+
+  @BeforeAll
+  void seed() {
+    QuarkusTransaction.requiringNew()
+        .run(
+            () -> {
+              ProductId previous = null;
+              for (int i = 0; i < PRODUCTS; i++) {
+                Product product =
+                    Product.create("Export " + i, null, "EXPORT-" + i, BigDecimal.TEN, 0);
+                // Shapes cycle through: no BOM, materials, materials and a component, component
+                switch (i % 4) {
+                  case 1 -> product.addMaterial(RawMaterialId.of(7000L + i), quantity(i));
+                  case 2 -> {
+                    product.addMaterial(RawMaterialId.of(7000L + i), quantity(i));
+                    product.addMaterial(RawMaterialId.of(17000L + i), BigDecimal.ONE);
+                    product.addComponent(previous, quantity(i));
+                  }
+                  case 3 -> product.addComponent(previous, BigDecimal.ONE);
+                  default -> {}
+                }
+                if (i % 5 == 0) {
+                  product.deactivate();
+                }
+                Product saved = repository.save(product);
+                seeded.put(
+                    saved.getId().value(),
+                    new Expected(
+                        saved.isActive(),
+                        quantities(
+                            product.getMaterials().stream()
+                                .map(
+                                    m -> Map.entry(m.rawMaterialId().value(), m.quantityRequired()))
+                                .toList()),
+                        quantities(
+                            product.getComponents().stream()
+                                .map(c -> Map.entry(c.componentId().value(), c.quantityRequired()))
+                                .toList())));
+                previous = saved.getId();
+              }
+            });
+  }
+
+  @AfterAll
+  void cleanUp() {
+    List<Long> ids = new ArrayList<>(seeded.keySet());
+    QuarkusTransaction.requiringNew()
+        .run(() -> ids.reversed().forEach(id -> repository.deleteById(ProductId.of(id))));
+  }
+
+  private static BigDecimal quantity(int i) {
+    return new BigDecimal(i % 7 + 1).add(new BigDecimal("0.25"));
+  }
+
+  private static Map<Long, BigDecimal> quantities(List<Map.Entry<Long, BigDecimal>> rows) {
+    Map<Long, BigDecimal> quantities = new HashMap<>();
+    rows.forEach(row -> quantities.put(row.getKey(), row.getValue().stripTrailingZeros()));
+    return quantities;
+  }
+
+  private List<JsonNode> export(String path, boolean includeInactive) throws Exception {
+    String body =
+        given()
+            .queryParam("includeInactive", includeInactive)
+            .when()
+            .get("/api/v1/export/" + path)
+            .then()
+            .statusCode(200)
+            .extract()
+            .asString();
+    List<JsonNode> lines = new ArrayList<>();
+    for (String line : body.split("\n")) {
+      lines.add(objectMapper.readTree(line));
+    }
+    return lines;
+  }
+
+  private static Map<Long, BigDecimal> rows(JsonNode array, String idField) {
+    List<Map.Entry<Long, BigDecimal>> rows = new ArrayList<>();
+    array.forEach(
+        row ->
+            rows.add(
+                Map.entry(row.get(idField).asLong(), row.get("quantityRequired").decimalValue())));
+    return quantities(rows);
+  }
+
+  /** Checks the seeded products of a product export against what was saved, in ID order. */
+  private void assertProducts(List<JsonNode> products, boolean includeInactive) {
+    List<Long> ids = products.stream().map(product -> product.get("id").asLong()).toList();
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+
+    Map<Long, Expected> expected = new LinkedHashMap<>(seeded);
+    if (!includeInactive) {
+      expected.values().removeIf(product -> !product.active());
+    }
+    List<JsonNode> exported =
+        products.stream()
+            .filter(product -> seeded.containsKey(product.get("id").asLong()))
+            .toList();
+    assertThat(exported)
+        .extracting(product -> product.get("id").asLong())
+        .containsExactlyElementsOf(expected.keySet());
+    for (JsonNode product : exported) {
+      Expected want = expected.get(product.get("id").asLong());
+      assertThat(product.get("active").asBoolean()).isEqualTo(want.active());
+      assertThat(rows(product.get("materials"), "rawMaterialId"))
+          .as("materials of %s", product.get("sku"))
+          .isEqualTo(want.materials());
+      assertThat(rows(product.get("components"), "componentProductId"))
+          .as("components of %s", product.get("sku"))
+          .isEqualTo(want.components());
+    }
+  }
+
+  @Test
+  @DisplayName("should attach every product's own BOM rows across cursor batches")
+  void shouldExportAllProducts() throws Exception {
+    sessionFactory.getStatistics().clear();
+
+    List<JsonNode> products = export("products", true);
+
+    assertProducts(products, true);
+    // BOM rows come from the merge-joined cursors, never from the lazy collections
+    assertThat(sessionFactory.getStatistics().getCollectionFetchCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("should skip inactive products together with their BOM rows")
+  void shouldExportActiveProducts() throws Exception {
+    assertProducts(export("products", false), false);
+  }
+
+  @Test
+  @DisplayName("should export material rows, then component rows, of every product")
+  void shouldExportBillOfMaterialRows() throws Exception {
+    List<JsonNode> rows = export("bill-of-materials", true);
+
+    List<Boolean> isComponent = rows.stream().map(row -> row.has("componentProductId")).toList();
+    assertThat(isComponent.indexOf(true)).isEqualTo(isComponent.lastIndexOf(false) + 1);
+
+    Map<Long, List<Map.Entry<Long, BigDecimal>>> materials = new HashMap<>();
+    Map<Long, List<Map.Entry<Long, BigDecimal>>> components = new HashMap<>();
+    for (JsonNode row : rows) {
+      long productId = row.get("productId").asLong();
+      if (!seeded.containsKey(productId)) {
+        continue;
+      }
+      BigDecimal quantity = row.get("quantityRequired").decimalValue();
+      if (row.has("componentProductId")) {
+        components
+            .computeIfAbsent(productId, id -> new ArrayList<>())
+            .add(Map.entry(row.get("componentProductId").asLong(), quantity));
+      } else {
+        materials
+            .computeIfAbsent(productId, id -> new ArrayList<>())
+            .add(Map.entry(row.get("rawMaterialId").asLong(), quantity));
+      }
+    }
+    seeded.forEach(
+        (id, want) -> {
+          assertThat(quantities(materials.getOrDefault(id, List.of()))).isEqualTo(want.materials());
+          assertThat(quantities(components.getOrDefault(id, List.of())))
+              .isEqualTo(want.components());
+        });
+  }
+}
@@ -0,0 +1,109 @@
+package com.autoflex.infrastructure.rest;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.autoflex.application.service.ProductionService;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@QuarkusTest
+@DisplayName("ProductionResource - Conditional plan requests")
+class ProductionResourceTest {
+
+  private static final String CALCULATE = "/api/v1/production/calculate";
+
+  @InjectSpy ProductionService productionService;
+
+  private static RequestSpecification request() {
+    return given().contentType(ContentType.JSON);
+  }
+
+  private static String currentEtag() {
+    String etag =
+        request()
+            .when()
+            .post(CALCULATE)
+            .then()
+            .statusCode(200)
+            .header("Cache-Control", containsString("no-cache"))
+            .extract()
+            .header("ETag");
+    assertThat(etag).startsWith("\"greedy-");
+    return etag;
+  }
+
+  @Test
+  @DisplayName("should answer 304 without a body when If-None-Match has the current ETag")
+  void shouldReturnNotModifiedForCurrentEtag() {
+    String etag = currentEtag();
+
+    request()
+        .header("If-None-Match", etag)
+        .when()
+        .post(CALCULATE)
+        .then()
+        .statusCode(304)
+        .header("ETag", etag)
+        .body(is(emptyString()));
+  }
+
+  @Test
+  @DisplayName("should answer 304 before planning")
+  void shouldNotPlanForCurrentEtag() {
+    String etag = currentEtag();
+    clearInvocations(productionService);
+
+    request().header("If-None-Match", etag).when().post(CALCULATE).then().statusCode(304);
+
+    verify(productionService).currentCatalogVersion();
+    verify(productionService, never()).calculateVersionedProductionPlan(any());
+  }
+
+  @Test
+  @DisplayName("should match a weak ETag and one of several listed ETags")
+  void shouldMatchWeakAndListedEtags() {
+    String etag = currentEtag();
+
+    request().header("If-None-Match", "W/" + etag).when().post(CALCULATE).then().statusCode(304);
+    request()
+        .header("If-None-Match", "\"greedy-stale\", " + etag)
+        .when()
+        .post(CALCULATE)
+        .then()
+        .statusCode(304);
+    request().header("If-None-Match", "*").when().post(CALCULATE).then().statusCode(304);
+  }
+
+  @Test
+  @DisplayName("should answer 200 with the plan for a stale ETag or another strategy")
+  void shouldReturnPlanForOtherEtag() {
+    String etag = currentEtag();
+
+    request()
+        .header("If-None-Match", "\"greedy-stale\"")
+        .when()
+        .post(CALCULATE)
+        .then()
+        .statusCode(200)
+        .header("ETag", etag);
+    request()
+        .header("If-None-Match", etag)
+        .queryParam("strategy", "optimal")
+        .when()
+        .post(CALCULATE)
+        .then()
+        .statusCode(200);
+  }
+}
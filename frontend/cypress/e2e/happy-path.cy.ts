@@ -184,9 +184,18 @@ describe('Happy Path — Full User Journey', () => {
     // -------------------------------------------------------
     // Step 5: Calculate Production
     // -------------------------------------------------------
-    cy.intercept('POST', '**/api/v1/production/calculate', {
-      statusCode: 200,
-      body: productionPlan,
+    cy.intercept('POST', '**/api/v1/production/jobs', {
+      statusCode: 202,
+      body: {
+        id: 'job-1',
+        status: 'COMPLETED',
+        strategy: 'greedy',
+        catalogVersion: 1,
+        submittedAt: '2024-01-01T00:00:00',
+        startedAt: '2024-01-01T00:00:00',
+        finishedAt: '2024-01-01T00:00:00',
+        result: productionPlan,
+      },
     }).as('calculateProduction');
 
     cy.visit('/production');
@@ -97,13 +97,22 @@ describe('Production Planning', () => {
 
   describe('Empty Production Plan', () => {
     it('should show a warning when no products can be produced', () => {
-      cy.intercept('POST', '**/api/v1/production/calculate', {
-        statusCode: 200,
+      cy.intercept('POST', '**/api/v1/production/jobs', {
+        statusCode: 202,
         body: {
-          items: [],
-          totalProductionValue: 0,
-          totalUnits: 0,
-          remainingStock: {},
+          id: 'job-1',
+          status: 'COMPLETED',
+          strategy: 'greedy',
+          catalogVersion: 1,
+          submittedAt: '2024-01-01T00:00:00',
+          startedAt: '2024-01-01T00:00:00',
+          finishedAt: '2024-01-01T00:00:00',
+          result: {
+            items: [],
+            totalProductionValue: 0,
+            totalUnits: 0,
+            remainingStock: {},
+          },
         },
       }).as('emptyPlan');
 
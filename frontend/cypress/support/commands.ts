@@ -52,9 +52,18 @@ Cypress.Commands.add('mockProducts', () => {
  */
 Cypress.Commands.add('mockProduction', () => {
   cy.fixture('production-plan.json').then((plan: unknown) => {
-    cy.intercept('POST', '**/api/v1/production/calculate', {
-      statusCode: 200,
-      body: plan,
+    cy.intercept('POST', '**/api/v1/production/jobs', {
+      statusCode: 202,
+      body: {
+        id: 'job-1',
+        status: 'COMPLETED',
+        strategy: 'greedy',
+        catalogVersion: 1,
+        submittedAt: '2024-01-01T00:00:00',
+        startedAt: '2024-01-01T00:00:00',
+        finishedAt: '2024-01-01T00:00:00',
+        result: plan,
+      },
     }).as('calculateProduction');
   });
 });
@@ -24,7 +24,14 @@ import {
 } from '@mui/material';
 
 import NotificationSnackbar, { useNotification } from '@/components/common/NotificationSnackbar';
-import { useAppDispatch, useAppSelector, calculateProductionPlan, clearPlan } from '@/store';
+import { productionApi } from '@/services/productionApi';
+import {
+  useAppDispatch,
+  useAppSelector,
+  calculateProductionPlan,
+  clearPlan,
+  planUpdated,
+} from '@/store';
 
 function ProductionPage(): ReactElement {
   const dispatch = useAppDispatch();
@@ -37,6 +44,15 @@ function ProductionPage(): ReactElement {
     }
   }, [error, showError]);
 
+  // Once a plan is shown, keep it current as stock and BOMs change
+  const hasPlan = plan !== null;
+  useEffect(() => {
+    if (!hasPlan) {
+      return undefined;
+    }
+    return productionApi.subscribePlan((updated) => dispatch(planUpdated(updated)));
+  }, [hasPlan, dispatch]);
+
   const handleCalculate = useCallback((): void => {
     void dispatch(calculateProductionPlan());
   }, [dispatch]);
@@ -1,5 +1,11 @@
 import axios from 'axios';
 
+/** Response header carrying the cursor of the next page on list endpoints. */
+export const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+/** Page size requested when walking paginated list endpoints (server maximum: 500). */
+export const PAGE_SIZE = 500;
+
 /**
  * Shared Axios instance configured for the Autoflex API.
  *
@@ -1,4 +1,4 @@
-import apiClient from './apiClient';
+import apiClient, { NEXT_CURSOR_HEADER, PAGE_SIZE } from './apiClient';
 
 import type {
   IBillOfMaterialItem,
@@ -19,13 +19,22 @@ export const productApi = {
    * Fetch all products.
    */
   async getAll(includeInactive = false): Promise<IProduct[]> {
-    const params = new URLSearchParams();
+    const params = new URLSearchParams({ limit: String(PAGE_SIZE) });
     if (includeInactive) {
       params.append('includeInactive', 'true');
     }
 
-    const response = await apiClient.get<IProduct[]>(`/products?${params.toString()}`);
-    return response.data;
+    // Follow keyset cursors until the last page (no X-Next-Cursor header)
+    const items: IProduct[] = [];
+    for (;;) {
+      const response = await apiClient.get<IProduct[]>(`/products?${params.toString()}`);
+      items.push(...response.data);
+      const next = response.headers[NEXT_CURSOR_HEADER] as string | undefined;
+      if (!next) {
+        return items;
+      }
+      params.set('after', next);
+    }
   },
 
   /**
@@ -1,6 +1,11 @@
 import apiClient from './apiClient';
 
-import type { IProductionPlan } from '@/types';
+import type { IProductionJob, IProductionPlan } from '@/types';
+
+/** Delay between polls of a running production plan job. */
+const JOB_POLL_INTERVAL_MS = 500;
+
+const sleep = (ms: number) => new Promise<void>((resolve) => setTimeout(resolve, ms));
 
 /**
  * Production API service.
@@ -14,9 +19,38 @@ export const productionApi = {
    * This endpoint evaluates all active products with BOM definitions
    * against current raw material stock levels and determines the maximum
    * number of units that can be produced, prioritizing by unit price.
+   *
+   * The calculation runs as a background job on the server; this submits
+   * it and polls until it finishes, so large plans are not cut off by the
+   * request timeout.
    */
   async calculatePlan(): Promise<IProductionPlan> {
-    const response = await apiClient.post<IProductionPlan>('/production/calculate');
-    return response.data;
+    let { data: job } = await apiClient.post<IProductionJob>('/production/jobs');
+    while (job.status === 'QUEUED' || job.status === 'RUNNING') {
+      await sleep(JOB_POLL_INTERVAL_MS);
+      ({ data: job } = await apiClient.get<IProductionJob>(`/production/jobs/${job.id}`));
+    }
+    if (job.status === 'FAILED' || !job.result) {
+      throw new Error(job.error ?? 'Production plan calculation failed');
+    }
+    return job.result;
+  },
+
+  /**
+   * Follow the greedy production plan as stock and BOMs change.
+   *
+   * Opens a Server-Sent Events stream; the server sends the current plan,
+   * then a new plan whenever committed changes alter it.
+   *
+   * @returns a function that closes the stream
+   */
+  subscribePlan(onPlan: (plan: IProductionPlan) => void): () => void {
+    const source = new EventSource(`${apiClient.defaults.baseURL ?? ''}/production/stream`);
+    source.onmessage = (event: MessageEvent<string>) => {
+      onPlan(JSON.parse(event.data) as IProductionPlan);
+    };
+    return () => {
+      source.close();
+    };
   },
 };
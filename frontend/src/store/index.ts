@@ -37,4 +37,9 @@ export {
 } from './slices/rawMaterialSlice';
 
 // Production Slice
-export { calculateProductionPlan, clearPlan, clearProductionError } from './slices/productionSlice';
+export {
+  calculateProductionPlan,
+  clearPlan,
+  clearProductionError,
+  planUpdated,
+} from './slices/productionSlice';
@@ -3,6 +3,7 @@ import { createSlice, createAsyncThunk } from '@reduxjs/toolkit';
 import { productionApi } from '@/services/productionApi';
 
 import type { IProductionPlan } from '@/types';
+import type { PayloadAction } from '@reduxjs/toolkit';
 
 // ============================================================================
 // STATE
@@ -48,6 +49,9 @@ const productionSlice = createSlice({
     clearPlan: (state) => {
       state.plan = null;
     },
+    planUpdated: (state, action: PayloadAction<IProductionPlan>) => {
+      state.plan = action.payload;
+    },
     clearError: (state) => {
       state.error = null;
     },
@@ -69,5 +73,9 @@ const productionSlice = createSlice({
   },
 });
 
-export const { clearPlan, clearError: clearProductionError } = productionSlice.actions;
+export const {
+  clearPlan,
+  planUpdated,
+  clearError: clearProductionError,
+} = productionSlice.actions;
 export default productionSlice.reducer;
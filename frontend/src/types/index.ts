@@ -129,6 +129,32 @@ export interface IProductionPlan {
   remainingStock: Record<string, number>;
 }
 
+/**
+ * State of a background production plan calculation.
+ */
+export type ProductionJobStatus = 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+
+/**
+ * Phase of a running production plan calculation.
+ */
+export type ProductionJobPhase = 'LOADING' | 'PLANNING';
+
+/**
+ * A production plan job, polled until it is COMPLETED or FAILED.
+ */
+export interface IProductionJob {
+  id: string;
+  status: ProductionJobStatus;
+  strategy: string;
+  catalogVersion?: string;
+  phase?: ProductionJobPhase;
+  submittedAt: string;
+  startedAt?: string;
+  finishedAt?: string;
+  result?: IProductionPlan;
+  error?: string;
+}
+
 // ============================================================================
 // COMMON TYPES
 // ============================================================================